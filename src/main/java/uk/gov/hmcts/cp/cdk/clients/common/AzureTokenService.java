@@ -1,31 +1,172 @@
 package uk.gov.hmcts.cp.cdk.clients.common;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import com.azure.core.credential.AccessToken;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * AAD access tokens per scope. Tokens are cached until shortly before {@code expiresAt} and refreshed
+ * in the background once inside the configured refresh margin, so request threads only block on
+ * the credential when no usable token is held. Concurrent refreshes of a scope share one acquisition.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AzureTokenService {
 
+    private static final String ACQUISITION_METRIC = "cdk.rag.aad.token.acquisition";
+    private static final String CACHE_METRIC = "cdk.rag.aad.token.cache";
+
+    /**
+     * A token this close to expiry is not handed out, leaving time for the request to be sent.
+     */
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+
+    /**
+     * Minimum gap between background refresh attempts after one has failed.
+     */
+    private static final Duration REFRESH_RETRY_INTERVAL = Duration.ofSeconds(10);
+
     private final TokenCredential tokenCredential;
+    private final RagClientProperties ragClientProperties;
+    private final Clock clock;
+    private final Map<String, ScopeToken> tokens = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("aad-token-refresh-", 0).factory());
+    private final Timer acquisitionSuccess;
+    private final Timer acquisitionFailure;
+    private final Counter hits;
+    private final Counter misses;
+
+    public AzureTokenService(final TokenCredential tokenCredential,
+                             final RagClientProperties ragClientProperties,
+                             final MeterRegistry meterRegistry,
+                             final Clock clock) {
+        this.tokenCredential = tokenCredential;
+        this.ragClientProperties = ragClientProperties;
+        this.clock = clock;
+        this.acquisitionSuccess = Timer.builder(ACQUISITION_METRIC).tag("result", "success").register(meterRegistry);
+        this.acquisitionFailure = Timer.builder(ACQUISITION_METRIC).tag("result", "failure").register(meterRegistry);
+        this.hits = meterRegistry.counter(CACHE_METRIC, "result", "hit");
+        this.misses = meterRegistry.counter(CACHE_METRIC, "result", "miss");
+    }
 
     public String getAccessToken(final String scope) {
         if (scope == null || scope.isBlank()) {
             throw new IllegalArgumentException("scope must not be blank");
         }
+        if (!aadConfig().map(RagClientProperties.Authentication.AadConfig::isTokenCacheEnabled).orElse(true)) {
+            return acquire(scope).getToken();
+        }
+        return tokens.computeIfAbsent(scope, ScopeToken::new).get().getToken();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private AccessToken acquire(final String scope) {
+        final long startedAt = System.nanoTime();
         try {
             final TokenRequestContext requestContext = new TokenRequestContext().addScopes(scope);
             final AccessToken accessToken = tokenCredential.getTokenSync(requestContext);
+            acquisitionSuccess.record(Duration.ofNanos(System.nanoTime() - startedAt));
             log.debug("Issued AAD access token for scope='{}', expiresAt={}", scope, accessToken.getExpiresAt());
-            return accessToken.getToken();
+            return accessToken;
         } catch (final RuntimeException exception) {
+            acquisitionFailure.record(Duration.ofNanos(System.nanoTime() - startedAt));
             log.error("Failed to acquire AAD access token for scope='{}'", scope, exception);
             throw new IllegalStateException("Failed to acquire AAD access token", exception);
         }
     }
+
+    private Duration refreshMargin() {
+        return aadConfig().map(RagClientProperties.Authentication.AadConfig::refreshMargin)
+                .orElse(Duration.ofMinutes(5));
+    }
+
+    private Optional<RagClientProperties.Authentication.AadConfig> aadConfig() {
+        return Optional.ofNullable(ragClientProperties.getAuth())
+                .map(RagClientProperties.Authentication::getAad);
+    }
+
+    private final class ScopeToken {
+        private final String scope;
+        private volatile AccessToken current;
+        private CompletableFuture<AccessToken> inFlight;
+        private Instant nextRefreshAttempt = Instant.MIN;
+
+        private ScopeToken(final String scope) {
+            this.scope = scope;
+        }
+
+        private AccessToken get() {
+            final Instant now = clock.instant();
+            final AccessToken token = current;
+            if (token != null && now.isBefore(token.getExpiresAt().toInstant().minus(EXPIRY_SKEW))) {
+                hits.increment();
+                if (!now.isBefore(token.getExpiresAt().toInstant().minus(refreshMargin()))) {
+                    refreshInBackground(now);
+                }
+                return token;
+            }
+            misses.increment();
+            return await(refresh());
+        }
+
+        private synchronized void refreshInBackground(final Instant now) {
+            if (inFlight == null && !now.isBefore(nextRefreshAttempt)) {
+                log.debug("Refreshing AAD access token for scope='{}' ahead of expiry", scope);
+                refresh();
+            }
+        }
+
+        private synchronized CompletableFuture<AccessToken> refresh() {
+            if (inFlight != null) {
+                return inFlight;
+            }
+            final CompletableFuture<AccessToken> acquisition =
+                    CompletableFuture.supplyAsync(() -> acquire(scope), refreshExecutor);
+            inFlight = acquisition;
+            acquisition.whenComplete((token, failure) -> completed(token));
+            return acquisition;
+        }
+
+        private synchronized void completed(final AccessToken token) {
+            if (token == null) {
+                nextRefreshAttempt = clock.instant().plus(REFRESH_RETRY_INTERVAL);
+            } else {
+                current = token;
+            }
+            inFlight = null;
+        }
+
+        private AccessToken await(final CompletableFuture<AccessToken> future) {
+            try {
+                return future.join();
+            } catch (final CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw exception;
+            }
+        }
+    }
 }
@@ -36,6 +36,11 @@ public class RagClientProperties {
      */
     private Authentication auth = new Authentication();
 
+    /**
+     * Rate and concurrency limits for calls to RAG/APIM, per operation.
+     */
+    private Governor governor = new Governor();
+
     public static class Authentication {
 
         /**
@@ -106,6 +111,17 @@ public class RagClientProperties {
              */
             private String tenantId;
 
+            /**
+             * Cache tokens per scope and refresh them in the background before they expire.
+             */
+            private boolean tokenCacheEnabled = true;
+
+            /**
+             * How long before expiry a cached token is refreshed in the background.
+             */
+            @Positive
+            private long refreshMarginSeconds = 300;
+
             public String getScope() {
                 return scope;
             }
@@ -129,6 +145,133 @@ public class RagClientProperties {
             public void setTenantId(final String tenantId) {
                 this.tenantId = tenantId;
             }
+
+            public boolean isTokenCacheEnabled() {
+                return tokenCacheEnabled;
+            }
+
+            public void setTokenCacheEnabled(final boolean tokenCacheEnabled) {
+                this.tokenCacheEnabled = tokenCacheEnabled;
+            }
+
+            public long getRefreshMarginSeconds() {
+                return refreshMarginSeconds;
+            }
+
+            public void setRefreshMarginSeconds(final long refreshMarginSeconds) {
+                this.refreshMarginSeconds = refreshMarginSeconds;
+            }
+
+            public Duration refreshMargin() {
+                return Duration.ofSeconds(refreshMarginSeconds);
+            }
+        }
+    }
+
+    public static class Governor {
+
+        private boolean enabled = true;
+
+        /**
+         * Share each operation's token bucket across replicas through Postgres; concurrency limits stay per pod.
+         */
+        private boolean distributed;
+
+        /**
+         * Pause applied after a 429/503 that carries no Retry-After header.
+         */
+        private long defaultRetryAfterSeconds = 5;
+
+        /**
+         * Limits keyed by operation name (see RagOperations); operations without an entry are not limited.
+         */
+        private Map<String, Limit> limits = new HashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isDistributed() {
+            return distributed;
+        }
+
+        public void setDistributed(final boolean distributed) {
+            this.distributed = distributed;
+        }
+
+        public long getDefaultRetryAfterSeconds() {
+            return defaultRetryAfterSeconds;
+        }
+
+        public void setDefaultRetryAfterSeconds(final long defaultRetryAfterSeconds) {
+            this.defaultRetryAfterSeconds = defaultRetryAfterSeconds;
+        }
+
+        public Map<String, Limit> getLimits() {
+            return limits;
+        }
+
+        public void setLimits(final Map<String, Limit> limits) {
+            this.limits = limits;
+        }
+
+        public static class Limit {
+
+            /**
+             * Sustained calls per second; 0 disables the rate limit.
+             */
+            private double permitsPerSecond;
+
+            /**
+             * Calls allowed in a burst above the sustained rate; defaults to one second's worth.
+             */
+            private int burst;
+
+            /**
+             * Calls in flight at once from this pod; 0 disables the concurrency limit.
+             */
+            private int maxConcurrent;
+
+            /**
+             * How long a call may queue for a permit before it fails.
+             */
+            private long maxQueueWaitMs = 60_000;
+
+            public double getPermitsPerSecond() {
+                return permitsPerSecond;
+            }
+
+            public void setPermitsPerSecond(final double permitsPerSecond) {
+                this.permitsPerSecond = permitsPerSecond;
+            }
+
+            public int getBurst() {
+                return burst > 0 ? burst : (int) Math.max(1, Math.ceil(permitsPerSecond));
+            }
+
+            public void setBurst(final int burst) {
+                this.burst = burst;
+            }
+
+            public int getMaxConcurrent() {
+                return maxConcurrent;
+            }
+
+            public void setMaxConcurrent(final int maxConcurrent) {
+                this.maxConcurrent = maxConcurrent;
+            }
+
+            public long getMaxQueueWaitMs() {
+                return maxQueueWaitMs;
+            }
+
+            public void setMaxQueueWaitMs(final long maxQueueWaitMs) {
+                this.maxQueueWaitMs = maxQueueWaitMs;
+            }
         }
     }
 
@@ -172,6 +315,14 @@ public class RagClientProperties {
         this.auth = auth;
     }
 
+    public Governor getGovernor() {
+        return governor;
+    }
+
+    public void setGovernor(final Governor governor) {
+        this.governor = governor;
+    }
+
     public Duration connectTimeout() {
         return Duration.ofMillis(connectTimeoutMs);
     }
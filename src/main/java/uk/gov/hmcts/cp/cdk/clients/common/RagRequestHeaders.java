@@ -0,0 +1,85 @@
+package uk.gov.hmcts.cp.cdk.clients.common;
+
+import static uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties.AAD;
+import static uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties.SUBSCRIPTION_KEY;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Headers for every RAG / APIM request, resolved once from {@link RagClientProperties}.
+ * The static headers and subscription key are assembled at startup; in AAD mode only the
+ * Authorization value is per request, and it is rebuilt only when the cached token rotates.
+ * A configuration error is reported on each request rather than at startup, as before.
+ */
+@Slf4j
+@Component
+public class RagRequestHeaders implements Consumer<HttpHeaders> {
+
+    private final AzureTokenService azureTokenService;
+    private final HttpHeaders fixedHeaders = new HttpHeaders();
+    private final String aadScope;
+    private final String configurationError;
+    private volatile Bearer bearer;
+
+    public RagRequestHeaders(final RagClientProperties ragClientProperties,
+                             final ApimAuthHeaderService apimAuthHeaderService,
+                             final AzureTokenService azureTokenService) {
+        this.azureTokenService = azureTokenService;
+
+        final String mode = Optional.ofNullable(ragClientProperties.getAuth())
+                .map(RagClientProperties.Authentication::getMode)
+                .orElse(SUBSCRIPTION_KEY)
+                .toLowerCase(Locale.ROOT);
+
+        String scope = null;
+        String error = null;
+        try {
+            apimAuthHeaderService.applyCommonHeaders(fixedHeaders, ragClientProperties.getHeaders());
+            if (AAD.equals(mode)) {
+                scope = Optional.ofNullable(ragClientProperties.getAuth().getAad())
+                        .map(RagClientProperties.Authentication.AadConfig::getScope)
+                        .filter(value -> !value.isBlank())
+                        .orElseThrow(() -> new IllegalStateException("rag.client.auth.aad.scope is required when rag.client.auth.mode=aad"));
+            } else {
+                apimAuthHeaderService.applyAuthHeaders(fixedHeaders, ragClientProperties);
+            }
+        } catch (final IllegalStateException | IllegalArgumentException exception) {
+            log.warn("RAG client authentication is misconfigured: {}", exception.getMessage());
+            error = exception.getMessage();
+        }
+        this.aadScope = scope;
+        this.configurationError = error;
+        log.info("Prepared RAG request headers {} with auth mode={}", fixedHeaders.toSingleValueMap().keySet(), mode);
+    }
+
+    @Override
+    public void accept(final HttpHeaders httpHeaders) {
+        if (configurationError != null) {
+            throw new IllegalStateException(configurationError);
+        }
+        httpHeaders.addAll(fixedHeaders);
+        if (aadScope != null) {
+            httpHeaders.set(HttpHeaders.AUTHORIZATION, authorization());
+        }
+    }
+
+    private String authorization() {
+        final String token = azureTokenService.getAccessToken(aadScope);
+        final Bearer current = bearer;
+        if (current != null && current.token().equals(token)) {
+            return current.headerValue();
+        }
+        final Bearer rotated = new Bearer(token, "Bearer " + token);
+        bearer = rotated;
+        return rotated.headerValue();
+    }
+
+    private record Bearer(String token, String headerValue) {
+    }
+}
@@ -0,0 +1,215 @@
+package uk.gov.hmcts.cp.cdk.clients.common;
+
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamResilienceProperties.Policy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Circuit breaker and bulkhead per CQRS upstream, so a degraded Progression or Hearing fails calls fast
+ * instead of holding task workers and request threads on the read timeout.
+ * Timeouts, I/O errors and 5xx responses count as failures; other errors mean the upstream answered.
+ * Rejected calls throw {@link UpstreamUnavailableException}, which tasks treat like any other failure and retry.
+ */
+@Slf4j
+@Component
+public class UpstreamGuard {
+
+    public static final String PROGRESSION = "progression";
+    public static final String HEARING = "hearing";
+
+    private static final String METRIC_PREFIX = "cdk.upstream.";
+
+    private final UpstreamResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public UpstreamGuard(final UpstreamResilienceProperties properties,
+                         final MeterRegistry meterRegistry,
+                         final Clock clock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    public <T> T call(final String upstream, final Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+
+        final Upstream guarded = upstreams.computeIfAbsent(upstream, this::newUpstream);
+        if (!guarded.acquireSlot()) {
+            reject(upstream, "bulkhead_full");
+        }
+        try {
+            if (!guarded.breaker.tryAcquire(clock.instant())) {
+                reject(upstream, "circuit_open");
+            }
+            try {
+                final T result = call.get();
+                guarded.breaker.onResult(false, clock.instant());
+                return result;
+            } catch (ResourceAccessException | HttpServerErrorException e) {
+                guarded.breaker.onResult(true, clock.instant());
+                throw e;
+            } catch (RuntimeException e) {
+                guarded.breaker.onResult(false, clock.instant());
+                throw e;
+            }
+        } finally {
+            guarded.slots.release();
+        }
+    }
+
+    /* default */ CircuitState state(final String upstream) {
+        final Upstream guarded = upstreams.get(upstream);
+        return guarded == null ? CircuitState.CLOSED : guarded.breaker.state;
+    }
+
+    private void reject(final String upstream, final String reason) {
+        meterRegistry.counter(METRIC_PREFIX + "rejected", "upstream", upstream, "reason", reason).increment();
+        throw new UpstreamUnavailableException(upstream + " unavailable: " + reason.replace('_', ' '));
+    }
+
+    private Upstream newUpstream(final String upstream) {
+        final Upstream guarded = new Upstream(upstream, properties.policy(upstream));
+        Gauge.builder(METRIC_PREFIX + "circuit.state", guarded.breaker, breaker -> breaker.state.ordinal())
+                .tag("upstream", upstream)
+                .description("0=closed, 1=open, 2=half-open")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "bulkhead.in_flight", guarded,
+                        g -> g.policy.maxConcurrent() - g.slots.availablePermits())
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+        return guarded;
+    }
+
+    /* default */ enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final class Upstream {
+
+        private final Policy policy;
+        private final Semaphore slots;
+        private final Breaker breaker;
+
+        private Upstream(final String name, final Policy policy) {
+            this.policy = policy;
+            this.slots = new Semaphore(policy.maxConcurrent());
+            this.breaker = new Breaker(name, policy);
+        }
+
+        private boolean acquireSlot() {
+            try {
+                return slots.tryAcquire(policy.maxWaitMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Count-based breaker over the last {@code windowSize} calls.
+     */
+    private final class Breaker {
+
+        private final String upstream;
+        private final Policy policy;
+        private final boolean[] window;
+        private int next;
+        private int recorded;
+        private int failures;
+        private volatile CircuitState state = CircuitState.CLOSED;
+        private Instant openedAt;
+        private int trialsStarted;
+        private int trialsSucceeded;
+
+        private Breaker(final String upstream, final Policy policy) {
+            this.upstream = upstream;
+            this.policy = policy;
+            this.window = new boolean[policy.windowSize()];
+        }
+
+        private synchronized boolean tryAcquire(final Instant now) {
+            if (state == CircuitState.OPEN) {
+                if (now.isBefore(openedAt.plus(policy.openDuration()))) {
+                    return false;
+                }
+                transition(CircuitState.HALF_OPEN);
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                if (trialsStarted >= policy.halfOpenCalls()) {
+                    return false;
+                }
+                trialsStarted++;
+            }
+            return true;
+        }
+
+        private synchronized void onResult(final boolean failed, final Instant now) {
+            switch (state) {
+                case HALF_OPEN -> {
+                    if (failed) {
+                        open(now);
+                    } else if (++trialsSucceeded >= policy.halfOpenCalls()) {
+                        transition(CircuitState.CLOSED);
+                    }
+                }
+                case CLOSED -> {
+                    record(failed);
+                    if (recorded >= policy.minimumCalls() && failures * 100 >= policy.failureRateThreshold() * recorded) {
+                        open(now);
+                    }
+                }
+                case OPEN -> {
+                    // a call admitted before the circuit opened; its outcome no longer matters
+                }
+            }
+        }
+
+        private void record(final boolean failed) {
+            if (recorded == window.length) {
+                failures -= window[next] ? 1 : 0;
+            } else {
+                recorded++;
+            }
+            window[next] = failed;
+            failures += failed ? 1 : 0;
+            next = (next + 1) % window.length;
+        }
+
+        private void open(final Instant now) {
+            openedAt = now;
+            transition(CircuitState.OPEN);
+        }
+
+        private void transition(final CircuitState to) {
+            log.warn("Circuit for {} moved {} -> {}", upstream, state, to);
+            meterRegistry.counter(METRIC_PREFIX + "circuit.transitions",
+                    "upstream", upstream, "from", state.name(), "to", to.name()).increment();
+            state = to;
+            trialsStarted = 0;
+            trialsSucceeded = 0;
+            if (to == CircuitState.CLOSED) {
+                next = 0;
+                recorded = 0;
+                failures = 0;
+            }
+        }
+    }
+}
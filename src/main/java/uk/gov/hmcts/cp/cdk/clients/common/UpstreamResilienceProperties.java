@@ -0,0 +1,80 @@
+package uk.gov.hmcts.cp.cdk.clients.common;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Circuit breaker and bulkhead settings per CQRS upstream (progression, hearing).
+ * Upstreams without an entry use the defaults below.
+ */
+@ConfigurationProperties(prefix = "cqrs.client.resilience")
+public record UpstreamResilienceProperties(
+        Boolean enabled,
+        Map<String, Policy> upstreams
+) {
+    public UpstreamResilienceProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (upstreams == null) {
+            upstreams = Map.of();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Policy policy(final String upstream) {
+        return upstreams.getOrDefault(upstream, new Policy(0, 0, 0, 0, 0, 0, 0));
+    }
+
+    /**
+     * @param failureRateThreshold percentage of failed calls in the window that opens the circuit
+     * @param minimumCalls         calls the window must hold before the failure rate is evaluated
+     * @param windowSize           most recent calls the failure rate is computed over
+     * @param openMs               how long an open circuit rejects calls before letting trial calls through
+     * @param halfOpenCalls        trial calls that must all succeed to close the circuit again
+     * @param maxConcurrent        calls in flight at once to the upstream (the bulkhead)
+     * @param maxWaitMs            how long a call may wait for a bulkhead slot before failing fast
+     */
+    public record Policy(
+            int failureRateThreshold,
+            int minimumCalls,
+            int windowSize,
+            long openMs,
+            int halfOpenCalls,
+            int maxConcurrent,
+            long maxWaitMs
+    ) {
+        public Policy {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+                failureRateThreshold = 50;
+            }
+            if (windowSize <= 0) {
+                windowSize = 20;
+            }
+            if (minimumCalls <= 0 || minimumCalls > windowSize) {
+                minimumCalls = Math.min(10, windowSize);
+            }
+            if (openMs <= 0) {
+                openMs = 30_000;
+            }
+            if (halfOpenCalls <= 0) {
+                halfOpenCalls = 3;
+            }
+            if (maxConcurrent <= 0) {
+                maxConcurrent = 20;
+            }
+            if (maxWaitMs <= 0) {
+                maxWaitMs = 100;
+            }
+        }
+
+        public Duration openDuration() {
+            return Duration.ofMillis(openMs);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.cp.cdk.clients.common;
+
+/**
+ * Thrown instead of calling an upstream whose circuit is open or whose bulkhead is full.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public UpstreamUnavailableException(final String message) {
+        super(message);
+    }
+}
@@ -2,10 +2,14 @@ package uk.gov.hmcts.cp.cdk.clients.config;
 
 
 import uk.gov.hmcts.cp.cdk.clients.common.CQRSClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamGuard;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamResilienceProperties;
 import uk.gov.hmcts.cp.cdk.clients.hearing.HearingClient;
 import uk.gov.hmcts.cp.cdk.clients.hearing.HearingClientConfig;
 import uk.gov.hmcts.cp.cdk.clients.hearing.HearingClientImpl;
 import uk.gov.hmcts.cp.cdk.clients.hearing.mapper.HearingDtoMapper;
+import uk.gov.hmcts.cp.cdk.clients.progression.CourtDocumentCache;
+import uk.gov.hmcts.cp.cdk.clients.progression.CourtDocumentCacheProperties;
 import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
 import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClientConfig;
 import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClientImpl;
@@ -22,7 +26,9 @@ import org.springframework.web.client.RestClient;
 @EnableConfigurationProperties({
         CQRSClientProperties.class,
         HearingClientConfig.class,
-        ProgressionClientConfig.class
+        ProgressionClientConfig.class,
+        CourtDocumentCacheProperties.class,
+        UpstreamResilienceProperties.class
 })
 public class CdkClientsConfig {
 
@@ -30,8 +36,9 @@ public class CdkClientsConfig {
     public HearingClient hearingClient(@Qualifier("cqrsRestClient") final RestClient restClient,
                                        final CQRSClientProperties cqrsClientProperties,
                                        final HearingClientConfig hearingProps,
-                                       final HearingDtoMapper mapper) {
-        return new HearingClientImpl(restClient, cqrsClientProperties, hearingProps, mapper);
+                                       final HearingDtoMapper mapper,
+                                       final UpstreamGuard upstreamGuard) {
+        return new HearingClientImpl(restClient, cqrsClientProperties, hearingProps, mapper, upstreamGuard);
     }
 
 
@@ -39,7 +46,9 @@ public class CdkClientsConfig {
     public ProgressionClient progressionClient(@Qualifier("cqrsRestClient") final RestClient restClient,
                                                final CQRSClientProperties cqrsClientProperties,
                                                final ProgressionClientConfig props,
-                                               final ProgressionDtoMapper mapper) {
-        return new ProgressionClientImpl(restClient, cqrsClientProperties, props, mapper);
+                                               final ProgressionDtoMapper mapper,
+                                               final CourtDocumentCache courtDocumentCache,
+                                               final UpstreamGuard upstreamGuard) {
+        return new ProgressionClientImpl(restClient, cqrsClientProperties, props, mapper, courtDocumentCache, upstreamGuard);
     }
 }
\ No newline at end of file
@@ -2,8 +2,15 @@ package uk.gov.hmcts.cp.cdk.clients.config;
 
 import uk.gov.hmcts.cp.cdk.clients.common.CQRSClientProperties;
 import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.hearing.HearingClientConfig;
+import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClientConfig;
+import uk.gov.hmcts.cp.cdk.clients.rag.RagCallGovernor;
+import uk.gov.hmcts.cp.cdk.clients.rag.RagOperations;
 import uk.gov.hmcts.cp.cdk.http.RestClientFactoryConfig.RestClientFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -15,27 +22,53 @@ import org.springframework.web.client.RestClient;
 @RequiredArgsConstructor
 public class ExternalClientsConfig {
 
+    private static final String RAG_POOL = "rag";
+    private static final String CQRS_POOL = "cqrs";
+
     private final RestClientFactory restClientFactory;
 
+    /**
+     * The governor runs first, so time spent queued for a RAG permit is not counted as request time.
+     */
     @Bean
-    public RestClient ragRestClient(final RagClientProperties properties) {
+    public RestClient ragRestClient(final RagClientProperties properties,
+                                    final RagCallGovernor ragCallGovernor) {
         return restClientFactory.build(
+                RAG_POOL,
                 properties.getBaseUrl(),
                 properties.getHeaders(),
                 properties.connectTimeout(),
                 properties.readTimeout(),
-                false
-        );
+                false,
+                RagOperations.PATHS
+        ).mutate()
+                .requestInterceptors(interceptors -> interceptors.addFirst(ragCallGovernor))
+                .build();
     }
 
     @Bean
-    public RestClient cqrsRestClient(final RestClientFactory factory, final CQRSClientProperties properties) {
+    public RestClient cqrsRestClient(final RestClientFactory factory,
+                                     final CQRSClientProperties properties,
+                                     final HearingClientConfig hearingClientConfig,
+                                     final ProgressionClientConfig progressionClientConfig) {
         return factory.build(
+                CQRS_POOL,
                 properties.baseUrl(),
                 null,
                 properties.connectTimeout(),
                 properties.readTimeout(),
-                false
+                false,
+                cqrsOperations(hearingClientConfig, progressionClientConfig)
         );
     }
+
+    private static Map<String, String> cqrsOperations(final HearingClientConfig hearing,
+                                                      final ProgressionClientConfig progression) {
+        final Map<String, String> operations = new LinkedHashMap<>();
+        operations.put("hearings", hearing.hearingsPath());
+        operations.put("courtdocumentsearch", progression.courtDocsPath());
+        operations.put("material-content", progression.materialContentPath());
+        operations.put("prosecutioncase", progression.prosecutionCasePath());
+        return operations;
+    }
 }
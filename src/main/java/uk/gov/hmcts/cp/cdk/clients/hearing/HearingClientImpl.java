@@ -2,6 +2,7 @@ package uk.gov.hmcts.cp.cdk.clients.hearing;
 
 
 import uk.gov.hmcts.cp.cdk.clients.common.CQRSClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamGuard;
 import uk.gov.hmcts.cp.cdk.clients.hearing.dto.HearingSummaries;
 import uk.gov.hmcts.cp.cdk.clients.hearing.dto.HearingSummariesInfo;
 import uk.gov.hmcts.cp.cdk.clients.hearing.dto.HearingSummariesListRequest;
@@ -28,17 +29,20 @@ public class HearingClientImpl implements HearingClient {
     private final String cppuidHeaderName;
     private final String hearingsPath;
     private final HearingDtoMapper mapper;
+    private final UpstreamGuard upstreamGuard;
 
 
     public HearingClientImpl(final @Qualifier("cqrsRestClient") RestClient restClient,
                              final CQRSClientProperties rootProps,
                              final HearingClientConfig hearingProps,
-                             final HearingDtoMapper mapper) {
+                             final HearingDtoMapper mapper,
+                             final UpstreamGuard upstreamGuard) {
         this.restClient = Objects.requireNonNull(restClient, "restClient");
         this.acceptHeader = Objects.requireNonNull(hearingProps.acceptHeader(), "acceptHeader");
         this.cppuidHeaderName = Objects.requireNonNull(rootProps.headers().cjsCppuid(), "cjsCppuidHeader");
         this.hearingsPath = Objects.requireNonNull(hearingProps.hearingsPath(), "hearingsPath");
         this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.upstreamGuard = Objects.requireNonNull(upstreamGuard, "upstreamGuard");
     }
 
     @Override
@@ -53,12 +57,12 @@ public class HearingClientImpl implements HearingClient {
                 .toUri();
 
 
-        final HearingSummariesListRequest summariesList = restClient.get()
+        final HearingSummariesListRequest summariesList = upstreamGuard.call(UpstreamGuard.HEARING, () -> restClient.get()
                 .uri(uriHearing)
                 .header(cppuidHeaderName, userId)
                 .header(HttpHeaders.ACCEPT, acceptHeader)
                 .retrieve()
-                .body(HearingSummariesListRequest.class);
+                .body(HearingSummariesListRequest.class));
 
 
         if (summariesList == null || summariesList.hearingSummaries() == null) {
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.cp.cdk.clients.progression;
+
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of court-document search results keyed by case and user, since Progression
+ * applies the caller's permissions to the search. Concurrent lookups for the same key share one
+ * in-flight request; failures are not cached.
+ */
+@Slf4j
+@Component
+public class CourtDocumentCache {
+
+    private static final String METRIC_NAME = "cdk.progression.court_documents.cache";
+
+    private final CourtDocumentCacheProperties properties;
+    private final Clock clock;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public CourtDocumentCache(final CourtDocumentCacheProperties properties,
+                              final MeterRegistry meterRegistry,
+                              final Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.hits = meterRegistry.counter(METRIC_NAME, "result", "hit");
+        this.misses = meterRegistry.counter(METRIC_NAME, "result", "miss");
+        this.coalesced = meterRegistry.counter(METRIC_NAME, "result", "coalesced");
+        Gauge.builder(METRIC_NAME + ".size", entries, Map::size).register(meterRegistry);
+    }
+
+    public List<LatestMaterialInfo> get(final UUID caseId,
+                                        final String userId,
+                                        final Supplier<List<LatestMaterialInfo>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        final Key key = new Key(caseId, userId);
+        final Instant now = clock.instant();
+        final Entry candidate = new Entry();
+        final Entry entry = entries.compute(key, (k, existing) ->
+                existing != null && existing.isUsable(now) ? existing : candidate);
+
+        if (entry != candidate) {
+            if (entry.future.isDone()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+            return await(entry.future);
+        }
+
+        misses.increment();
+        try {
+            final List<LatestMaterialInfo> loaded = List.copyOf(loader.get());
+            candidate.expiresAt = clock.instant().plus(properties.ttl());
+            candidate.future.complete(loaded);
+            evictIfFull();
+            return loaded;
+        } catch (RuntimeException ex) {
+            entries.remove(key, candidate);
+            candidate.future.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private void evictIfFull() {
+        if (entries.size() <= properties.maxEntries()) {
+            return;
+        }
+        final Instant now = clock.instant();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        final int excess = entries.size() - properties.maxEntries();
+        if (excess > 0) {
+            entries.entrySet().stream()
+                    .filter(e -> e.getValue().expiresAt != null)
+                    .sorted(Comparator.comparing(e -> e.getValue().expiresAt))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(entries::remove);
+            log.debug("Court document cache full, evicted {} entries", excess);
+        }
+    }
+
+    private static List<LatestMaterialInfo> await(final CompletableFuture<List<LatestMaterialInfo>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record Key(UUID caseId, String userId) {
+        private Key {
+            Objects.requireNonNull(caseId, "caseId");
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<List<LatestMaterialInfo>> future = new CompletableFuture<>();
+        private volatile Instant expiresAt;
+
+        private boolean isUsable(final Instant now) {
+            return !future.isDone() || (!future.isCompletedExceptionally() && !isExpired(now));
+        }
+
+        private boolean isExpired(final Instant now) {
+            final Instant expiry = expiresAt;
+            return expiry != null && !now.isBefore(expiry);
+        }
+    }
+}
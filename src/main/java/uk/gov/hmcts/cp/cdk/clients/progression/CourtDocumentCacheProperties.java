@@ -0,0 +1,32 @@
+package uk.gov.hmcts.cp.cdk.clients.progression;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cqrs.client.progression.court-document-cache")
+public record CourtDocumentCacheProperties(
+        Boolean enabled,
+        long ttlMs,
+        int maxEntries
+) {
+    public CourtDocumentCacheProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (ttlMs <= 0) {
+            ttlMs = 30_000;
+        }
+        if (maxEntries <= 0) {
+            maxEntries = 2_000;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration ttl() {
+        return Duration.ofMillis(ttlMs);
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.cp.cdk.clients.progression;
 
 import uk.gov.hmcts.cp.cdk.clients.common.CQRSClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamGuard;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.CourtDocumentSearchResponse;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.Defendant;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
@@ -39,12 +40,16 @@ public class ProgressionClientImpl implements ProgressionClient {
     private final String acceptForMaterialContent;
     private final String acceptForProsecutionCase;
     private final String prosecutionCasePath;
+    private final CourtDocumentCache courtDocumentCache;
+    private final UpstreamGuard upstreamGuard;
 
 
     public ProgressionClientImpl(final @Qualifier("cqrsRestClient") RestClient restClient,
                                  final CQRSClientProperties rootProps,
                                  final ProgressionClientConfig props,
-                                 final ProgressionDtoMapper mapper) {
+                                 final ProgressionDtoMapper mapper,
+                                 final CourtDocumentCache courtDocumentCache,
+                                 final UpstreamGuard upstreamGuard) {
         this.restClient = Objects.requireNonNull(restClient, "restClient");
         this.cppuidHeader = Objects.requireNonNull(rootProps.headers().cjsCppuid(), "cjsCppuidHeader");
         this.mapper = Objects.requireNonNull(mapper, "mapper");
@@ -54,31 +59,13 @@ public class ProgressionClientImpl implements ProgressionClient {
         this.acceptForMaterialContent = Objects.requireNonNull(props.acceptForMaterialContent(), "acceptForMaterialContent");
         this.acceptForProsecutionCase = Objects.requireNonNull(props.acceptForProsecutionCase(), "acceptForProsecutionCase");
         this.prosecutionCasePath = Objects.requireNonNull(props.prosecutionCasePath(), "prosecutionCasePath");
+        this.courtDocumentCache = Objects.requireNonNull(courtDocumentCache, "courtDocumentCache");
+        this.upstreamGuard = Objects.requireNonNull(upstreamGuard, "upstreamGuard");
     }
 
     @Override
-    @SuppressWarnings({"PMD.OnlyOneReturn", "PMD.UseExplicitTypes"})
     public Optional<LatestMaterialInfo> getCourtDocuments(final UUID caseId, final String userId) {
-        final URI uri = UriComponentsBuilder
-                .fromPath(courtDocsPath)
-                .queryParam("caseId", caseId)
-                .build()
-                .toUri();
-
-        final CourtDocumentSearchResponse response = restClient.get()
-                .uri(uri)
-                .header(cppuidHeader, userId)
-                .header(HttpHeaders.ACCEPT, acceptForCourtDocSearch)
-                .retrieve()
-                .body(CourtDocumentSearchResponse.class);
-
-        if (response == null || response.documentIndices() == null || response.documentIndices().isEmpty()) {
-            return Optional.empty();
-        }
-
-        return response.documentIndices().stream()
-                .map(mapper::mapToLatestMaterialInfo)
-                .flatMap(Optional::stream)
+        return searchCourtDocuments(caseId, userId).stream()
                 .max(Comparator.comparing(LatestMaterialInfo::uploadDateTime));
     }
 
@@ -87,12 +74,12 @@ public class ProgressionClientImpl implements ProgressionClient {
         final String path = materialContentPath.replace("{materialId}", materialId.toString());
         final URI uri = UriComponentsBuilder.fromPath(path).build().toUri();
 
-        final UrlResponse response = restClient.get()
+        final UrlResponse response = upstreamGuard.call(UpstreamGuard.PROGRESSION, () -> restClient.get()
                 .uri(uri)
                 .header(cppuidHeader, userId)
                 .header(HttpHeaders.ACCEPT, acceptForMaterialContent)
                 .retrieve()
-                .body(UrlResponse.class);
+                .body(UrlResponse.class));
 
         return Optional.ofNullable(response)
                 .map(UrlResponse::url)
@@ -111,12 +98,12 @@ public class ProgressionClientImpl implements ProgressionClient {
                 .build()
                 .toUri();
 
-        final ProsecutionCaseResponse response = restClient.get()
+        final ProsecutionCaseResponse response = upstreamGuard.call(UpstreamGuard.PROGRESSION, () -> restClient.get()
                 .uri(uri)
                 .header(cppuidHeader, userId)
                 .header(HttpHeaders.ACCEPT, acceptForProsecutionCase)
                 .retrieve()
-                .body(ProsecutionCaseResponse.class);
+                .body(ProsecutionCaseResponse.class));
 
         if (response == null || response.prosecutionCase() == null) {
             return Optional.empty();
@@ -141,21 +128,41 @@ public class ProgressionClientImpl implements ProgressionClient {
 
 
     @Override
-    @SuppressWarnings({"PMD.OnlyOneReturn", "PMD.UseExplicitTypes"})
     public List<LatestMaterialInfo> getCourtDocumentsForAllDefendants(final UUID caseId, final String userId) {
+        return searchCourtDocuments(caseId, userId).stream()
+                .filter(info -> info.defendantId() != null)
+                .collect(Collectors.toMap(
+                        LatestMaterialInfo::defendantId,
+                        Function.identity(),
+                        BinaryOperator.maxBy(Comparator.comparing(LatestMaterialInfo::uploadDateTime))
+                ))
+                .values()
+                .stream()
+                .toList();
+    }
+
+    /**
+     * Both court-document lookups issue the same search; the mapped result is shared through
+     * {@link CourtDocumentCache} so eligibility, IDPC resolution and the queries screen reuse it.
+     */
+    private List<LatestMaterialInfo> searchCourtDocuments(final UUID caseId, final String userId) {
+        return courtDocumentCache.get(caseId, userId, () -> fetchCourtDocuments(caseId, userId));
+    }
 
+    @SuppressWarnings({"PMD.OnlyOneReturn", "PMD.UseExplicitTypes"})
+    private List<LatestMaterialInfo> fetchCourtDocuments(final UUID caseId, final String userId) {
         final URI uri = UriComponentsBuilder
                 .fromPath(courtDocsPath)
                 .queryParam("caseId", caseId)
                 .build()
                 .toUri();
 
-        final CourtDocumentSearchResponse response = restClient.get()
+        final CourtDocumentSearchResponse response = upstreamGuard.call(UpstreamGuard.PROGRESSION, () -> restClient.get()
                 .uri(uri)
                 .header(cppuidHeader, userId)
                 .header(HttpHeaders.ACCEPT, acceptForCourtDocSearch)
                 .retrieve()
-                .body(CourtDocumentSearchResponse.class);
+                .body(CourtDocumentSearchResponse.class));
 
         if (response == null || response.documentIndices() == null || response.documentIndices().isEmpty()) {
             return List.of();
@@ -164,14 +171,6 @@ public class ProgressionClientImpl implements ProgressionClient {
         return response.documentIndices().stream()
                 .map(mapper::mapToLatestMaterialInfo)
                 .flatMap(Optional::stream)
-                .filter(info -> info.defendantId() != null)
-                .collect(Collectors.toMap(
-                        LatestMaterialInfo::defendantId,
-                        Function.identity(),
-                        BinaryOperator.maxBy(Comparator.comparing(LatestMaterialInfo::uploadDateTime))
-                ))
-                .values()
-                .stream()
                 .toList();
     }
 
@@ -1,7 +1,6 @@
 package uk.gov.hmcts.cp.cdk.clients.rag;
 
-import uk.gov.hmcts.cp.cdk.clients.common.ApimAuthHeaderService;
-import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.RagRequestHeaders;
 import uk.gov.hmcts.cp.openapi.api.DocumentIngestionInitiationApi;
 import uk.gov.hmcts.cp.openapi.model.DocumentUploadRequest;
 import uk.gov.hmcts.cp.openapi.model.FileStorageLocationReturnedSuccessfully;
@@ -24,8 +23,7 @@ import org.springframework.web.client.RestClient;
 public class ApimDocumentIngestionClient implements DocumentIngestionInitiationApi {
 
     private final RestClient restClient;
-    private final RagClientProperties ragClientProperties;
-    private final ApimAuthHeaderService apimAuthHeaderService;
+    private final RagRequestHeaders ragRequestHeaders;
 
     @Override
     public ResponseEntity<@NotNull FileStorageLocationReturnedSuccessfully> initiateDocumentUpload(final DocumentUploadRequest documentUploadRequest) {
@@ -36,10 +34,7 @@ public class ApimDocumentIngestionClient implements DocumentIngestionInitiationA
                     .uri(PATH_INITIATE_DOCUMENT_UPLOAD)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON)
-                    .headers(httpHeaders -> {
-                        apimAuthHeaderService.applyCommonHeaders(httpHeaders, ragClientProperties.getHeaders());
-                        apimAuthHeaderService.applyAuthHeaders(httpHeaders, ragClientProperties);
-                    })
+                    .headers(ragRequestHeaders)
                     .body(documentUploadRequest)
                     .retrieve()
                     .body(FileStorageLocationReturnedSuccessfully.class);
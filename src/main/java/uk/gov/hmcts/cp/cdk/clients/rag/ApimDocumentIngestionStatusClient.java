@@ -1,7 +1,6 @@
 package uk.gov.hmcts.cp.cdk.clients.rag;
 
-import uk.gov.hmcts.cp.cdk.clients.common.ApimAuthHeaderService;
-import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.RagRequestHeaders;
 import uk.gov.hmcts.cp.openapi.api.DocumentIngestionStatusApi;
 import uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatusReturnedSuccessfully;
 
@@ -23,8 +22,7 @@ import org.springframework.web.client.RestClient;
 public class ApimDocumentIngestionStatusClient implements DocumentIngestionStatusApi {
 
     private final RestClient restClient;
-    private final RagClientProperties ragClientProperties;
-    private final ApimAuthHeaderService apimAuthHeaderService;
+    private final RagRequestHeaders ragRequestHeaders;
 
     @Override
     public ResponseEntity<@NotNull DocumentIngestionStatusReturnedSuccessfully> documentStatusByReference(final String documentReference) {
@@ -36,10 +34,7 @@ public class ApimDocumentIngestionStatusClient implements DocumentIngestionStatu
                             .path(PATH_DOCUMENT_STATUS_BY_REFERENCE)
                             .build(documentReference))
                     .accept(MediaType.APPLICATION_JSON)
-                    .headers(httpHeaders -> {
-                        apimAuthHeaderService.applyCommonHeaders(httpHeaders, ragClientProperties.getHeaders());
-                        apimAuthHeaderService.applyAuthHeaders(httpHeaders, ragClientProperties);
-                    })
+                    .headers(ragRequestHeaders)
                     .retrieve()
                     .body(DocumentIngestionStatusReturnedSuccessfully.class);
 
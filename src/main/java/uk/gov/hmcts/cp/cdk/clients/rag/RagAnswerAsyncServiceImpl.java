@@ -1,7 +1,6 @@
 package uk.gov.hmcts.cp.cdk.clients.rag;
 
-import uk.gov.hmcts.cp.cdk.clients.common.ApimAuthHeaderService;
-import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.RagRequestHeaders;
 import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
 import uk.gov.hmcts.cp.openapi.model.AnswerUserQueryRequest;
 import uk.gov.hmcts.cp.openapi.model.RequestErrored;
@@ -30,8 +29,7 @@ import org.springframework.web.client.RestClient;
 public class RagAnswerAsyncServiceImpl implements DocumentInformationSummarisedAsynchronouslyApi {
 
     private final RestClient ragRestClient;
-    private final RagClientProperties ragClientProperties;
-    private final ApimAuthHeaderService apimAuthHeaderService;
+    private final RagRequestHeaders ragRequestHeaders;
 
 
     @Override
@@ -46,10 +44,7 @@ public class RagAnswerAsyncServiceImpl implements DocumentInformationSummarisedA
                     .uri(PATH_ANSWER_USER_QUERY_ASYNC)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON)
-                    .headers(httpHeaders -> {
-                        apimAuthHeaderService.applyCommonHeaders(httpHeaders, ragClientProperties.getHeaders());
-                        apimAuthHeaderService.applyAuthHeaders(httpHeaders, ragClientProperties);
-                    })
+                    .headers(ragRequestHeaders)
                     .body(answerUserQueryRequest)
                     .retrieve()
                     .body(UserQueryAnswerRequestAccepted.class);
@@ -85,10 +80,7 @@ public class RagAnswerAsyncServiceImpl implements DocumentInformationSummarisedA
                             .queryParam("withChunkedEntries", withChunkedEntries)
                             .build(transactionId))
                     .accept(MediaType.APPLICATION_JSON)
-                    .headers(httpHeaders -> {
-                        apimAuthHeaderService.applyCommonHeaders(httpHeaders, ragClientProperties.getHeaders());
-                        apimAuthHeaderService.applyAuthHeaders(httpHeaders, ragClientProperties);
-                    })
+                    .headers(ragRequestHeaders)
                     .retrieve()
                     .body(UserQueryAnswerReturnedSuccessfullyAsynchronously.class);
 
@@ -1,7 +1,6 @@
 package uk.gov.hmcts.cp.cdk.clients.rag;
 
-import uk.gov.hmcts.cp.cdk.clients.common.ApimAuthHeaderService;
-import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.RagRequestHeaders;
 import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedSynchronouslyApi;
 import uk.gov.hmcts.cp.openapi.model.AnswerUserQueryRequest;
 import uk.gov.hmcts.cp.openapi.model.RequestErrored;
@@ -30,8 +29,7 @@ import org.springframework.web.client.RestClient;
 public class RagAnswerServiceImpl implements DocumentInformationSummarisedSynchronouslyApi {
 
     private final RestClient ragRestClient;
-    private final RagClientProperties ragClientProperties;
-    private final ApimAuthHeaderService apimAuthHeaderService;
+    private final RagRequestHeaders ragRequestHeaders;
 
     @Override
     public ResponseEntity<@NotNull UserQueryAnswerReturnedSuccessfullySynchronously> answerUserQuery(
@@ -46,10 +44,7 @@ public class RagAnswerServiceImpl implements DocumentInformationSummarisedSynchr
                     .uri(PATH_ANSWER_USER_QUERY)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON)
-                    .headers(httpHeaders -> {
-                        apimAuthHeaderService.applyCommonHeaders(httpHeaders, ragClientProperties.getHeaders());
-                        apimAuthHeaderService.applyAuthHeaders(httpHeaders, ragClientProperties);
-                    })
+                    .headers(ragRequestHeaders)
                     .body(request)
                     .retrieve()
                     .body(UserQueryAnswerReturnedSuccessfullySynchronously.class);
@@ -0,0 +1,267 @@
+package uk.gov.hmcts.cp.cdk.clients.rag;
+
+import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties.Governor;
+import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties.Governor.Limit;
+import uk.gov.hmcts.cp.cdk.http.OperationPaths;
+import uk.gov.hmcts.cp.cdk.repo.RagRateLimitRepository;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Keeps calls to RAG/APIM within the limits configured per operation under {@code rag.client.governor.limits}:
+ * a token bucket for the sustained rate and a semaphore for calls in flight. Callers over either limit queue
+ * for up to {@code max-queue-wait-ms} instead of failing straight away.
+ * A 429 or 503 pauses the operation until its Retry-After has passed; the response itself is still returned
+ * to the caller, whose task retries as before.
+ */
+@Slf4j
+public class RagCallGovernor implements ClientHttpRequestInterceptor {
+
+    /* default */ static final String QUEUE_METRIC = "cdk.rag.governor.queue";
+    /* default */ static final String IN_FLIGHT_METRIC = "cdk.rag.governor.in_flight";
+    /* default */ static final String WAIT_METRIC = "cdk.rag.governor.wait";
+    /* default */ static final String THROTTLED_METRIC = "cdk.rag.governor.throttled";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final Governor properties;
+    private final MeterRegistry meterRegistry;
+    private final RagRateLimitRepository rateLimitRepository;
+    private final OperationPaths operationPaths = new OperationPaths(RagOperations.PATHS);
+    private final Map<String, OperationState> states = new ConcurrentHashMap<>();
+
+    public RagCallGovernor(final Governor properties,
+                           final MeterRegistry meterRegistry,
+                           final RagRateLimitRepository rateLimitRepository) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rateLimitRepository = rateLimitRepository;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, final ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!properties.isEnabled()) {
+            return execution.execute(request, body);
+        }
+
+        final String operation = operationPaths.resolve(request.getURI().getPath());
+        final OperationState state = states.computeIfAbsent(operation, this::newState);
+        final boolean holdsSlot = await(state);
+
+        state.inFlight.incrementAndGet();
+        try {
+            final ClientHttpResponse response = execution.execute(request, body);
+            final HttpStatusCode status = response.getStatusCode();
+            if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value() || status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                throttled(state, response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            }
+            return response;
+        } finally {
+            state.inFlight.decrementAndGet();
+            if (holdsSlot) {
+                state.slots.release();
+            }
+        }
+    }
+
+    /**
+     * Queues the caller until the operation is no longer paused and both a rate token and a concurrency slot
+     * are available; returns whether a slot is held and must be released. The token is waited for first, so a
+     * caller sleeping for its token does not keep a slot from callers whose token is already due.
+     */
+    private boolean await(final OperationState state) throws IOException {
+        final long startedAt = System.nanoTime();
+        final long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(state.limit.getMaxQueueWaitMs());
+        state.queued.incrementAndGet();
+        try {
+            sleepUntil(state, state.pausedUntilNanos, deadline);
+            final boolean holdsToken = state.limit.getPermitsPerSecond() > 0;
+            if (holdsToken) {
+                sleepUntil(state, System.nanoTime() + reserveToken(state, deadline), deadline);
+            }
+            if (state.slots == null) {
+                return false;
+            }
+            if (!state.slots.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                if (holdsToken) {
+                    returnToken(state);
+                }
+                throw queueTimeout(state);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a RAG " + state.operation + " permit");
+        } finally {
+            state.queued.decrementAndGet();
+            state.waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Takes one token and returns how long the caller must wait for it, handing it back if that is past the deadline.
+     */
+    private long reserveToken(final OperationState state, final long deadline) {
+        final double rate = state.limit.getPermitsPerSecond();
+        final int burst = state.limit.getBurst();
+        if (properties.isDistributed()) {
+            final double balance = rateLimitRepository.reserve(state.operation, rate, burst);
+            final long waitNanos = balance >= 0 ? 0 : (long) (-balance / rate * NANOS_PER_SECOND);
+            if (System.nanoTime() + waitNanos > deadline) {
+                rateLimitRepository.release(state.operation);
+                throw queueTimeout(state);
+            }
+            return waitNanos;
+        }
+        final long waitNanos = state.reserveLocal(rate, burst, deadline);
+        if (waitNanos < 0) {
+            throw queueTimeout(state);
+        }
+        return waitNanos;
+    }
+
+    private void returnToken(final OperationState state) {
+        if (properties.isDistributed()) {
+            rateLimitRepository.release(state.operation);
+        } else {
+            state.returnLocal(state.limit.getBurst());
+        }
+    }
+
+    private void throttled(final OperationState state, final String retryAfterHeader) {
+        final Duration retryAfter = retryAfter(retryAfterHeader);
+        state.throttled.increment();
+        state.pausedUntilNanos = Math.max(state.pausedUntilNanos, System.nanoTime() + retryAfter.toNanos());
+        log.warn("RAG {} throttled; pausing calls for {} ms", state.operation, retryAfter.toMillis());
+
+        if (properties.isDistributed() && state.limit.getPermitsPerSecond() > 0) {
+            try {
+                rateLimitRepository.pause(state.operation, state.limit.getPermitsPerSecond(), state.limit.getBurst(),
+                        retryAfter.toMillis() / 1000d);
+            } catch (RuntimeException e) {
+                log.warn("Could not share RAG {} pause with other replicas", state.operation, e);
+            }
+        }
+    }
+
+    /* default */ Duration retryAfter(final String header) {
+        final Duration fallback = Duration.ofSeconds(properties.getDefaultRetryAfterSeconds());
+        if (header == null || header.isBlank()) {
+            return fallback;
+        }
+        final String value = header.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // not delta-seconds: try an HTTP date below
+        }
+        try {
+            final Duration untilDate = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return untilDate.isNegative() ? Duration.ZERO : untilDate;
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+
+    private static void sleepUntil(final OperationState state, final long untilNanos, final long deadline)
+            throws InterruptedException {
+        final long waitNanos = untilNanos - System.nanoTime();
+        if (waitNanos <= 0) {
+            return;
+        }
+        if (untilNanos > deadline) {
+            throw queueTimeout(state);
+        }
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    private static RagClientException queueTimeout(final OperationState state) {
+        return new RagClientException("Timed out after " + state.limit.getMaxQueueWaitMs()
+                + " ms waiting for a RAG " + state.operation + " permit");
+    }
+
+    private OperationState newState(final String operation) {
+        final Limit limit = properties.getLimits().getOrDefault(operation, new Limit());
+        final OperationState state = new OperationState(operation, limit, meterRegistry);
+        Gauge.builder(QUEUE_METRIC, state.queued, AtomicInteger::get)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, state.inFlight, AtomicInteger::get)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return state;
+    }
+
+    private static final class OperationState {
+
+        private final String operation;
+        private final Limit limit;
+        private final Semaphore slots;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Timer waitTimer;
+        private final Counter throttled;
+
+        private volatile long pausedUntilNanos = System.nanoTime();
+        private double tokens;
+        private long refreshedAtNanos = System.nanoTime();
+
+        private OperationState(final String operation, final Limit limit, final MeterRegistry meterRegistry) {
+            this.operation = operation;
+            this.limit = limit;
+            this.slots = limit.getMaxConcurrent() > 0 ? new Semaphore(limit.getMaxConcurrent(), true) : null;
+            this.tokens = limit.getBurst();
+            this.waitTimer = Timer.builder(WAIT_METRIC)
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.throttled = Counter.builder(THROTTLED_METRIC)
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Refills the local bucket and takes a token; returns the wait for it, or -1 (token returned) past the deadline.
+         */
+        private synchronized long reserveLocal(final double rate, final int burst, final long deadline) {
+            final long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - refreshedAtNanos) / NANOS_PER_SECOND * rate) - 1;
+            refreshedAtNanos = now;
+            final long waitNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+            if (now + waitNanos > deadline) {
+                tokens += 1;
+                return -1;
+            }
+            return waitNanos;
+        }
+
+        private synchronized void returnLocal(final int burst) {
+            tokens = Math.min(burst, tokens + 1);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package uk.gov.hmcts.cp.cdk.clients.rag;
 
-import uk.gov.hmcts.cp.cdk.clients.common.ApimAuthHeaderService;
 import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.RagRequestHeaders;
+import uk.gov.hmcts.cp.cdk.repo.RagRateLimitRepository;
 import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
 import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedSynchronouslyApi;
 import uk.gov.hmcts.cp.openapi.api.DocumentIngestionInitiationApi;
 import uk.gov.hmcts.cp.openapi.api.DocumentIngestionStatusApi;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -23,16 +25,27 @@ public class RagClientsConfig {
     private static final String SUBSCRIPTION_KEY = "subscription-key";
     private static final String RAG_REST_CLIENT = "ragRestClient";
 
+    @Bean
+    public RagCallGovernor ragCallGovernor(final RagClientProperties ragClientProperties,
+                                           final MeterRegistry meterRegistry,
+                                           final RagRateLimitRepository ragRateLimitRepository) {
+        log.info("Creating RAG call governor enabled={}, distributed={}, limits={}",
+                ragClientProperties.getGovernor().isEnabled(),
+                ragClientProperties.getGovernor().isDistributed(),
+                ragClientProperties.getGovernor().getLimits().keySet());
+        return new RagCallGovernor(ragClientProperties.getGovernor(), meterRegistry, ragRateLimitRepository);
+    }
+
     @Bean
     @ConditionalOnMissingBean(DocumentInformationSummarisedSynchronouslyApi.class)
     public DocumentInformationSummarisedSynchronouslyApi ragAnswerService(
             @Qualifier(RAG_REST_CLIENT) final RestClient ragRestClient,
             final RagClientProperties ragClientProperties,
-            final ApimAuthHeaderService apimAuthHeaderService) {
+            final RagRequestHeaders ragRequestHeaders) {
 
         log.info("Creating DocumentInformationSummarisedSynchronouslyApi client (RAG Answer Service) with auth mode={}",
                 ragClientProperties.getAuth() != null ? ragClientProperties.getAuth().getMode() : SUBSCRIPTION_KEY);
-        return new RagAnswerServiceImpl(ragRestClient, ragClientProperties, apimAuthHeaderService);
+        return new RagAnswerServiceImpl(ragRestClient, ragRequestHeaders);
     }
 
     @Bean
@@ -40,12 +53,12 @@ public class RagClientsConfig {
     public DocumentInformationSummarisedAsynchronouslyApi ragAnswerServiceAsync(
             @Qualifier(RAG_REST_CLIENT) final RestClient ragRestClient,
             final RagClientProperties ragClientProperties,
-            final ApimAuthHeaderService apimAuthHeaderService) {
+            final RagRequestHeaders ragRequestHeaders) {
 
         log.info("Creating DocumentInformationSummarisedAsynchronouslyApi client (RAG Async Answer Service) with auth mode={}",
                 ragClientProperties.getAuth() != null ? ragClientProperties.getAuth().getMode() : SUBSCRIPTION_KEY);
 
-        return new RagAnswerAsyncServiceImpl(ragRestClient, ragClientProperties, apimAuthHeaderService);
+        return new RagAnswerAsyncServiceImpl(ragRestClient, ragRequestHeaders);
     }
 
     @Bean
@@ -53,11 +66,11 @@ public class RagClientsConfig {
     public DocumentIngestionStatusApi documentIngestionStatusApi(
             @Qualifier(RAG_REST_CLIENT) final RestClient ragRestClient,
             final RagClientProperties ragClientProperties,
-            final ApimAuthHeaderService apimAuthHeaderService) {
+            final RagRequestHeaders ragRequestHeaders) {
 
         log.info("Creating DocumentIngestionStatusApi client with auth mode={}",
                 ragClientProperties.getAuth() != null ? ragClientProperties.getAuth().getMode() : SUBSCRIPTION_KEY);
-        return new ApimDocumentIngestionStatusClient(ragRestClient, ragClientProperties, apimAuthHeaderService);
+        return new ApimDocumentIngestionStatusClient(ragRestClient, ragRequestHeaders);
     }
 
     @Bean
@@ -65,10 +78,10 @@ public class RagClientsConfig {
     public DocumentIngestionInitiationApi documentIngestionInitiationApi(
             @Qualifier(RAG_REST_CLIENT) final RestClient ragRestClient,
             final RagClientProperties ragClientProperties,
-            final ApimAuthHeaderService apimAuthHeaderService) {
+            final RagRequestHeaders ragRequestHeaders) {
 
         log.info("Creating DocumentIngestionApi client with auth mode={}",
                 ragClientProperties.getAuth() != null ? ragClientProperties.getAuth().getMode() : SUBSCRIPTION_KEY);
-        return new ApimDocumentIngestionClient(ragRestClient, ragClientProperties, apimAuthHeaderService);
+        return new ApimDocumentIngestionClient(ragRestClient, ragRequestHeaders);
     }
 }
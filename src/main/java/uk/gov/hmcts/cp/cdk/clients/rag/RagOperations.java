@@ -0,0 +1,38 @@
+package uk.gov.hmcts.cp.cdk.clients.rag;
+
+import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
+import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedSynchronouslyApi;
+import uk.gov.hmcts.cp.openapi.api.DocumentIngestionInitiationApi;
+import uk.gov.hmcts.cp.openapi.api.DocumentIngestionStatusApi;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Logical names of the RAG/APIM operations, keyed to their path templates.
+ * Used as metric tags and as the keys of {@code rag.client.governor.limits}.
+ */
+public final class RagOperations {
+
+    public static final String ANSWER_USER_QUERY = "answer-user-query";
+    public static final String ANSWER_USER_QUERY_ASYNC = "answer-user-query-async";
+    public static final String ANSWER_USER_QUERY_STATUS = "answer-user-query-status";
+    public static final String DOCUMENT_UPLOAD = "document-upload";
+    public static final String DOCUMENT_STATUS = "status";
+
+    public static final Map<String, String> PATHS = paths();
+
+    private RagOperations() {
+    }
+
+    private static Map<String, String> paths() {
+        final Map<String, String> operations = new LinkedHashMap<>();
+        operations.put(ANSWER_USER_QUERY, DocumentInformationSummarisedSynchronouslyApi.PATH_ANSWER_USER_QUERY);
+        operations.put(ANSWER_USER_QUERY_ASYNC, DocumentInformationSummarisedAsynchronouslyApi.PATH_ANSWER_USER_QUERY_ASYNC);
+        operations.put(ANSWER_USER_QUERY_STATUS, DocumentInformationSummarisedAsynchronouslyApi.PATH_ANSWER_USER_QUERY_STATUS);
+        operations.put(DOCUMENT_UPLOAD, DocumentIngestionInitiationApi.PATH_INITIATE_DOCUMENT_UPLOAD);
+        operations.put(DOCUMENT_STATUS, DocumentIngestionStatusApi.PATH_DOCUMENT_STATUS_BY_REFERENCE);
+        return Collections.unmodifiableMap(operations);
+    }
+}
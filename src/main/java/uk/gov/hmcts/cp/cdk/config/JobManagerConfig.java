@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import uk.gov.hmcts.cp.cdk.jobmanager.IngestionProperties;
 import uk.gov.hmcts.cp.cdk.storage.AzureBlobStorageService;
+import uk.gov.hmcts.cp.cdk.storage.StagedBlobCopier;
 import uk.gov.hmcts.cp.cdk.storage.StorageProperties;
 import uk.gov.hmcts.cp.cdk.storage.StorageService;
 import uk.gov.hmcts.cp.cdk.storage.UploadProperties;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.Locale;
 
 import com.azure.core.credential.TokenCredential;
@@ -18,6 +21,7 @@ import com.azure.storage.blob.BlobContainerClientBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -123,9 +127,20 @@ public class JobManagerConfig {
         }
     }
 
+    @Bean
+    public StagedBlobCopier stagedBlobCopier(final StorageProperties storageProperties,
+                                             final MeterRegistry meterRegistry) {
+        final HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        return new StagedBlobCopier(storageProperties.stagedCopy(), httpClient, meterRegistry);
+    }
+
     @Bean
     public StorageService storageService(final BlobContainerClient blobContainerClient,
-                                         final StorageProperties storageProperties) {
-        return new AzureBlobStorageService(blobContainerClient, storageProperties);
+                                         final StorageProperties storageProperties,
+                                         final StagedBlobCopier stagedBlobCopier) {
+        return new AzureBlobStorageService(blobContainerClient, storageProperties, stagedBlobCopier);
     }
 }
@@ -2,8 +2,8 @@ package uk.gov.hmcts.cp.cdk.config;
 
 import uk.gov.hmcts.cp.cdk.repo.AnswerRepository;
 import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.cdk.repo.CaseIngestionStatusRepository;
 import uk.gov.hmcts.cp.cdk.repo.CaseQueryStatusRepository;
-import uk.gov.hmcts.cp.cdk.repo.IngestionStatusViewRepository;
 import uk.gov.hmcts.cp.cdk.repo.QueriesAsOfRepository;
 import uk.gov.hmcts.cp.cdk.repo.QueryDefinitionLatestRepository;
 import uk.gov.hmcts.cp.cdk.repo.QueryRepository;
@@ -21,8 +21,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EnableJpaRepositories(basePackageClasses = {
         AnswerRepository.class,
         CaseDocumentRepository.class,
+        CaseIngestionStatusRepository.class,
         CaseQueryStatusRepository.class,
-        IngestionStatusViewRepository.class,
         QueriesAsOfRepository.class,
         QueryDefinitionLatestRepository.class,
         QueryRepository.class,
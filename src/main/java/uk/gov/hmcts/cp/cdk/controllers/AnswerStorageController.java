@@ -0,0 +1,31 @@
+package uk.gov.hmcts.cp.cdk.controllers;
+
+import uk.gov.hmcts.cp.cdk.services.LlmInputChunkService;
+import uk.gov.hmcts.cp.cdk.services.LlmInputChunkService.LlmInputStorageReport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Operational view of how much space answer llm_input takes: per answer table, what is still
+ * inline versus chunked, and the size of the shared chunk store. Not part of the generated contract.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class AnswerStorageController {
+
+    /* default */
+    static final String ANSWER_STORAGE_MEDIA_TYPE = "application/vnd.casedocumentknowledge-service.answer-storage+json";
+
+    private final LlmInputChunkService llmInputChunkService;
+
+    @GetMapping(value = "/answers/llm-input/storage", produces = ANSWER_STORAGE_MEDIA_TYPE)
+    public ResponseEntity<LlmInputStorageReport> getLlmInputStorage() {
+        log.debug("getLlmInputStorage");
+        return ResponseEntity.ok(llmInputChunkService.report());
+    }
+}
@@ -10,7 +10,11 @@ import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -23,6 +27,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AnswersController implements AnswersApi {
 
+    /* default */
+    static final String ANSWERS_MEDIA_TYPE = "application/vnd.casedocumentknowledge-service.answers+json";
+
     private final AnswerService service;
 
     @Override
@@ -54,4 +61,22 @@ public class AnswersController implements AnswersApi {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Latest answer of every active query for a case in one call, so the case view does not
+     * need one request per query. Not part of the generated contract yet.
+     */
+    @GetMapping(value = "/answers/{caseId}", produces = ANSWERS_MEDIA_TYPE)
+    @SuppressWarnings("PMD.ShortVariable")
+    public ResponseEntity<AnswersResponse> getLatestAnswersByCase(
+            @PathVariable("caseId") final UUID caseId,
+            @RequestParam(value = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final OffsetDateTime at
+    ) {
+        log.debug("getLatestAnswersByCase caseId={}, at={}", caseId, at);
+
+        final AnswersResponse response = service.getLatestAnswersForCase(caseId, at);
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -9,6 +9,7 @@ import uk.gov.hmcts.cp.openapi.model.cdk.IngestionProcessRequest;
 import uk.gov.hmcts.cp.openapi.model.cdk.IngestionProcessResponse;
 import uk.gov.hmcts.cp.openapi.model.cdk.IngestionStatusResponse;
 
+import java.util.List;
 import java.util.UUID;
 
 import jakarta.validation.Valid;
@@ -17,8 +18,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Ingestion API controller.
@@ -32,6 +36,12 @@ public class IngestionController implements IngestionApi {
     public static final MediaType VND_INGESTION =
             new MediaType("application", "vnd.casedocumentknowledge-service.ingestion-process+json");
 
+    /* default */
+    static final String INGESTION_STATUS_MEDIA_TYPE = "application/vnd.casedocumentknowledge-service.ingestion+json";
+
+    /* default */
+    static final int MAX_BULK_CASE_IDS = 500;
+
     private final IngestionService service;
     private final IngestionProcessor ingestionProcessor;
     private final CQRSClientProperties cqrsClientProperties;
@@ -44,6 +54,23 @@ public class IngestionController implements IngestionApi {
         return ResponseEntity.ok(status);
     }
 
+    /**
+     * Ingestion status of many cases in one call, for the court-list screen.
+     * Not part of the generated contract yet.
+     */
+    @GetMapping(value = "/ingestions/statuses", produces = INGESTION_STATUS_MEDIA_TYPE)
+    public ResponseEntity<List<IngestionStatusResponse>> getIngestionStatuses(
+            @RequestParam("caseIds") final List<UUID> caseIds
+    ) {
+        log.debug("getIngestionStatuses caseIds={}", caseIds.size());
+        if (caseIds.size() > MAX_BULK_CASE_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most %d caseIds per request".formatted(MAX_BULK_CASE_IDS));
+        }
+
+        return ResponseEntity.ok(service.getStatuses(caseIds));
+    }
+
     @Override
     public ResponseEntity<IngestionProcessResponse> startIngestionProcess(
             @RequestBody @Valid final IngestionProcessRequest ingestionProcessRequest
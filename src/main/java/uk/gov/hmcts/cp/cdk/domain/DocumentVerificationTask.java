@@ -39,6 +39,12 @@ public class DocumentVerificationTask {
     @Column(name = "blob_name", nullable = false)
     private String blobName;
 
+    @Column(name = "document_reference")
+    private String documentReference;
+
+    @Column(name = "job_data")
+    private String jobData;
+
     @Column(name = "attempt_count", nullable = false)
     private int attemptCount;
 
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.cp.cdk.http;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection pools per upstream, keyed by pool name (e.g. {@code cqrs}, {@code rag}).
+ * Connect and response timeouts stay with each client's own properties; these settings only shape the pool.
+ */
+@ConfigurationProperties(prefix = "cdk.http")
+public record HttpPoolProperties(
+        Map<String, Pool> pools
+) {
+    public HttpPoolProperties {
+        if (pools == null) {
+            pools = Map.of();
+        }
+    }
+
+    public Pool pool(final String name) {
+        return pools.getOrDefault(name, new Pool(0, 0, 0, 0, 0, 0));
+    }
+
+    public record Pool(
+            int maxTotal,
+            int maxPerRoute,
+            long connectionRequestTimeoutMs,  // 0 = same as the client's connect timeout
+            long timeToLiveSeconds,
+            long validateAfterInactivityMs,
+            long idleEvictSeconds
+    ) {
+        public Pool {
+            if (maxTotal <= 0) {
+                maxTotal = 50;
+            }
+            if (maxPerRoute <= 0) {
+                maxPerRoute = maxTotal;
+            }
+            if (connectionRequestTimeoutMs < 0) {
+                connectionRequestTimeoutMs = 0;
+            }
+            if (timeToLiveSeconds <= 0) {
+                timeToLiveSeconds = 300;
+            }
+            if (validateAfterInactivityMs <= 0) {
+                validateAfterInactivityMs = 2_000;
+            }
+            if (idleEvictSeconds <= 0) {
+                idleEvictSeconds = 180;
+            }
+        }
+
+        public Duration connectionRequestTimeout(final Duration connectTimeout) {
+            return connectionRequestTimeoutMs > 0 ? Duration.ofMillis(connectionRequestTimeoutMs) : connectTimeout;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.cp.cdk.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves a request path to a logical operation name. Operations are given as path templates
+ * (e.g. {@code /material/{materialId}/content}) matched against the end of the request path,
+ * so ids never leak into metric tags or limiter keys; unmatched paths resolve to {@code other}.
+ */
+public class OperationPaths {
+
+    public static final String OTHER = "other";
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    public OperationPaths(final Map<String, String> operationsByPathTemplate) {
+        operationsByPathTemplate.forEach((name, template) -> {
+            if (template != null && !template.isBlank()) {
+                operations.add(new Operation(name, toPattern(template)));
+            }
+        });
+    }
+
+    public String resolve(final String path) {
+        if (path == null) {
+            return OTHER;
+        }
+        for (final Operation operation : operations) {
+            if (operation.pattern().matcher(path).find()) {
+                return operation.name();
+            }
+        }
+        return OTHER;
+    }
+
+    private static Pattern toPattern(final String template) {
+        final String path = template.split("\\?", 2)[0];
+        final String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        final String[] literals = trimmed.split("\\{[^}]*}", -1);
+        final StringBuilder regex = new StringBuilder("(^|/)").append(Pattern.quote(literals[0]));
+        for (int i = 1; i < literals.length; i++) {
+            regex.append("[^/]+").append(Pattern.quote(literals[i]));
+        }
+        return Pattern.compile(regex.append("/?$").toString());
+    }
+
+    private record Operation(String name, Pattern pattern) {
+    }
+}
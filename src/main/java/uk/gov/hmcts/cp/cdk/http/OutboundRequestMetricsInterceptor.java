@@ -0,0 +1,76 @@
+package uk.gov.hmcts.cp.cdk.http;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Records {@code cdk.http.client.requests} per logical operation, resolved by {@link OperationPaths}
+ * so ids never become tag values; unmatched requests are tagged {@code other}.
+ */
+public class OutboundRequestMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    /* default */ static final String METRIC_NAME = "cdk.http.client.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final String client;
+    private final OperationPaths operationPaths;
+
+    public OutboundRequestMetricsInterceptor(final MeterRegistry meterRegistry,
+                                             final String client,
+                                             final Map<String, String> operationsByPathTemplate) {
+        this.meterRegistry = meterRegistry;
+        this.client = client;
+        this.operationPaths = new OperationPaths(operationsByPathTemplate);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, final ClientHttpRequestExecution execution)
+            throws IOException {
+        final long startedAt = System.nanoTime();
+        String status = "IO_ERROR";
+        String outcome = "UNKNOWN";
+        try {
+            final ClientHttpResponse response = execution.execute(request, body);
+            final HttpStatusCode statusCode = response.getStatusCode();
+            status = String.valueOf(statusCode.value());
+            outcome = outcome(statusCode);
+            return response;
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .tag("client", client)
+                    .tag("operation", operation(request.getURI().getPath()))
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /* default */ String operation(final String path) {
+        return operationPaths.resolve(path);
+    }
+
+    private static String outcome(final HttpStatusCode statusCode) {
+        if (statusCode.is2xxSuccessful() || statusCode.is3xxRedirection()) {
+            return "SUCCESS";
+        }
+        if (statusCode.is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        if (statusCode.is5xxServerError()) {
+            return "SERVER_ERROR";
+        }
+        return "UNKNOWN";
+    }
+}
@@ -1,16 +1,30 @@
 package uk.gov.hmcts.cp.cdk.http;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestFactory;
@@ -18,94 +32,85 @@ import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
+@EnableConfigurationProperties(HttpPoolProperties.class)
 public class RestClientFactoryConfig {
 
     private static final Duration THREE_MIN = Duration.ofMinutes(3);
 
     @Bean(destroyMethod = "close")
-    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
-        return PoolingHttpClientConnectionManagerBuilder.create()
-                .setMaxConnTotal(200)
-                .setMaxConnPerRoute(50)
-                .build();
-    }
-
-    @Bean(destroyMethod = "close")
-    public CloseableHttpClient closeableHttpClient(final PoolingHttpClientConnectionManager connectionManager) {
-
-        final ConnectionConfig connectionConfig = ConnectionConfig.custom()
-                .setConnectTimeout(Timeout.of(THREE_MIN))
-                .build();
-        connectionManager.setDefaultConnectionConfig(connectionConfig);
-
-        final RequestConfig defaultConfig = RequestConfig.custom()
-                .setConnectionRequestTimeout(Timeout.of(THREE_MIN))
-                .setResponseTimeout(Timeout.of(THREE_MIN))
-                .build();
-
-        return HttpClients.custom()
-                .setConnectionManager(connectionManager)
-                .setDefaultRequestConfig(defaultConfig)
-                .setConnectionManagerShared(true)
-                .evictExpiredConnections()
-                .evictIdleConnections(TimeValue.ofMinutes(3))
-                .disableAutomaticRetries()
-                .build();
+    public RestClientFactory restClientFactory(final HttpPoolProperties httpPoolProperties,
+                                               final MeterRegistry meterRegistry) {
+        return new RestClientFactory(httpPoolProperties, meterRegistry);
     }
 
-    @Bean
-    public RestClientFactory restClientFactory(final CloseableHttpClient httpClient,
-                                               final PoolingHttpClientConnectionManager connectionManager) {
-        return new RestClientFactory(httpClient, connectionManager);
-    }
-
-    public static class RestClientFactory {
-
-        private final CloseableHttpClient baseHttpClient;
-        private final PoolingHttpClientConnectionManager connectionManager;
-
-        public RestClientFactory(final CloseableHttpClient baseHttpClient,
-                                 final PoolingHttpClientConnectionManager connectionManager) {
-            this.baseHttpClient = baseHttpClient;
-            this.connectionManager = connectionManager;
+    /**
+     * Builds RestClients on a connection pool per upstream, so one upstream's slow responses
+     * cannot hold the connections another needs, and one client's timeouts cannot change another's.
+     * Each pool publishes {@code cdk.http.pool.*} gauges and a connection-acquire timer tagged with its name,
+     * and every request is timed as {@code cdk.http.client.requests}.
+     */
+    @Slf4j
+    public static class RestClientFactory implements AutoCloseable {
+
+        private static final String METRIC_PREFIX = "cdk.http.pool.";
+        private static final String ACQUIRE_STARTED_AT = "cdk.acquireStartedAt";
+
+        private final HttpPoolProperties httpPoolProperties;
+        private final MeterRegistry meterRegistry;
+        private final Map<String, PoolingHttpClientConnectionManager> connectionManagers = new ConcurrentHashMap<>();
+        private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+
+        public RestClientFactory(final HttpPoolProperties httpPoolProperties,
+                                 final MeterRegistry meterRegistry) {
+            this.httpPoolProperties = httpPoolProperties;
+            this.meterRegistry = meterRegistry;
         }
 
-        public RestClient build(final String baseUrl,
+        public RestClient build(final String poolName,
+                                final String baseUrl,
                                 final Map<String, String> defaultHeaders,
                                 final Duration connectTimeout,
                                 final Duration readTimeout,
                                 final boolean enableDebugLogging) {
+            return build(poolName, baseUrl, defaultHeaders, connectTimeout, readTimeout, enableDebugLogging, Map.of());
+        }
+
+        /**
+         * As {@link #build(String, String, Map, Duration, Duration, boolean)}, tagging request timings
+         * with the operation whose path template matches (operation name to path template).
+         */
+        public RestClient build(final String poolName,
+                                final String baseUrl,
+                                final Map<String, String> defaultHeaders,
+                                final Duration connectTimeout,
+                                final Duration readTimeout,
+                                final boolean enableDebugLogging,
+                                final Map<String, String> operations) {
+
+            final Duration ct = (connectTimeout != null) ? connectTimeout : THREE_MIN;
+            final Duration rt = (readTimeout != null) ? readTimeout : THREE_MIN;
+            final HttpPoolProperties.Pool pool = httpPoolProperties.pool(poolName);
+            final PoolingHttpClientConnectionManager connectionManager =
+                    connectionManagers.computeIfAbsent(poolName, name -> createConnectionManager(name, pool, ct));
 
-            final boolean overrideTimeouts = (connectTimeout != null) || (readTimeout != null);
+            final RequestConfig perClientConfig = RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.of(pool.connectionRequestTimeout(ct)))
+                    .setResponseTimeout(Timeout.of(rt))
+                    .build();
 
             @SuppressWarnings("PMD.CloseResource")
-            final CloseableHttpClient clientForThis;
-
-            if (overrideTimeouts) {
-                final Duration ct = (connectTimeout != null) ? connectTimeout : THREE_MIN;
-                final Duration rt = (readTimeout != null) ? readTimeout : THREE_MIN;
-
-                final ConnectionConfig connectionConfig = ConnectionConfig.custom()
-                        .setConnectTimeout(Timeout.of(ct))
-                        .build();
-                connectionManager.setDefaultConnectionConfig(connectionConfig);
-
-
-                final RequestConfig perClientConfig = RequestConfig.custom()
-                        .setConnectionRequestTimeout(Timeout.of(ct))
-                        .setResponseTimeout(Timeout.of(rt))
-                        .build();
-
-                clientForThis = HttpClients.custom()
-                        .setConnectionManager(connectionManager)
-                        .setConnectionManagerShared(true)
-                        .setDefaultRequestConfig(perClientConfig)
-                        .evictExpiredConnections()
-                        .evictIdleConnections(TimeValue.ofMinutes(3))
-                        .disableAutomaticRetries()
-                        .build();
-            } else {
-                clientForThis = this.baseHttpClient;
+            final CloseableHttpClient clientForThis = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setConnectionManagerShared(true)
+                    .setDefaultRequestConfig(perClientConfig)
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofSeconds(pool.idleEvictSeconds()))
+                    .disableAutomaticRetries()
+                    .addExecInterceptorBefore(ChainElement.CONNECT.name(), "acquire-start", acquireStart())
+                    .addExecInterceptorAfter(ChainElement.CONNECT.name(), "acquire-end", acquireEnd(poolName))
+                    .build();
+            synchronized (httpClients) {
+                httpClients.add(clientForThis);
             }
 
             final ClientHttpRequestFactory requestFactory =
@@ -114,7 +119,8 @@ public class RestClientFactoryConfig {
             final RestClient.Builder builder = RestClient.builder()
                     .baseUrl(baseUrl)
                     .requestFactory(requestFactory)
-                    .requestInterceptor(new CorrelationIdInterceptor());
+                    .requestInterceptor(new CorrelationIdInterceptor())
+                    .requestInterceptor(new OutboundRequestMetricsInterceptor(meterRegistry, poolName, operations));
 
             if (enableDebugLogging) {
                 builder.requestInterceptor(new DebugLoggingInterceptor());
@@ -126,5 +132,77 @@ public class RestClientFactoryConfig {
 
             return builder.build();
         }
+
+        @Override
+        public void close() {
+            synchronized (httpClients) {
+                httpClients.forEach(client -> client.close(CloseMode.GRACEFUL));
+                httpClients.clear();
+            }
+            connectionManagers.values().forEach(manager -> manager.close(CloseMode.GRACEFUL));
+            connectionManagers.clear();
+        }
+
+        /* default */ PoolingHttpClientConnectionManager connectionManager(final String poolName) {
+            return connectionManagers.get(poolName);
+        }
+
+        private PoolingHttpClientConnectionManager createConnectionManager(final String poolName,
+                                                                           final HttpPoolProperties.Pool pool,
+                                                                           final Duration connectTimeout) {
+            final ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(connectTimeout))
+                    .setTimeToLive(TimeValue.ofSeconds(pool.timeToLiveSeconds()))
+                    .setValidateAfterInactivity(TimeValue.ofMilliseconds(pool.validateAfterInactivityMs()))
+                    .build();
+
+            final PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(pool.maxTotal())
+                    .setMaxConnPerRoute(pool.maxPerRoute())
+                    .setDefaultConnectionConfig(connectionConfig)
+                    .build();
+
+            registerGauge(poolName, "leased", connectionManager, PoolStats::getLeased);
+            registerGauge(poolName, "pending", connectionManager, PoolStats::getPending);
+            registerGauge(poolName, "available", connectionManager, PoolStats::getAvailable);
+            registerGauge(poolName, "max", connectionManager, PoolStats::getMax);
+
+            log.info("Created HTTP connection pool '{}' maxTotal={}, maxPerRoute={}, connectTimeout={}, ttl={}s",
+                    poolName, pool.maxTotal(), pool.maxPerRoute(), connectTimeout, pool.timeToLiveSeconds());
+            return connectionManager;
+        }
+
+        private static ExecChainHandler acquireStart() {
+            return (request, scope, chain) -> {
+                scope.clientContext.setAttribute(ACQUIRE_STARTED_AT, System.nanoTime());
+                return chain.proceed(request, scope);
+            };
+        }
+
+        /**
+         * Time from asking the pool for a connection until it is leased and connected; includes
+         * the TCP/TLS handshake when a new connection has to be opened.
+         */
+        private ExecChainHandler acquireEnd(final String poolName) {
+            final Timer acquireTimer = Timer.builder(METRIC_PREFIX + "acquire")
+                    .tag("pool", poolName)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            return (request, scope, chain) -> {
+                if (scope.clientContext.getAttribute(ACQUIRE_STARTED_AT) instanceof Long startedAt) {
+                    acquireTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+                return chain.proceed(request, scope);
+            };
+        }
+
+        private void registerGauge(final String poolName,
+                                   final String stat,
+                                   final PoolingHttpClientConnectionManager connectionManager,
+                                   final ToDoubleFunction<PoolStats> value) {
+            Gauge.builder(METRIC_PREFIX + stat, connectionManager, manager -> value.applyAsDouble(manager.getTotalStats()))
+                    .tag("pool", poolName)
+                    .register(meterRegistry);
+        }
     }
 }
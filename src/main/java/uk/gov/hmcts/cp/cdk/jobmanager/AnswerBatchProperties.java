@@ -0,0 +1,33 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for batched answer generation: the CASE and DEFENDANT queries for an ingested document
+ * share one metadata filter, so they are submitted by a single GenerateAnswersForQueriesTask.
+ * When disabled, each query gets its own GenerateAnswerForQueryTask as before.
+ */
+@Component
+@ConfigurationProperties(prefix = "cdk.answer-batch")
+public class AnswerBatchProperties {
+
+    private boolean enabled = true;
+    private int concurrency = 4;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+}
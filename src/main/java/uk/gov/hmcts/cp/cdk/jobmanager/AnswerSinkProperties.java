@@ -0,0 +1,52 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the write-behind answer sink: completed RAG answers are gathered for up to
+ * max-delay-ms or max-batch-rows and written in one transaction. Callers wait for the flush,
+ * up to flush-timeout-ms, so an answer is committed before its task completes.
+ * When disabled, each answer is written in its own transaction as before.
+ */
+@Component
+@ConfigurationProperties(prefix = "cdk.answer-sink")
+public class AnswerSinkProperties {
+
+    private boolean enabled = true;
+    private int maxBatchRows = 200;
+    private long maxDelayMs = 50;
+    private long flushTimeoutMs = 30_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBatchRows() {
+        return maxBatchRows;
+    }
+
+    public void setMaxBatchRows(final int maxBatchRows) {
+        this.maxBatchRows = maxBatchRows;
+    }
+
+    public long getMaxDelayMs() {
+        return maxDelayMs;
+    }
+
+    public void setMaxDelayMs(final long maxDelayMs) {
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    public long getFlushTimeoutMs() {
+        return flushTimeoutMs;
+    }
+
+    public void setFlushTimeoutMs(final long flushTimeoutMs) {
+        this.flushTimeoutMs = flushTimeoutMs;
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the central RAG answer-status poller.
+ * When disabled, each async answer is tracked by its own CheckStatusOfAnswerGenerationTask as before.
+ * Poll intervals and the number of polls come from {@code cdk.jobmanager.retry.questions-retry} either way.
+ * lease-seconds must cover one status call plus persisting its answer: leases are renewed per row
+ * just before it is polled, not once for the whole batch.
+ * max-sweeps-per-run bounds how many full batches one scheduler tick drains before yielding its thread.
+ */
+@Component
+@ConfigurationProperties(prefix = "cdk.answer-status-poller")
+public class AnswerStatusPollerProperties {
+
+    private boolean enabled = true;
+    private long sweepIntervalMs = 2000;
+    private int batchSize = 200;
+    private int concurrency = 8;
+    private long leaseSeconds = 120;
+    private int maxSweepsPerRun = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSweepIntervalMs() {
+        return sweepIntervalMs;
+    }
+
+    public void setSweepIntervalMs(final long sweepIntervalMs) {
+        this.sweepIntervalMs = sweepIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public long getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    public void setLeaseSeconds(final long leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public int getMaxSweepsPerRun() {
+        return maxSweepsPerRun;
+    }
+
+    public void setMaxSweepsPerRun(final int maxSweepsPerRun) {
+        this.maxSweepsPerRun = maxSweepsPerRun;
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the hearing prefetch mode of GetCasesForHearingTask.
+ * When enabled, eligibility and court-document metadata for every case of a hearing are fetched
+ * concurrently and attached to the CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS tasks; when disabled each
+ * case goes through its own CheckCaseEligibilityTask.
+ */
+@Component
+@ConfigurationProperties(prefix = "cdk.hearing-prefetch")
+public class HearingPrefetchProperties {
+
+    private boolean enabled = true;
+    private int concurrency = 8;
+    private long timeoutSeconds = 120;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public long getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public void setTimeoutSeconds(final long timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+}
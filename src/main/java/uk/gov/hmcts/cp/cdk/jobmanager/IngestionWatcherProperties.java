@@ -0,0 +1,70 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the batched document ingestion status watcher.
+ * Poll interval and attempt budget per document come from {@code cdk.jobmanager.retry.verify-document-status}.
+ * When disabled, each uploaded document is tracked by its own CheckIngestionStatusForAllDefendantsTask.
+ * max-sweeps-per-run bounds how many full batches one scheduler tick drains before yielding its thread.
+ */
+@Component
+@ConfigurationProperties(prefix = "cdk.ingestion-watcher")
+public class IngestionWatcherProperties {
+
+    private boolean enabled = true;
+    private long sweepIntervalMs = 2000;
+    private int batchSize = 100;
+    private int concurrency = 8;
+    private long leaseSeconds = 120;
+    private int maxSweepsPerRun = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSweepIntervalMs() {
+        return sweepIntervalMs;
+    }
+
+    public void setSweepIntervalMs(final long sweepIntervalMs) {
+        this.sweepIntervalMs = sweepIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public long getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    public void setLeaseSeconds(final long leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public int getMaxSweepsPerRun() {
+        return maxSweepsPerRun;
+    }
+
+    public void setMaxSweepsPerRun(final int maxSweepsPerRun) {
+        this.maxSweepsPerRun = maxSweepsPerRun;
+    }
+}
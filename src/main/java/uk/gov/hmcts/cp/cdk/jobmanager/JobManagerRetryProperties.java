@@ -1,5 +1,10 @@
 package uk.gov.hmcts.cp.cdk.jobmanager;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +15,7 @@ public class JobManagerRetryProperties {
     private RetryConfig defaultRetry = new RetryConfig();
     private RetryConfig verifyDocumentStatus = new RetryConfig();
     private RetryConfig questionsRetry = new RetryConfig();
+    private RetryConfig copyStatus = new RetryConfig();
 
     public RetryConfig getDefaultRetry() {
         return defaultRetry;
@@ -35,9 +41,28 @@ public class JobManagerRetryProperties {
         this.questionsRetry = questionsRetry;
     }
 
+    public RetryConfig getCopyStatus() {
+        return copyStatus;
+    }
+
+    public void setCopyStatus(final RetryConfig copyStatus) {
+        this.copyStatus = copyStatus;
+    }
+
+    /**
+     * Retry schedule for one kind of task. {@code FIXED} retries every {@code delaySeconds};
+     * {@code EXPONENTIAL} starts at {@code delaySeconds} and multiplies each delay up to {@code maxDelaySeconds},
+     * using only as many attempts as the fixed schedule needs to cover the same window
+     * ({@code maxAttempts * delaySeconds}), so early polls stay tight and long-tail polls back off.
+     */
     public static class RetryConfig {
         private int maxAttempts = 3;
         private long delaySeconds = 20;
+        private Backoff backoff = Backoff.FIXED;
+        private double multiplier = 2.0;
+        private long maxDelaySeconds = 300;
+        private double jitter;
+        private boolean seedFromObservedLatency;
 
         public int getMaxAttempts() {
             return maxAttempts;
@@ -54,5 +79,112 @@ public class JobManagerRetryProperties {
         public void setDelaySeconds(final long delaySeconds) {
             this.delaySeconds = delaySeconds;
         }
+
+        public Backoff getBackoff() {
+            return backoff;
+        }
+
+        public void setBackoff(final Backoff backoff) {
+            this.backoff = backoff;
+        }
+
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        public void setMultiplier(final double multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        public long getMaxDelaySeconds() {
+            return maxDelaySeconds;
+        }
+
+        public void setMaxDelaySeconds(final long maxDelaySeconds) {
+            this.maxDelaySeconds = maxDelaySeconds;
+        }
+
+        public double getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(final double jitter) {
+            this.jitter = jitter;
+        }
+
+        public boolean isSeedFromObservedLatency() {
+            return seedFromObservedLatency;
+        }
+
+        public void setSeedFromObservedLatency(final boolean seedFromObservedLatency) {
+            this.seedFromObservedLatency = seedFromObservedLatency;
+        }
+
+        public List<Long> retryDurationsInSecs() {
+            return retryDurationsInSecs(null);
+        }
+
+        /**
+         * Delays before each retry. When {@code seedFromObservedLatency} is set and a median is known,
+         * the first delay starts at half the observed median instead of {@code delaySeconds}.
+         * The number of attempts never depends on the observed latency or jitter.
+         */
+        public List<Long> retryDurationsInSecs(final Duration observedMedian) {
+            final int attempts = attempts();
+            final List<Long> delays = new ArrayList<>(attempts);
+            if (backoff != Backoff.EXPONENTIAL) {
+                for (int i = 0; i < attempts; i++) {
+                    delays.add(withJitter(delaySeconds));
+                }
+                return delays;
+            }
+
+            double delay = Math.min(initialDelaySeconds(observedMedian), cap());
+            for (int i = 0; i < attempts; i++) {
+                delays.add(withJitter(Math.round(delay)));
+                delay = Math.min(delay * Math.max(1.0, multiplier), cap());
+            }
+            return delays;
+        }
+
+        private int attempts() {
+            if (backoff != Backoff.EXPONENTIAL || delaySeconds <= 0) {
+                return Math.max(0, maxAttempts);
+            }
+            final long window = maxAttempts * delaySeconds;
+            int attempts = 0;
+            double delay = Math.min(delaySeconds, cap());
+            double elapsed = 0;
+            while (attempts < maxAttempts && elapsed < window) {
+                elapsed += Math.round(delay);
+                delay = Math.min(delay * Math.max(1.0, multiplier), cap());
+                attempts++;
+            }
+            return attempts;
+        }
+
+        private double initialDelaySeconds(final Duration observedMedian) {
+            if (seedFromObservedLatency && observedMedian != null) {
+                return Math.max(delaySeconds, observedMedian.toSeconds() / 2.0);
+            }
+            return delaySeconds;
+        }
+
+        private double cap() {
+            return Math.max(delaySeconds, maxDelaySeconds);
+        }
+
+        private long withJitter(final long delay) {
+            if (jitter <= 0 || delay <= 0) {
+                return delay;
+            }
+            final double spread = Math.min(jitter, 1.0) * delay;
+            return Math.max(1, Math.round(delay - spread + ThreadLocalRandom.current().nextDouble() * 2 * spread));
+        }
+    }
+
+    public enum Backoff {
+        FIXED,
+        EXPONENTIAL
     }
 }
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the llm_input chunk store backfill: answer rows written before the chunk store
+ * existed are converted batch-size rows per transaction, one pod at a time, every
+ * backfill-interval-ms until none remain.
+ */
+@Component
+@ConfigurationProperties(prefix = "cdk.llm-input-chunks")
+public class LlmInputChunkProperties {
+
+    private boolean backfillEnabled = true;
+    private int backfillBatchSize = 500;
+    private long backfillIntervalMs = 300_000;
+
+    public boolean isBackfillEnabled() {
+        return backfillEnabled;
+    }
+
+    public void setBackfillEnabled(final boolean backfillEnabled) {
+        this.backfillEnabled = backfillEnabled;
+    }
+
+    public int getBackfillBatchSize() {
+        return backfillBatchSize;
+    }
+
+    public void setBackfillBatchSize(final int backfillBatchSize) {
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    public long getBackfillIntervalMs() {
+        return backfillIntervalMs;
+    }
+
+    public void setBackfillIntervalMs(final long backfillIntervalMs) {
+        this.backfillIntervalMs = backfillIntervalMs;
+    }
+}
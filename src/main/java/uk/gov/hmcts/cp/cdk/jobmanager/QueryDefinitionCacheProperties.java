@@ -0,0 +1,60 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the in-process query definition cache used by the ingestion and answer pipelines.
+ * Changes are picked up on commit (same pod) and via Postgres LISTEN/NOTIFY (other pods);
+ * {@code maxAgeMs} bounds staleness if a notification is ever missed.
+ */
+@Component
+@ConfigurationProperties(prefix = "cdk.query-definition-cache")
+public class QueryDefinitionCacheProperties {
+
+    private boolean enabled = true;
+    private long maxAgeMs = 600_000;
+    private boolean listenEnabled = true;
+    private long listenPollMs = 5000;
+    private long reconnectDelayMs = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxAgeMs() {
+        return maxAgeMs;
+    }
+
+    public void setMaxAgeMs(final long maxAgeMs) {
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    public boolean isListenEnabled() {
+        return listenEnabled;
+    }
+
+    public void setListenEnabled(final boolean listenEnabled) {
+        this.listenEnabled = listenEnabled;
+    }
+
+    public long getListenPollMs() {
+        return listenPollMs;
+    }
+
+    public void setListenPollMs(final long listenPollMs) {
+        this.listenPollMs = listenPollMs;
+    }
+
+    public long getReconnectDelayMs() {
+        return reconnectDelayMs;
+    }
+
+    public void setReconnectDelayMs(final long reconnectDelayMs) {
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+}
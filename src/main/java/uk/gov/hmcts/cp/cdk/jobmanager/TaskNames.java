@@ -6,10 +6,12 @@ public final class TaskNames {
     public static final String CHECK_CASE_ELIGIBILITY = "CHECK_CASE_ELIGIBILITY";
     public static final String CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS = "CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS";
     public static final String RETRIEVE_MATERIAL_AND_UPLOAD = "RETRIEVE_MATERIAL_AND_UPLOAD";
+    public static final String CHECK_BLOB_COPY_STATUS = "CHECK_BLOB_COPY_STATUS";
     public static final String CHECK_INGESTION_STATUS_FOR_DOCUMENT = "CHECK_INGESTION_STATUS_FOR_DOCUMENT";
     public static final String CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS= "CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS";
     public static final String CHECK_ALL_DOCUMENTS_INGESTION_STATUS = "CHECK_ALL_DOCUMENTS_INGESTION_STATUS";
     public static final String GENERATE_ANSWER_FOR_QUERY = "GENERATE_ANSWER_FOR_QUERY";
+    public static final String GENERATE_ANSWERS_FOR_QUERIES = "GENERATE_ANSWERS_FOR_QUERIES";
     public static final String CHECK_STATUS_OF_ANSWER_GENERATION = "CHECK_STATUS_OF_ANSWER_GENERATION";
 
     private TaskNames() {
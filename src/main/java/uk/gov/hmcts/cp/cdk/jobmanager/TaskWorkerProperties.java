@@ -0,0 +1,201 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * How job-manager task bodies run: on the job-manager worker thread (PLATFORM) or on a virtual thread
+ * per execution (VIRTUAL), and the lane each task type runs in. Either way the job-manager worker waits for the
+ * body, so at most cdk.ingestion.max-pool-size bodies run at once.
+ * An execution that cannot get a slot in its lane is rescheduled rather than holding a worker.
+ */
+@Component
+@ConfigurationProperties(prefix = "cdk.task-workers")
+public class TaskWorkerProperties {
+
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private Mode mode = Mode.PLATFORM;
+
+    /**
+     * Lane for task types without an entry in lanes.
+     */
+    private Lane defaultLane = new Lane();
+
+    /**
+     * Lane per task name (see TaskNames).
+     */
+    private Map<String, Lane> lanes = new HashMap<>();
+
+    /**
+     * Executions running at once across every lane, normally the job-manager worker pool size; 0 leaves it unbounded.
+     */
+    private int workerBudget;
+
+    /**
+     * Part of the worker budget only user-initiated executions may use, so scheduled re-runs and polls
+     * cannot take every worker a user-triggered ingestion needs.
+     */
+    private int userReserved;
+
+    /**
+     * Added to the lane priority of executions started from the ingestion API.
+     */
+    private int userPriorityBoost = 100;
+
+    /**
+     * How long a queued execution waits for a slot before it is rescheduled.
+     */
+    private long permitWaitMs = 500;
+
+    /**
+     * Delay before a rescheduled execution runs again.
+     */
+    private long deferSeconds = 5;
+
+    /**
+     * In VIRTUAL mode, log virtual threads pinned to their carrier for longer than pinned-threshold-ms.
+     */
+    private boolean pinningDetection = true;
+
+    private long pinnedThresholdMs = 20;
+
+    public Lane lane(final String taskName) {
+        return lanes.getOrDefault(taskName, defaultLane);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(final Mode mode) {
+        this.mode = mode;
+    }
+
+    public Lane getDefaultLane() {
+        return defaultLane;
+    }
+
+    public void setDefaultLane(final Lane defaultLane) {
+        this.defaultLane = defaultLane;
+    }
+
+    public Map<String, Lane> getLanes() {
+        return lanes;
+    }
+
+    public void setLanes(final Map<String, Lane> lanes) {
+        this.lanes = lanes;
+    }
+
+    public int getWorkerBudget() {
+        return workerBudget;
+    }
+
+    public void setWorkerBudget(final int workerBudget) {
+        this.workerBudget = workerBudget;
+    }
+
+    public int getUserReserved() {
+        return userReserved;
+    }
+
+    public void setUserReserved(final int userReserved) {
+        this.userReserved = userReserved;
+    }
+
+    public int getUserPriorityBoost() {
+        return userPriorityBoost;
+    }
+
+    public void setUserPriorityBoost(final int userPriorityBoost) {
+        this.userPriorityBoost = userPriorityBoost;
+    }
+
+    public long getPermitWaitMs() {
+        return permitWaitMs;
+    }
+
+    public void setPermitWaitMs(final long permitWaitMs) {
+        this.permitWaitMs = permitWaitMs;
+    }
+
+    public long getDeferSeconds() {
+        return deferSeconds;
+    }
+
+    public void setDeferSeconds(final long deferSeconds) {
+        this.deferSeconds = deferSeconds;
+    }
+
+    public boolean isPinningDetection() {
+        return pinningDetection;
+    }
+
+    public void setPinningDetection(final boolean pinningDetection) {
+        this.pinningDetection = pinningDetection;
+    }
+
+    public long getPinnedThresholdMs() {
+        return pinnedThresholdMs;
+    }
+
+    public void setPinnedThresholdMs(final long pinnedThresholdMs) {
+        this.pinnedThresholdMs = pinnedThresholdMs;
+    }
+
+    /**
+     * Worker lane for one task type. {@code poolSize} executions run at once (0 leaves the lane uncapped)
+     * and up to {@code queueCapacity} more wait for a slot; when a slot frees, the waiter with the highest
+     * priority takes it, across lanes as well as within one.
+     */
+    public static class Lane {
+        private int poolSize;
+        private int queueCapacity = 50;
+        private int priority = 50;
+
+        public Lane() {
+        }
+
+        public Lane(final int poolSize, final int queueCapacity, final int priority) {
+            this.poolSize = poolSize;
+            this.queueCapacity = queueCapacity;
+            this.priority = priority;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(final int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(final int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public void setPriority(final int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public String toString() {
+            return "Lane[poolSize=" + poolSize + ", queueCapacity=" + queueCapacity + ", priority=" + priority + "]";
+        }
+    }
+}
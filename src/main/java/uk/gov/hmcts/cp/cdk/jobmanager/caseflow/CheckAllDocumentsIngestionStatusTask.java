@@ -9,6 +9,7 @@ import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_Q
 import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
 import uk.gov.hmcts.cp.cdk.repo.DocumentIdResolver;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
@@ -19,7 +20,6 @@ import uk.gov.hmcts.cp.taskmanager.service.task.Task;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.IntStream;
 
 import jakarta.json.JsonObject;
 import lombok.RequiredArgsConstructor;
@@ -36,9 +36,14 @@ public class CheckAllDocumentsIngestionStatusTask implements ExecutableTask {
     private final DocumentIdResolver documentIdResolver;
     private final ExecutionService executionService;
     private final JobManagerRetryProperties retryProperties;
+    private final TaskWorkers taskWorkers;
 
     @Override
     public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(CHECK_ALL_DOCUMENTS_INGESTION_STATUS, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
 
         final JsonObject jobData = executionInfo.getJobData();
         final List<UUID> docIds = jobData.containsKey(CTX_DOCIDS_ARRAY)
@@ -87,13 +92,7 @@ public class CheckAllDocumentsIngestionStatusTask implements ExecutableTask {
 
     @Override
     public Optional<List<Long>> getRetryDurationsInSecs() {
-        final JobManagerRetryProperties.RetryConfig retry = retryProperties.getVerifyDocumentStatus();
-        return Optional.of(
-                IntStream.range(0, retry.getMaxAttempts())
-                        .mapToLong(i -> retry.getDelaySeconds())
-                        .boxed()
-                        .toList()
-        );
+        return Optional.of(retryProperties.getVerifyDocumentStatus().retryDurationsInSecs());
     }
 
     private ExecutionInfo retry(final ExecutionInfo executionInfo) {
@@ -0,0 +1,127 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.caseflow;
+
+import static java.util.Objects.isNull;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_BLOB_COPY_STATUS;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_DESTINATION_URL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_ID;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_REFERENCE_KEY;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseUuidOrNull;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.services.DocumentUploadCompletionService;
+import uk.gov.hmcts.cp.cdk.storage.BlobCopyStatus;
+import uk.gov.hmcts.cp.cdk.storage.StorageService;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.task.ExecutableTask;
+import uk.gov.hmcts.cp.taskmanager.service.task.Task;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.json.JsonObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks a server-side copy started by RetrieveMaterialAndUploadTask with a single Get Blob Properties
+ * call and re-schedules itself while the copy is pending, so no worker waits on the copy.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Task(CHECK_BLOB_COPY_STATUS)
+public class CheckBlobCopyStatusTask implements ExecutableTask {
+
+    private static final int LAST_RETRY_COUNT = 1;
+
+    private final StorageService storageService;
+    private final DocumentUploadCompletionService documentUploadCompletionService;
+    private final JobManagerRetryProperties retryProperties;
+    private final TaskWorkers taskWorkers;
+
+    @Override
+    public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(CHECK_BLOB_COPY_STATUS, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
+        final JsonObject jobData = executionInfo.getJobData();
+        final UUID documentId = parseUuidOrNull(jobData.getString(CTX_DOC_ID_KEY, null));
+        final UUID caseId = parseUuidOrNull(jobData.getString(CTX_CASE_ID_KEY, null));
+        final String copyId = jobData.getString(CTX_COPY_ID, null);
+        final String destinationUrl = jobData.getString(CTX_COPY_DESTINATION_URL, null);
+        final String documentReference = jobData.getString(CTX_DOC_REFERENCE_KEY, null);
+
+        if (isNull(documentId) || isNull(destinationUrl) || isNull(documentReference)) {
+            log.error("{} missing required data docId={} destinationUrl={} documentReference={}",
+                    CHECK_BLOB_COPY_STATUS, documentId, destinationUrl, documentReference);
+            return complete(executionInfo);
+        }
+
+        try {
+            final BlobCopyStatus copyStatus = storageService.getCopyStatus(destinationUrl, copyId);
+
+            switch (copyStatus.state()) {
+                case SUCCESS -> {
+                    documentUploadCompletionService.onUploaded(executionInfo, documentId, caseId,
+                            documentReference, copyStatus.metadata());
+                    return complete(executionInfo);
+                }
+                case FAILED -> {
+                    documentUploadCompletionService.onUploadFailed(documentId, copyStatus.description());
+                    return complete(executionInfo);
+                }
+                case PENDING -> log.info("Blob copy pending docId={}, copyId={}, progress={}",
+                        documentId, copyId, copyStatus.description());
+            }
+        } catch (final Exception exception) {
+            log.error("Blob copy status check failed with reason='{}' for (caseId={}, docId={}).",
+                    exception.getMessage(), caseId, documentId);
+        }
+
+        if (Integer.valueOf(LAST_RETRY_COUNT).equals(executionInfo.getRetryAttemptsRemaining())) {
+            abortCopy(destinationUrl, copyId, documentId);
+            documentUploadCompletionService.onUploadFailed(documentId, "copy did not complete in time");
+        }
+        return retry(executionInfo);
+    }
+
+    @Override
+    public Optional<List<Long>> getRetryDurationsInSecs() {
+        return Optional.of(retryProperties.getCopyStatus().retryDurationsInSecs());
+    }
+
+    private void abortCopy(final String destinationUrl, final String copyId, final UUID documentId) {
+        if (isNull(copyId)) {
+            return;
+        }
+        try {
+            storageService.abortCopy(destinationUrl, copyId);
+        } catch (final Exception exception) {
+            log.warn("Blob copy abort failed with reason='{}' for (docId={}, copyId={}).",
+                    exception.getMessage(), documentId, copyId);
+        }
+    }
+
+    private ExecutionInfo retry(final ExecutionInfo executionInfo) {
+        return executionInfo()
+                .from(executionInfo)
+                .withExecutionStatus(ExecutionStatus.INPROGRESS)
+                .withShouldRetry(true)
+                .build();
+    }
+
+    private ExecutionInfo complete(final ExecutionInfo executionInfo) {
+        return executionInfo()
+                .from(executionInfo)
+                .withExecutionStatus(ExecutionStatus.COMPLETED)
+                .build();
+    }
+}
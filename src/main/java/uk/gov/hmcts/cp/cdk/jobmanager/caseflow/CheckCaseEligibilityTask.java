@@ -12,6 +12,7 @@ import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.ProsecutionCaseEligibilityInfo;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
 import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
@@ -21,7 +22,6 @@ import uk.gov.hmcts.cp.taskmanager.service.task.Task;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.IntStream;
 
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
@@ -39,9 +39,14 @@ public class CheckCaseEligibilityTask implements ExecutableTask {
     private final ExecutionService executionService;
     private final ProgressionClient progressionClient;
     private final JobManagerRetryProperties retryProperties;
+    private final TaskWorkers taskWorkers;
 
     @Override
     public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(CHECK_CASE_ELIGIBILITY, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
 
         final JsonObject jobData = executionInfo.getJobData();
 
@@ -108,12 +113,6 @@ public class CheckCaseEligibilityTask implements ExecutableTask {
 
     @Override
     public Optional<List<Long>> getRetryDurationsInSecs() {
-        final JobManagerRetryProperties.RetryConfig retry = retryProperties.getDefaultRetry();
-        return Optional.of(
-                IntStream.range(0, retry.getMaxAttempts())
-                        .mapToLong(i -> retry.getDelaySeconds())
-                        .boxed()
-                        .toList()
-        );
+        return Optional.of(retryProperties.getDefaultRetry().retryDurationsInSecs());
     }
 }
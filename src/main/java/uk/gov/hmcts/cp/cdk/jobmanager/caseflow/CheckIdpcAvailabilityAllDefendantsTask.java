@@ -14,6 +14,7 @@ import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_K
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_LATEST_DEFENDANT;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_MATERIAL_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_MATERIAL_NAME;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_PREFETCHED_MATERIALS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.CPPUID;
 import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseUuid;
 import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
@@ -24,8 +25,11 @@ import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
 import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
 import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
-import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.PrefetchedMaterials;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.repo.CaseDocumentBatchWriter;
 import uk.gov.hmcts.cp.cdk.repo.DocumentIdResolver;
+import uk.gov.hmcts.cp.cdk.repo.DocumentIdResolver.MaterialDefendant;
 import uk.gov.hmcts.cp.cdk.util.MaterialNameValidator;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
@@ -33,13 +37,13 @@ import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
 import uk.gov.hmcts.cp.taskmanager.service.task.ExecutableTask;
 import uk.gov.hmcts.cp.taskmanager.service.task.Task;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.IntStream;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -62,10 +66,15 @@ public class CheckIdpcAvailabilityAllDefendantsTask implements ExecutableTask {
     private final ExecutionService executionService;
     private final DocumentIdResolver documentIdResolver;
     private final JobManagerRetryProperties retryProperties;
-    private final CaseDocumentRepository caseDocumentRepository;
+    private final CaseDocumentBatchWriter caseDocumentBatchWriter;
+    private final TaskWorkers taskWorkers;
 
     @Override
     public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
 
         final JsonObject jobData = executionInfo.getJobData();
 
@@ -77,28 +86,33 @@ public class CheckIdpcAvailabilityAllDefendantsTask implements ExecutableTask {
         try {
             caseIdUuidOptional = parseUuid(caseIdString);
 
-            final List<LatestMaterialInfo> materials =
-                    progressionClient.getCourtDocumentsForAllDefendants(caseIdUuidOptional.get(), userId);
+            final List<LatestMaterialInfo> materials = PrefetchedMaterials.isPresent(jobData)
+                    ? PrefetchedMaterials.fromJson(jobData.getJsonArray(CTX_PREFETCHED_MATERIALS))
+                    : progressionClient.getCourtDocumentsForAllDefendants(caseIdUuidOptional.get(), userId);
+            final UUID caseUuid = caseIdUuidOptional.get();
+            final Map<MaterialDefendant, UUID> existingDocIds = documentIdResolver.resolveExistingDocIdsForDefendants(
+                    caseUuid,
+                    materials.stream()
+                            .map(info -> new MaterialDefendant(fromString(info.materialId()), fromString(info.defendantId())))
+                            .toList()
+            );
+
             final Map<String, String> defendantToDocIdMap = new HashMap<>();
+            final List<CaseDocument> newDocuments = new ArrayList<>();
 
             for (final LatestMaterialInfo info : materials) {
-                final UUID materialUuid = fromString(info.materialId());
-                final UUID defendantUuid = fromString(info.defendantId());
-                final Optional<UUID> existingDocUuid =
-                        documentIdResolver.resolveExistingDocIdForDefendant(
-                                caseIdUuidOptional.get(),
-                                materialUuid,
-                                defendantUuid
-                        );
-
-                if (existingDocUuid.isPresent()) {
+                final MaterialDefendant key =
+                        new MaterialDefendant(fromString(info.materialId()), fromString(info.defendantId()));
+
+                if (existingDocIds.containsKey(key)) {
                     log.info("Skipping defendantId={} as doc already exists", info.defendantId());
                     continue;
                 }
                 final String newDocId = randomUUID().toString();
                 defendantToDocIdMap.put(info.defendantId(), newDocId);
-                persistCaseDocument(fromString(newDocId), caseIdUuidOptional.get(), info);
+                newDocuments.add(newCaseDocument(fromString(newDocId), caseUuid, info));
             }
+            caseDocumentBatchWriter.insertAll(newDocuments);
 
             final String latestDefendantId = materials.stream()
                     .filter(m -> defendantToDocIdMap.containsKey(m.defendantId()))
@@ -120,7 +134,7 @@ public class CheckIdpcAvailabilityAllDefendantsTask implements ExecutableTask {
                 if (!defendantToDocIdMap.containsKey(defendantId)) {
                     continue;
                 }
-                final JsonObjectBuilder updatedJobData = createObjectBuilder(jobData);
+                final JsonObjectBuilder updatedJobData = createObjectBuilder(jobData).remove(CTX_PREFETCHED_MATERIALS);
                 updatedJobData.add(CTX_DOC_ID_KEY, defendantToDocIdMap.get(defendantId));
                 updatedJobData.add(CTX_MATERIAL_ID_KEY, info.materialId());
                 updatedJobData.add(CTX_MATERIAL_NAME, MaterialNameValidator.truncateMaterialName(info.materialName()));
@@ -165,18 +179,12 @@ public class CheckIdpcAvailabilityAllDefendantsTask implements ExecutableTask {
 
     @Override
     public Optional<List<Long>> getRetryDurationsInSecs() {
-        final JobManagerRetryProperties.RetryConfig retry = retryProperties.getDefaultRetry();
-        return Optional.of(
-                IntStream.range(0, retry.getMaxAttempts())
-                        .mapToLong(i -> retry.getDelaySeconds())
-                        .boxed()
-                        .toList()
-        );
+        return Optional.of(retryProperties.getDefaultRetry().retryDurationsInSecs());
     }
 
-    private void persistCaseDocument(final UUID docId,
-                                     final UUID caseId,
-                                     final LatestMaterialInfo info) {
+    private CaseDocument newCaseDocument(final UUID docId,
+                                         final UUID caseId,
+                                         final LatestMaterialInfo info) {
 
         final CaseDocument entity = new CaseDocument();
         entity.setDocId(docId);
@@ -189,7 +197,7 @@ public class CheckIdpcAvailabilityAllDefendantsTask implements ExecutableTask {
         entity.setDefendantId(fromString(info.defendantId()));
         entity.setCourtdocId(fromString(info.courtDocumentId()));
 
-        caseDocumentRepository.saveAndFlush(entity);
+        return entity;
     }
 
 }
@@ -1,52 +1,28 @@
 package uk.gov.hmcts.cp.cdk.jobmanager.caseflow;
 
-import static jakarta.json.Json.createObjectBuilder;
 import static java.util.Objects.isNull;
-import static uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase.EXCEEDED_FILE_SIZE_LIMIT;
 import static uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase.FAILED;
-import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_ALL_DOCUMENTS_INGESTION_STATUS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS;
-import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
-import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_REFERENCE_KEY;
-import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_LATEST_DEFENDANT;
-import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERYIDS_ARRAY;
-import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERY_LEVEL;
-import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_QUERY_ID;
 import static uk.gov.hmcts.cp.cdk.util.TaskUtils.normalise;
 import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseUuidOrNull;
-import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
-import static uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus.FILE_SIZE_OVER_LIMIT;
-import static uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus.INGESTION_FAILED;
-import static uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus.INGESTION_SUCCESS;
-import static uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus.INVALID_METADATA;
 import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 
-import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
-import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
-import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
-import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.services.DocumentIngestionOutcomeService;
 import uk.gov.hmcts.cp.openapi.api.DocumentIngestionStatusApi;
 import uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatusReturnedSuccessfully;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
-import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
 import uk.gov.hmcts.cp.taskmanager.service.task.ExecutableTask;
 import uk.gov.hmcts.cp.taskmanager.service.task.Task;
 
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -63,13 +39,17 @@ public class CheckIngestionStatusForAllDefendantsTask implements ExecutableTask
 
     private static final int LAST_RETRY_COUNT = 1;
     private final DocumentIngestionStatusApi documentIngestionStatusApi;
-    private final CaseDocumentRepository caseDocumentRepository;
-    private final QueryVersionRepository queryVersionRepository;
-    private final ExecutionService executionService;
+    private final DocumentIngestionOutcomeService documentIngestionOutcomeService;
     private final JobManagerRetryProperties retryProperties;
+    private final ObservedLatencies observedLatencies;
+    private final TaskWorkers taskWorkers;
 
     @Override
     public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
 
         final JsonObject jobData = executionInfo.getJobData();
         final Integer latestRetryCount = executionInfo.getRetryAttemptsRemaining();
@@ -77,13 +57,6 @@ public class CheckIngestionStatusForAllDefendantsTask implements ExecutableTask
         final UUID caseId = parseUuidOrNull(jobData.getString("caseId", null));
         final String blobName = jobData.getString("blobName", null);
         final String documentReference = jobData.getString(CTX_DOC_REFERENCE_KEY, null);
-        final boolean isLatestDefendant = jobData.getBoolean(CTX_LATEST_DEFENDANT, false);
-        final String defendantId = jobData.getString(CTX_DEFENDANT_ID_KEY);
-        final Set<String> failureStatuses = Set.of(
-                INGESTION_FAILED.name(),
-                INVALID_METADATA.name(),
-                FILE_SIZE_OVER_LIMIT.name()
-        );
 
         if (isNull(documentId) || isNull(documentReference)) {
             log.error("{} missing required data docId={} documentReference={}", CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS, documentId, documentReference);
@@ -109,88 +82,13 @@ public class CheckIngestionStatusForAllDefendantsTask implements ExecutableTask
 
             final String status = normalise(rawStatus, 255);
 
-            //
-            if (INGESTION_SUCCESS.name().equalsIgnoreCase(status)) {
-
-                updateIngestionPhase(documentId, DocumentIngestionPhase.INGESTED);
+            if (documentIngestionOutcomeService.isSuccessStatus(status)) {
                 log.info("INGESTION SUCCESS identifier='{}', docId={}", blobName, documentId);
-
-                final Map<String, List<UUID>> queriesByLevel = getQueriesByLevel();
-                final List<UUID> caseQueries = queriesByLevel.getOrDefault(QueryLevel.CASE.toString(), List.of());
-                log.info("{} Queries count: {}", QueryLevel.CASE, caseQueries.size());
-
-                if (isLatestDefendant && !caseQueries.isEmpty()) {
-
-                    for (final UUID questionId : caseQueries) {
-                        final JsonObject singleCaseJobData = createObjectBuilder(jobData)
-                                .add(CTX_SINGLE_QUERY_ID, questionId.toString())
-                                .add(CTX_QUERY_LEVEL, QueryLevel.CASE.toString())
-                                .build();
-
-                        final ExecutionInfo executionInfoNew = executionInfo()
-                                .from(executionInfo)
-                                .withAssignedTaskName(GENERATE_ANSWER_FOR_QUERY)
-                                .withJobData(singleCaseJobData)
-                                .withExecutionStatus(ExecutionStatus.STARTED)
-                                .build();
-
-                        executionService.executeWith(executionInfoNew);
-
-                        log.info("Created {} for docId={} questionId={} ", GENERATE_ANSWER_FOR_QUERY, documentId, questionId);
-                    }
-                }
-
-                final List<UUID> caseAllDocsQueries = queriesByLevel.getOrDefault(QueryLevel.CASE_ALL_DOCUMENTS.toString(), List.of());
-                if (isLatestDefendant && !caseAllDocsQueries.isEmpty()) {
-
-                    final JsonArrayBuilder queryIdsArrayBuilder = Json.createArrayBuilder();
-
-                    caseAllDocsQueries.forEach(queryId -> queryIdsArrayBuilder.add(queryId.toString()));
-
-                    final JsonArray queryIdsArray = queryIdsArrayBuilder.build();
-
-                    final JsonObject singleCaseJobData = createObjectBuilder(jobData)
-                            .add(CTX_QUERYIDS_ARRAY, queryIdsArray)
-                            .add(CTX_QUERY_LEVEL, QueryLevel.CASE_ALL_DOCUMENTS.toString())
-                            .build();
-
-                    final ExecutionInfo executionInfoNew = executionInfo()
-                            .from(executionInfo)
-                            .withAssignedTaskName(CHECK_ALL_DOCUMENTS_INGESTION_STATUS)
-                            .withJobData(singleCaseJobData)
-                            .withExecutionStatus(ExecutionStatus.STARTED)
-                            .build();
-
-                    executionService.executeWith(executionInfoNew);
-
-                    log.info("Created {} for docId={} questionId's array={} ", CHECK_ALL_DOCUMENTS_INGESTION_STATUS, documentId, queryIdsArray);
-
-                }
-
-                final List<UUID> defendantQueries = queriesByLevel.getOrDefault(QueryLevel.DEFENDANT.toString(), List.of());
-                if (!defendantQueries.isEmpty()) {
-                    for (final UUID queryId : defendantQueries) {
-                        final JsonObject job = createObjectBuilder(jobData)
-                                .add(CTX_SINGLE_QUERY_ID, queryId.toString())
-                                .add(CTX_QUERY_LEVEL, QueryLevel.DEFENDANT.toString())
-                                .build();
-                        executionService.executeWith(
-                                executionInfo()
-                                        .from(executionInfo)
-                                        .withAssignedTaskName(GENERATE_ANSWER_FOR_QUERY)
-                                        .withJobData(job)
-                                        .withExecutionStatus(ExecutionStatus.STARTED)
-                                        .build()
-                        );
-                    }
-                    log.info("Executed DEFENDANT level queries for defendant {} ", defendantId);
-                }
-
+                documentIngestionOutcomeService.onIngestionSucceeded(documentId, jobData,
+                        documentIngestionOutcomeService.currentQueriesByLevel());
                 return complete(executionInfo);
-            } else if (failureStatuses.contains(status.toUpperCase(Locale.ROOT))) {
-                final DocumentIngestionPhase failedStatus = FILE_SIZE_OVER_LIMIT.name().equals(status.toUpperCase(Locale.ROOT))
-                        ? EXCEEDED_FILE_SIZE_LIMIT : FAILED;
-                updateIngestionPhase(documentId, failedStatus);
+            } else if (documentIngestionOutcomeService.isFailureStatus(status)) {
+                documentIngestionOutcomeService.onIngestionFailed(documentId, status);
                 log.error(
                         "ingestion FAILED for identifier='{}' reason='{}' (caseId={}, docId={}).",
                         blobName,
@@ -211,37 +109,15 @@ public class CheckIngestionStatusForAllDefendantsTask implements ExecutableTask
         }
         log.info("Ingestion status not complete for identifier='{}' → retrying", blobName);
         if (latestRetryCount == LAST_RETRY_COUNT) {
-            updateIngestionPhase(documentId, FAILED);
+            documentIngestionOutcomeService.updateIngestionPhase(documentId, FAILED);
         }
         return retry(executionInfo);
     }
 
-    private @NotNull Map<String, List<UUID>> getQueriesByLevel() {
-        return queryVersionRepository.snapshotDefinitionsAsOf(utcNow()).stream()
-                .filter(r -> r.queryId() != null && r.level() != null)
-                .collect(Collectors.groupingBy(
-                        QueryVersionRepository.SnapshotDefinition::level,
-                        Collectors.mapping(QueryVersionRepository.SnapshotDefinition::queryId, Collectors.toList())
-                ));
-    }
-
     @Override
     public Optional<List<Long>> getRetryDurationsInSecs() {
-        final JobManagerRetryProperties.RetryConfig retry = retryProperties.getVerifyDocumentStatus();
-        return Optional.of(
-                IntStream.range(0, retry.getMaxAttempts())
-                        .mapToLong(i -> retry.getDelaySeconds())
-                        .boxed()
-                        .toList()
-        );
-    }
-
-    private void updateIngestionPhase(final UUID documentId, final DocumentIngestionPhase phase) {
-        caseDocumentRepository.findById(documentId).ifPresent(doc -> {
-            doc.setIngestionPhase(phase);
-            doc.setIngestionPhaseAt(utcNow());
-            caseDocumentRepository.saveAndFlush(doc);
-        });
+        return Optional.of(retryProperties.getVerifyDocumentStatus()
+                .retryDurationsInSecs(observedLatencies.median(ObservedLatencies.Kind.INGESTION)));
     }
 
     private ExecutionInfo retry(final ExecutionInfo executionInfo) {
@@ -4,15 +4,15 @@ import static io.micrometer.common.util.StringUtils.isBlank;
 import static jakarta.json.Json.createObjectBuilder;
 import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
-import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_BLOB_COPY_STATUS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.RETRIEVE_MATERIAL_AND_UPLOAD;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.BlobMetadataKeys.META_CASE_ID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.BlobMetadataKeys.META_DEFENDANT_ID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.BlobMetadataKeys.META_MATERIAL_ID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.BlobMetadataKeys.META_UPLOADED_AT;
-import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_BLOB_NAME_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_DESTINATION_URL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_ID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_REFERENCE_KEY;
@@ -24,10 +24,11 @@ import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
 import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 
 import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
-import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
-import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
 import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.cdk.services.DocumentUploadCompletionService;
+import uk.gov.hmcts.cp.cdk.storage.BlobCopyStatus;
 import uk.gov.hmcts.cp.cdk.storage.DocumentBlobMetadata;
 import uk.gov.hmcts.cp.cdk.storage.StorageService;
 import uk.gov.hmcts.cp.cdk.storage.UploadProperties;
@@ -44,10 +45,8 @@ import uk.gov.hmcts.cp.taskmanager.service.task.Task;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.IntStream;
 
 import jakarta.json.JsonObject;
-import jakarta.json.JsonObjectBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -60,10 +59,6 @@ import org.springframework.stereotype.Component;
 @Task(RETRIEVE_MATERIAL_AND_UPLOAD)
 public class RetrieveMaterialAndUploadTask implements ExecutableTask {
 
-    private static final String UNKNOWN_BLOB_URL = "";
-    private static final String UNKNOWN_BLOB_NAME = "";
-    private static final long UNKNOWN_SIZE_BYTES = -1L;
-
     private final ProgressionClient progressionClient;
     private final StorageService storageService;
     private final CaseDocumentRepository caseDocumentRepository;
@@ -71,9 +66,15 @@ public class RetrieveMaterialAndUploadTask implements ExecutableTask {
     private final JobManagerRetryProperties retryProperties;
     private final ExecutionService executionService;
     private final DocumentIngestionInitiationApi documentIngestionInitiationApi;
+    private final DocumentUploadCompletionService documentUploadCompletionService;
+    private final TaskWorkers taskWorkers;
 
     @Override
     public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(RETRIEVE_MATERIAL_AND_UPLOAD, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
 
         final JsonObject jobData = executionInfo.getJobData();
         final String requestId = jobData.getString("requestId", "unknown");
@@ -116,31 +117,13 @@ public class RetrieveMaterialAndUploadTask implements ExecutableTask {
             final FileStorageLocationReturnedSuccessfully fileStorageLocation = initiateDocumentUpload(documentId, materialName, documentMetadata, supersededDocumentList);
             log.info("downloadUrl generated: {}, destinationUrl: {} ", downloadUrl, fileStorageLocation.getStorageUrl());
 
-            final DocumentBlobMetadata documentBlobMetadata = storageService.copyFromUrl(downloadUrl, fileStorageLocation.getStorageUrl());
-            final String blobUrl = nonNull(documentBlobMetadata) ? documentBlobMetadata.blobUrl() : UNKNOWN_BLOB_URL;
-            final String blobName = nonNull(documentBlobMetadata) ? documentBlobMetadata.blobName() : UNKNOWN_BLOB_NAME;
-            final long sizeBytes = nonNull(documentBlobMetadata) ? documentBlobMetadata.blobSize() : UNKNOWN_SIZE_BYTES;
-
-            caseDocumentRepository.findById(documentId).ifPresent(doc ->
-                    saveDocumentUploaded(doc, blobName, blobUrl, sizeBytes));
-
-            log.info("Saved CaseDocument docId={}, caseId={}, materialId={}, sizeBytes={}, blobUri={}, requestId={}",
-                    documentId, caseId, materialId, sizeBytes, blobUrl, requestId);
-
-            final JsonObjectBuilder updatedJobData = createObjectBuilder(jobData);
-
-            updatedJobData.add(CTX_DOC_ID_KEY, documentId.toString());
-            updatedJobData.add(CTX_DOC_REFERENCE_KEY, fileStorageLocation.getDocumentReference());
-            updatedJobData.add(CTX_BLOB_NAME_KEY, blobName);
-
-            final ExecutionInfo executionInfoNew = executionInfo()
-                    .from(executionInfo)
-                    .withAssignedTaskName(CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS)
-                    .withJobData(updatedJobData.build())
-                    .withExecutionStatus(ExecutionStatus.STARTED)
-                    .build();
+            if (Boolean.TRUE.equals(uploadProperties.asyncCopy())) {
+                return startCopy(executionInfo, downloadUrl, fileStorageLocation, documentId, caseId, requestId);
+            }
 
-            executionService.executeWith(executionInfoNew);
+            final DocumentBlobMetadata documentBlobMetadata = storageService.copyFromUrl(downloadUrl, fileStorageLocation.getStorageUrl());
+            documentUploadCompletionService.onUploaded(executionInfo, documentId, caseId,
+                    fileStorageLocation.getDocumentReference(), documentBlobMetadata);
 
             return executionInfo()
                     .from(executionInfo)
@@ -160,13 +143,48 @@ public class RetrieveMaterialAndUploadTask implements ExecutableTask {
 
     @Override
     public Optional<List<Long>> getRetryDurationsInSecs() {
-        final JobManagerRetryProperties.RetryConfig retry = retryProperties.getDefaultRetry();
-        return Optional.of(
-                IntStream.range(0, retry.getMaxAttempts())
-                        .mapToLong(i -> retry.getDelaySeconds())
-                        .boxed()
-                        .toList()
-        );
+        return Optional.of(retryProperties.getDefaultRetry().retryDurationsInSecs());
+    }
+
+    /**
+     * Starts the server-side copy and hands the wait to CHECK_BLOB_COPY_STATUS, so this worker is
+     * not held for the duration of the copy, whether it runs as one Azure copy or in staged blocks.
+     */
+    private ExecutionInfo startCopy(final ExecutionInfo executionInfo,
+                                    final String downloadUrl,
+                                    final FileStorageLocationReturnedSuccessfully fileStorageLocation,
+                                    final UUID documentId,
+                                    final UUID caseId,
+                                    final String requestId) {
+        final String destinationUrl = fileStorageLocation.getStorageUrl();
+        final BlobCopyStatus copyStatus = storageService.startCopy(downloadUrl, destinationUrl);
+
+        switch (copyStatus.state()) {
+            case SUCCESS -> documentUploadCompletionService.onUploaded(executionInfo, documentId, caseId,
+                    fileStorageLocation.getDocumentReference(), copyStatus.metadata());
+            case FAILED -> throw new IllegalStateException("Blob copy failed for docId=" + documentId
+                    + ": " + copyStatus.description() + "; requestId=" + requestId);
+            case PENDING -> {
+                log.info("Blob copy pending docId={}, copyId={}, requestId={}", documentId, copyStatus.copyId(), requestId);
+                final JsonObject jobData = createObjectBuilder(executionInfo.getJobData())
+                        .add(CTX_DOC_REFERENCE_KEY, fileStorageLocation.getDocumentReference())
+                        .add(CTX_COPY_ID, copyStatus.copyId())
+                        .add(CTX_COPY_DESTINATION_URL, destinationUrl)
+                        .build();
+
+                executionService.executeWith(executionInfo()
+                        .from(executionInfo)
+                        .withAssignedTaskName(CHECK_BLOB_COPY_STATUS)
+                        .withJobData(jobData)
+                        .withExecutionStatus(ExecutionStatus.STARTED)
+                        .build());
+            }
+        }
+
+        return executionInfo()
+                .from(executionInfo)
+                .withExecutionStatus(ExecutionStatus.COMPLETED)
+                .build();
     }
 
     private UUID readUuid(final JsonObject jobData, final String key, final String label, final String requestId) {
@@ -223,15 +241,4 @@ public class RetrieveMaterialAndUploadTask implements ExecutableTask {
                 ? caseDocumentRepository.findSupersededDocuments(caseId)
                 : supersededDocuments;
     }
-
-    private void saveDocumentUploaded(final CaseDocument doc, final String blobName, final String blobUrl, final long sizeBytes) {
-        doc.setDocName(blobName);
-        doc.setBlobUri(blobUrl);
-        doc.setContentType(uploadProperties.contentType());
-        doc.setSizeBytes(sizeBytes);
-        doc.setUploadedAt(utcNow());
-        doc.setIngestionPhase(DocumentIngestionPhase.UPLOADED);
-        doc.setIngestionPhaseAt(utcNow());
-        caseDocumentRepository.saveAndFlush(doc);
-    }
 }
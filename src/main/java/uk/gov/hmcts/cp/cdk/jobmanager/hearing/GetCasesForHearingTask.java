@@ -1,11 +1,14 @@
 package uk.gov.hmcts.cp.cdk.jobmanager.hearing;
 
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.stream.IntStream.range;
 import static org.springframework.util.StringUtils.hasText;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_CASE_ELIGIBILITY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GET_CASES_FOR_HEARING;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_COUNT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_PREFETCHED_MATERIALS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.COURT_CENTRE_ID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.CPPUID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.DATE;
@@ -16,6 +19,10 @@ import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 import uk.gov.hmcts.cp.cdk.clients.hearing.HearingClient;
 import uk.gov.hmcts.cp.cdk.clients.hearing.dto.HearingSummariesInfo;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.PrefetchedMaterials;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.services.HearingPrefetchService;
+import uk.gov.hmcts.cp.cdk.services.HearingPrefetchService.CasePrefetch;
 import uk.gov.hmcts.cp.cdk.util.TaskUtils;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
@@ -43,10 +50,15 @@ public class GetCasesForHearingTask implements ExecutableTask {
     private final HearingClient hearingClient;
     private final ExecutionService executionService;
     private final JobManagerRetryProperties retryProperties;
-
+    private final HearingPrefetchService hearingPrefetchService;
+    private final TaskWorkers taskWorkers;
 
     @Override
     public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(GET_CASES_FOR_HEARING, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
 
         final JsonObject jobData = executionInfo.getJobData();
 
@@ -97,21 +109,10 @@ public class GetCasesForHearingTask implements ExecutableTask {
                         .build();
             }
 
-            for (final String caseId : caseIds) {
-                final JsonObject singleCaseJobData = createObjectBuilder(jobData)
-                        .add(CTX_CASE_ID_KEY, caseId)
-                        .build();
-
-                final ExecutionInfo executionInfoNew = executionInfo()
-                        .from(executionInfo)
-                        .withAssignedTaskName(CHECK_CASE_ELIGIBILITY)
-                        .withJobData(singleCaseJobData)
-                        .withExecutionStatus(ExecutionStatus.STARTED)
-                        .build();
-
-                executionService.executeWith(executionInfoNew);
-
-                log.info("Created {} for caseId={} requestId={}", CHECK_CASE_ELIGIBILITY, caseId, requestId);
+            if (hearingPrefetchService.isEnabled()) {
+                dispatchPrefetched(executionInfo, hearingPrefetchService.prefetch(caseIds, cppuid), requestId);
+            } else {
+                caseIds.forEach(caseId -> dispatchEligibilityCheck(executionInfo, caseId, requestId));
             }
 
             return executionInfo()
@@ -130,13 +131,54 @@ public class GetCasesForHearingTask implements ExecutableTask {
         }
     }
 
+    private void dispatchPrefetched(final ExecutionInfo executionInfo, final List<CasePrefetch> prefetched,
+                                    final String requestId) {
+        for (final CasePrefetch casePrefetch : prefetched) {
+            switch (casePrefetch.outcome()) {
+                case ELIGIBLE -> {
+                    final JsonObject prefetchedJobData = createObjectBuilder(executionInfo.getJobData())
+                            .add(CTX_CASE_ID_KEY, casePrefetch.caseId())
+                            .add(CTX_DEFENDANT_ID_KEY, casePrefetch.eligibility().defendantIds().getFirst())
+                            .add(CTX_DEFENDANT_COUNT, casePrefetch.eligibility().defendantCount())
+                            .add(CTX_PREFETCHED_MATERIALS, PrefetchedMaterials.toJson(casePrefetch.materials()))
+                            .build();
+
+                    executionService.executeWith(executionInfo()
+                            .from(executionInfo)
+                            .withAssignedTaskName(CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS)
+                            .withJobData(prefetchedJobData)
+                            .withExecutionStatus(ExecutionStatus.STARTED)
+                            .build());
+
+                    log.info("Created {} for prefetched caseId={} requestId={}",
+                            CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS, casePrefetch.caseId(), requestId);
+                }
+                case NOT_ELIGIBLE -> log.info("Case {} is not eligible (no prosecution case data or defendants). requestId={}",
+                        casePrefetch.caseId(), requestId);
+                case FAILED -> dispatchEligibilityCheck(executionInfo, casePrefetch.caseId(), requestId);
+            }
+        }
+    }
+
+    private void dispatchEligibilityCheck(final ExecutionInfo executionInfo, final String caseId, final String requestId) {
+        final JsonObject singleCaseJobData = createObjectBuilder(executionInfo.getJobData())
+                .add(CTX_CASE_ID_KEY, caseId)
+                .build();
+
+        final ExecutionInfo executionInfoNew = executionInfo()
+                .from(executionInfo)
+                .withAssignedTaskName(CHECK_CASE_ELIGIBILITY)
+                .withJobData(singleCaseJobData)
+                .withExecutionStatus(ExecutionStatus.STARTED)
+                .build();
+
+        executionService.executeWith(executionInfoNew);
+
+        log.info("Created {} for caseId={} requestId={}", CHECK_CASE_ELIGIBILITY, caseId, requestId);
+    }
+
     @Override
     public Optional<List<Long>> getRetryDurationsInSecs() {
-        final JobManagerRetryProperties.RetryConfig retry = retryProperties.getDefaultRetry();
-        return Optional.of(range(0, retry.getMaxAttempts())
-                        .mapToLong(i -> retry.getDelaySeconds())
-                        .boxed()
-                        .toList()
-        );
+        return Optional.of(retryProperties.getDefaultRetry().retryDurationsInSecs());
     }
 }
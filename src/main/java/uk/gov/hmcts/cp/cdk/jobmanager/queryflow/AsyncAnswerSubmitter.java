@@ -0,0 +1,136 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.queryflow;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_STATUS_OF_ANSWER_GENERATION;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.BlobMetadataKeys.META_CASE_ID;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.BlobMetadataKeys.META_DOCUMENT_ID;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ANSWER_REQUESTED_AT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_RAG_TRANSACTION_ID;
+import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryDefinitionLatest;
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.repo.QueryDefinitionLatestRepository;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository.SnapshotDefinition;
+import uk.gov.hmcts.cp.cdk.services.AnswerStatusPollingService;
+import uk.gov.hmcts.cp.cdk.services.QueryDefinitionCache;
+import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
+import uk.gov.hmcts.cp.openapi.model.AnswerUserQueryRequest;
+import uk.gov.hmcts.cp.openapi.model.MetadataFilter;
+import uk.gov.hmcts.cp.openapi.model.UserQueryAnswerRequestAccepted;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.json.JsonObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds, submits and tracks async RAG answer requests.
+ * Shared by the single-query and the batched answer generation tasks.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncAnswerSubmitter {
+
+    private final QueryDefinitionCache queryDefinitionCache;
+    private final QueryDefinitionLatestRepository queryDefinitionLatestRepository;
+    private final DocumentInformationSummarisedAsynchronouslyApi documentInformationSummarisedAsynchronouslyApi;
+    private final ExecutionService executionService;
+    private final AnswerStatusPollingService answerStatusPollingService;
+
+    /**
+     * The request for one query, filtered to the case for CASE_ALL_DOCUMENTS and to the document otherwise;
+     * empty when the query has no definition.
+     */
+    public Optional<AnswerUserQueryRequest> request(final UUID caseId,
+                                                    final UUID docId,
+                                                    final UUID queryId,
+                                                    final QueryLevel level) {
+        final String userQuery;
+        final String queryPrompt;
+        final SnapshotDefinition cached = queryDefinitionCache.findByQueryId(queryId).orElse(null);
+        if (isNull(cached)) {
+            // not in the active snapshot (e.g. deactivated since dispatch): fall back to the latest definition
+            final QueryDefinitionLatest qdl = queryDefinitionLatestRepository.findByQueryId(queryId).orElse(null);
+
+            if (isNull(qdl)) {
+                log.warn("No QueryDefinitionLatest found for queryId={}", queryId);
+                return Optional.empty();
+            }
+            userQuery = qdl.getUserQuery();
+            queryPrompt = qdl.getQueryPrompt();
+        } else {
+            userQuery = cached.userQuery();
+            queryPrompt = cached.queryPrompt();
+        }
+
+        return Optional.of(new AnswerUserQueryRequest()
+                .userQuery(ofNullable(userQuery).orElse(""))
+                .queryPrompt(ofNullable(queryPrompt).orElse(""))
+                .metadataFilter(List.of(filter(caseId, docId, level))));
+    }
+
+    /**
+     * Submits the request and returns the RAG transaction id.
+     */
+    public String submit(final AnswerUserQueryRequest request) {
+        final ResponseEntity<@NotNull UserQueryAnswerRequestAccepted> userQueryResponse =
+                documentInformationSummarisedAsynchronouslyApi.answerUserQueryAsync(request);
+
+        return ofNullable(userQueryResponse.getBody())
+                .map(UserQueryAnswerRequestAccepted::getTransactionId)
+                .orElseThrow(() -> new IllegalStateException("Async RAG request did not return transactionId"));
+    }
+
+    /**
+     * Hands the transaction to the central answer-status poller, or to its own status task when the poller is disabled.
+     */
+    public void track(final ExecutionInfo source,
+                      final JsonObject jobData,
+                      final String transactionId,
+                      final UUID caseId,
+                      final UUID queryId) {
+        if (answerStatusPollingService.isEnabled()) {
+            answerStatusPollingService.register(transactionId, caseId, queryId, jobData);
+            return;
+        }
+
+        final JsonObject nextJobData = createObjectBuilder(jobData)
+                .add(CTX_RAG_TRANSACTION_ID, transactionId)
+                .add(CTX_ANSWER_REQUESTED_AT, utcNow().toInstant().toEpochMilli())
+                .build();
+
+        final ExecutionInfo nextTask = executionInfo()
+                .from(source)
+                .withAssignedTaskName(CHECK_STATUS_OF_ANSWER_GENERATION)
+                .withJobData(nextJobData)
+                .withExecutionStatus(ExecutionStatus.STARTED)
+                .build();
+
+        executionService.executeWith(nextTask);
+    }
+
+    private static MetadataFilter filter(final UUID caseId, final UUID docId, final QueryLevel level) {
+        if (level == QueryLevel.CASE_ALL_DOCUMENTS) {
+            return new MetadataFilter()
+                    .key(META_CASE_ID)
+                    .value(caseId.toString());
+        }
+        return new MetadataFilter()
+                .key(META_DOCUMENT_ID)
+                .value(docId.toString());
+    }
+}
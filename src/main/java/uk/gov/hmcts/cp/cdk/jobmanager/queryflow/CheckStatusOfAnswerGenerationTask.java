@@ -4,6 +4,7 @@ import static jakarta.json.Json.createObjectBuilder;
 import static java.util.Objects.isNull;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_STATUS_OF_ANSWER_GENERATION;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ANSWER_REQUESTED_AT;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ANSWER_RETRY_COUNT;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
@@ -11,9 +12,9 @@ import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_K
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERY_LEVEL;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_RAG_TRANSACTION_ID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_QUERY_ID;
-import static uk.gov.hmcts.cp.cdk.util.TaskUtils.EMPTY_STRING;
 import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseQueryLevel;
 import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseUuidOrNull;
+import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
 import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATED;
 import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATION_FAILED;
 import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATION_PENDING;
@@ -21,12 +22,10 @@ import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 
 import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
-import uk.gov.hmcts.cp.cdk.services.AnswerGenerationService;
-import uk.gov.hmcts.cp.cdk.services.CaseLevelAllDocumentsAnswerService;
-import uk.gov.hmcts.cp.cdk.services.CaseLevelLatestDocumentAnswerService;
-import uk.gov.hmcts.cp.cdk.services.DefendantAnswerService;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.services.AnswerPersistenceService;
 import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
-import uk.gov.hmcts.cp.openapi.model.DocumentChunk;
 import uk.gov.hmcts.cp.openapi.model.UserQueryAnswerReturnedSuccessfullyAsynchronously;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
@@ -34,15 +33,11 @@ import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
 import uk.gov.hmcts.cp.taskmanager.service.task.ExecutableTask;
 import uk.gov.hmcts.cp.taskmanager.service.task.Task;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.IntStream;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.JsonObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -56,19 +51,19 @@ import org.springframework.stereotype.Component;
 @Task(CHECK_STATUS_OF_ANSWER_GENERATION)
 public class CheckStatusOfAnswerGenerationTask implements ExecutableTask {
 
-    private static final String PROVENANCE_CHUNKS_SAMPLE = "provenanceChunksSample";
-
     private final DocumentInformationSummarisedAsynchronouslyApi documentInformationSummarisedAsynchronouslyApi;
-    private final ObjectMapper objectMapper;
     private final JobManagerRetryProperties retryProperties;
-    private final AnswerGenerationService answerGenerationService;
-    private final CaseLevelAllDocumentsAnswerService caseLevelAllDocumentsAnswerService;
-    private final CaseLevelLatestDocumentAnswerService caseLevelLatestDocumentAnswerService;
-    private final DefendantAnswerService defendantAnswerService;
+    private final AnswerPersistenceService answerPersistenceService;
     private final ExecutionService executionService;
+    private final ObservedLatencies observedLatencies;
+    private final TaskWorkers taskWorkers;
 
     @Override
     public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(CHECK_STATUS_OF_ANSWER_GENERATION, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
 
         final JsonObject jobData = executionInfo.getJobData();
         final UUID transactionId = parseUuidOrNull(jobData.getString(CTX_RAG_TRANSACTION_ID, null));
@@ -93,50 +88,10 @@ public class CheckStatusOfAnswerGenerationTask implements ExecutableTask {
             final UUID defendantId = parseUuidOrNull(jobData.getString(CTX_DEFENDANT_ID_KEY, null));
             final String levelStr = jobData.getString(CTX_QUERY_LEVEL, null);
             final QueryLevel level = parseQueryLevel(levelStr);
+            recordLatency(jobData);
 
             if (ANSWER_GENERATED == answerResponseBody.getStatus()) {
-                final String llmInputJson = getLlmJson(answerResponseBody.getDocumentChunks(), caseId, documentId, queryId);
-                switch (level) {
-                        case QueryLevel.CASE:
-                            caseLevelLatestDocumentAnswerService.upsert(
-                                    caseId,
-                                    queryId,
-                                    answerResponseBody.getLlmResponse(),
-                                    llmInputJson,
-                                    documentId
-                            );
-                            break;
-
-                        case QueryLevel.CASE_ALL_DOCUMENTS:
-                            caseLevelAllDocumentsAnswerService.upsert(
-                                    caseId,
-                                    queryId,
-                                    answerResponseBody.getLlmResponse(),
-                                    llmInputJson
-                            );
-                            break;
-
-                        case QueryLevel.DEFENDANT:
-                            defendantAnswerService.upsert(
-                                    caseId,
-                                    queryId,
-                                    defendantId,
-                                    answerResponseBody.getLlmResponse(),
-                                    llmInputJson,
-                                    documentId
-                            );
-                            break;
-                        case null, default:
-                            answerGenerationService.upsertAnswer(
-                                    caseId,
-                                    queryId,
-                                    answerResponseBody.getLlmResponse(),
-                                    llmInputJson,
-                                    documentId
-                            );
-                            break;
-                    }
-
+                answerPersistenceService.persistGeneratedAnswer(level, caseId, queryId, defendantId, documentId, answerResponseBody);
 
                 log.info("Answer Generation updated in the DB for caseId={}, docId={}, queryId={}, transactionId={}, task completed.",
                         caseId, documentId, queryId, transactionId);
@@ -189,13 +144,16 @@ public class CheckStatusOfAnswerGenerationTask implements ExecutableTask {
 
     @Override
     public Optional<List<Long>> getRetryDurationsInSecs() {
-        final JobManagerRetryProperties.RetryConfig retry = retryProperties.getQuestionsRetry();
-        return Optional.of(
-                IntStream.range(0, retry.getMaxAttempts())
-                        .mapToLong(i -> retry.getDelaySeconds())
-                        .boxed()
-                        .toList()
-        );
+        return Optional.of(retryProperties.getQuestionsRetry()
+                .retryDurationsInSecs(observedLatencies.median(ObservedLatencies.Kind.ANSWER_GENERATION)));
+    }
+
+    private void recordLatency(final JsonObject jobData) {
+        if (jobData.containsKey(CTX_ANSWER_REQUESTED_AT)) {
+            final long requestedAt = jobData.getJsonNumber(CTX_ANSWER_REQUESTED_AT).longValue();
+            observedLatencies.record(ObservedLatencies.Kind.ANSWER_GENERATION,
+                    Duration.ofMillis(utcNow().toInstant().toEpochMilli() - requestedAt));
+        }
     }
 
     private ExecutionInfo retry(final ExecutionInfo executionInfo) {
@@ -205,19 +163,4 @@ public class CheckStatusOfAnswerGenerationTask implements ExecutableTask {
                 .withShouldRetry(true)
                 .build();
     }
-
-    private String getLlmJson(final List<DocumentChunk> chunkedEntries, final UUID caseId, final UUID docId, final UUID queryId) {
-
-        final Map<String, Object> chunkSampleMap = new LinkedHashMap<>();
-        try {
-            final List<DocumentChunk> chunks = Optional.ofNullable(chunkedEntries).orElseGet(Collections::emptyList);
-            chunkSampleMap.put(PROVENANCE_CHUNKS_SAMPLE, chunks);
-            return objectMapper.writeValueAsString(chunkSampleMap);
-        } catch (final Exception e) {
-            log.warn("Failed to build llm_input JSON for caseId={}, docId={}, queryId={}: {}",
-                    caseId, docId, queryId, e.getMessage(), e);
-        }
-
-        return EMPTY_STRING;
-    }
 }
@@ -0,0 +1,168 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.queryflow;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static java.util.Objects.isNull;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWERS_FOR_QUERIES;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_BATCH_QUERIES;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERY_LEVEL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_QUERY_ID;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseQueryLevel;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseUuidOrNull;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerBatchProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.openapi.model.AnswerUserQueryRequest;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+import uk.gov.hmcts.cp.taskmanager.service.task.ExecutableTask;
+import uk.gov.hmcts.cp.taskmanager.service.task.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Submits every query of a batch sharing one metadata filter (the CASE and DEFENDANT queries for a document)
+ * from a single task, with at most {@code cdk.answer-batch.concurrency} RAG calls in flight.
+ * Each answer is still tracked and persisted on its own; a query whose submission fails is handed to
+ * its own GenerateAnswerForQueryTask so it retries without resubmitting the rest of the batch.
+ */
+@Slf4j
+@Component
+@Task(GENERATE_ANSWERS_FOR_QUERIES)
+public class GenerateAnswersForQueriesTask implements ExecutableTask {
+
+    private final AsyncAnswerSubmitter asyncAnswerSubmitter;
+    private final ExecutionService executionService;
+    private final ExecutorService submitExecutor;
+    private final TaskWorkers taskWorkers;
+
+    public GenerateAnswersForQueriesTask(final AsyncAnswerSubmitter asyncAnswerSubmitter,
+                                         final ExecutionService executionService,
+                                         final AnswerBatchProperties answerBatchProperties,
+                                         final TaskWorkers taskWorkers) {
+        this.asyncAnswerSubmitter = asyncAnswerSubmitter;
+        this.executionService = executionService;
+        this.taskWorkers = taskWorkers;
+        this.submitExecutor = Executors.newFixedThreadPool(Math.max(1, answerBatchProperties.getConcurrency()),
+                Thread.ofVirtual().name("answer-batch-submit-", 0).factory());
+    }
+
+    @Override
+    public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        return taskWorkers.execute(GENERATE_ANSWERS_FOR_QUERIES, executionInfo, this::run);
+    }
+
+    private ExecutionInfo run(final ExecutionInfo executionInfo) {
+        final JsonObject jobData = executionInfo.getJobData();
+        final UUID caseId = parseUuidOrNull(jobData.getString(CTX_CASE_ID_KEY, null));
+        final UUID docId = parseUuidOrNull(jobData.getString(CTX_DOC_ID_KEY, null));
+
+        if (isNull(caseId) || isNull(docId) || !jobData.containsKey(CTX_BATCH_QUERIES)) {
+            log.warn("GenerateAnswersForQueriesTask: missing identifiers caseId={}, docId={}", caseId, docId);
+            return completed(executionInfo);
+        }
+
+        final JsonObject sharedJobData = createObjectBuilder(jobData).remove(CTX_BATCH_QUERIES).build();
+        final List<JsonObject> queries = jobData.getJsonArray(CTX_BATCH_QUERIES).stream()
+                .map(JsonValue::asJsonObject)
+                .map(query -> createObjectBuilder(sharedJobData)
+                        .add(CTX_SINGLE_QUERY_ID, query.getString(CTX_SINGLE_QUERY_ID))
+                        .add(CTX_QUERY_LEVEL, query.getString(CTX_QUERY_LEVEL))
+                        .build())
+                .toList();
+
+        final List<Future<Boolean>> submissions = new ArrayList<>(queries.size());
+        for (final JsonObject queryJobData : queries) {
+            submissions.add(submitExecutor.submit(() -> submit(executionInfo, caseId, docId, queryJobData)));
+        }
+
+        final List<JsonObject> failed = new ArrayList<>();
+        for (int i = 0; i < submissions.size(); i++) {
+            if (!submitted(submissions.get(i))) {
+                failed.add(queries.get(i));
+            }
+        }
+        failed.forEach(queryJobData -> dispatchSingle(executionInfo, queryJobData));
+
+        log.info("Batched answer generation for caseId={}, docId={}: {} submitted, {} handed to single-query tasks",
+                caseId, docId, queries.size() - failed.size(), failed.size());
+        return completed(executionInfo);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        submitExecutor.shutdownNow();
+    }
+
+    private boolean submit(final ExecutionInfo executionInfo,
+                           final UUID caseId,
+                           final UUID docId,
+                           final JsonObject queryJobData) {
+        final UUID queryId = parseUuidOrNull(queryJobData.getString(CTX_SINGLE_QUERY_ID, null));
+        final QueryLevel level = parseQueryLevel(queryJobData.getString(CTX_QUERY_LEVEL, null));
+        if (isNull(queryId)) {
+            return true;
+        }
+
+        final AnswerUserQueryRequest request = asyncAnswerSubmitter.request(caseId, docId, queryId, level).orElse(null);
+        if (isNull(request)) {
+            return true;
+        }
+
+        try {
+            final String transactionId = asyncAnswerSubmitter.submit(request);
+            log.info("Async RAG started for caseId={}, docId={}, queryId={}, transactionId={}", caseId, docId, queryId, transactionId);
+            asyncAnswerSubmitter.track(executionInfo, queryJobData, transactionId, caseId, queryId);
+            return true;
+        } catch (final Exception ex) {
+            log.error("Failed to start async RAG for caseId={}, docId={}, queryId={}", caseId, docId, queryId, ex);
+            return false;
+        }
+    }
+
+    private static boolean submitted(final Future<Boolean> submission) {
+        try {
+            return submission.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            log.error("Batched answer submission failed", e.getCause());
+            return false;
+        }
+    }
+
+    private void dispatchSingle(final ExecutionInfo executionInfo, final JsonObject queryJobData) {
+        final ExecutionInfo single = executionInfo()
+                .from(executionInfo)
+                .withAssignedTaskName(GENERATE_ANSWER_FOR_QUERY)
+                .withJobData(queryJobData)
+                .withExecutionStatus(ExecutionStatus.STARTED)
+                .build();
+        executionService.executeWith(single);
+    }
+
+    private ExecutionInfo completed(final ExecutionInfo executionInfo) {
+        return executionInfo()
+                .from(executionInfo)
+                .withExecutionStatus(ExecutionStatus.COMPLETED)
+                .build();
+    }
+}
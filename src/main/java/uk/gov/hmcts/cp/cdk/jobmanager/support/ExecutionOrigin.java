@@ -0,0 +1,21 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.support;
+
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ORIGIN;
+
+import jakarta.json.JsonObject;
+
+/**
+ * What started an ingestion chain: a user through the ingestion API, or the intraday discovery re-run.
+ * Carried in job data so every task of the chain inherits it.
+ */
+public enum ExecutionOrigin {
+    USER,
+    SCHEDULED;
+
+    public static ExecutionOrigin of(final JsonObject jobData) {
+        if (jobData == null) {
+            return SCHEDULED;
+        }
+        return USER.name().equals(jobData.getString(CTX_ORIGIN, null)) ? USER : SCHEDULED;
+    }
+}
@@ -13,13 +13,19 @@ public final class JobManagerKeys {
     public static final String CTX_DOCIDS_ARRAY= "docIdsList";
     public static final String CTX_QUERYIDS_ARRAY= "queryIdsList";
     public static final String CTX_QUERY_LEVEL= "queryLevel";
+    public static final String CTX_BATCH_QUERIES = "batchQueries";
 
     public static final String CTX_COURTDOCUMENT_ID_KEY = "courtDocumentId";
     public static final String CTX_MATERIAL_NAME = "materialName";
     public static final String CTX_SINGLE_QUERY_ID = "CTX_SINGLE_QUERY_ID";
     public static final String CTX_RAG_TRANSACTION_ID = "ragTransactionId";
+    public static final String CTX_ANSWER_REQUESTED_AT = "answerRequestedAt";
 
     public static final String CTX_ANSWER_RETRY_COUNT = "answerRetryCount";
+    public static final String CTX_PREFETCHED_MATERIALS = "prefetchedMaterials";
+    public static final String CTX_COPY_ID = "copyId";
+    public static final String CTX_COPY_DESTINATION_URL = "copyDestinationUrl";
+    public static final String CTX_ORIGIN = "origin";
 
 
     public static final class Params {
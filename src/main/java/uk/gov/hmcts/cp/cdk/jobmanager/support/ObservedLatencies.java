@@ -0,0 +1,67 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Median of the most recent RAG ingestion and answer-generation latencies seen by this instance,
+ * used to seed the first poll delay of the status-check retry schedules.
+ */
+@Component
+public class ObservedLatencies {
+
+    private static final int WINDOW = 101;
+    private static final int MIN_SAMPLES = 5;
+
+    public enum Kind {
+        INGESTION,
+        ANSWER_GENERATION
+    }
+
+    private final Map<Kind, Samples> samples = new EnumMap<>(Kind.class);
+
+    public ObservedLatencies() {
+        for (final Kind kind : Kind.values()) {
+            samples.put(kind, new Samples());
+        }
+    }
+
+    public void record(final Kind kind, final Duration latency) {
+        if (latency != null && !latency.isNegative()) {
+            samples.get(kind).add(latency.toMillis());
+        }
+    }
+
+    /**
+     * Median of the recent samples, or {@code null} until enough have been recorded to be meaningful.
+     */
+    public Duration median(final Kind kind) {
+        return samples.get(kind).median().map(Duration::ofMillis).orElse(null);
+    }
+
+    private static final class Samples {
+        private final long[] values = new long[WINDOW];
+        private int next;
+        private int size;
+
+        private synchronized void add(final long value) {
+            values[next] = value;
+            next = (next + 1) % WINDOW;
+            size = Math.min(size + 1, WINDOW);
+        }
+
+        private synchronized Optional<Long> median() {
+            if (size < MIN_SAMPLES) {
+                return Optional.empty();
+            }
+            final long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return Optional.of(sorted[size / 2]);
+        }
+    }
+}
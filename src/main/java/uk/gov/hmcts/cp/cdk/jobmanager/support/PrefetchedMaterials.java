@@ -0,0 +1,85 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.support;
+
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_PREFETCHED_MATERIALS;
+
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Job data encoding of court-document metadata fetched ahead of CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS.
+ */
+public final class PrefetchedMaterials {
+
+    private static final String CASE_IDS = "caseIds";
+    private static final String DOCUMENT_TYPE_ID = "documentTypeId";
+    private static final String DOCUMENT_TYPE_DESCRIPTION = "documentTypeDescription";
+    private static final String MATERIAL_ID = "materialId";
+    private static final String MATERIAL_NAME = "materialName";
+    private static final String UPLOAD_DATE_TIME = "uploadDateTime";
+    private static final String COURT_DOCUMENT_ID = "courtDocumentId";
+    private static final String DEFENDANT_ID = "defendantId";
+
+    private PrefetchedMaterials() {
+    }
+
+    public static JsonArray toJson(final List<LatestMaterialInfo> materials) {
+        final JsonArrayBuilder array = Json.createArrayBuilder();
+        for (final LatestMaterialInfo info : materials) {
+            final JsonArrayBuilder caseIds = Json.createArrayBuilder();
+            if (info.caseIds() != null) {
+                info.caseIds().forEach(caseIds::add);
+            }
+            final JsonObjectBuilder item = Json.createObjectBuilder().add(CASE_IDS, caseIds);
+            addIfPresent(item, DOCUMENT_TYPE_ID, info.documentTypeId());
+            addIfPresent(item, DOCUMENT_TYPE_DESCRIPTION, info.documentTypeDescription());
+            addIfPresent(item, MATERIAL_ID, info.materialId());
+            addIfPresent(item, MATERIAL_NAME, info.materialName());
+            addIfPresent(item, UPLOAD_DATE_TIME, info.uploadDateTime() == null ? null : info.uploadDateTime().toString());
+            addIfPresent(item, COURT_DOCUMENT_ID, info.courtDocumentId());
+            addIfPresent(item, DEFENDANT_ID, info.defendantId());
+            array.add(item);
+        }
+        return array.build();
+    }
+
+    public static List<LatestMaterialInfo> fromJson(final JsonArray array) {
+        return array.getValuesAs(JsonObject.class).stream()
+                .map(item -> new LatestMaterialInfo(
+                        item.getJsonArray(CASE_IDS).getValuesAs(JsonString.class).stream()
+                                .map(JsonString::getString)
+                                .toList(),
+                        item.getString(DOCUMENT_TYPE_ID, null),
+                        item.getString(DOCUMENT_TYPE_DESCRIPTION, null),
+                        item.getString(MATERIAL_ID, null),
+                        item.getString(MATERIAL_NAME, null),
+                        parseDateTime(item.getString(UPLOAD_DATE_TIME, null)),
+                        item.getString(COURT_DOCUMENT_ID, null),
+                        item.getString(DEFENDANT_ID, null)))
+                .toList();
+    }
+
+    public static boolean isPresent(final JsonObject jobData) {
+        return jobData.containsKey(CTX_PREFETCHED_MATERIALS)
+                && jobData.get(CTX_PREFETCHED_MATERIALS).getValueType() == JsonValue.ValueType.ARRAY;
+    }
+
+    private static void addIfPresent(final JsonObjectBuilder builder, final String key, final String value) {
+        if (value != null) {
+            builder.add(key, value);
+        }
+    }
+
+    private static ZonedDateTime parseDateTime(final String value) {
+        return value == null ? null : ZonedDateTime.parse(value);
+    }
+}
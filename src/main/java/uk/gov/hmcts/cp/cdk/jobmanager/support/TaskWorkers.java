@@ -0,0 +1,318 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.support;
+
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties.Mode;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs job-manager task bodies in a lane per task type (pool size, queue capacity, priority), so a burst of one type
+ * (e.g. answer-status polls) cannot occupy every worker another type (e.g. material uploads) needs.
+ * When a slot frees, the highest-priority waiter takes it; executions started from the ingestion API rank above
+ * intraday re-runs and polls, and only they may use the user-reserved part of the worker budget.
+ * An execution whose lane queue is full, or that gets no slot within {@code permit-wait-ms}, is rescheduled
+ * {@code defer-seconds} later and hands its worker back, without using up one of the task's retries.
+ * In VIRTUAL mode each body runs on its own virtual thread, and carrier pinning is logged via JFR. The job-manager
+ * worker that dispatched the execution still waits for the body, so VIRTUAL does not raise the number of bodies
+ * in flight: that stays bounded by the job-manager worker pool (cdk.ingestion.max-pool-size).
+ */
+@Slf4j
+@Component
+public class TaskWorkers {
+
+    /* default */ static final String METRIC_PREFIX = "cdk.task.workers.";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int PINNED_FRAMES = 5;
+
+    private final TaskWorkerProperties properties;
+    private final ExecutionService executionService;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final ExecutorService virtualExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-worker-", 0).factory());
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private final List<Waiter> waiters = new ArrayList<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private long arrivals;
+    private RecordingStream pinningStream;
+
+    public TaskWorkers(final TaskWorkerProperties properties,
+                       final ExecutionService executionService,
+                       final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executionService = executionService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Task workers mode={}, workerBudget={}, userReserved={}, defaultLane={}, lanes={}",
+                properties.getMode(), properties.getWorkerBudget(), properties.getUserReserved(),
+                properties.getDefaultLane(), properties.getLanes());
+        if (properties.getMode() == Mode.VIRTUAL && properties.isPinningDetection()) {
+            startPinningDetection();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pinningStream != null) {
+            pinningStream.close();
+        }
+        virtualExecutor.shutdownNow();
+    }
+
+    public ExecutionInfo execute(final String taskName,
+                                 final ExecutionInfo executionInfo,
+                                 final UnaryOperator<ExecutionInfo> task) {
+        final Lane lane = lanes.computeIfAbsent(taskName, this::newLane);
+        final boolean userInitiated = ExecutionOrigin.of(executionInfo.getJobData()) == ExecutionOrigin.USER;
+        final int priority = lane.priority + (userInitiated ? properties.getUserPriorityBoost() : 0);
+        if (!acquire(lane, priority, userInitiated)) {
+            return defer(lane, executionInfo, userInitiated);
+        }
+
+        final long startedAt = System.nanoTime();
+        final boolean virtual = properties.getMode() == Mode.VIRTUAL && !Thread.currentThread().isVirtual();
+        try {
+            return virtual ? runOnVirtualThread(executionInfo, task) : task.apply(executionInfo);
+        } finally {
+            release(lane);
+            Timer.builder(METRIC_PREFIX + "execution")
+                    .tag("task", taskName)
+                    .tag("thread", virtual || Thread.currentThread().isVirtual() ? "virtual" : "platform")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean acquire(final Lane lane, final int priority, final boolean userInitiated) {
+        lock.lock();
+        try {
+            final Waiter waiter = new Waiter(lane, priority, userInitiated, arrivals++);
+            if (canStart(waiter)) {
+                start(lane);
+                return true;
+            }
+            if (lane.queued.get() >= lane.queueCapacity) {
+                return false;
+            }
+
+            waiters.add(waiter);
+            lane.queued.incrementAndGet();
+            try {
+                long remainingNanos = TimeUnit.MILLISECONDS.toNanos(properties.getPermitWaitMs());
+                while (!canStart(waiter)) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = slotFreed.awaitNanos(remainingNanos);
+                }
+                start(lane);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiters.remove(waiter);
+                lane.queued.decrementAndGet();
+                slotFreed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(final Lane lane) {
+        lock.lock();
+        try {
+            lane.active.decrementAndGet();
+            running.decrementAndGet();
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void start(final Lane lane) {
+        lane.active.incrementAndGet();
+        running.incrementAndGet();
+    }
+
+    /**
+     * Whether the waiter has room now and no higher-ranked waiter that also has room is ahead of it.
+     */
+    private boolean canStart(final Waiter waiter) {
+        if (!hasRoom(waiter)) {
+            return false;
+        }
+        for (final Waiter other : waiters) {
+            if (other != waiter && other.outranks(waiter) && hasRoom(other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasRoom(final Waiter waiter) {
+        final Lane lane = waiter.lane();
+        if (lane.poolSize > 0 && lane.active.get() >= lane.poolSize) {
+            return false;
+        }
+        final int budget = properties.getWorkerBudget();
+        if (budget <= 0) {
+            return true;
+        }
+        final int available = waiter.userInitiated() ? budget : budget - properties.getUserReserved();
+        return running.get() < available;
+    }
+
+    /**
+     * Blocks the calling job-manager worker until the body finishes; the virtual thread only moves the body off it.
+     */
+    private ExecutionInfo runOnVirtualThread(final ExecutionInfo executionInfo, final UnaryOperator<ExecutionInfo> task) {
+        final Future<ExecutionInfo> result = virtualExecutor.submit(() -> task.apply(executionInfo));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            return executionInfo()
+                    .from(executionInfo)
+                    .withExecutionStatus(ExecutionStatus.INPROGRESS)
+                    .withShouldRetry(true)
+                    .build();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ExecutionInfo defer(final Lane lane, final ExecutionInfo executionInfo, final boolean userInitiated) {
+        lane.deferred.increment();
+        log.debug("{} has no free slot (active={}, queued={}, userInitiated={}), rescheduling in {}s",
+                lane.name, lane.active.get(), lane.queued.get(), userInitiated, properties.getDeferSeconds());
+
+        executionService.executeWith(executionInfo()
+                .from(executionInfo)
+                .withAssignedTaskName(lane.name)
+                .withAssignedTaskStartTime(ZonedDateTime.now().plusSeconds(properties.getDeferSeconds()))
+                .withExecutionStatus(ExecutionStatus.STARTED)
+                .build());
+
+        return executionInfo()
+                .from(executionInfo)
+                .withExecutionStatus(ExecutionStatus.COMPLETED)
+                .build();
+    }
+
+    private void startPinningDetection() {
+        try {
+            final RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(properties.getPinnedThresholdMs()))
+                    .withStackTrace();
+            final Counter pinned = meterRegistry.counter(METRIC_PREFIX + "pinned");
+            stream.onEvent(PINNED_EVENT, event -> {
+                pinned.increment();
+                log.warn("Virtual thread {} pinned its carrier for {} ms at {}",
+                        event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                        event.getDuration().toMillis(), topFrames(event));
+            });
+            stream.startAsync();
+            pinningStream = stream;
+        } catch (RuntimeException e) {
+            log.warn("Virtual thread pinning detection unavailable: {}", e.getMessage());
+        }
+    }
+
+    private static String topFrames(final RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(PINNED_FRAMES)
+                .map(TaskWorkers::frame)
+                .collect(Collectors.joining(" <- "));
+    }
+
+    private static String frame(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private Lane newLane(final String name) {
+        final TaskWorkerProperties.Lane config = properties.lane(name);
+        final Lane lane = new Lane(name, config, meterRegistry.counter(METRIC_PREFIX + "deferred", "task", name));
+        Gauge.builder(METRIC_PREFIX + "active", lane.active, AtomicInteger::get)
+                .tag("task", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "queued", lane.queued, AtomicInteger::get)
+                .tag("task", name)
+                .register(meterRegistry);
+        return lane;
+    }
+
+    private static final class Lane {
+
+        private final String name;
+        private final int poolSize;
+        private final int queueCapacity;
+        private final int priority;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Counter deferred;
+
+        private Lane(final String name, final TaskWorkerProperties.Lane config, final Counter deferred) {
+            this.name = name;
+            this.poolSize = config.getPoolSize();
+            this.queueCapacity = config.getQueueCapacity();
+            this.priority = config.getPriority();
+            this.deferred = deferred;
+        }
+    }
+
+    private record Waiter(Lane lane, int priority, boolean userInitiated, long arrival) {
+
+        private boolean outranks(final Waiter other) {
+            return priority > other.priority || priority == other.priority && arrival < other.arrival;
+        }
+    }
+}
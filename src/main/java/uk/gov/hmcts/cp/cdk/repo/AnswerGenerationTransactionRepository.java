@@ -0,0 +1,141 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Registry of outstanding async RAG answer transactions.
+ * Rows are claimed with {@code FOR UPDATE SKIP LOCKED} plus a lease, so several pods can sweep
+ * the table concurrently without polling the same transaction twice.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerGenerationTransactionRepository {
+
+    /* default */
+    static final String SQL_REGISTER = """
+            INSERT INTO answer_generation_transaction (transaction_id, case_id, query_id, job_data, next_poll_at)
+            VALUES (:transaction_id, :case_id, :query_id, :job_data, NOW() + :delay_ms * INTERVAL '1 millisecond')
+            ON CONFLICT (transaction_id) DO NOTHING
+            """;
+
+    /* default */
+    static final String SQL_CLAIM_DUE = """
+            UPDATE answer_generation_transaction t
+               SET lock_owner = :owner,
+                   locked_until = NOW() + :lease_seconds * INTERVAL '1 second',
+                   updated_at = NOW()
+             WHERE t.transaction_id IN (
+                    SELECT transaction_id
+                      FROM answer_generation_transaction
+                     WHERE next_poll_at <= NOW()
+                       AND (locked_until IS NULL OR locked_until < NOW())
+                     ORDER BY next_poll_at
+                     LIMIT :batch_size
+                     FOR UPDATE SKIP LOCKED)
+            RETURNING t.transaction_id, t.job_data, t.poll_count
+            """;
+
+    /* default */
+    static final String SQL_RESCHEDULE = """
+            UPDATE answer_generation_transaction
+               SET poll_count = poll_count + 1,
+                   next_poll_at = NOW() + :delay_ms * INTERVAL '1 millisecond',
+                   lock_owner = NULL,
+                   locked_until = NULL,
+                   updated_at = NOW()
+             WHERE transaction_id = :transaction_id
+               AND lock_owner = :owner
+            """;
+
+    /* default */
+    static final String SQL_RENEW_LEASE = """
+            UPDATE answer_generation_transaction
+               SET locked_until = NOW() + :lease_seconds * INTERVAL '1 second',
+                   updated_at = NOW()
+             WHERE transaction_id = :transaction_id
+               AND lock_owner = :owner
+            """;
+
+    /* default */
+    static final String SQL_DELETE = """
+            DELETE FROM answer_generation_transaction
+             WHERE transaction_id = :transaction_id
+               AND lock_owner = :owner
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Transactional
+    public void register(final String transactionId, final UUID caseId, final UUID queryId,
+                         final String jobData, final long initialDelayMs) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("transaction_id", transactionId)
+                .addValue("case_id", caseId)
+                .addValue("query_id", queryId)
+                .addValue("job_data", jobData)
+                .addValue("delay_ms", initialDelayMs);
+        jdbc.update(SQL_REGISTER, params);
+    }
+
+    /**
+     * Leases up to {@code batchSize} due transactions to {@code owner}. Rows already leased by
+     * another node are skipped; an expired lease makes the row claimable again.
+     */
+    @Transactional
+    public List<PendingAnswerTransaction> claimDue(final String owner, final int batchSize, final long leaseSeconds) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("owner", owner)
+                .addValue("batch_size", batchSize)
+                .addValue("lease_seconds", leaseSeconds);
+        return jdbc.query(SQL_CLAIM_DUE, params, (rs, rowNum) -> new PendingAnswerTransaction(
+                rs.getString("transaction_id"),
+                rs.getString("job_data"),
+                rs.getInt("poll_count")));
+    }
+
+    @Transactional
+    public void reschedule(final String transactionId, final String owner, final long delayMs) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("transaction_id", transactionId)
+                .addValue("owner", owner)
+                .addValue("delay_ms", delayMs);
+        jdbc.update(SQL_RESCHEDULE, params);
+    }
+
+    /**
+     * Pushes the lease of a claimed row out by {@code leaseSeconds} from now. A sweep polls its
+     * rows one after another, so each row's lease is renewed just before its poll rather than
+     * having to cover the whole sweep.
+     *
+     * @return false if another node has claimed the row since, in which case it must not be polled
+     */
+    @Transactional
+    public boolean renewLease(final String transactionId, final String owner, final long leaseSeconds) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("transaction_id", transactionId)
+                .addValue("owner", owner)
+                .addValue("lease_seconds", leaseSeconds);
+        return jdbc.update(SQL_RENEW_LEASE, params) == 1;
+    }
+
+    /**
+     * @return false if the row is gone or now leased by another node
+     */
+    @Transactional
+    public boolean remove(final String transactionId, final String owner) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("transaction_id", transactionId)
+                .addValue("owner", owner);
+        return jdbc.update(SQL_DELETE, params) == 1;
+    }
+
+    public record PendingAnswerTransaction(String transactionId, String jobData, int pollCount) {
+    }
+}
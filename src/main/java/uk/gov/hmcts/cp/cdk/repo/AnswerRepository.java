@@ -4,12 +4,17 @@ import uk.gov.hmcts.cp.cdk.domain.Answer;
 import uk.gov.hmcts.cp.cdk.domain.AnswerId;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+/**
+ * The entity finders load llm_input and back the with-llm read; the list endpoints use the
+ * {@link AnswerSummary} finders, which leave it in the table.
+ */
 public interface AnswerRepository extends JpaRepository<Answer, AnswerId> {
 
     @Query(value = """
@@ -49,4 +54,68 @@ public interface AnswerRepository extends JpaRepository<Answer, AnswerId> {
              WHERE a.query_id = :queryId
             """, nativeQuery = true)
     long countDistinctCasesForQuery(UUID queryId);
+
+    /**
+     * Latest answer per query for a case as of {@code asOf}, for all queries in one statement.
+     */
+    @Query(value = """
+            SELECT DISTINCT ON (a.query_id)
+                   a.case_id    AS caseId,
+                   a.query_id   AS queryId,
+                   a.version    AS version,
+                   CAST(NULL AS uuid) AS defendantId,
+                   a.created_at AS createdAt,
+                   a.answer     AS answerText
+              FROM answers a
+             WHERE a.case_id = :caseId
+               AND a.created_at <= :asOf
+             ORDER BY a.query_id, a.created_at DESC, a.version DESC
+            """, nativeQuery = true)
+    List<AnswerSummary> findLatestPerQueryAsOfForCase(UUID caseId, OffsetDateTime asOf);
+
+    @Query(value = """
+            SELECT a.case_id    AS caseId,
+                   a.query_id   AS queryId,
+                   a.version    AS version,
+                   CAST(NULL AS uuid) AS defendantId,
+                   a.created_at AS createdAt,
+                   a.answer     AS answerText
+              FROM answers a
+             WHERE a.query_id = :queryId
+               AND a.created_at <= :asOf
+             ORDER BY a.created_at DESC, a.version DESC
+             LIMIT 1
+            """, nativeQuery = true)
+    Optional<AnswerSummary> findLatestSummaryAsOfAnyCase(UUID queryId, OffsetDateTime asOf);
+
+    @Query(value = """
+            SELECT a.case_id    AS caseId,
+                   a.query_id   AS queryId,
+                   a.version    AS version,
+                   CAST(NULL AS uuid) AS defendantId,
+                   a.created_at AS createdAt,
+                   a.answer     AS answerText
+              FROM answers a
+             WHERE a.case_id = :caseId
+               AND a.query_id = :queryId
+               AND a.created_at <= :asOf
+             ORDER BY a.created_at DESC, a.version DESC
+             LIMIT 1
+            """, nativeQuery = true)
+    Optional<AnswerSummary> findLatestSummaryAsOfForCase(UUID caseId, UUID queryId, OffsetDateTime asOf);
+
+    @Query(value = """
+            SELECT a.case_id    AS caseId,
+                   a.query_id   AS queryId,
+                   a.version    AS version,
+                   CAST(NULL AS uuid) AS defendantId,
+                   a.created_at AS createdAt,
+                   a.answer     AS answerText
+              FROM answers a
+             WHERE a.case_id = :caseId
+               AND a.query_id = :queryId
+               AND a.version = :version
+             LIMIT 1
+            """, nativeQuery = true)
+    Optional<AnswerSummary> findSummaryByCaseAndVersion(UUID caseId, UUID queryId, int version);
 }
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Answer row as needed by the answer list reads: everything except llm_input, which can be many
+ * times the size of the answer and is only returned by the with-llm read of the full entity.
+ * {@code defendantId} is null outside defendant_answers.
+ */
+public record AnswerSummary(
+        UUID caseId,
+        UUID queryId,
+        Integer version,
+        UUID defendantId,
+        Instant createdAt,
+        String answerText) {
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
+
+import java.util.Collection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Inserts new case_documents rows in one flush.
+ * Uses {@code persist} rather than {@code save}: the ids are assigned up front, so {@code save}
+ * would merge and SELECT each row first. Hibernate groups the INSERTs by {@code hibernate.jdbc.batch_size}.
+ */
+@Repository
+public class CaseDocumentBatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public void insertAll(final Collection<CaseDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        documents.forEach(entityManager::persist);
+        entityManager.flush();
+    }
+}
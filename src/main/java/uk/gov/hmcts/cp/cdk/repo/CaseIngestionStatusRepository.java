@@ -0,0 +1,74 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import uk.gov.hmcts.cp.cdk.util.TimeUtils;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Native/imperative repository over case_ingestion_status, the latest ingestion phase per case
+ * kept current by a trigger on case_documents (see V1014).
+ * This is NOT a Spring Data JPA repository interface.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class CaseIngestionStatusRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Optional<Row> findByCaseId(final UUID caseId) {
+        final String sql = """
+                SELECT case_id, phase, last_updated
+                  FROM case_ingestion_status
+                 WHERE case_id = :caseId
+                """;
+
+        final Query nativeQuery = entityManager.createNativeQuery(sql);
+        nativeQuery.setParameter("caseId", caseId);
+
+        @SuppressWarnings("unchecked") final List<Object[]> resultRows = nativeQuery.getResultList();
+
+        return resultRows.stream().findFirst().map(CaseIngestionStatusRepository::toRow);
+    }
+
+    /**
+     * Rows for the given cases that have seen an upload; cases without one are absent.
+     */
+    public List<Row> findByCaseIds(final Collection<UUID> caseIds) {
+        if (caseIds.isEmpty()) {
+            return List.of();
+        }
+        final String sql = """
+                SELECT case_id, phase, last_updated
+                  FROM case_ingestion_status
+                 WHERE case_id IN (:caseIds)
+                """;
+
+        final Query nativeQuery = entityManager.createNativeQuery(sql);
+        nativeQuery.setParameter("caseIds", caseIds);
+
+        @SuppressWarnings("unchecked") final List<Object[]> resultRows = nativeQuery.getResultList();
+
+        return resultRows.stream().map(CaseIngestionStatusRepository::toRow).toList();
+    }
+
+    private static Row toRow(final Object[] resultRow) {
+        final UUID foundCaseId = (UUID) resultRow[0];
+        final String phaseText = resultRow[1] == null ? null : resultRow[1].toString();
+        final OffsetDateTime lastUpdatedUtc = TimeUtils.toUtc(resultRow[2]);
+        return new Row(foundCaseId, phaseText, lastUpdatedUtc);
+    }
+
+    public record Row(UUID caseId, String phase, OffsetDateTime lastUpdated) {
+    }
+}
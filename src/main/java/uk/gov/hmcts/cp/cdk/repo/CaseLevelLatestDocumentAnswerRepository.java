@@ -4,26 +4,40 @@ import uk.gov.hmcts.cp.cdk.domain.AnswerId;
 import uk.gov.hmcts.cp.cdk.domain.CaseLevelLatestDocumentAnswer;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+/**
+ * Finders return {@link AnswerSummary}: these answers are only read by the list endpoints, which never return llm_input.
+ */
 public interface CaseLevelLatestDocumentAnswerRepository extends JpaRepository<CaseLevelLatestDocumentAnswer, AnswerId> {
 
     @Query(value = """
-            SELECT a.*
+            SELECT a.case_id    AS caseId,
+                   a.query_id   AS queryId,
+                   a.version    AS version,
+                   CAST(NULL AS uuid) AS defendantId,
+                   a.created_at AS createdAt,
+                   a.answer     AS answerText
               FROM case_level_latest_doc_answers a
              WHERE a.query_id = :queryId
                AND a.created_at <= :asOf
              ORDER BY a.created_at DESC, a.version DESC
              LIMIT 1
             """, nativeQuery = true)
-    Optional<CaseLevelLatestDocumentAnswer> findLatestAsOfAnyCase(UUID queryId, OffsetDateTime asOf);
+    Optional<AnswerSummary> findLatestAsOfAnyCase(UUID queryId, OffsetDateTime asOf);
 
     @Query(value = """
-            SELECT a.*
+            SELECT a.case_id    AS caseId,
+                   a.query_id   AS queryId,
+                   a.version    AS version,
+                   CAST(NULL AS uuid) AS defendantId,
+                   a.created_at AS createdAt,
+                   a.answer     AS answerText
               FROM case_level_latest_doc_answers a
              WHERE a.case_id = :caseId
                AND a.query_id = :queryId
@@ -31,17 +45,22 @@ public interface CaseLevelLatestDocumentAnswerRepository extends JpaRepository<C
              ORDER BY a.created_at DESC, a.version DESC
              LIMIT 1
             """, nativeQuery = true)
-    Optional<CaseLevelLatestDocumentAnswer> findLatestAsOfForCase(UUID caseId, UUID queryId, OffsetDateTime asOf);
+    Optional<AnswerSummary> findLatestAsOfForCase(UUID caseId, UUID queryId, OffsetDateTime asOf);
 
     @Query(value = """
-            SELECT a.*
+            SELECT a.case_id    AS caseId,
+                   a.query_id   AS queryId,
+                   a.version    AS version,
+                   CAST(NULL AS uuid) AS defendantId,
+                   a.created_at AS createdAt,
+                   a.answer     AS answerText
               FROM case_level_latest_doc_answers a
              WHERE a.case_id = :caseId
                AND a.query_id = :queryId
                AND a.version = :version
              LIMIT 1
             """, nativeQuery = true)
-    Optional<CaseLevelLatestDocumentAnswer> findByCaseAndVersion(UUID caseId, UUID queryId, int version);
+    Optional<AnswerSummary> findByCaseAndVersion(UUID caseId, UUID queryId, int version);
 
     @Query(value = """
             SELECT COUNT(DISTINCT a.case_id)
@@ -49,4 +68,22 @@ public interface CaseLevelLatestDocumentAnswerRepository extends JpaRepository<C
              WHERE a.query_id = :queryId
             """, nativeQuery = true)
     long countDistinctCasesForQuery(UUID queryId);
-}
\ No newline at end of file
+
+    /**
+     * Latest answer per query for a case as of {@code asOf}, for all queries in one statement.
+     */
+    @Query(value = """
+            SELECT DISTINCT ON (a.query_id)
+                   a.case_id    AS caseId,
+                   a.query_id   AS queryId,
+                   a.version    AS version,
+                   CAST(NULL AS uuid) AS defendantId,
+                   a.created_at AS createdAt,
+                   a.answer     AS answerText
+              FROM case_level_latest_doc_answers a
+             WHERE a.case_id = :caseId
+               AND a.created_at <= :asOf
+             ORDER BY a.query_id, a.created_at DESC, a.version DESC
+            """, nativeQuery = true)
+    List<AnswerSummary> findLatestPerQueryAsOfForCase(UUID caseId, OffsetDateTime asOf);
+}
@@ -11,20 +11,33 @@ import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+/**
+ * Finders return {@link AnswerSummary}: these answers are only read by the list endpoints, which never return llm_input.
+ */
 public interface DefendantAnswerRepository extends JpaRepository<DefendantAnswer, DefendantAnswerId> {
 
     @Query(value = """
-            SELECT a.*
+            SELECT a.case_id      AS caseId,
+                   a.query_id     AS queryId,
+                   a.version      AS version,
+                   a.defendant_id AS defendantId,
+                   a.created_at   AS createdAt,
+                   a.answer       AS answerText
               FROM defendant_answers a
              WHERE a.query_id = :queryId
                AND a.created_at <= :asOf
              ORDER BY a.created_at DESC, a.version DESC
              LIMIT 1
             """, nativeQuery = true)
-    Optional<DefendantAnswer> findLatestAsOfAnyCase(UUID queryId, OffsetDateTime asOf);
+    Optional<AnswerSummary> findLatestAsOfAnyCase(UUID queryId, OffsetDateTime asOf);
 
     @Query(value = """
-            SELECT a.*
+            SELECT a.case_id      AS caseId,
+                   a.query_id     AS queryId,
+                   a.version      AS version,
+                   a.defendant_id AS defendantId,
+                   a.created_at   AS createdAt,
+                   a.answer       AS answerText
               FROM defendant_answers a
              WHERE a.case_id = :caseId
                AND a.query_id = :queryId
@@ -33,10 +46,15 @@ public interface DefendantAnswerRepository extends JpaRepository<DefendantAnswer
              ORDER BY a.created_at DESC, a.version DESC
              LIMIT 1
             """, nativeQuery = true)
-    Optional<DefendantAnswer> findLatestAsOfForDefendant(UUID caseId, UUID queryId, UUID defendantId, OffsetDateTime asOf);
+    Optional<AnswerSummary> findLatestAsOfForDefendant(UUID caseId, UUID queryId, UUID defendantId, OffsetDateTime asOf);
 
     @Query(value = """
-            SELECT a.*
+            SELECT a.case_id      AS caseId,
+                   a.query_id     AS queryId,
+                   a.version      AS version,
+                   a.defendant_id AS defendantId,
+                   a.created_at   AS createdAt,
+                   a.answer       AS answerText
               FROM defendant_answers a
              WHERE a.case_id = :caseId
                AND a.query_id = :queryId
@@ -44,7 +62,7 @@ public interface DefendantAnswerRepository extends JpaRepository<DefendantAnswer
                AND a.version = :version
              LIMIT 1
             """, nativeQuery = true)
-    Optional<DefendantAnswer> findByCaseDefendantAndVersion(UUID caseId, UUID queryId, UUID defendantId, int version);
+    Optional<AnswerSummary> findByCaseDefendantAndVersion(UUID caseId, UUID queryId, UUID defendantId, int version);
 
     @Query(value = """
             SELECT COUNT(DISTINCT a.case_id)
@@ -54,13 +72,37 @@ public interface DefendantAnswerRepository extends JpaRepository<DefendantAnswer
     long countDistinctCasesForQuery(UUID queryId);
 
     @Query(value = """
-            SELECT DISTINCT ON (a.defendant_id) a.*
+            SELECT DISTINCT ON (a.defendant_id)
+                   a.case_id      AS caseId,
+                   a.query_id     AS queryId,
+                   a.version      AS version,
+                   a.defendant_id AS defendantId,
+                   a.created_at   AS createdAt,
+                   a.answer       AS answerText
               FROM defendant_answers a
              WHERE a.case_id = :caseId
                AND a.query_id = :queryId
                AND a.created_at <= :asOf
              ORDER BY a.defendant_id, a.created_at DESC, a.version DESC
             """, nativeQuery = true)
-    List<DefendantAnswer> findAllAsOfForCase(UUID caseId, UUID queryId, OffsetDateTime asOf);
+    List<AnswerSummary> findAllAsOfForCase(UUID caseId, UUID queryId, OffsetDateTime asOf);
+
+    /**
+     * Latest answer per (query, defendant) for a case as of {@code asOf}, for all queries in one statement.
+     */
+    @Query(value = """
+            SELECT DISTINCT ON (a.query_id, a.defendant_id)
+                   a.case_id      AS caseId,
+                   a.query_id     AS queryId,
+                   a.version      AS version,
+                   a.defendant_id AS defendantId,
+                   a.created_at   AS createdAt,
+                   a.answer       AS answerText
+              FROM defendant_answers a
+             WHERE a.case_id = :caseId
+               AND a.created_at <= :asOf
+             ORDER BY a.query_id, a.defendant_id, a.created_at DESC, a.version DESC
+            """, nativeQuery = true)
+    List<AnswerSummary> findLatestPerQueryAsOfForCase(UUID caseId, OffsetDateTime asOf);
 
 }
\ No newline at end of file
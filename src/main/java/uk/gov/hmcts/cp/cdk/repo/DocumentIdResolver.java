@@ -1,6 +1,9 @@
 package uk.gov.hmcts.cp.cdk.repo;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,6 +45,16 @@ public class DocumentIdResolver {
          LIMIT 1
         """;
 
+    /* default */
+    static final String SQL_FIND_EXISTING_DOCS_FOR_DEFENDANTS = """
+        SELECT DISTINCT ON (material_id, defendant_id) material_id, defendant_id, doc_id
+          FROM case_documents
+         WHERE case_id = :case_id
+           AND (material_id, defendant_id) IN (:material_defendants)
+           AND ingestion_phase IN ('UPLOADED','INGESTED','WAITING_FOR_UPLOAD','EXCEEDED_FILE_SIZE_LIMIT')
+         ORDER BY material_id, defendant_id, ingestion_phase_at DESC
+        """;
+
     /* default */
     static final String SQL_FIND_INGESTION_STATUS = """
     SELECT ingestion_phase
@@ -103,6 +116,31 @@ public class DocumentIdResolver {
         return result;
     }
 
+    /**
+     * Set-based variant of {@link #resolveExistingDocIdForDefendant} for all materials of a case in one query.
+     * Keys without an existing document are absent from the returned map.
+     */
+    public Map<MaterialDefendant, UUID> resolveExistingDocIdsForDefendants(final UUID caseId,
+                                                                         final Collection<MaterialDefendant> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Map.of();
+        }
+
+        final List<Object[]> tuples = keys.stream()
+                .map(key -> new Object[]{key.materialId(), key.defendantId()})
+                .toList();
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("case_id", caseId)
+                .addValue("material_defendants", tuples);
+
+        final Map<MaterialDefendant, UUID> existing = new HashMap<>();
+        jdbc.query(SQL_FIND_EXISTING_DOCS_FOR_DEFENDANTS, params, rs -> {
+            existing.put(new MaterialDefendant((UUID) rs.getObject("material_id"), (UUID) rs.getObject("defendant_id")),
+                    (UUID) rs.getObject("doc_id"));
+        });
+        return existing;
+    }
+
     public Optional<String> findIngestionStatus(final UUID docId) {
 
         try {
@@ -144,4 +182,7 @@ public class DocumentIdResolver {
             return false;
         }
     }
+
+    public record MaterialDefendant(UUID materialId, UUID defendantId) {
+    }
 }
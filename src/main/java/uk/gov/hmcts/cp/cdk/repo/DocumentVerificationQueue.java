@@ -0,0 +1,166 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import uk.gov.hmcts.cp.cdk.domain.DocumentVerificationStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Work queue over {@code document_verification_task}.
+ * Due rows are claimed with {@code FOR UPDATE SKIP LOCKED}, so any number of pods can watch
+ * ingestion status in parallel without two of them polling the same document.
+ * A claim that is not released within the lease (e.g. the pod died) becomes claimable again.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentVerificationQueue {
+
+    /* default */
+    static final String SQL_ENQUEUE = """
+            INSERT INTO document_verification_task
+                   (doc_id, case_id, blob_name, document_reference, job_data, max_attempts, status, next_attempt_at)
+            VALUES (:doc_id, :case_id, :blob_name, :document_reference, :job_data, :max_attempts, 'PENDING',
+                    NOW() + :delay_ms * INTERVAL '1 millisecond')
+            ON CONFLICT (doc_id) DO UPDATE SET
+                   case_id = EXCLUDED.case_id,
+                   blob_name = EXCLUDED.blob_name,
+                   document_reference = EXCLUDED.document_reference,
+                   job_data = EXCLUDED.job_data,
+                   max_attempts = EXCLUDED.max_attempts,
+                   attempt_count = 0,
+                   status = 'PENDING',
+                   last_status = NULL,
+                   last_reason = NULL,
+                   next_attempt_at = EXCLUDED.next_attempt_at,
+                   lock_owner = NULL,
+                   lock_acquired_at = NULL,
+                   updated_at = NOW()
+            """;
+
+    /* default */
+    static final String SQL_CLAIM_DUE = """
+            UPDATE document_verification_task t
+               SET status = 'IN_PROGRESS',
+                   lock_owner = :owner,
+                   lock_acquired_at = NOW(),
+                   attempt_count = t.attempt_count + 1,
+                   updated_at = NOW()
+             WHERE t.id IN (
+                    SELECT id
+                      FROM document_verification_task
+                     WHERE (status = 'PENDING' AND next_attempt_at <= NOW())
+                        OR (status = 'IN_PROGRESS' AND lock_acquired_at < NOW() - :lease_seconds * INTERVAL '1 second')
+                     ORDER BY next_attempt_at
+                     LIMIT :batch_size
+                     FOR UPDATE SKIP LOCKED)
+            RETURNING t.id, t.doc_id, t.case_id, t.blob_name, t.document_reference, t.job_data,
+                      t.attempt_count, t.max_attempts
+            """;
+
+    /* default */
+    static final String SQL_RESCHEDULE = """
+            UPDATE document_verification_task
+               SET status = 'PENDING',
+                   last_status = :last_status,
+                   last_reason = :last_reason,
+                   last_status_ts = NOW(),
+                   next_attempt_at = NOW() + :delay_ms * INTERVAL '1 millisecond',
+                   lock_owner = NULL,
+                   lock_acquired_at = NULL,
+                   updated_at = NOW()
+             WHERE id = :id
+               AND lock_owner = :owner
+            """;
+
+    /* default */
+    static final String SQL_FINISH = """
+            UPDATE document_verification_task
+               SET status = CAST(:status AS document_verification_status_enum),
+                   last_status = :last_status,
+                   last_reason = :last_reason,
+                   last_status_ts = NOW(),
+                   lock_owner = NULL,
+                   lock_acquired_at = NULL,
+                   updated_at = NOW()
+             WHERE id = :id
+               AND lock_owner = :owner
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Transactional
+    public void enqueue(final UUID docId, final UUID caseId, final String blobName, final String documentReference,
+                        final String jobData, final int maxAttempts, final long initialDelayMs) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("doc_id", docId)
+                .addValue("case_id", caseId)
+                .addValue("blob_name", blobName)
+                .addValue("document_reference", documentReference)
+                .addValue("job_data", jobData)
+                .addValue("max_attempts", Math.max(1, maxAttempts))
+                .addValue("delay_ms", initialDelayMs);
+        jdbc.update(SQL_ENQUEUE, params);
+    }
+
+    @Transactional
+    public List<ClaimedVerification> claimDue(final String owner, final int batchSize, final long leaseSeconds) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("owner", owner)
+                .addValue("batch_size", batchSize)
+                .addValue("lease_seconds", leaseSeconds);
+        return jdbc.query(SQL_CLAIM_DUE, params, (rs, rowNum) -> new ClaimedVerification(
+                rs.getLong("id"),
+                (UUID) rs.getObject("doc_id"),
+                (UUID) rs.getObject("case_id"),
+                rs.getString("blob_name"),
+                rs.getString("document_reference"),
+                rs.getString("job_data"),
+                rs.getInt("attempt_count"),
+                rs.getInt("max_attempts")));
+    }
+
+    @Transactional
+    public void reschedule(final long id, final String owner, final String lastStatus, final String lastReason,
+                           final long delayMs) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("owner", owner)
+                .addValue("last_status", lastStatus)
+                .addValue("last_reason", lastReason)
+                .addValue("delay_ms", delayMs);
+        jdbc.update(SQL_RESCHEDULE, params);
+    }
+
+    /**
+     * Marks a claimed row done.
+     *
+     * @return false if {@code owner} no longer holds the claim, in which case nothing is changed
+     */
+    @Transactional
+    public boolean finish(final long id, final String owner, final DocumentVerificationStatus status,
+                          final String lastStatus, final String lastReason) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("owner", owner)
+                .addValue("status", status.name())
+                .addValue("last_status", lastStatus)
+                .addValue("last_reason", lastReason);
+        return jdbc.update(SQL_FINISH, params) == 1;
+    }
+
+    public record ClaimedVerification(long id,
+                                      UUID docId,
+                                      UUID caseId,
+                                      String blobName,
+                                      String documentReference,
+                                      String jobData,
+                                      int attemptCount,
+                                      int maxAttempts) {
+    }
+}
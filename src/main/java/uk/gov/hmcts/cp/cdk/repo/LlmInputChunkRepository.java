@@ -0,0 +1,130 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import uk.gov.hmcts.cp.cdk.domain.AnswerId;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads and maintenance over the llm_input chunk store (see V1016).
+ * New answers are chunked by trigger on insert; rows written before V1016 are converted by
+ * {@link #backfillBatch}, which rewrites llm_input in place so the same trigger chunks them.
+ */
+@Component
+@RequiredArgsConstructor
+public class LlmInputChunkRepository {
+
+    public static final List<String> ANSWER_TABLES = List.of(
+            "answers", "case_level_latest_doc_answers", "case_level_all_documents_answers", "defendant_answers");
+
+    /* default */
+    static final String SQL_FIND_ANSWER_LLM_INPUT = """
+            SELECT llm_input_text(a.llm_input, a.llm_input_chunks)
+              FROM answers a
+             WHERE a.case_id = :case_id
+               AND a.query_id = :query_id
+               AND a.version = :version
+            """;
+
+    private static final String PENDING_PREDICATE =
+            "llm_input_chunks IS NULL AND llm_input LIKE '{\"provenanceChunksSample\":%' AND llm_input_is_chunkable(llm_input)";
+
+    private static final String SQL_BACKFILL_BATCH = """
+            UPDATE %1$s t
+               SET llm_input = t.llm_input
+             WHERE t.ctid = ANY(ARRAY(
+                    SELECT ctid
+                      FROM %1$s
+                     WHERE %2$s
+                     LIMIT :batch_size
+                       FOR UPDATE SKIP LOCKED))
+            RETURNING t.llm_input_chunks IS NOT NULL
+            """;
+
+    private static final String SQL_TABLE_USAGE = """
+            SELECT COUNT(*),
+                   COUNT(*) FILTER (WHERE llm_input_chunks IS NOT NULL),
+                   COUNT(*) FILTER (WHERE %2$s),
+                   COALESCE(SUM(pg_column_size(llm_input)), 0),
+                   COALESCE(SUM(pg_column_size(llm_input_chunks)), 0),
+                   pg_total_relation_size('%1$s')
+              FROM %1$s
+            """;
+
+    private static final String SQL_CHUNK_STORE_USAGE = """
+            SELECT COUNT(*),
+                   COALESCE(SUM(pg_column_size(content)), 0),
+                   COALESCE(SUM(octet_length(content::text)), 0),
+                   pg_total_relation_size('llm_input_chunk')
+              FROM llm_input_chunk
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * llm_input of one answers row, reassembled from the chunk store when the row has been chunked.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findAnswerLlmInput(final AnswerId answerId) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("case_id", answerId.getCaseId())
+                .addValue("query_id", answerId.getQueryId())
+                .addValue("version", answerId.getVersion());
+        return jdbc.queryForList(SQL_FIND_ANSWER_LLM_INPUT, params, String.class).stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    /**
+     * Chunks up to {@code batchSize} not-yet-chunked rows of one answer table in its own transaction.
+     */
+    @Transactional
+    public BackfillBatch backfillBatch(final String table, final int batchSize) {
+        final List<Boolean> chunked = jdbc.queryForList(SQL_BACKFILL_BATCH.formatted(answerTable(table), PENDING_PREDICATE),
+                new MapSqlParameterSource("batch_size", batchSize), Boolean.class);
+        return new BackfillBatch(chunked.size(), (int) chunked.stream().filter(Boolean.TRUE::equals).count());
+    }
+
+    @Transactional(readOnly = true)
+    public TableUsage tableUsage(final String table) {
+        return jdbc.queryForObject(SQL_TABLE_USAGE.formatted(answerTable(table), PENDING_PREDICATE),
+                new MapSqlParameterSource(),
+                (rs, rowNum) -> new TableUsage(table, rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                        rs.getLong(4), rs.getLong(5), rs.getLong(6)));
+    }
+
+    @Transactional(readOnly = true)
+    public ChunkStoreUsage chunkStoreUsage() {
+        return jdbc.queryForObject(SQL_CHUNK_STORE_USAGE, new MapSqlParameterSource(),
+                (rs, rowNum) -> new ChunkStoreUsage(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)));
+    }
+
+    private static String answerTable(final String table) {
+        if (!ANSWER_TABLES.contains(table)) {
+            throw new IllegalArgumentException("Not an answer table: " + table);
+        }
+        return table;
+    }
+
+    public record BackfillBatch(int rewritten, int chunked) {
+    }
+
+    public record TableUsage(String table,
+                             long rows,
+                             long chunkedRows,
+                             long pendingRows,
+                             long inlineLlmInputBytes,
+                             long chunkRefBytes,
+                             long totalRelationBytes) {
+    }
+
+    public record ChunkStoreUsage(long chunks, long storedBytes, long uncompressedBytes, long totalRelationBytes) {
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import java.sql.PreparedStatement;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Postgres NOTIFY channel announcing query catalogue changes to every pod.
+ * The notification is sent from inside the writing transaction, so Postgres only delivers it
+ * once that transaction commits (and drops it on rollback).
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryDefinitionChangeChannel {
+
+    public static final String CHANNEL = "query_definitions_changed";
+
+    /* default */
+    static final String SQL_NOTIFY = "SELECT pg_notify('" + CHANNEL + "', :source)";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(final String source) {
+        jdbc.execute(SQL_NOTIFY, new MapSqlParameterSource("source", source), PreparedStatement::execute);
+    }
+}
@@ -5,6 +5,7 @@ import uk.gov.hmcts.cp.cdk.domain.QueryVersionId;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +46,14 @@ public interface QueryVersionRepository extends JpaRepository<QueryVersion, Quer
             """, nativeQuery = true)
     List<QueryVersion> findAllVersions(UUID queryId);
 
+    @Query(value = """
+            SELECT v.*
+              FROM query_versions v
+             WHERE v.query_id IN (:queryIds)
+             ORDER BY v.query_id, v.effective_at ASC
+            """, nativeQuery = true)
+    List<QueryVersion> findAllVersionsForQueries(Collection<UUID> queryIds);
+
     /**
      * Fetch the latest QueryVersion by queryId (most recent effectiveAt)
      * Includes the level as enum directly.
@@ -58,6 +67,17 @@ public interface QueryVersionRepository extends JpaRepository<QueryVersion, Quer
             """, nativeQuery = true)
     Optional<QueryVersion> findLatestByQueryId(UUID queryId);
 
+    /**
+     * Earliest version that becomes effective after {@code asOf}; a snapshot taken at
+     * {@code asOf} stays valid until then.
+     */
+    @Query("""
+            SELECT MIN(v.queryVersionId.effectiveAt)
+              FROM QueryVersion v
+             WHERE v.queryVersionId.effectiveAt > :asOf
+            """)
+    Optional<OffsetDateTime> findNextEffectiveAtAfter(OffsetDateTime asOf);
+
 
     record SnapshotDefinition(
             UUID queryId,
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Token buckets for RAG calls shared by every replica, one row per operation.
+ * A reservation refills the bucket for the time elapsed and takes one token in a single
+ * row-locked UPDATE; the balance may go negative, which tells the caller how long to wait.
+ */
+@Component
+@RequiredArgsConstructor
+public class RagRateLimitRepository {
+
+    /* default */
+    static final String SQL_ENSURE = """
+            INSERT INTO rag_rate_limit_bucket (operation, tokens, refreshed_at)
+            VALUES (:operation, :burst, clock_timestamp())
+            ON CONFLICT (operation) DO NOTHING
+            """;
+
+    /* default */
+    static final String SQL_RESERVE = """
+            UPDATE rag_rate_limit_bucket
+               SET tokens = LEAST(:burst, tokens + EXTRACT(EPOCH FROM (clock_timestamp() - refreshed_at)) * :rate) - 1,
+                   refreshed_at = clock_timestamp()
+             WHERE operation = :operation
+            RETURNING tokens
+            """;
+
+    /* default */
+    static final String SQL_RELEASE = """
+            UPDATE rag_rate_limit_bucket
+               SET tokens = tokens + 1
+             WHERE operation = :operation
+            """;
+
+    /* default */
+    static final String SQL_PAUSE = """
+            UPDATE rag_rate_limit_bucket
+               SET tokens = LEAST(LEAST(:burst, tokens + EXTRACT(EPOCH FROM (clock_timestamp() - refreshed_at)) * :rate),
+                                  -(:pause_seconds * :rate)),
+                   refreshed_at = clock_timestamp()
+             WHERE operation = :operation
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * Takes one token and returns the balance left; a negative balance of {@code -n} means
+     * the token only becomes available after {@code n / rate} seconds.
+     */
+    @Transactional
+    public double reserve(final String operation, final double rate, final int burst) {
+        final MapSqlParameterSource params = params(operation, rate, burst);
+        List<Double> balance = jdbc.queryForList(SQL_RESERVE, params, Double.class);
+        if (balance.isEmpty()) {
+            jdbc.update(SQL_ENSURE, params);
+            balance = jdbc.queryForList(SQL_RESERVE, params, Double.class);
+        }
+        return balance.getFirst();
+    }
+
+    @Transactional
+    public void release(final String operation) {
+        jdbc.update(SQL_RELEASE, new MapSqlParameterSource("operation", operation));
+    }
+
+    /**
+     * Empties the bucket so that no replica gets a token for {@code pauseSeconds}.
+     */
+    @Transactional
+    public void pause(final String operation, final double rate, final int burst, final double pauseSeconds) {
+        jdbc.update(SQL_PAUSE, params(operation, rate, burst).addValue("pause_seconds", pauseSeconds));
+    }
+
+    private static MapSqlParameterSource params(final String operation, final double rate, final int burst) {
+        return new MapSqlParameterSource()
+                .addValue("operation", operation)
+                .addValue("rate", rate)
+                .addValue("burst", burst);
+    }
+}
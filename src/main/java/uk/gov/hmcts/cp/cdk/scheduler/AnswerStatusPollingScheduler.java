@@ -0,0 +1,47 @@
+package uk.gov.hmcts.cp.cdk.scheduler;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerStatusPollerProperties;
+import uk.gov.hmcts.cp.cdk.services.AnswerStatusPollingService;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drives the central answer-status poller. Not guarded by ShedLock: rows are leased with
+ * SKIP LOCKED, so every pod can sweep at the same time and share the outstanding transactions.
+ * A sweep that fills its batch is followed immediately by another, up to max-sweeps-per-run, so
+ * backlogs drain quickly without holding a scheduler thread away from the other scheduled jobs.
+ */
+@Slf4j
+@Component
+public class AnswerStatusPollingScheduler {
+
+    private final AnswerStatusPollingService answerStatusPollingService;
+    private final AnswerStatusPollerProperties properties;
+
+    public AnswerStatusPollingScheduler(final AnswerStatusPollingService answerStatusPollingService,
+                                        final AnswerStatusPollerProperties properties) {
+        this.answerStatusPollingService = answerStatusPollingService;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${cdk.answer-status-poller.sweep-interval-ms:2000}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int sweeps = 0;
+            int polled;
+            do {
+                polled = answerStatusPollingService.sweep();
+                sweeps++;
+            } while (polled >= properties.getBatchSize()
+                    && sweeps < properties.getMaxSweepsPerRun()
+                    && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            log.error("Answer status sweep failed", e);
+        }
+    }
+}
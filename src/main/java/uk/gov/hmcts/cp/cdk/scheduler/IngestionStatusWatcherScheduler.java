@@ -0,0 +1,46 @@
+package uk.gov.hmcts.cp.cdk.scheduler;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.IngestionWatcherProperties;
+import uk.gov.hmcts.cp.cdk.services.IngestionStatusWatcherService;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drives the batched ingestion status watcher on every pod; claims are coordinated in the
+ * database with SKIP LOCKED, so no ShedLock is needed. Full batches are followed immediately by another sweep,
+ * up to max-sweeps-per-run, so a backlog does not hold a scheduler thread away from the other scheduled jobs.
+ */
+@Slf4j
+@Component
+public class IngestionStatusWatcherScheduler {
+
+    private final IngestionStatusWatcherService ingestionStatusWatcherService;
+    private final IngestionWatcherProperties properties;
+
+    public IngestionStatusWatcherScheduler(final IngestionStatusWatcherService ingestionStatusWatcherService,
+                                           final IngestionWatcherProperties properties) {
+        this.ingestionStatusWatcherService = ingestionStatusWatcherService;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${cdk.ingestion-watcher.sweep-interval-ms:2000}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int sweeps = 0;
+            int polled;
+            do {
+                polled = ingestionStatusWatcherService.sweep();
+                sweeps++;
+            } while (polled >= properties.getBatchSize()
+                    && sweeps < properties.getMaxSweepsPerRun()
+                    && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            log.error("Ingestion status sweep failed", e);
+        }
+    }
+}
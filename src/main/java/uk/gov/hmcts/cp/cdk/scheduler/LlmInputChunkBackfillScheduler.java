@@ -0,0 +1,40 @@
+package uk.gov.hmcts.cp.cdk.scheduler;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.LlmInputChunkProperties;
+import uk.gov.hmcts.cp.cdk.services.LlmInputChunkService;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves llm_input of answers written before the chunk store into it. Guarded by ShedLock so only
+ * one pod rewrites rows at a time; once nothing is left each run is a cheap no-op.
+ */
+@Slf4j
+@Component
+public class LlmInputChunkBackfillScheduler {
+
+    private final LlmInputChunkService llmInputChunkService;
+    private final LlmInputChunkProperties properties;
+
+    public LlmInputChunkBackfillScheduler(final LlmInputChunkService llmInputChunkService,
+                                          final LlmInputChunkProperties properties) {
+        this.llmInputChunkService = llmInputChunkService;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${cdk.llm-input-chunks.backfill-interval-ms:300000}")
+    @SchedulerLock(name = "llmInputChunkBackfillScheduler", lockAtMostFor = "PT1H")
+    public void run() {
+        if (!properties.isBackfillEnabled()) {
+            return;
+        }
+        try {
+            llmInputChunkService.backfill();
+        } catch (Exception e) {
+            log.error("llm_input chunk backfill failed", e);
+        }
+    }
+}
@@ -18,22 +18,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class AnswerGenerationService {
 
     /* default */
-    static final String NEXT_VERSION_SQL = """
-            SELECT COALESCE(MAX(a.version), 0) + 1
-            FROM answers a
-            WHERE a.case_id = :case_id
-              AND a.query_id = :query_id
-            """;
+    static final String SQL_INSERT_ANSWER_ROW =
+            "INSERT INTO answers(case_id, query_id, version, created_at, answer, llm_input, doc_id) " +
+                    "VALUES (:case_id, :query_id, allocate_answer_version('answers', :case_id, :query_id), " +
+                    "NOW(), :answer, :llm_input, :doc_id) ";
 
     /* default */
-    static final String SQL_UPSERT_ANSWER =
-            "INSERT INTO answers(case_id, query_id, version, created_at, answer, llm_input, doc_id) " +
-                    "VALUES (:case_id, :query_id, :version, NOW(), :answer, :llm_input, :doc_id) " +
-                    "ON CONFLICT (case_id, query_id, version) DO UPDATE SET " +
-                    "  answer = EXCLUDED.answer, " +
-                    "  llm_input = EXCLUDED.llm_input, " +
-                    "  doc_id = EXCLUDED.doc_id, " +
-                    "  created_at = EXCLUDED.created_at";
+    static final String SQL_INSERT_ANSWER = SQL_INSERT_ANSWER_ROW + "RETURNING version";
 
     /* default */
     static final String SQL_UPDATE_CASE_QUERY_STATUS =
@@ -52,23 +43,13 @@ public class AnswerGenerationService {
     public void upsertAnswer(final UUID caseId, final UUID queryId, final String answer,
                              final String llmInput, final UUID docId) {
 
-        // 1. get version
-        final Integer version = getVersionNumber(caseId, queryId);
-        log.info("Next version={} found for the caseId={}, queryId={}", version, caseId, queryId);
-
-        // 2. upsert answer
-        final MapSqlParameterSource params = buildAnswerParams(caseId, queryId, version, answer, llmInput, docId);
-        namedParameterJdbcTemplate.update(SQL_UPSERT_ANSWER, params);
+        // 1. allocate version and insert answer in one statement
+        final MapSqlParameterSource params = buildAnswerParams(caseId, queryId, answer, llmInput, docId);
+        final Integer version = namedParameterJdbcTemplate.queryForObject(SQL_INSERT_ANSWER, params, Integer.class);
+        log.info("Inserted answer version={} for the caseId={}, queryId={}", version, caseId, queryId);
 
-        // 3. update case_query_status (replaces trigger)
+        // 2. update case_query_status (replaces trigger)
         final MapSqlParameterSource statusParams = buildCaseStatusParams(caseId, queryId, docId, version);
         namedParameterJdbcTemplate.update(SQL_UPDATE_CASE_QUERY_STATUS, statusParams);
     }
-
-    private Integer getVersionNumber(final UUID caseId, final UUID queryId) {
-        final MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("case_id", caseId)
-                .addValue("query_id", queryId);
-        return namedParameterJdbcTemplate.queryForObject(NEXT_VERSION_SQL, params, Integer.class);
-    }
 }
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.EMPTY_STRING;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.openapi.model.DocumentChunk;
+import uk.gov.hmcts.cp.openapi.model.UserQueryAnswerReturnedSuccessfullyAsynchronously;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Routes a generated RAG answer to the answer table matching its query level.
+ * Shared by the per-transaction status task and the central answer-status poller.
+ * With the write-behind sink enabled, answers are batched and the call returns once committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerPersistenceService {
+
+    private static final String PROVENANCE_CHUNKS_SAMPLE = "provenanceChunksSample";
+
+    private final ObjectMapper objectMapper;
+    private final AnswerGenerationService answerGenerationService;
+    private final CaseLevelAllDocumentsAnswerService caseLevelAllDocumentsAnswerService;
+    private final CaseLevelLatestDocumentAnswerService caseLevelLatestDocumentAnswerService;
+    private final DefendantAnswerService defendantAnswerService;
+    private final AnswerWriteBehindSink answerWriteBehindSink;
+
+    public void persistGeneratedAnswer(final QueryLevel level,
+                                       final UUID caseId,
+                                       final UUID queryId,
+                                       final UUID defendantId,
+                                       final UUID documentId,
+                                       final UserQueryAnswerReturnedSuccessfullyAsynchronously answerResponseBody) {
+
+        final String llmInputJson = getLlmJson(answerResponseBody.getDocumentChunks(), caseId, documentId, queryId);
+        if (answerWriteBehindSink.isEnabled()) {
+            answerWriteBehindSink.write(new AnswerWriteBehindSink.PendingAnswer(level, caseId, queryId, defendantId,
+                    documentId, answerResponseBody.getLlmResponse(), llmInputJson));
+            return;
+        }
+
+        switch (level) {
+            case QueryLevel.CASE:
+                caseLevelLatestDocumentAnswerService.upsert(
+                        caseId,
+                        queryId,
+                        answerResponseBody.getLlmResponse(),
+                        llmInputJson,
+                        documentId
+                );
+                break;
+
+            case QueryLevel.CASE_ALL_DOCUMENTS:
+                caseLevelAllDocumentsAnswerService.upsert(
+                        caseId,
+                        queryId,
+                        answerResponseBody.getLlmResponse(),
+                        llmInputJson
+                );
+                break;
+
+            case QueryLevel.DEFENDANT:
+                defendantAnswerService.upsert(
+                        caseId,
+                        queryId,
+                        defendantId,
+                        answerResponseBody.getLlmResponse(),
+                        llmInputJson,
+                        documentId
+                );
+                break;
+            case null, default:
+                answerGenerationService.upsertAnswer(
+                        caseId,
+                        queryId,
+                        answerResponseBody.getLlmResponse(),
+                        llmInputJson,
+                        documentId
+                );
+                break;
+        }
+    }
+
+    private String getLlmJson(final List<DocumentChunk> chunkedEntries, final UUID caseId, final UUID docId, final UUID queryId) {
+
+        final Map<String, Object> chunkSampleMap = new LinkedHashMap<>();
+        try {
+            final List<DocumentChunk> chunks = Optional.ofNullable(chunkedEntries).orElseGet(Collections::emptyList);
+            chunkSampleMap.put(PROVENANCE_CHUNKS_SAMPLE, chunks);
+            return objectMapper.writeValueAsString(chunkSampleMap);
+        } catch (final Exception e) {
+            log.warn("Failed to build llm_input JSON for caseId={}, docId={}, queryId={}: {}",
+                    caseId, docId, queryId, e.getMessage(), e);
+        }
+
+        return EMPTY_STRING;
+    }
+}
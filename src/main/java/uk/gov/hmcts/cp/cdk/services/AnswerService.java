@@ -1,29 +1,36 @@
 package uk.gov.hmcts.cp.cdk.services;
 
+import static uk.gov.hmcts.cp.cdk.util.TimeUtils.toUtc;
 import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
 
 import uk.gov.hmcts.cp.cdk.domain.Answer;
-import uk.gov.hmcts.cp.cdk.domain.CaseLevelAllDocumentsAnswer;
-import uk.gov.hmcts.cp.cdk.domain.CaseLevelLatestDocumentAnswer;
-import uk.gov.hmcts.cp.cdk.domain.DefendantAnswer;
 import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
 import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
 import uk.gov.hmcts.cp.cdk.domain.QueryVersion;
 import uk.gov.hmcts.cp.cdk.repo.AnswerRepository;
+import uk.gov.hmcts.cp.cdk.repo.AnswerSummary;
 import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
 import uk.gov.hmcts.cp.cdk.repo.CaseLevelAllDocumentsAnswerRepository;
 import uk.gov.hmcts.cp.cdk.repo.CaseLevelLatestDocumentAnswerRepository;
 import uk.gov.hmcts.cp.cdk.repo.DefendantAnswerRepository;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository;
 import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository.SnapshotDefinition;
 import uk.gov.hmcts.cp.cdk.services.mapper.AnswerMapper;
 import uk.gov.hmcts.cp.openapi.model.cdk.AnswerResponse;
 import uk.gov.hmcts.cp.openapi.model.cdk.AnswerWithLlmResponse;
 import uk.gov.hmcts.cp.openapi.model.cdk.AnswersResponse;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -46,7 +53,8 @@ public class AnswerService {
     private final CaseLevelAllDocumentsAnswerRepository allDocsRepo;
     private final DefendantAnswerRepository defendantRepo;
     private final CaseDocumentRepository caseDocumentRepository;
-
+    private final QueryDefinitionCache queryDefinitionCache;
+    private final LlmInputChunkRepository llmInputChunkRepository;
 
     public AnswerService(
             final AnswerRepository answerRepository,
@@ -55,8 +63,9 @@ public class AnswerService {
             final CaseLevelLatestDocumentAnswerRepository latestDocRepo,
             final CaseLevelAllDocumentsAnswerRepository allDocsRepo,
             final DefendantAnswerRepository defendantRepo,
-            final CaseDocumentRepository caseDocumentRepository
-
+            final CaseDocumentRepository caseDocumentRepository,
+            final QueryDefinitionCache queryDefinitionCache,
+            final LlmInputChunkRepository llmInputChunkRepository
     ) {
         this.answerRepository = answerRepository;
         this.queryVersionRepository = queryVersionRepository;
@@ -65,6 +74,8 @@ public class AnswerService {
         this.allDocsRepo = allDocsRepo;
         this.defendantRepo = defendantRepo;
         this.caseDocumentRepository = caseDocumentRepository;
+        this.queryDefinitionCache = queryDefinitionCache;
+        this.llmInputChunkRepository = llmInputChunkRepository;
     }
 
     public AnswersResponse getAnswers(final UUID queryId, final UUID caseId, final Integer version, final OffsetDateTime at) {
@@ -75,7 +86,7 @@ public class AnswerService {
         final QueryLevel level = latest.getLevel();
         final OffsetDateTime asOf = Optional.ofNullable(at).orElse(utcNow());
 
-        List<?> answers = List.of();
+        List<AnswerSummary> answers = List.of();
         if (level != null) {
             answers = switch (level) {
                 case CASE -> latestDocRepo.findLatestAsOfForCase(caseId, queryId, asOf)
@@ -88,15 +99,63 @@ public class AnswerService {
             };
         }
         if (answers == null || answers.isEmpty()) {
-            final Answer answerEntity = resolveAnswer(queryId, caseId, version, asOf);
-            answers = (answerEntity != null) ? List.of(answerEntity) : List.of();
+            final AnswerSummary answer = resolveAnswerSummary(queryId, caseId, version, asOf);
+            answers = (answer != null) ? List.of(answer) : List.of();
         }
 
-        final List<AnswerResponse> answerResponses = mapToAnswerResponses(answers);
+        final List<AnswerResponse> answerResponses = mapToAnswerResponses(answers, new UserQueryTextResolver());
 
         return new AnswersResponse(at, answerResponses);
     }
 
+    /**
+     * Latest answer of every active query for a case, read with one set-based statement per
+     * answer table instead of one lookup per query. Queries without an answer are omitted.
+     * With {@code at}, both the answers and the set of queries are taken as of that instant;
+     * the cached catalogue only serves reads as of now.
+     */
+    public AnswersResponse getLatestAnswersForCase(final UUID caseId, final OffsetDateTime at) {
+        final OffsetDateTime asOf = Optional.ofNullable(at).orElse(utcNow());
+        final List<SnapshotDefinition> definitions = at == null
+                ? queryDefinitionCache.currentDefinitions()
+                : queryVersionRepository.snapshotDefinitionsAsOf(asOf);
+
+        final Map<UUID, AnswerSummary> latestDocAnswers = latestDocRepo
+                .findLatestPerQueryAsOfForCase(caseId, asOf).stream()
+                .collect(Collectors.toMap(AnswerSummary::queryId, Function.identity()));
+        final Map<UUID, AnswerSummary> allDocsAnswers = allDocsRepo
+                .findLatestPerQueryAsOfForCase(caseId, asOf).stream()
+                .collect(Collectors.toMap(AnswerSummary::queryId, Function.identity()));
+        final Map<UUID, List<AnswerSummary>> defendantAnswers = defendantRepo
+                .findLatestPerQueryAsOfForCase(caseId, asOf).stream()
+                .collect(Collectors.groupingBy(AnswerSummary::queryId));
+        final Map<UUID, AnswerSummary> legacyAnswers = answerRepository
+                .findLatestPerQueryAsOfForCase(caseId, asOf).stream()
+                .collect(Collectors.toMap(AnswerSummary::queryId, Function.identity()));
+
+        final List<AnswerSummary> answers = new ArrayList<>();
+        for (final SnapshotDefinition definition : definitions) {
+            if (definition.level() == null) {
+                continue;
+            }
+            final UUID queryId = definition.queryId();
+            final List<AnswerSummary> levelAnswers = switch (QueryLevel.valueOf(definition.level())) {
+                case CASE -> Optional.ofNullable(latestDocAnswers.get(queryId)).map(List::of).orElseGet(List::of);
+                case CASE_ALL_DOCUMENTS -> Optional.ofNullable(allDocsAnswers.get(queryId)).map(List::of).orElseGet(List::of);
+                case DEFENDANT -> defendantAnswers.getOrDefault(queryId, List.of());
+            };
+            if (levelAnswers.isEmpty()) {
+                Optional.ofNullable(legacyAnswers.get(queryId)).ifPresent(answers::add);
+            } else {
+                answers.addAll(levelAnswers);
+            }
+        }
+
+        final UserQueryTextResolver userQueryTextResolver = new UserQueryTextResolver();
+        userQueryTextResolver.preload(definitions.stream().map(SnapshotDefinition::queryId).toList());
+        return new AnswersResponse(at, mapToAnswerResponses(answers, userQueryTextResolver));
+    }
+
     public AnswerWithLlmResponse getAnswerWithLlm(
             final UUID queryId,
             final UUID caseIdOrNull,
@@ -104,8 +163,13 @@ public class AnswerService {
             final OffsetDateTime asOfOrNull
     ) {
         final Answer answerEntity = resolveAnswer(queryId, caseIdOrNull, versionOrNull, asOfOrNull);
-        final String userQueryText = resolveUserQueryText(queryId, answerEntity.getCreatedAt());
-        return mapper.toAnswerWithLlm(answerEntity, userQueryText);
+        final String userQueryText = new UserQueryTextResolver().resolve(queryId, answerEntity.getCreatedAt());
+        final AnswerWithLlmResponse response = mapper.toAnswerWithLlm(answerEntity, userQueryText);
+        // chunked rows keep llm_input in llm_input_chunk; only this read pays for reassembling it
+        if (answerEntity.getLlmInput() == null && answerEntity.getAnswerId() != null) {
+            llmInputChunkRepository.findAnswerLlmInput(answerEntity.getAnswerId()).ifPresent(response::setLlmInput);
+        }
+        return response;
     }
 
     /* package */
@@ -123,19 +187,47 @@ public class AnswerService {
         } else if (caseIdOrNull != null) {
             maybeAnswer = answerRepository.findLatestAsOfForCase(caseIdOrNull, queryId, asOf);
         } else {
-            final long caseCount = answerRepository.countDistinctCasesForQuery(queryId);
-            if (caseCount > MULTIPLE_CASES_THRESHOLD) {
-                throw new IllegalArgumentException(
-                        "Multiple cases exist for this queryId; supply caseId as query parameter to disambiguate."
-                );
-            }
+            requireSingleCase(queryId);
             maybeAnswer = answerRepository.findLatestAsOfAnyCase(queryId, asOf);
         }
-        return maybeAnswer.orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
-                        resolveErrorMessage(caseIdOrNull)
-                )
-        );
+        return maybeAnswer.orElseThrow(() -> answerNotFound(caseIdOrNull));
+    }
+
+    /**
+     * Same resolution as {@link #resolveAnswer} without loading llm_input, for the list read.
+     */
+    /* package */
+    AnswerSummary resolveAnswerSummary(
+            final UUID queryId,
+            final UUID caseIdOrNull,
+            final Integer versionOrNull,
+            final OffsetDateTime asOfOrNull
+    ) {
+        final OffsetDateTime asOf = Optional.ofNullable(asOfOrNull).orElse(utcNow());
+
+        final Optional<AnswerSummary> maybeAnswer;
+        if (caseIdOrNull != null && versionOrNull != null) {
+            maybeAnswer = answerRepository.findSummaryByCaseAndVersion(caseIdOrNull, queryId, versionOrNull);
+        } else if (caseIdOrNull != null) {
+            maybeAnswer = answerRepository.findLatestSummaryAsOfForCase(caseIdOrNull, queryId, asOf);
+        } else {
+            requireSingleCase(queryId);
+            maybeAnswer = answerRepository.findLatestSummaryAsOfAnyCase(queryId, asOf);
+        }
+        return maybeAnswer.orElseThrow(() -> answerNotFound(caseIdOrNull));
+    }
+
+    private void requireSingleCase(final UUID queryId) {
+        final long caseCount = answerRepository.countDistinctCasesForQuery(queryId);
+        if (caseCount > MULTIPLE_CASES_THRESHOLD) {
+            throw new IllegalArgumentException(
+                    "Multiple cases exist for this queryId; supply caseId as query parameter to disambiguate."
+            );
+        }
+    }
+
+    private ResponseStatusException answerNotFound(final UUID caseIdOrNull) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, resolveErrorMessage(caseIdOrNull));
     }
 
     private String resolveErrorMessage(final UUID caseId) {
@@ -150,48 +242,20 @@ public class AnswerService {
                 .orElse(ErrorMessage.ANSWER_NOT_FOUND.name());
     }
 
-    private String resolveUserQueryText(final UUID queryId, final OffsetDateTime createdAt) {
-        // latest query definition at answer creation time
-        return queryVersionRepository.findAll().stream()
-                .filter(version -> version.getQuery().getQueryId().equals(queryId))
-                .filter(version -> !version.getQueryVersionId().getEffectiveAt().isAfter(createdAt))
-                .max(java.util.Comparator.comparing((QueryVersion v) -> v.getQueryVersionId().getEffectiveAt()))
-                .map(QueryVersion::getUserQuery)
-                .orElse("");
-    }
-
-
-    private List<AnswerResponse> mapToAnswerResponses(final List<?> answers) {
+    private List<AnswerResponse> mapToAnswerResponses(final List<AnswerSummary> answers,
+                                                      final UserQueryTextResolver userQueryTextResolver) {
         return answers.stream()
-                .map(answer -> {
-                    if (answer instanceof CaseLevelAllDocumentsAnswer caseAnswer) {
-                        return getAnswerResponse(caseAnswer.getAnswerId().getQueryId(),
-                                caseAnswer.getCreatedAt(), caseAnswer.getAnswerText(),
-                                caseAnswer.getAnswerId().getVersion(), null);
-                    } else if (answer instanceof CaseLevelLatestDocumentAnswer latestAnswer) {
-                        return getAnswerResponse(latestAnswer.getAnswerId().getQueryId(),
-                                latestAnswer.getCreatedAt(), latestAnswer.getAnswerText(),
-                                latestAnswer.getAnswerId().getVersion(), null);
-                    } else if (answer instanceof DefendantAnswer defAnswer) {
-                        return getAnswerResponse(defAnswer.getAnswerId().getQueryId(),
-                                defAnswer.getCreatedAt(), defAnswer.getAnswerText(),
-                                defAnswer.getAnswerId().getVersion(), defAnswer.getAnswerId().getDefendantId());
-                    } else if (answer instanceof Answer baseAnswer) {
-                        return getAnswerResponse(baseAnswer.getAnswerId().getQueryId(), baseAnswer.getCreatedAt(),
-                                baseAnswer.getAnswerText(), baseAnswer.getAnswerId().getVersion(), null);
-                    } else {
-                        throw new IllegalArgumentException("Unknown answer type: " + answer.getClass());
-                    }
-
-                })
+                .map(answer -> getAnswerResponse(userQueryTextResolver, answer.queryId(),
+                        toUtc(answer.createdAt()), answer.answerText(), answer.version(), answer.defendantId()))
                 .toList();
     }
 
-    private AnswerResponse getAnswerResponse(final UUID queryId, final OffsetDateTime createdAt,
+    private AnswerResponse getAnswerResponse(final UserQueryTextResolver userQueryTextResolver,
+                                             final UUID queryId, final OffsetDateTime createdAt,
                                              final String answerText, final Integer version,
                                              final UUID defendantId) {
 
-        final String userQueryText = resolveUserQueryText(queryId, createdAt);
+        final String userQueryText = userQueryTextResolver.resolve(queryId, createdAt);
 
         final AnswerResponse answerRes = new AnswerResponse();
         answerRes.setQueryId(queryId);
@@ -204,4 +268,40 @@ public class AnswerService {
 
         return answerRes;
     }
+
+    /**
+     * Resolves the user query text in force when an answer was created (latest version with
+     * effective_at not after created_at). Versions are loaded once per query id through the
+     * (query_id, effective_at) index and reused for every answer in the same request.
+     */
+    private final class UserQueryTextResolver {
+
+        private final Map<UUID, List<QueryVersion>> versionsByQueryId = new HashMap<>();
+
+        /* default */
+        void preload(final Collection<UUID> queryIds) {
+            if (queryIds.isEmpty()) {
+                return;
+            }
+            final Map<UUID, List<QueryVersion>> loaded = queryVersionRepository.findAllVersionsForQueries(queryIds).stream()
+                    .collect(Collectors.groupingBy(v -> v.getQueryVersionId().getQueryId()));
+            queryIds.forEach(queryId -> versionsByQueryId.put(queryId, loaded.getOrDefault(queryId, List.of())));
+        }
+
+        /* default */
+        String resolve(final UUID queryId, final OffsetDateTime createdAt) {
+            final List<QueryVersion> versions =
+                    versionsByQueryId.computeIfAbsent(queryId, queryVersionRepository::findAllVersions);
+
+            // versions are ordered by effective_at ascending
+            String userQuery = "";
+            for (final QueryVersion version : versions) {
+                if (createdAt != null && version.getQueryVersionId().getEffectiveAt().isAfter(createdAt)) {
+                    break;
+                }
+                userQuery = version.getUserQuery();
+            }
+            return userQuery;
+        }
+    }
 }
@@ -0,0 +1,284 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static java.util.Objects.isNull;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_STATUS_OF_ANSWER_GENERATION;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ANSWER_REQUESTED_AT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ANSWER_RETRY_COUNT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERY_LEVEL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_RAG_TRANSACTION_ID;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_QUERY_ID;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseJobData;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseQueryLevel;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseUuidOrNull;
+import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
+import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATED;
+import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATION_FAILED;
+import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATION_PENDING;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerStatusPollerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.repo.AnswerGenerationTransactionRepository;
+import uk.gov.hmcts.cp.cdk.repo.AnswerGenerationTransactionRepository.PendingAnswerTransaction;
+import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
+import uk.gov.hmcts.cp.openapi.model.UserQueryAnswerReturnedSuccessfullyAsynchronously;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+/**
+ * Central poller for async RAG answer transactions.
+ * <p>
+ * Transactions are registered once by GenerateAnswerForQueryTask and then swept in batches:
+ * each sweep leases the due rows, polls them with bounded concurrency and either persists the
+ * answer, re-dispatches generation on failure, or pushes the next poll out along the questions retry
+ * schedule, the same schedule CheckStatusOfAnswerGenerationTask follows when the poller is disabled.
+ * Each row's lease is renewed just before its status call and again before acting on the result,
+ * so a row waiting behind slow polls in a large batch is not re-claimed and answered twice.
+ * A transaction still pending once the schedule is used up is handed to its own
+ * CheckStatusOfAnswerGenerationTask rather than dropped, so the job store records its outcome.
+ */
+@Slf4j
+@Service
+public class AnswerStatusPollingService {
+
+    private final AnswerGenerationTransactionRepository transactionRepository;
+    private final DocumentInformationSummarisedAsynchronouslyApi documentInformationSummarisedAsynchronouslyApi;
+    private final AnswerPersistenceService answerPersistenceService;
+    private final ExecutionService executionService;
+    private final JobManagerRetryProperties retryProperties;
+    private final AnswerStatusPollerProperties pollerProperties;
+    private final ObservedLatencies observedLatencies;
+    private final ExecutorService pollExecutor;
+    private final String nodeId = "answer-poller-" + UUID.randomUUID();
+
+    public AnswerStatusPollingService(final AnswerGenerationTransactionRepository transactionRepository,
+                                      final DocumentInformationSummarisedAsynchronouslyApi documentInformationSummarisedAsynchronouslyApi,
+                                      final AnswerPersistenceService answerPersistenceService,
+                                      final ExecutionService executionService,
+                                      final JobManagerRetryProperties retryProperties,
+                                      final AnswerStatusPollerProperties pollerProperties,
+                                      final ObservedLatencies observedLatencies) {
+        this.transactionRepository = transactionRepository;
+        this.documentInformationSummarisedAsynchronouslyApi = documentInformationSummarisedAsynchronouslyApi;
+        this.answerPersistenceService = answerPersistenceService;
+        this.executionService = executionService;
+        this.retryProperties = retryProperties;
+        this.pollerProperties = pollerProperties;
+        this.observedLatencies = observedLatencies;
+        this.pollExecutor = Executors.newFixedThreadPool(Math.max(1, pollerProperties.getConcurrency()),
+                Thread.ofVirtual().name("answer-status-poller-", 0).factory());
+    }
+
+    public boolean isEnabled() {
+        return pollerProperties.isEnabled();
+    }
+
+    public void register(final String transactionId, final UUID caseId, final UUID queryId, final JsonObject jobData) {
+        final JsonObject trackedJobData = createObjectBuilder(jobData)
+                .add(CTX_ANSWER_REQUESTED_AT, utcNow().toInstant().toEpochMilli())
+                .build();
+        transactionRepository.register(transactionId, caseId, queryId, trackedJobData.toString(), nextIntervalMs(0));
+        log.debug("Registered RAG transactionId={} for caseId={}, queryId={}", transactionId, caseId, queryId);
+    }
+
+    /**
+     * Polls one batch of due transactions.
+     *
+     * @return the number of transactions polled
+     */
+    public int sweep() {
+        final List<PendingAnswerTransaction> due = transactionRepository.claimDue(
+                nodeId, pollerProperties.getBatchSize(), pollerProperties.getLeaseSeconds());
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        final List<Future<?>> futures = new ArrayList<>(due.size());
+        for (final PendingAnswerTransaction transaction : due) {
+            futures.add(pollExecutor.submit(() -> poll(transaction)));
+        }
+        for (final Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Answer status sweep interrupted; unfinished leases will expire and be re-polled");
+                break;
+            } catch (ExecutionException e) {
+                log.error("Answer status poll failed", e.getCause());
+            }
+        }
+
+        log.info("Answer status sweep polled {} transaction(s)", due.size());
+        return due.size();
+    }
+
+    /* default */
+    void poll(final PendingAnswerTransaction transaction) {
+        final String transactionId = transaction.transactionId();
+        if (!holdsLease(transactionId)) {
+            return;
+        }
+        try {
+            final ResponseEntity<@NotNull UserQueryAnswerReturnedSuccessfullyAsynchronously> response =
+                    documentInformationSummarisedAsynchronouslyApi.answerUserQueryStatus(transactionId, true);
+
+            if (isNull(response)
+                    || !response.getStatusCode().is2xxSuccessful()
+                    || isNull(response.getBody())
+                    || ANSWER_GENERATION_PENDING == response.getBody().getStatus()) {
+                pollAgainLater(transaction);
+                return;
+            }
+
+            final UserQueryAnswerReturnedSuccessfullyAsynchronously body = response.getBody();
+            final JsonObject jobData = parseJobData(transaction.jobData());
+
+            // the status call may have outlived the lease: re-check before acting on the result
+            if (!holdsLease(transactionId)) {
+                return;
+            }
+
+            recordLatency(jobData);
+
+            if (ANSWER_GENERATED == body.getStatus()) {
+                answerPersistenceService.persistGeneratedAnswer(
+                        parseQueryLevel(jobData.getString(CTX_QUERY_LEVEL, null)),
+                        parseUuidOrNull(jobData.getString(CTX_CASE_ID_KEY, null)),
+                        parseUuidOrNull(jobData.getString(CTX_SINGLE_QUERY_ID, null)),
+                        parseUuidOrNull(jobData.getString(CTX_DEFENDANT_ID_KEY, null)),
+                        parseUuidOrNull(jobData.getString(CTX_DOC_ID_KEY, null)),
+                        body);
+                log.info("Answer generated and persisted for transactionId={}", transactionId);
+            } else if (ANSWER_GENERATION_FAILED == body.getStatus()) {
+                redispatchGeneration(transactionId, jobData);
+            }
+
+            removeClaimed(transactionId);
+
+        } catch (final Exception ex) {
+            log.error("Failed to check answer generation status for transactionId={}", transactionId, ex);
+            pollAgainLater(transaction);
+        }
+    }
+
+    /**
+     * Delay before the poll that follows the given number of completed polls.
+     */
+    /* default */
+    long nextIntervalMs(final int pollCount) {
+        final List<Long> delays = retryDurationsInSecs();
+        if (delays.isEmpty()) {
+            return retryProperties.getQuestionsRetry().getDelaySeconds() * 1000;
+        }
+        return delays.get(Math.min(Math.max(0, pollCount), delays.size() - 1)) * 1000;
+    }
+
+    private List<Long> retryDurationsInSecs() {
+        return retryProperties.getQuestionsRetry()
+                .retryDurationsInSecs(observedLatencies.median(ObservedLatencies.Kind.ANSWER_GENERATION));
+    }
+
+    private void recordLatency(final JsonObject jobData) {
+        if (jobData.containsKey(CTX_ANSWER_REQUESTED_AT)) {
+            final long requestedAt = jobData.getJsonNumber(CTX_ANSWER_REQUESTED_AT).longValue();
+            observedLatencies.record(ObservedLatencies.Kind.ANSWER_GENERATION,
+                    Duration.ofMillis(utcNow().toInstant().toEpochMilli() - requestedAt));
+        }
+    }
+
+    private void pollAgainLater(final PendingAnswerTransaction transaction) {
+        final int pollCount = transaction.pollCount() + 1;
+        if (pollCount >= Math.max(1, retryDurationsInSecs().size())) {
+            handBack(transaction, pollCount);
+            return;
+        }
+        transactionRepository.reschedule(transaction.transactionId(), nodeId, nextIntervalMs(pollCount));
+    }
+
+    private void handBack(final PendingAnswerTransaction transaction, final int pollCount) {
+        final String transactionId = transaction.transactionId();
+        if (!holdsLease(transactionId)) {
+            return;
+        }
+        log.warn("RAG transactionId={} still pending after {} polls; handing it to its own status task",
+                transactionId, pollCount);
+
+        final ExecutionInfo statusTask = executionInfo()
+                .withAssignedTaskName(CHECK_STATUS_OF_ANSWER_GENERATION)
+                .withAssignedTaskStartTime(utcNow().toZonedDateTime())
+                .withJobData(createObjectBuilder(parseJobData(transaction.jobData()))
+                        .add(CTX_RAG_TRANSACTION_ID, transactionId)
+                        .build())
+                .withExecutionStatus(ExecutionStatus.STARTED)
+                .build();
+
+        executionService.executeWith(statusTask);
+        removeClaimed(transactionId);
+    }
+
+    private boolean holdsLease(final String transactionId) {
+        if (transactionRepository.renewLease(transactionId, nodeId, pollerProperties.getLeaseSeconds())) {
+            return true;
+        }
+        log.info("Lease on RAG transactionId={} was lost to another node; skipping", transactionId);
+        return false;
+    }
+
+    private void removeClaimed(final String transactionId) {
+        if (!transactionRepository.remove(transactionId, nodeId)) {
+            log.warn("RAG transactionId={} was not removed: its lease is now held by another node", transactionId);
+        }
+    }
+
+    private void redispatchGeneration(final String transactionId, final JsonObject jobData) {
+        final int retryCount = jobData.containsKey(CTX_ANSWER_RETRY_COUNT)
+                ? jobData.getInt(CTX_ANSWER_RETRY_COUNT)
+                : 0;
+        final int maxRetries = retryProperties.getQuestionsRetry().getMaxAttempts();
+
+        if (retryCount >= maxRetries) {
+            log.warn("Max retries reached for transactionId={}, jobData={}", transactionId, jobData);
+            return;
+        }
+
+        log.info("Answer generation failed. Retrying {}/{} for transactionId={}", retryCount + 1, maxRetries, transactionId);
+
+        final ExecutionInfo retryTask = executionInfo()
+                .withAssignedTaskName(GENERATE_ANSWER_FOR_QUERY)
+                .withAssignedTaskStartTime(utcNow().toZonedDateTime())
+                .withJobData(createObjectBuilder(jobData).add(CTX_ANSWER_RETRY_COUNT, retryCount + 1).build())
+                .withExecutionStatus(ExecutionStatus.STARTED)
+                .build();
+
+        executionService.executeWith(retryTask);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pollExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,301 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerSinkProperties;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind sink for completed RAG answers.
+ * <p>
+ * Answers from concurrent status tasks and poller threads are queued and flushed by one thread
+ * once max-batch-rows have gathered or max-delay-ms has passed since the first: a JDBC batch insert
+ * per answer table and a single multi-row case_query_status upsert, all in one transaction.
+ * The batch's case_query_status rows are locked first, in key order, so overlapping flushes from
+ * several nodes queue on those rows instead of deadlocking on version counters. Single writes
+ * (sink disabled) take the counter before the status row, so enable the sink on every node or none.
+ * {@link #write} returns only after that transaction commits, so callers complete their task
+ * with the answer already durable. If a batch fails, its rows are retried one per transaction
+ * so a bad row fails only its own caller.
+ */
+@Slf4j
+@Service
+public class AnswerWriteBehindSink {
+
+    private static final String NIL_UUID = "00000000-0000-0000-0000-000000000000";
+    private static final long IDLE_POLL_MS = 200;
+
+    private static final String STATUS_LOCK_SQL = """
+        INSERT INTO case_query_status (case_id, query_id)
+        SELECT v.case_id, v.query_id
+          FROM (VALUES %s) AS v(case_id, query_id)
+         ORDER BY v.case_id, v.query_id
+        ON CONFLICT (case_id, query_id) DO UPDATE SET status = case_query_status.status
+        """;
+
+    private static final String STATUS_UPSERT_SQL = """
+        INSERT INTO case_query_status (case_id, query_id, status, status_at, doc_id, last_answer_version, last_answer_at)
+        SELECT v.case_id, v.query_id, 'ANSWER_AVAILABLE', NOW(), v.doc_id, c.last_version, NOW()
+          FROM (VALUES %s) AS v(answer_table, case_id, query_id, defendant_id, doc_id)
+          JOIN answer_version_counter c
+            ON c.answer_table = v.answer_table
+           AND c.case_id = v.case_id
+           AND c.query_id = v.query_id
+           AND c.defendant_id = COALESCE(v.defendant_id, '%s'::uuid)
+         ORDER BY v.case_id, v.query_id
+        ON CONFLICT (case_id, query_id) DO UPDATE SET
+          status = 'ANSWER_AVAILABLE',
+          status_at = EXCLUDED.status_at,
+          last_answer_version = EXCLUDED.last_answer_version,
+          last_answer_at = EXCLUDED.last_answer_at,
+          doc_id = COALESCE(EXCLUDED.doc_id, case_query_status.doc_id)
+        """;
+
+    private static final Comparator<PendingAnswer> LOCK_ORDER = Comparator
+            .comparing((PendingAnswer a) -> a.caseId().toString())
+            .thenComparing(a -> a.queryId().toString())
+            .thenComparing(a -> a.defendantId() == null ? NIL_UUID : a.defendantId().toString());
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final AnswerSinkProperties properties;
+    private final DistributionSummary batchRows;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService flusher;
+    private volatile boolean running = true;
+
+    public AnswerWriteBehindSink(final NamedParameterJdbcTemplate jdbc,
+                                 final PlatformTransactionManager transactionManager,
+                                 final AnswerSinkProperties properties,
+                                 final MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.batchRows = DistributionSummary.builder("cdk.answer.sink.batch.rows").register(meterRegistry);
+        this.flusher = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("answer-sink-flusher-", 0).factory());
+        if (properties.isEnabled()) {
+            flusher.submit(this::drainLoop);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Queues the answer and waits until the batch holding it is committed.
+     * If flush-timeout-ms passes while the answer is still queued, it is withdrawn so it can never
+     * commit after the caller has given up; once a flush has taken it, the caller waits for that flush.
+     *
+     * @throws IllegalStateException if the flush failed, timed out before the answer was taken, or the sink is shutting down
+     */
+    public void write(final PendingAnswer answer) {
+        if (!running) {
+            throw new IllegalStateException("Answer sink is shutting down");
+        }
+        final Entry entry = new Entry(answer, new CompletableFuture<>());
+        queue.add(entry);
+
+        try {
+            try {
+                entry.flushed().get(properties.getFlushTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (queue.remove(entry)) {
+                    throw new IllegalStateException("Answer not flushed within " + properties.getFlushTimeoutMs() + " ms", e);
+                }
+                log.debug("Answer flush running past {} ms, waiting for its outcome", properties.getFlushTimeoutMs());
+                entry.flushed().get();
+            }
+        } catch (InterruptedException e) {
+            queue.remove(entry);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for answer flush", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Answer flush failed", e.getCause());
+        }
+    }
+
+    private void drainLoop() {
+        try {
+            while (running || !queue.isEmpty()) {
+                final Entry first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    flush(gather(first));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final List<Entry> abandoned = new ArrayList<>();
+            queue.drainTo(abandoned);
+            abandoned.forEach(entry -> entry.flushed().completeExceptionally(
+                    new IllegalStateException("Answer sink stopped before flush")));
+        }
+    }
+
+    private List<Entry> gather(final Entry first) throws InterruptedException {
+        final List<Entry> batch = new ArrayList<>();
+        batch.add(first);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getMaxDelayMs());
+        while (batch.size() < properties.getMaxBatchRows()) {
+            final long remaining = deadline - System.nanoTime();
+            final Entry next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /* default */
+    void flush(final List<Entry> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeAll(batch.stream().map(Entry::answer).toList()));
+            batchRows.record(batch.size());
+            batch.forEach(entry -> entry.flushed().complete(null));
+            log.debug("Flushed {} answer(s) in one transaction", batch.size());
+        } catch (RuntimeException batchFailure) {
+            if (batch.size() == 1) {
+                batch.getFirst().flushed().completeExceptionally(batchFailure);
+                return;
+            }
+            log.warn("Answer batch of {} failed, writing rows individually: {}", batch.size(), batchFailure.getMessage());
+            batch.forEach(entry -> flush(List.of(entry)));
+        }
+    }
+
+    /* default */
+    void writeAll(final List<PendingAnswer> answers) {
+        // one status row per (case, query); the latest arrival's version wins, as with single writes
+        final Map<List<UUID>, PendingAnswer> latestPerQuery = new LinkedHashMap<>();
+        answers.forEach(a -> latestPerQuery.put(List.of(a.caseId(), a.queryId()), a));
+        final List<PendingAnswer> statuses = new ArrayList<>(latestPerQuery.values());
+
+        // Status rows are locked first, in key order. The answers insert trigger and the final upsert then only
+        // touch rows this batch already holds, and two batches sharing a (case, query) serialise on its status
+        // row before either takes a version counter, so counter and status locks cannot cycle between batches.
+        lockStatuses(statuses);
+
+        final Map<String, List<PendingAnswer>> byTable = answers.stream()
+                .sorted(LOCK_ORDER)
+                .collect(Collectors.groupingBy(a -> table(a.level()), TreeMap::new, Collectors.toList()));
+        byTable.forEach((table, rows) -> jdbc.batchUpdate(insertRowSql(table), rows.stream()
+                .map(AnswerWriteBehindSink::answerParams)
+                .toArray(MapSqlParameterSource[]::new)));
+
+        upsertStatuses(statuses);
+    }
+
+    private void lockStatuses(final List<PendingAnswer> statuses) {
+        final MapSqlParameterSource params = new MapSqlParameterSource();
+        final List<String> rows = new ArrayList<>(statuses.size());
+        for (int i = 0; i < statuses.size(); i++) {
+            final PendingAnswer a = statuses.get(i);
+            rows.add("(CAST(:c%1$d AS uuid), CAST(:q%1$d AS uuid))".formatted(i));
+            params.addValue("c" + i, a.caseId())
+                    .addValue("q" + i, a.queryId());
+        }
+        jdbc.update(STATUS_LOCK_SQL.formatted(String.join(", ", rows)), params);
+    }
+
+    private void upsertStatuses(final List<PendingAnswer> statuses) {
+        final MapSqlParameterSource params = new MapSqlParameterSource();
+        final List<String> rows = new ArrayList<>(statuses.size());
+        for (int i = 0; i < statuses.size(); i++) {
+            final PendingAnswer a = statuses.get(i);
+            rows.add("(CAST(:t%1$d AS text), CAST(:c%1$d AS uuid), CAST(:q%1$d AS uuid), CAST(:d%1$d AS uuid), CAST(:doc%1$d AS uuid))"
+                    .formatted(i));
+            params.addValue("t" + i, table(a.level()))
+                    .addValue("c" + i, a.caseId())
+                    .addValue("q" + i, a.queryId())
+                    .addValue("d" + i, a.level() == QueryLevel.DEFENDANT ? a.defendantId() : null)
+                    .addValue("doc" + i, a.level() == QueryLevel.CASE_ALL_DOCUMENTS ? null : a.docId());
+        }
+        jdbc.update(STATUS_UPSERT_SQL.formatted(String.join(", ", rows), NIL_UUID), params);
+    }
+
+    private static MapSqlParameterSource answerParams(final PendingAnswer answer) {
+        return new MapSqlParameterSource()
+                .addValue("case_id", answer.caseId())
+                .addValue("query_id", answer.queryId())
+                .addValue("defendant_id", answer.defendantId())
+                .addValue("answer", answer.answer())
+                .addValue("llm_input", answer.llmInput())
+                .addValue("doc_id", answer.docId());
+    }
+
+    private static String table(final QueryLevel level) {
+        return switch (level) {
+            case QueryLevel.CASE -> "case_level_latest_doc_answers";
+            case QueryLevel.CASE_ALL_DOCUMENTS -> "case_level_all_documents_answers";
+            case QueryLevel.DEFENDANT -> "defendant_answers";
+            case null -> "answers";
+        };
+    }
+
+    private static String insertRowSql(final String table) {
+        return switch (table) {
+            case "case_level_latest_doc_answers" -> CaseLevelLatestDocumentAnswerService.INSERT_ROW_SQL;
+            case "case_level_all_documents_answers" -> CaseLevelAllDocumentsAnswerService.INSERT_ROW_SQL;
+            case "defendant_answers" -> DefendantAnswerService.INSERT_ROW_SQL;
+            default -> AnswerGenerationService.SQL_INSERT_ANSWER_ROW;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(properties.getFlushTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusher.shutdownNow();
+        }
+    }
+
+    /**
+     * A completed answer routed by query level, as persisted by {@link AnswerPersistenceService}.
+     */
+    public record PendingAnswer(QueryLevel level,
+                                UUID caseId,
+                                UUID queryId,
+                                UUID defendantId,
+                                UUID docId,
+                                String answer,
+                                String llmInput) {
+    }
+
+    /* default */ record Entry(PendingAnswer answer, CompletableFuture<Void> flushed) {
+    }
+}
@@ -19,36 +19,26 @@ public class CaseLevelAllDocumentsAnswerService {
 
     private final NamedParameterJdbcTemplate jdbc;
 
-    private static final String NEXT_VERSION_SQL = """
-        SELECT COALESCE(MAX(version), 0) + 1
-        FROM case_level_all_documents_answers
-        WHERE case_id = :case_id
-          AND query_id = :query_id
-    """;
-
-    private static final String UPSERT_SQL = """
+    /* default */
+    static final String INSERT_ROW_SQL = """
         INSERT INTO case_level_all_documents_answers
         (case_id, query_id, version, created_at, answer, llm_input)
-        VALUES (:case_id, :query_id, :version, NOW(), :answer, :llm_input)
-        ON CONFLICT (case_id, query_id, version) DO UPDATE SET
-            answer = EXCLUDED.answer,
-            llm_input = EXCLUDED.llm_input,
-            created_at = EXCLUDED.created_at
+        VALUES (:case_id, :query_id, allocate_answer_version('case_level_all_documents_answers', :case_id, :query_id),
+                NOW(), :answer, :llm_input)
     """;
 
+    private static final String INSERT_SQL = INSERT_ROW_SQL + "RETURNING version";
+
     @Transactional
     public void upsert(final UUID caseId, final UUID queryId, final String answer, final String llmInput) {
 
-        final int version = getVersionNumber(caseId, queryId);
-
         final MapSqlParameterSource params = new MapSqlParameterSource()
                 .addValue("case_id", caseId)
                 .addValue("query_id", queryId)
-                .addValue("version", version)
                 .addValue("answer", answer)
                 .addValue("llm_input", llmInput);
 
-        jdbc.update(UPSERT_SQL, params);
+        final int version = jdbc.queryForObject(INSERT_SQL, params, Integer.class);
 
         final MapSqlParameterSource statusParams = new MapSqlParameterSource()
                 .addValue("case_id", caseId)
@@ -57,11 +47,4 @@ public class CaseLevelAllDocumentsAnswerService {
                 .addValue("doc_id", null);
         jdbc.update(GLOBAL_UPDATE_CASE_QUERY_STATUS, statusParams);
     }
-
-    private Integer getVersionNumber(final UUID caseId, final UUID queryId) {
-        final MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("case_id", caseId)
-                .addValue("query_id", queryId);
-        return jdbc.queryForObject(NEXT_VERSION_SQL, params, Integer.class);
-    }
 }
\ No newline at end of file
@@ -19,54 +19,33 @@ public class DefendantAnswerService {
 
     private final NamedParameterJdbcTemplate jdbc;
 
-    private static final String NEXT_VERSION_SQL = """
-        SELECT COALESCE(MAX(version), 0) + 1
-        FROM defendant_answers
-        WHERE case_id = :case_id
-          AND query_id = :query_id
-          AND defendant_id = :defendant_id
-    """;
-
-    private static final String UPSERT_SQL = """
+    /* default */
+    static final String INSERT_ROW_SQL = """
         INSERT INTO defendant_answers
         (case_id, query_id, defendant_id, version, created_at, answer, llm_input, doc_id)
-        VALUES (:case_id, :query_id, :defendant_id, :version, NOW(), :answer, :llm_input, :doc_id)
-        ON CONFLICT (case_id, query_id, defendant_id, version) DO UPDATE SET
-            answer = EXCLUDED.answer,
-            llm_input = EXCLUDED.llm_input,
-            doc_id = EXCLUDED.doc_id,
-            created_at = EXCLUDED.created_at
+        VALUES (:case_id, :query_id, :defendant_id,
+                allocate_answer_version('defendant_answers', :case_id, :query_id, :defendant_id),
+                NOW(), :answer, :llm_input, :doc_id)
     """;
 
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private static final String INSERT_SQL = INSERT_ROW_SQL + "RETURNING version";
+
     @Transactional
     public void upsert(final UUID caseId, final UUID queryId, final UUID defendantId,
                        final String answer, final String llmInput, final UUID docId) {
 
-        final Integer version = getVersionNumberWithDefendentId(caseId, queryId, defendantId);
-
         final MapSqlParameterSource params = new MapSqlParameterSource()
                 .addValue("case_id", caseId)
                 .addValue("query_id", queryId)
                 .addValue("defendant_id", defendantId)
-                .addValue("version", version)
                 .addValue("answer", answer)
                 .addValue("llm_input", llmInput)
                 .addValue("doc_id", docId);
 
-        jdbc.update(UPSERT_SQL, params);
+        final Integer version = jdbc.queryForObject(INSERT_SQL, params, Integer.class);
 
         final MapSqlParameterSource statusParams = buildCaseStatusParams(caseId, queryId, docId, version);
         jdbc.update(GLOBAL_UPDATE_CASE_QUERY_STATUS, statusParams);
 
     }
-
-    private Integer getVersionNumberWithDefendentId(final UUID caseId, final UUID queryId, final UUID defendantId) {
-        final MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("case_id", caseId)
-                .addValue("query_id", queryId)
-                .addValue("defendant_id", defendantId);
-
-        return namedParameterJdbcTemplate.queryForObject(NEXT_VERSION_SQL, params, Integer.class);
-    }
 }
@@ -1,6 +1,9 @@
 package uk.gov.hmcts.cp.cdk.services;
 
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ORIGIN;
+
 import uk.gov.hmcts.cp.cdk.domain.ScheduledIngestionRequest;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ExecutionOrigin;
 import uk.gov.hmcts.cp.cdk.repo.ScheduledIngestionRequestRepository;
 
 import java.time.LocalDate;
@@ -53,6 +56,7 @@ public class DiscoveryService {
                 .add("courtCentreId", ir.getCourtCentreId().toString())
                 .add("roomId", ir.getCourtRoomId().toString())
                 .add("date", ir.getHearingDate().toString())
+                .add(CTX_ORIGIN, ExecutionOrigin.SCHEDULED.name())
                 .build();
     }
 }
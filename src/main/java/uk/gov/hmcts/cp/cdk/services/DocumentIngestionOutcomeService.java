@@ -0,0 +1,192 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase.EXCEEDED_FILE_SIZE_LIMIT;
+import static uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase.FAILED;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_ALL_DOCUMENTS_INGESTION_STATUS;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWERS_FOR_QUERIES;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_BATCH_QUERIES;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_LATEST_DEFENDANT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERYIDS_ARRAY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERY_LEVEL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_QUERY_ID;
+import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
+import static uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus.FILE_SIZE_OVER_LIMIT;
+import static uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus.INGESTION_FAILED;
+import static uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus.INGESTION_SUCCESS;
+import static uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus.INVALID_METADATA;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerBatchProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies the outcome of a document ingestion status check: updates the document's ingestion
+ * phase and, on success, fans out the answer-generation tasks for the active query catalogue.
+ * Shared by CheckIngestionStatusForAllDefendantsTask and the batched ingestion status watcher.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentIngestionOutcomeService {
+
+    private static final Set<String> FAILURE_STATUSES = Set.of(
+            INGESTION_FAILED.name(),
+            INVALID_METADATA.name(),
+            FILE_SIZE_OVER_LIMIT.name()
+    );
+
+    private final CaseDocumentRepository caseDocumentRepository;
+    private final QueryDefinitionCache queryDefinitionCache;
+    private final ExecutionService executionService;
+    private final ObservedLatencies observedLatencies;
+    private final AnswerBatchProperties answerBatchProperties;
+
+    public boolean isSuccessStatus(final String status) {
+        return INGESTION_SUCCESS.name().equalsIgnoreCase(status);
+    }
+
+    public boolean isFailureStatus(final String status) {
+        return status != null && FAILURE_STATUSES.contains(status.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Current query definitions grouped by level name, served from {@link QueryDefinitionCache}.
+     * Callers handling several documents should take one snapshot and reuse it for every document.
+     */
+    public Map<String, List<UUID>> currentQueriesByLevel() {
+        return queryDefinitionCache.queryIdsByLevel();
+    }
+
+    public void onIngestionSucceeded(final UUID documentId,
+                                     final JsonObject jobData,
+                                     final Map<String, List<UUID>> queriesByLevel) {
+        updateIngestionPhase(documentId, DocumentIngestionPhase.INGESTED);
+
+        final boolean isLatestDefendant = jobData.getBoolean(CTX_LATEST_DEFENDANT, false);
+
+        final List<UUID> caseQueries = queriesByLevel.getOrDefault(QueryLevel.CASE.toString(), List.of());
+        log.info("{} Queries count: {}", QueryLevel.CASE, caseQueries.size());
+
+        final List<UUID> defendantQueries = queriesByLevel.getOrDefault(QueryLevel.DEFENDANT.toString(), List.of());
+        if (answerBatchProperties.isEnabled()) {
+            dispatchBatch(documentId, jobData, isLatestDefendant ? caseQueries : List.of(), defendantQueries);
+        } else if (isLatestDefendant && !caseQueries.isEmpty()) {
+            for (final UUID questionId : caseQueries) {
+                dispatch(GENERATE_ANSWER_FOR_QUERY, createObjectBuilder(jobData)
+                        .add(CTX_SINGLE_QUERY_ID, questionId.toString())
+                        .add(CTX_QUERY_LEVEL, QueryLevel.CASE.toString())
+                        .build());
+
+                log.info("Created {} for docId={} questionId={} ", GENERATE_ANSWER_FOR_QUERY, documentId, questionId);
+            }
+        }
+
+        final List<UUID> caseAllDocsQueries = queriesByLevel.getOrDefault(QueryLevel.CASE_ALL_DOCUMENTS.toString(), List.of());
+        if (isLatestDefendant && !caseAllDocsQueries.isEmpty()) {
+            final JsonArrayBuilder queryIdsArrayBuilder = Json.createArrayBuilder();
+            caseAllDocsQueries.forEach(queryId -> queryIdsArrayBuilder.add(queryId.toString()));
+            final JsonArray queryIdsArray = queryIdsArrayBuilder.build();
+
+            dispatch(CHECK_ALL_DOCUMENTS_INGESTION_STATUS, createObjectBuilder(jobData)
+                    .add(CTX_QUERYIDS_ARRAY, queryIdsArray)
+                    .add(CTX_QUERY_LEVEL, QueryLevel.CASE_ALL_DOCUMENTS.toString())
+                    .build());
+
+            log.info("Created {} for docId={} questionId's array={} ", CHECK_ALL_DOCUMENTS_INGESTION_STATUS, documentId, queryIdsArray);
+        }
+
+        if (!answerBatchProperties.isEnabled() && !defendantQueries.isEmpty()) {
+            for (final UUID queryId : defendantQueries) {
+                dispatch(GENERATE_ANSWER_FOR_QUERY, createObjectBuilder(jobData)
+                        .add(CTX_SINGLE_QUERY_ID, queryId.toString())
+                        .add(CTX_QUERY_LEVEL, QueryLevel.DEFENDANT.toString())
+                        .build());
+            }
+            log.info("Executed DEFENDANT level queries for defendant {} ", jobData.getString(CTX_DEFENDANT_ID_KEY, null));
+        }
+    }
+
+    public void onIngestionFailed(final UUID documentId, final String status) {
+        final DocumentIngestionPhase failedPhase = FILE_SIZE_OVER_LIMIT.name().equals(status.toUpperCase(Locale.ROOT))
+                ? EXCEEDED_FILE_SIZE_LIMIT : FAILED;
+        updateIngestionPhase(documentId, failedPhase);
+    }
+
+    public void updateIngestionPhase(final UUID documentId, final DocumentIngestionPhase phase) {
+        caseDocumentRepository.findById(documentId).ifPresent(doc -> {
+            final OffsetDateTime now = utcNow();
+            if (phase == DocumentIngestionPhase.INGESTED
+                    && doc.getIngestionPhase() == DocumentIngestionPhase.UPLOADED
+                    && doc.getIngestionPhaseAt() != null) {
+                observedLatencies.record(ObservedLatencies.Kind.INGESTION, Duration.between(doc.getIngestionPhaseAt(), now));
+            }
+            doc.setIngestionPhase(phase);
+            doc.setIngestionPhaseAt(now);
+            caseDocumentRepository.saveAndFlush(doc);
+        });
+    }
+
+    /**
+     * CASE and DEFENDANT queries are both filtered to this document, so one task submits them all.
+     */
+    private void dispatchBatch(final UUID documentId,
+                               final JsonObject jobData,
+                               final List<UUID> caseQueries,
+                               final List<UUID> defendantQueries) {
+        if (caseQueries.isEmpty() && defendantQueries.isEmpty()) {
+            return;
+        }
+        final JsonArrayBuilder batch = Json.createArrayBuilder();
+        caseQueries.forEach(queryId -> batch.add(batchEntry(queryId, QueryLevel.CASE)));
+        defendantQueries.forEach(queryId -> batch.add(batchEntry(queryId, QueryLevel.DEFENDANT)));
+
+        dispatch(GENERATE_ANSWERS_FOR_QUERIES, createObjectBuilder(jobData)
+                .add(CTX_BATCH_QUERIES, batch)
+                .build());
+        log.info("Created {} for docId={} with {} CASE and {} DEFENDANT queries",
+                GENERATE_ANSWERS_FOR_QUERIES, documentId, caseQueries.size(), defendantQueries.size());
+    }
+
+    private static JsonObject batchEntry(final UUID queryId, final QueryLevel level) {
+        return createObjectBuilder()
+                .add(CTX_SINGLE_QUERY_ID, queryId.toString())
+                .add(CTX_QUERY_LEVEL, level.toString())
+                .build();
+    }
+
+    private void dispatch(final String taskName, final JsonObject jobData) {
+        final ExecutionInfo next = executionInfo()
+                .withAssignedTaskName(taskName)
+                .withAssignedTaskStartTime(ZonedDateTime.now())
+                .withJobData(jobData)
+                .withExecutionStatus(ExecutionStatus.STARTED)
+                .build();
+        executionService.executeWith(next);
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static java.util.Objects.nonNull;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_BLOB_NAME_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_DESTINATION_URL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_ID;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_REFERENCE_KEY;
+import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
+import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
+import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.cdk.storage.DocumentBlobMetadata;
+import uk.gov.hmcts.cp.cdk.storage.UploadProperties;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.util.UUID;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Steps after a material has been copied into the ingestion container, shared by the blocking
+ * RetrieveMaterialAndUploadTask and CheckBlobCopyStatusTask: mark the document UPLOADED and
+ * hand it to the ingestion status watcher (or the per-document status task).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentUploadCompletionService {
+
+    private static final String UNKNOWN_BLOB_URL = "";
+    private static final String UNKNOWN_BLOB_NAME = "";
+    private static final long UNKNOWN_SIZE_BYTES = -1L;
+
+    private final CaseDocumentRepository caseDocumentRepository;
+    private final UploadProperties uploadProperties;
+    private final ExecutionService executionService;
+    private final IngestionStatusWatcherService ingestionStatusWatcherService;
+
+    public void onUploaded(final ExecutionInfo executionInfo,
+                           final UUID documentId,
+                           final UUID caseId,
+                           final String documentReference,
+                           final DocumentBlobMetadata documentBlobMetadata) {
+        final String blobUrl = nonNull(documentBlobMetadata) ? documentBlobMetadata.blobUrl() : UNKNOWN_BLOB_URL;
+        final String blobName = nonNull(documentBlobMetadata) ? documentBlobMetadata.blobName() : UNKNOWN_BLOB_NAME;
+        final long sizeBytes = nonNull(documentBlobMetadata) ? documentBlobMetadata.blobSize() : UNKNOWN_SIZE_BYTES;
+
+        caseDocumentRepository.findById(documentId).ifPresent(doc ->
+                saveDocumentUploaded(doc, blobName, blobUrl, sizeBytes));
+
+        log.info("Saved CaseDocument docId={}, caseId={}, sizeBytes={}, blobUri={}",
+                documentId, caseId, sizeBytes, blobUrl);
+
+        final JsonObjectBuilder updatedJobData = createObjectBuilder(executionInfo.getJobData())
+                .remove(CTX_COPY_ID)
+                .remove(CTX_COPY_DESTINATION_URL);
+
+        updatedJobData.add(CTX_DOC_ID_KEY, documentId.toString());
+        updatedJobData.add(CTX_DOC_REFERENCE_KEY, documentReference);
+        updatedJobData.add(CTX_BLOB_NAME_KEY, blobName);
+        final JsonObject jobData = updatedJobData.build();
+
+        if (ingestionStatusWatcherService.isEnabled()) {
+            ingestionStatusWatcherService.register(documentId, caseId, blobName, documentReference, jobData);
+        } else {
+            final ExecutionInfo executionInfoNew = executionInfo()
+                    .from(executionInfo)
+                    .withAssignedTaskName(CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS)
+                    .withJobData(jobData)
+                    .withExecutionStatus(ExecutionStatus.STARTED)
+                    .build();
+
+            executionService.executeWith(executionInfoNew);
+        }
+    }
+
+    public void onUploadFailed(final UUID documentId, final String reason) {
+        log.error("Upload failed for docId={}: {}", documentId, reason);
+        caseDocumentRepository.findById(documentId).ifPresent(doc -> {
+            doc.setIngestionPhase(DocumentIngestionPhase.FAILED);
+            doc.setIngestionPhaseAt(utcNow());
+            caseDocumentRepository.saveAndFlush(doc);
+        });
+    }
+
+    private void saveDocumentUploaded(final CaseDocument doc, final String blobName, final String blobUrl, final long sizeBytes) {
+        doc.setDocName(blobName);
+        doc.setBlobUri(blobUrl);
+        doc.setContentType(uploadProperties.contentType());
+        doc.setSizeBytes(sizeBytes);
+        doc.setUploadedAt(utcNow());
+        doc.setIngestionPhase(DocumentIngestionPhase.UPLOADED);
+        doc.setIngestionPhaseAt(utcNow());
+        caseDocumentRepository.saveAndFlush(doc);
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.ProsecutionCaseEligibilityInfo;
+import uk.gov.hmcts.cp.cdk.jobmanager.HearingPrefetchProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves eligibility and court-document metadata for all cases of a hearing concurrently,
+ * so GetCasesForHearingTask can skip the per-case CheckCaseEligibilityTask round trip.
+ * Calls against Progression are bounded by {@code cdk.hearing-prefetch.concurrency}.
+ */
+@Slf4j
+@Service
+public class HearingPrefetchService {
+
+    private final ProgressionClient progressionClient;
+    private final HearingPrefetchProperties properties;
+    private final ExecutorService prefetchExecutor;
+
+    public HearingPrefetchService(final ProgressionClient progressionClient,
+                                  final HearingPrefetchProperties properties) {
+        this.progressionClient = progressionClient;
+        this.properties = properties;
+        this.prefetchExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getConcurrency()),
+                Thread.ofVirtual().name("hearing-prefetch-", 0).factory());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Prefetches every case; a case whose lookups fail or time out is reported as {@link Outcome#FAILED}
+     * so the caller can fall back to the per-case flow for it.
+     */
+    public List<CasePrefetch> prefetch(final List<String> caseIds, final String cppuid) {
+        final List<Callable<CasePrefetch>> lookups = caseIds.stream()
+                .<Callable<CasePrefetch>>map(caseId -> () -> prefetchCase(caseId, cppuid))
+                .toList();
+
+        final List<Future<CasePrefetch>> futures;
+        try {
+            futures = prefetchExecutor.invokeAll(lookups, properties.getTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return caseIds.stream().map(CasePrefetch::failed).toList();
+        }
+
+        final List<CasePrefetch> results = new ArrayList<>(caseIds.size());
+        for (int i = 0; i < futures.size(); i++) {
+            final Future<CasePrefetch> future = futures.get(i);
+            if (future.isCancelled()) {
+                log.warn("Prefetch timed out for caseId={}", caseIds.get(i));
+                results.add(CasePrefetch.failed(caseIds.get(i)));
+                continue;
+            }
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(CasePrefetch.failed(caseIds.get(i)));
+            } catch (ExecutionException e) {
+                log.warn("Prefetch failed for caseId={}", caseIds.get(i), e.getCause());
+                results.add(CasePrefetch.failed(caseIds.get(i)));
+            }
+        }
+        return results;
+    }
+
+    /* default */
+    CasePrefetch prefetchCase(final String caseId, final String cppuid) {
+        try {
+            final UUID caseUuid = UUID.fromString(caseId);
+            final Optional<ProsecutionCaseEligibilityInfo> eligibility =
+                    progressionClient.getProsecutionCaseEligibilityInfo(caseUuid, cppuid);
+            if (eligibility.isEmpty() || eligibility.get().defendantCount() < 1) {
+                return new CasePrefetch(caseId, Outcome.NOT_ELIGIBLE, null, List.of());
+            }
+            final List<LatestMaterialInfo> materials =
+                    progressionClient.getCourtDocumentsForAllDefendants(caseUuid, cppuid);
+            return new CasePrefetch(caseId, Outcome.ELIGIBLE, eligibility.get(), materials == null ? List.of() : materials);
+        } catch (final Exception ex) {
+            log.warn("Prefetch failed for caseId={}: {}", caseId, ex.getMessage());
+            return CasePrefetch.failed(caseId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    public enum Outcome {
+        ELIGIBLE,
+        NOT_ELIGIBLE,
+        FAILED
+    }
+
+    public record CasePrefetch(String caseId,
+                               Outcome outcome,
+                               ProsecutionCaseEligibilityInfo eligibility,
+                               List<LatestMaterialInfo> materials) {
+
+        /* default */
+        static CasePrefetch failed(final String caseId) {
+            return new CasePrefetch(caseId, Outcome.FAILED, null, List.of());
+        }
+    }
+}
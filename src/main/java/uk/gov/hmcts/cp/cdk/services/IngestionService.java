@@ -1,11 +1,17 @@
 package uk.gov.hmcts.cp.cdk.services;
 
-import uk.gov.hmcts.cp.cdk.repo.IngestionStatusViewRepository;
+import uk.gov.hmcts.cp.cdk.repo.CaseIngestionStatusRepository;
 import uk.gov.hmcts.cp.openapi.model.cdk.DocumentIngestionPhase;
 import uk.gov.hmcts.cp.openapi.model.cdk.IngestionStatusResponse;
 import uk.gov.hmcts.cp.openapi.model.cdk.Scope;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,16 +24,35 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class IngestionService {
 
-    private final IngestionStatusViewRepository repo;
+    private final CaseIngestionStatusRepository repo;
 
     @Transactional(readOnly = true)
     public IngestionStatusResponse getStatus(final UUID caseId) {
+        return toResponse(caseId, repo.findByCaseId(caseId));
+    }
+
+    /**
+     * Status of each distinct case in request order, read with one statement; cases without uploads are NOT_FOUND.
+     */
+    @Transactional(readOnly = true)
+    public List<IngestionStatusResponse> getStatuses(final List<UUID> caseIds) {
+        final LinkedHashSet<UUID> distinctCaseIds = new LinkedHashSet<>(caseIds);
+        final Map<UUID, CaseIngestionStatusRepository.Row> rows = repo.findByCaseIds(distinctCaseIds).stream()
+                .collect(Collectors.toMap(CaseIngestionStatusRepository.Row::caseId, Function.identity()));
+
+        return distinctCaseIds.stream()
+                .map(caseId -> toResponse(caseId, Optional.ofNullable(rows.get(caseId))))
+                .toList();
+    }
+
+    private static IngestionStatusResponse toResponse(final UUID caseId,
+                                                      final Optional<CaseIngestionStatusRepository.Row> row) {
         final IngestionStatusResponse resp = new IngestionStatusResponse();
         final Scope scope = new Scope();
         scope.setCaseId(caseId);
         resp.setScope(scope);
 
-        return repo.findByCaseId(caseId)
+        return row
                 .map(r -> {
                     resp.setPhase(DocumentIngestionPhase.fromValue(r.phase()));
                     resp.setLastUpdated(r.lastUpdated());
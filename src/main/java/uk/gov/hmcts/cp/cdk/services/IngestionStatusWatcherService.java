@@ -0,0 +1,223 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static java.util.Objects.isNull;
+import static uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase.FAILED;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.normalise;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseJobData;
+
+import uk.gov.hmcts.cp.cdk.domain.DocumentVerificationStatus;
+import uk.gov.hmcts.cp.cdk.jobmanager.IngestionWatcherProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.repo.DocumentVerificationQueue;
+import uk.gov.hmcts.cp.cdk.repo.DocumentVerificationQueue.ClaimedVerification;
+import uk.gov.hmcts.cp.openapi.api.DocumentIngestionStatusApi;
+import uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatusReturnedSuccessfully;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Batched replacement for one CheckIngestionStatusForAllDefendantsTask per uploaded document.
+ * <p>
+ * Uploaded documents are queued in {@code document_verification_task}. Each sweep claims a batch
+ * across pods, polls the RAG ingestion status with bounded concurrency, then applies the outcomes.
+ * The query catalogue is snapshotted once per sweep, not once per document. A document's row is
+ * finished in the same transaction that marks it ingested and dispatches its answer generation, so
+ * a failure leaves the row claimable for another attempt and a dispatch is neither lost nor repeated.
+ * Attempts and the delays between them follow the verify-document-status retry settings, as the
+ * per-document task does.
+ */
+@Slf4j
+@Service
+public class IngestionStatusWatcherService {
+
+    private static final String REASON_MAX_ATTEMPTS = "max attempts reached";
+
+    private final DocumentVerificationQueue verificationQueue;
+    private final DocumentIngestionStatusApi documentIngestionStatusApi;
+    private final DocumentIngestionOutcomeService documentIngestionOutcomeService;
+    private final JobManagerRetryProperties retryProperties;
+    private final IngestionWatcherProperties watcherProperties;
+    private final ObservedLatencies observedLatencies;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService pollExecutor;
+    private final String nodeId = "ingestion-watcher-" + UUID.randomUUID();
+
+    public IngestionStatusWatcherService(final DocumentVerificationQueue verificationQueue,
+                                         final DocumentIngestionStatusApi documentIngestionStatusApi,
+                                         final DocumentIngestionOutcomeService documentIngestionOutcomeService,
+                                         final JobManagerRetryProperties retryProperties,
+                                         final IngestionWatcherProperties watcherProperties,
+                                         final ObservedLatencies observedLatencies,
+                                         final PlatformTransactionManager transactionManager) {
+        this.verificationQueue = verificationQueue;
+        this.documentIngestionStatusApi = documentIngestionStatusApi;
+        this.documentIngestionOutcomeService = documentIngestionOutcomeService;
+        this.retryProperties = retryProperties;
+        this.watcherProperties = watcherProperties;
+        this.observedLatencies = observedLatencies;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pollExecutor = Executors.newFixedThreadPool(Math.max(1, watcherProperties.getConcurrency()),
+                Thread.ofVirtual().name("ingestion-watcher-", 0).factory());
+    }
+
+    public boolean isEnabled() {
+        return watcherProperties.isEnabled();
+    }
+
+    public void register(final UUID docId, final UUID caseId, final String blobName,
+                         final String documentReference, final JsonObject jobData) {
+        final List<Long> delays = retryDurationsInSecs();
+        final String identifier = isNull(blobName) || blobName.isBlank() ? documentReference : blobName;
+        verificationQueue.enqueue(docId, caseId, identifier, documentReference, jobData.toString(),
+                Math.max(1, delays.size()), delayMs(delays, 0));
+        log.info("Queued ingestion status check for documentReference='{}', docId={}", documentReference, docId);
+    }
+
+    /**
+     * Polls one batch of due documents and applies the results.
+     *
+     * @return the number of documents polled
+     */
+    public int sweep() {
+        final List<ClaimedVerification> claimed = verificationQueue.claimDue(
+                nodeId, watcherProperties.getBatchSize(), watcherProperties.getLeaseSeconds());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        final List<Future<StatusCheck>> futures = new ArrayList<>(claimed.size());
+        for (final ClaimedVerification verification : claimed) {
+            futures.add(pollExecutor.submit(() -> check(verification)));
+        }
+
+        final List<StatusCheck> checks = new ArrayList<>(claimed.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                checks.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Ingestion status sweep interrupted; unfinished claims will expire and be re-polled");
+                return checks.size();
+            } catch (ExecutionException e) {
+                checks.add(new StatusCheck(claimed.get(i), null, String.valueOf(e.getCause())));
+            }
+        }
+
+        Map<String, List<UUID>> queriesByLevel = null;
+        for (final StatusCheck check : checks) {
+            if (documentIngestionOutcomeService.isSuccessStatus(check.status()) && isNull(queriesByLevel)) {
+                queriesByLevel = documentIngestionOutcomeService.currentQueriesByLevel();
+            }
+            apply(check, queriesByLevel);
+        }
+
+        log.info("Ingestion status sweep polled {} document(s)", claimed.size());
+        return claimed.size();
+    }
+
+    /* default */
+    StatusCheck check(final ClaimedVerification verification) {
+        try {
+            final ResponseEntity<@NotNull DocumentIngestionStatusReturnedSuccessfully> response =
+                    documentIngestionStatusApi.documentStatusByReference(verification.documentReference());
+
+            if (isNull(response) || !response.getStatusCode().is2xxSuccessful()
+                    || isNull(response.getBody()) || isNull(response.getBody().getStatus())) {
+                return new StatusCheck(verification, null, "status not available yet");
+            }
+            return new StatusCheck(verification, normalise(response.getBody().getStatus().getValue(), 255), null);
+        } catch (final Exception ex) {
+            return new StatusCheck(verification, null, normalise(ex.getMessage(), 255));
+        }
+    }
+
+    private void apply(final StatusCheck check, final Map<String, List<UUID>> queriesByLevel) {
+        final ClaimedVerification verification = check.verification();
+        final UUID documentId = verification.docId();
+        try {
+            if (documentIngestionOutcomeService.isSuccessStatus(check.status())) {
+                log.info("INGESTION SUCCESS identifier='{}', docId={}", verification.blobName(), documentId);
+                // finish, phase update and dispatch commit together: a failure rolls all three back and the
+                // row is rescheduled below; a claim that expired and was taken by another node is left to that node
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!verificationQueue.finish(verification.id(), nodeId, DocumentVerificationStatus.SUCCEEDED, check.status(), null)) {
+                        log.warn("Ingestion status claim lost for docId={}, not dispatching answer generation", documentId);
+                        return;
+                    }
+                    documentIngestionOutcomeService.onIngestionSucceeded(documentId, parseJobData(verification.jobData()), queriesByLevel);
+                });
+
+            } else if (documentIngestionOutcomeService.isFailureStatus(check.status())) {
+                log.error("ingestion FAILED for identifier='{}' reason='{}' (caseId={}, docId={}).",
+                        verification.blobName(), check.status(), verification.caseId(), documentId);
+                transactionTemplate.executeWithoutResult(status -> {
+                    documentIngestionOutcomeService.onIngestionFailed(documentId, check.status());
+                    verificationQueue.finish(verification.id(), nodeId, DocumentVerificationStatus.FAILED, check.status(), null);
+                });
+
+            } else if (verification.attemptCount() >= verification.maxAttempts()) {
+                log.warn("Ingestion status not complete for identifier='{}' after {} attempts → marking FAILED",
+                        verification.blobName(), verification.attemptCount());
+                transactionTemplate.executeWithoutResult(status -> {
+                    documentIngestionOutcomeService.updateIngestionPhase(documentId, FAILED);
+                    verificationQueue.finish(verification.id(), nodeId, DocumentVerificationStatus.FAILED, check.status(), REASON_MAX_ATTEMPTS);
+                });
+
+            } else {
+                log.debug("Ingestion status not complete for identifier='{}' → polling again", verification.blobName());
+                verificationQueue.reschedule(verification.id(), nodeId, check.status(), check.reason(),
+                        nextDelayMs(verification.attemptCount()));
+            }
+        } catch (final Exception ex) {
+            log.error("Failed to apply ingestion status for docId={}", documentId, ex);
+            verificationQueue.reschedule(verification.id(), nodeId, check.status(), normalise(ex.getMessage(), 255),
+                    nextDelayMs(verification.attemptCount()));
+        }
+    }
+
+    /**
+     * Delay before the poll that follows the given (1-based) attempt.
+     */
+    /* default */
+    long nextDelayMs(final int attempt) {
+        return delayMs(retryDurationsInSecs(), attempt);
+    }
+
+    private List<Long> retryDurationsInSecs() {
+        return retryProperties.getVerifyDocumentStatus()
+                .retryDurationsInSecs(observedLatencies.median(ObservedLatencies.Kind.INGESTION));
+    }
+
+    private long delayMs(final List<Long> delays, final int index) {
+        if (delays.isEmpty()) {
+            return retryProperties.getVerifyDocumentStatus().getDelaySeconds() * 1000;
+        }
+        return delays.get(Math.min(Math.max(0, index), delays.size() - 1)) * 1000;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pollExecutor.shutdownNow();
+    }
+
+    /* default */
+    record StatusCheck(ClaimedVerification verification, String status, String reason) {
+    }
+}
@@ -1,9 +1,11 @@
 package uk.gov.hmcts.cp.cdk.services;
 
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GET_CASES_FOR_HEARING;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ORIGIN;
 import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 
 import uk.gov.hmcts.cp.cdk.domain.ScheduledIngestionRequest;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ExecutionOrigin;
 import uk.gov.hmcts.cp.cdk.repo.ScheduledIngestionRequestRepository;
 import uk.gov.hmcts.cp.openapi.model.cdk.IngestionProcessPhase;
 import uk.gov.hmcts.cp.openapi.model.cdk.IngestionProcessRequest;
@@ -59,6 +61,7 @@ public class JobManagerService implements IngestionProcessor {
                 .add("courtCentreId", request.getCourtCentreId().toString())
                 .add("roomId", request.getRoomId().toString())
                 .add("date", request.getDate().toString())
+                .add(CTX_ORIGIN, ExecutionOrigin.USER.name())
                 .build();
 
         final IngestionProcessResponse response = new IngestionProcessResponse();
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.LlmInputChunkProperties;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.BackfillBatch;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.ChunkStoreUsage;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.TableUsage;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Backfill and size reporting for the llm_input chunk store.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmInputChunkService {
+
+    private final LlmInputChunkRepository llmInputChunkRepository;
+    private final LlmInputChunkProperties properties;
+
+    /**
+     * Converts every answer row still holding a chunkable llm_input inline, one batch per transaction.
+     *
+     * @return number of rows converted
+     */
+    public int backfill() {
+        final int batchSize = properties.getBackfillBatchSize();
+        int converted = 0;
+        for (final String table : LlmInputChunkRepository.ANSWER_TABLES) {
+            BackfillBatch batch;
+            do {
+                batch = llmInputChunkRepository.backfillBatch(table, batchSize);
+                converted += batch.chunked();
+            } while (batch.rewritten() >= batchSize && !Thread.currentThread().isInterrupted());
+        }
+        if (converted > 0) {
+            log.info("llm_input chunk backfill converted {} answer row(s)", converted);
+        }
+        return converted;
+    }
+
+    public LlmInputStorageReport report() {
+        final List<TableUsage> tables = LlmInputChunkRepository.ANSWER_TABLES.stream()
+                .map(llmInputChunkRepository::tableUsage)
+                .toList();
+        return new LlmInputStorageReport(tables, llmInputChunkRepository.chunkStoreUsage());
+    }
+
+    public record LlmInputStorageReport(List<TableUsage> tables, ChunkStoreUsage chunkStore) {
+    }
+}
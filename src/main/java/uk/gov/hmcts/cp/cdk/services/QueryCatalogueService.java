@@ -21,10 +21,13 @@ public class QueryCatalogueService {
 
     private final QueryRepository queryRepository;
     private final QueryMapper mapper;
+    private final QueryDefinitionCache queryDefinitionCache;
 
-    public QueryCatalogueService(final QueryRepository queryRepository, final QueryMapper mapper) {
+    public QueryCatalogueService(final QueryRepository queryRepository, final QueryMapper mapper,
+                                 final QueryDefinitionCache queryDefinitionCache) {
         this.queryRepository = queryRepository;
         this.mapper = mapper;
+        this.queryDefinitionCache = queryDefinitionCache;
     }
 
     public List<QueryCatalogueItem> list() {
@@ -65,6 +68,7 @@ public class QueryCatalogueService {
         query.setDisplayOrder(newOrder);
         query.setIsActive(isActive);
         query = queryRepository.saveAndFlush(query);
+        queryDefinitionCache.definitionsChanged();
 
         return mapper.toCatalogueItem(query);
     }
@@ -0,0 +1,160 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static java.time.ZoneOffset.UTC;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.QueryDefinitionCacheProperties;
+import uk.gov.hmcts.cp.cdk.repo.QueryDefinitionChangeChannel;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository.SnapshotDefinition;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process snapshot of the active query definitions, so the ingestion and answer pipelines
+ * do not hit the catalogue for every document and every query.
+ * <p>
+ * A snapshot is valid until the next future {@code effective_at}, until {@code maxAgeMs}
+ * has elapsed, or until a catalogue write commits - whichever comes first. Writers call
+ * {@link #definitionsChanged()} inside their transaction: this pod drops its snapshot after
+ * commit and the other pods hear about it through {@link QueryDefinitionChangeChannel}.
+ */
+@Slf4j
+@Service
+public class QueryDefinitionCache {
+
+    private final QueryVersionRepository queryVersionRepository;
+    private final QueryDefinitionChangeChannel changeChannel;
+    private final QueryDefinitionCacheProperties properties;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+    private final String nodeId = "query-definition-cache-" + UUID.randomUUID();
+
+    private volatile Snapshot snapshot;
+
+    public QueryDefinitionCache(final QueryVersionRepository queryVersionRepository,
+                                final QueryDefinitionChangeChannel changeChannel,
+                                final QueryDefinitionCacheProperties properties,
+                                final Clock clock) {
+        this.queryVersionRepository = queryVersionRepository;
+        this.changeChannel = changeChannel;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Active query definitions as of now, ordered by query id.
+     */
+    public List<SnapshotDefinition> currentDefinitions() {
+        return current().definitions();
+    }
+
+    public Optional<SnapshotDefinition> findByQueryId(final UUID queryId) {
+        return Optional.ofNullable(current().byQueryId().get(queryId));
+    }
+
+    /**
+     * Active query ids grouped by level name.
+     */
+    public Map<String, List<UUID>> queryIdsByLevel() {
+        return current().queryIdsByLevel();
+    }
+
+    /**
+     * Must be called inside the transaction that changes queries or query versions.
+     */
+    public void definitionsChanged() {
+        changeChannel.publish(nodeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    /**
+     * Drops the current snapshot; the next read reloads it.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        log.debug("Query definition cache invalidated");
+    }
+
+    private Snapshot current() {
+        final Instant now = clock.instant();
+        final Snapshot cached = snapshot;
+        if (isFresh(cached, now)) {
+            return cached;
+        }
+        synchronized (this) {
+            final Snapshot latest = snapshot;
+            if (isFresh(latest, now)) {
+                return latest;
+            }
+            final Snapshot loaded = load(now);
+            if (properties.isEnabled()) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    private boolean isFresh(final Snapshot candidate, final Instant now) {
+        return candidate != null
+                && candidate.generation() == generation.get()
+                && now.isBefore(candidate.validUntil());
+    }
+
+    private Snapshot load(final Instant now) {
+        final long loadGeneration = generation.get();
+        final OffsetDateTime asOf = now.atOffset(UTC);
+        final List<SnapshotDefinition> definitions = queryVersionRepository.snapshotDefinitionsAsOf(asOf);
+
+        final Instant maxAge = now.plusMillis(properties.getMaxAgeMs());
+        final Instant validUntil = queryVersionRepository.findNextEffectiveAtAfter(asOf)
+                .map(OffsetDateTime::toInstant)
+                .filter(next -> next.isBefore(maxAge))
+                .orElse(maxAge);
+
+        final Map<UUID, SnapshotDefinition> byQueryId = new LinkedHashMap<>();
+        final Map<String, List<UUID>> byLevel = new LinkedHashMap<>();
+        for (final SnapshotDefinition definition : definitions) {
+            if (definition.queryId() == null) {
+                continue;
+            }
+            byQueryId.put(definition.queryId(), definition);
+            if (definition.level() != null) {
+                byLevel.computeIfAbsent(definition.level(), level -> new ArrayList<>()).add(definition.queryId());
+            }
+        }
+        byLevel.replaceAll((level, ids) -> List.copyOf(ids));
+
+        log.info("Loaded {} query definition(s) as of {}, valid until {}", definitions.size(), asOf, validUntil);
+        return new Snapshot(loadGeneration, validUntil, List.copyOf(definitions), Map.copyOf(byQueryId), Map.copyOf(byLevel));
+    }
+
+    private record Snapshot(long generation,
+                            Instant validUntil,
+                            List<SnapshotDefinition> definitions,
+                            Map<UUID, SnapshotDefinition> byQueryId,
+                            Map<String, List<UUID>> queryIdsByLevel) {
+    }
+}
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.QueryDefinitionCacheProperties;
+import uk.gov.hmcts.cp.cdk.repo.QueryDefinitionChangeChannel;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps one connection LISTENing on {@link QueryDefinitionChangeChannel#CHANNEL} and invalidates
+ * the local {@link QueryDefinitionCache} whenever another pod commits a catalogue change.
+ * After a connection failure the cache is invalidated as well, since notifications may have been missed.
+ */
+@Slf4j
+@Component
+public class QueryDefinitionChangeListener {
+
+    private final DataSource dataSource;
+    private final QueryDefinitionCache queryDefinitionCache;
+    private final QueryDefinitionCacheProperties properties;
+
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+
+    public QueryDefinitionChangeListener(final DataSource dataSource,
+                                         final QueryDefinitionCache queryDefinitionCache,
+                                         final QueryDefinitionCacheProperties properties) {
+        this.dataSource = dataSource;
+        this.queryDefinitionCache = queryDefinitionCache;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || !properties.isListenEnabled() || running) {
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofVirtual().name("query-definition-listener").start(this::listenLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        final Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + QueryDefinitionChangeChannel.CHANNEL);
+                }
+                log.info("Listening for query definition changes on channel '{}'", QueryDefinitionChangeChannel.CHANNEL);
+                queryDefinitionCache.invalidate();
+
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    final PGNotification[] notifications =
+                            pgConnection.getNotifications((int) properties.getListenPollMs());
+                    if (notifications != null && notifications.length > 0) {
+                        log.info("Query definitions changed (notified by {}), invalidating cache", notifications[0].getParameter());
+                        queryDefinitionCache.invalidate();
+                    }
+                }
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("UNLISTEN " + QueryDefinitionChangeChannel.CHANNEL);
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Query definition listener connection lost; retrying in {} ms", properties.getReconnectDelayMs(), e);
+                queryDefinitionCache.invalidate();
+                if (!sleepBeforeReconnect()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean sleepBeforeReconnect() {
+        try {
+            Thread.sleep(properties.getReconnectDelayMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.hmcts.cp.cdk.services;
 import static java.util.Objects.isNull;
 import static uk.gov.hmcts.cp.cdk.util.TimeUtils.toUtc;
 
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamUnavailableException;
 import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
 import uk.gov.hmcts.cp.cdk.domain.Query;
@@ -33,6 +34,7 @@ import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -48,6 +50,7 @@ public class QueryService {
     private final CaseDocumentRepository caseDocumentRepository;
     private final QueryMapper mapper;
     private final ProgressionClient progressionClient;
+    private final QueryDefinitionCache queryDefinitionCache;
 
     public QueryService(
             final QueryRepository queryRepository,
@@ -55,7 +58,8 @@ public class QueryService {
             final QueriesAsOfRepository queriesAsOfRepository,
             final CaseDocumentRepository caseDocumentRepository,
             final QueryMapper mapper,
-            final ProgressionClient progressionClient
+            final ProgressionClient progressionClient,
+            final QueryDefinitionCache queryDefinitionCache
     ) {
         this.queryRepository = queryRepository;
         this.queryVersionRepository = queryVersionRepository;
@@ -63,6 +67,7 @@ public class QueryService {
         this.caseDocumentRepository = caseDocumentRepository;
         this.mapper = mapper;
         this.progressionClient = progressionClient;
+        this.queryDefinitionCache = queryDefinitionCache;
     }
 
     /* ---------- helpers (use util) ---------- */
@@ -129,18 +134,9 @@ public class QueryService {
             final List<QueriesAsOfRepository.QueryAsOfView> queryAsOfViewRows = queriesAsOfRepository.listForCaseAsOf(caseId, asOf);
             summaries = queryAsOfViewRows.stream().map(QueryService::mapCaseRowToSummary).toList();
 
-            //Retrieval of casedocument to populate isIdpcAvailable info as part of DD-40778
-            final Optional<LatestMaterialInfo> courtDocuments = progressionClient.getCourtDocuments(caseId, userId);
-            log.info("courtDocuments retrieved  for : . caseId={} ",
-                    caseId);
-            final boolean isIdpcAvailable = courtDocuments
-                    .map(LatestMaterialInfo::caseIds)
-                    .map(ids -> ids.stream().anyMatch(id -> id.equals(caseId.toString())))
-                    .orElse(false);
-
             final Scope scope = new Scope();
             scope.setCaseId(caseId);
-            scope.setIsIdpcAvailable(isIdpcAvailable);
+            scope.setIsIdpcAvailable(isIdpcAvailable(caseId, userId));
             response.setScope(scope);
 
         }
@@ -149,6 +145,26 @@ public class QueryService {
         return response;
     }
 
+    /**
+     * Retrieval of casedocument to populate isIdpcAvailable info as part of DD-40778.
+     * Left unset (unknown) when Progression is unavailable, so the queries screen still renders.
+     */
+    private Boolean isIdpcAvailable(final UUID caseId, final String userId) {
+        final Optional<LatestMaterialInfo> courtDocuments;
+        try {
+            courtDocuments = progressionClient.getCourtDocuments(caseId, userId);
+        } catch (UpstreamUnavailableException | RestClientException e) {
+            log.warn("Progression unavailable, isIdpcAvailable unknown for caseId={}: {}", caseId, e.getMessage());
+            return null;
+        }
+        log.info("courtDocuments retrieved  for : . caseId={} ",
+                caseId);
+        return courtDocuments
+                .map(LatestMaterialInfo::caseIds)
+                .map(ids -> ids.stream().anyMatch(id -> id.equals(caseId.toString())))
+                .orElse(false);
+    }
+
     @Transactional(readOnly = true)
     public QuerySummary getOneForCaseAsOf(final UUID caseId,
                                           final UUID queryId,
@@ -223,6 +239,7 @@ public class QueryService {
             version.setLevel(uk.gov.hmcts.cp.cdk.domain.QueryLevel.valueOf(item.getLevel().name()));
             queryVersionRepository.save(version);
         });
+        queryDefinitionCache.definitionsChanged();
 
         final List<QueryVersionRepository.SnapshotDefinition> rows = queryVersionRepository.snapshotDefinitionsAsOf(effectiveAt);
         final List<QueryVersionSummary> versions = rows.stream()
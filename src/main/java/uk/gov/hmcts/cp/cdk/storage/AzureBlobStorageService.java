@@ -6,6 +6,13 @@ import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
 
 import com.azure.core.util.polling.SyncPoller;
@@ -13,7 +20,9 @@ import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobClientBuilder;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobCopyInfo;
+import com.azure.storage.blob.models.BlobProperties;
 import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.CopyStatusType;
 import com.azure.storage.blob.options.BlobBeginCopyOptions;
 import lombok.extern.slf4j.Slf4j;
@@ -24,12 +33,19 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class AzureBlobStorageService implements StorageService {
 
+    /* default */ static final String STAGED_COPY_ID_PREFIX = "staged-";
+
     private final BlobContainerClient blobContainerClient;
     private final long pollIntervalMs;
     private final long timeoutSeconds;
+    private final StagedBlobCopier stagedBlobCopier;
+    private final Map<String, Future<?>> stagedCopies = new ConcurrentHashMap<>();
 
-    public AzureBlobStorageService(final BlobContainerClient blobContainerClient, final StorageProperties storageProperties) {
+    public AzureBlobStorageService(final BlobContainerClient blobContainerClient,
+                                   final StorageProperties storageProperties,
+                                   final StagedBlobCopier stagedBlobCopier) {
         this.blobContainerClient = requireNonNull(blobContainerClient, "blobContainerClient");
+        this.stagedBlobCopier = requireNonNull(stagedBlobCopier, "stagedBlobCopier");
         this.pollIntervalMs = storageProperties.copyPollIntervalMs() != null ? storageProperties.copyPollIntervalMs() : 1_000L;
         this.timeoutSeconds = storageProperties.copyTimeoutSeconds() != null ? storageProperties.copyTimeoutSeconds() : 120L;
     }
@@ -42,6 +58,16 @@ public class AzureBlobStorageService implements StorageService {
                 .endpoint(destinationUrl)
                 .buildClient();
 
+        if (stagedBlobCopier.isEnabled()) {
+            final OptionalLong sourceSize = stagedBlobCopier.sourceSize(sourceUrl);
+            if (sourceSize.isPresent()) {
+                stagedBlobCopier.copy(destinationBlobClient, sourceUrl, sourceSize.getAsLong());
+                final String blobUrl = destinationBlobClient.getBlobUrl();
+                log.info("Azure copy from source to destination successful. blob={}, url={}", blobName, blobUrl);
+                return new DocumentBlobMetadata(blobUrl, blobName, sourceSize.getAsLong());
+            }
+        }
+
         final BlobBeginCopyOptions copyOptions = new BlobBeginCopyOptions(sourceUrl)
                 .setDestinationRequestConditions(new BlobRequestConditions().setIfNoneMatch("*"))
                 .setPollInterval(Duration.ofMillis(pollIntervalMs));
@@ -72,6 +98,145 @@ public class AzureBlobStorageService implements StorageService {
         }
     }
 
+    /**
+     * Sources the staged copier would split into blocks are staged on a background thread under a
+     * {@value #STAGED_COPY_ID_PREFIX} copy id; everything else starts a single asynchronous Azure copy.
+     */
+    @Override
+    public BlobCopyStatus startCopy(final String sourceUrl, final String destinationUrl) {
+        final String blobName = normalizeToBlobName(destinationUrl);
+        final BlobClient destinationBlobClient = new BlobClientBuilder()
+                .endpoint(destinationUrl)
+                .buildClient();
+
+        if (stagedBlobCopier.isEnabled()) {
+            final OptionalLong sourceSize = stagedBlobCopier.sourceSize(sourceUrl);
+            if (sourceSize.isPresent() && stagedBlobCopier.isStagedSize(sourceSize.getAsLong())) {
+                return startStagedCopy(destinationBlobClient, blobName, sourceUrl, sourceSize.getAsLong());
+            }
+        }
+
+        final BlobBeginCopyOptions copyOptions = new BlobBeginCopyOptions(sourceUrl)
+                .setDestinationRequestConditions(new BlobRequestConditions().setIfNoneMatch("*"));
+
+        final BlobCopyInfo blobCopyInfo = destinationBlobClient.beginCopy(copyOptions).poll().getValue();
+        log.info("Blob copy started. blob={}, copyId={}, status={}", blobName, blobCopyInfo.getCopyId(), blobCopyInfo.getCopyStatus());
+
+        return toCopyStatus(destinationBlobClient, blobName, blobCopyInfo.getCopyId(), blobCopyInfo.getCopyStatus(),
+                blobCopyInfo.getError());
+    }
+
+    @Override
+    public BlobCopyStatus getCopyStatus(final String destinationUrl, final String copyId) {
+        final String blobName = normalizeToBlobName(destinationUrl);
+        final BlobClient destinationBlobClient = new BlobClientBuilder()
+                .endpoint(destinationUrl)
+                .buildClient();
+
+        if (isStagedCopy(copyId)) {
+            return stagedCopyStatus(destinationBlobClient, blobName, copyId);
+        }
+
+        final BlobProperties properties = destinationBlobClient.getProperties();
+        if (copyId != null && !copyId.equals(properties.getCopyId())) {
+            log.warn("Blob copy id changed. blob={}, expected={}, actual={}", blobName, copyId, properties.getCopyId());
+            return new BlobCopyStatus(copyId, BlobCopyStatus.State.FAILED, "copy superseded by " + properties.getCopyId(), null);
+        }
+        return toCopyStatus(destinationBlobClient, blobName, properties.getCopyId(), properties.getCopyStatus(),
+                properties.getCopyStatusDescription());
+    }
+
+    @Override
+    public void abortCopy(final String destinationUrl, final String copyId) {
+        if (isStagedCopy(copyId)) {
+            final Future<?> stagedCopy = stagedCopies.remove(copyId);
+            if (stagedCopy != null && stagedCopy.cancel(true)) {
+                log.info("Staged blob copy cancelled. copyId={}", copyId);
+            }
+            return;
+        }
+        final String blobName = normalizeToBlobName(destinationUrl);
+        final BlobClient destinationBlobClient = new BlobClientBuilder()
+                .endpoint(destinationUrl)
+                .buildClient();
+        try {
+            destinationBlobClient.abortCopyFromUrl(copyId);
+            log.info("Blob copy aborted. blob={}, copyId={}", blobName, copyId);
+        } catch (final BlobStorageException blobStorageException) {
+            // NoPendingCopyOperation: the copy finished or failed on its own before the abort
+            log.warn("Blob copy abort rejected. blob={}, copyId={}, errorCode={}",
+                    blobName, copyId, blobStorageException.getErrorCode());
+        }
+    }
+
+    private BlobCopyStatus startStagedCopy(final BlobClient destinationBlobClient,
+                                           final String blobName,
+                                           final String sourceUrl,
+                                           final long sourceSize) {
+        // finished copies are visible as committed blobs, so only running and failed ones need remembering
+        stagedCopies.values().removeIf(copy -> copy.isDone() && failureOf(copy) == null);
+
+        final String copyId = STAGED_COPY_ID_PREFIX + UUID.randomUUID();
+        stagedCopies.put(copyId, stagedBlobCopier.copyInBackground(destinationBlobClient, sourceUrl, sourceSize));
+        log.info("Staged blob copy started. blob={}, copyId={}, bytes={}", blobName, copyId, sourceSize);
+        return new BlobCopyStatus(copyId, BlobCopyStatus.State.PENDING, "staging blocks", null);
+    }
+
+    /**
+     * The staged copy commits its block list only once every block is staged, so a committed destination
+     * means it succeeded. A failure is only known to the instance that ran the copy; elsewhere it stays
+     * pending until the status check gives up.
+     */
+    private BlobCopyStatus stagedCopyStatus(final BlobClient destinationBlobClient, final String blobName, final String copyId) {
+        final Future<?> stagedCopy = stagedCopies.get(copyId);
+        if (stagedCopy != null && stagedCopy.isDone()) {
+            stagedCopies.remove(copyId);
+            final String failure = failureOf(stagedCopy);
+            if (failure != null) {
+                log.warn("Staged blob copy failed. blob={}, copyId={}, reason={}", blobName, copyId, failure);
+                return new BlobCopyStatus(copyId, BlobCopyStatus.State.FAILED, failure, null);
+            }
+        }
+        if (destinationBlobClient.exists()) {
+            return toCopyStatus(destinationBlobClient, blobName, copyId, CopyStatusType.SUCCESS, null);
+        }
+        return new BlobCopyStatus(copyId, BlobCopyStatus.State.PENDING, "staging blocks", null);
+    }
+
+    private static boolean isStagedCopy(final String copyId) {
+        return copyId != null && copyId.startsWith(STAGED_COPY_ID_PREFIX);
+    }
+
+    private static String failureOf(final Future<?> copy) {
+        try {
+            copy.get();
+            return null;
+        } catch (CancellationException e) {
+            return "staged copy cancelled";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        } catch (ExecutionException e) {
+            return String.valueOf(e.getCause().getMessage());
+        }
+    }
+
+    private BlobCopyStatus toCopyStatus(final BlobClient destinationBlobClient,
+                                        final String blobName,
+                                        final String copyId,
+                                        final CopyStatusType copyStatus,
+                                        final String description) {
+        if (copyStatus == CopyStatusType.SUCCESS) {
+            final DocumentBlobMetadata metadata = new DocumentBlobMetadata(destinationBlobClient.getBlobUrl(), blobName,
+                    destinationBlobClient.getProperties().getBlobSize());
+            return new BlobCopyStatus(copyId, BlobCopyStatus.State.SUCCESS, description, metadata);
+        }
+        if (copyStatus == CopyStatusType.ABORTED || copyStatus == CopyStatusType.FAILED) {
+            return new BlobCopyStatus(copyId, BlobCopyStatus.State.FAILED, description, null);
+        }
+        return new BlobCopyStatus(copyId, BlobCopyStatus.State.PENDING, description, null);
+    }
+
     @Override
     public boolean exists(final String blobPath) {
         final String blobName = normalizeToBlobName(blobPath);
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.cp.cdk.storage;
+
+/**
+ * Progress of a server-side copy started with {@link StorageService#startCopy(String, String)}.
+ * {@code metadata} is only set once the copy has succeeded.
+ */
+public record BlobCopyStatus(
+        String copyId,
+        State state,
+        String description,
+        DocumentBlobMetadata metadata
+) {
+    public enum State {
+        PENDING,
+        SUCCESS,
+        FAILED
+    }
+
+    public boolean isPending() {
+        return state == State.PENDING;
+    }
+}
@@ -0,0 +1,229 @@
+package uk.gov.hmcts.cp.cdk.storage;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.Block;
+import com.azure.storage.blob.models.BlockListType;
+import com.azure.storage.blob.options.BlobCopyFromUrlOptions;
+import com.azure.storage.blob.options.BlockBlobCommitBlockListOptions;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-side copy without a long-running copy poller.
+ * Sources below {@code thresholdBytes} use a single synchronous Copy Blob From URL; larger sources are
+ * split into fixed-size ranges staged in parallel with Put Block From URL and then committed.
+ * Block ids are derived from block size and index, so a retried copy to the same blob skips ranges
+ * that are already staged (uncommitted blocks are kept by Azure for a week).
+ * {@link #copyInBackground} runs the same copy off the caller's thread for callers that track completion themselves.
+ */
+@Slf4j
+public class StagedBlobCopier {
+
+    /* default */ static final String STRATEGY_SYNC = "sync";
+    /* default */ static final String STRATEGY_STAGED = "staged";
+
+    private final StorageProperties.StagedCopy settings;
+    private final HttpClient httpClient;
+    private final ExecutorService blockExecutor;
+    private final ExecutorService copyExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public StagedBlobCopier(final StorageProperties.StagedCopy settings,
+                            final HttpClient httpClient,
+                            final MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.httpClient = httpClient;
+        this.meterRegistry = meterRegistry;
+        this.blockExecutor = Executors.newFixedThreadPool(settings.concurrency(),
+                Thread.ofVirtual().name("blob-block-copy-", 0).factory());
+        this.copyExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("blob-staged-copy-", 0).factory());
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    /**
+     * Size of the source from a HEAD request; empty when the source does not report one,
+     * in which case the caller keeps the asynchronous copy.
+     */
+    public OptionalLong sourceSize(final String sourceUrl) {
+        try {
+            final HttpRequest request = HttpRequest.newBuilder(URI.create(sourceUrl))
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .timeout(Duration.ofSeconds(settings.requestTimeoutSeconds()))
+                    .build();
+            final HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                log.warn("HEAD on copy source returned status {}", response.statusCode());
+                return OptionalLong.empty();
+            }
+            return response.headers().firstValueAsLong("Content-Length");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return OptionalLong.empty();
+        } catch (Exception e) {
+            log.warn("Could not determine copy source size: {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Whether {@link #copy} stages a source of this size in blocks rather than copying it in one request.
+     */
+    public boolean isStagedSize(final long sourceSize) {
+        return sourceSize >= settings.thresholdBytes();
+    }
+
+    /**
+     * Copies {@code sourceUrl} into {@code destination}, which must not exist yet.
+     */
+    public void copy(final BlobClient destination, final String sourceUrl, final long sourceSize) {
+        final String strategy = isStagedSize(sourceSize) ? STRATEGY_STAGED : STRATEGY_SYNC;
+        final long startedAt = System.nanoTime();
+
+        if (STRATEGY_STAGED.equals(strategy)) {
+            stageAndCommit(destination.getBlockBlobClient(), sourceUrl, sourceSize);
+        } else {
+            destination.copyFromUrlWithResponse(
+                    new BlobCopyFromUrlOptions(sourceUrl)
+                            .setDestinationRequestConditions(new BlobRequestConditions().setIfNoneMatch("*")),
+                    requestTimeout(),
+                    Context.NONE);
+        }
+
+        recordThroughput(strategy, sourceSize, System.nanoTime() - startedAt, destination.getBlobName());
+    }
+
+    /**
+     * Runs {@link #copy} on a background thread; cancelling the returned future interrupts it.
+     * Block requests still share the bounded block pool.
+     */
+    public Future<?> copyInBackground(final BlobClient destination, final String sourceUrl, final long sourceSize) {
+        return copyExecutor.submit(() -> copy(destination, sourceUrl, sourceSize));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        copyExecutor.shutdownNow();
+        blockExecutor.shutdownNow();
+    }
+
+    private void stageAndCommit(final BlockBlobClient blockBlob, final String sourceUrl, final long sourceSize) {
+        final long blockSize = settings.blockSizeBytes();
+        final Map<String, Long> alreadyStaged = stagedBlocks(blockBlob);
+
+        final List<String> blockIds = new ArrayList<>();
+        final List<Callable<Void>> pending = new ArrayList<>();
+        for (long offset = 0, index = 0; offset < sourceSize; offset += blockSize, index++) {
+            final String blockId = blockId(blockSize, index);
+            final BlobRange range = new BlobRange(offset, Math.min(blockSize, sourceSize - offset));
+            blockIds.add(blockId);
+            if (range.getCount().equals(alreadyStaged.get(blockId))) {
+                continue;
+            }
+            pending.add(() -> {
+                blockBlob.stageBlockFromUrl(blockId, sourceUrl, range);
+                return null;
+            });
+        }
+
+        log.info("Staging {} of {} block(s) for blob={} ({} already staged)",
+                pending.size(), blockIds.size(), blockBlob.getBlobName(), blockIds.size() - pending.size());
+        awaitAll(blockExecutor, pending);
+
+        blockBlob.commitBlockListWithResponse(
+                new BlockBlobCommitBlockListOptions(blockIds)
+                        .setRequestConditions(new BlobRequestConditions().setIfNoneMatch("*")),
+                requestTimeout(),
+                Context.NONE);
+    }
+
+    private static Map<String, Long> stagedBlocks(final BlockBlobClient blockBlob) {
+        try {
+            return blockBlob.listBlocks(BlockListType.UNCOMMITTED).getUncommittedBlocks().stream()
+                    .collect(Collectors.toMap(Block::getName, Block::getSizeLong, (first, second) -> first));
+        } catch (BlobStorageException e) {
+            if (e.getStatusCode() == 404) {
+                return Map.of();
+            }
+            throw e;
+        }
+    }
+
+    private static void awaitAll(final ExecutorService executor, final List<Callable<Void>> tasks) {
+        try {
+            for (final Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while staging blob blocks", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Staging blob block failed", e.getCause());
+        }
+    }
+
+    /* default */
+    static String blockId(final long blockSize, final long index) {
+        final String raw = String.format("cdk-%012d-%06d", blockSize, index);
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Duration requestTimeout() {
+        return Duration.ofSeconds(settings.requestTimeoutSeconds());
+    }
+
+    private void recordThroughput(final String strategy, final long bytes, final long elapsedNanos, final String blobName) {
+        Timer.builder("cdk.storage.copy.duration")
+                .tag("strategy", strategy)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsedNanos));
+        DistributionSummary.builder("cdk.storage.copy.bytes")
+                .baseUnit("bytes")
+                .tag("strategy", strategy)
+                .register(meterRegistry)
+                .record(bytes);
+
+        final double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000d;
+        final double bytesPerSecond = bytes / seconds;
+        DistributionSummary.builder("cdk.storage.copy.throughput")
+                .baseUnit("bytes/s")
+                .tag("strategy", strategy)
+                .register(meterRegistry)
+                .record(bytesPerSecond);
+
+        log.info("Blob copy ({}) completed. blob={}, bytes={}, seconds={}, bytesPerSecond={}",
+                strategy, blobName, bytes, String.format("%.2f", seconds), Math.round(bytesPerSecond));
+    }
+}
@@ -16,8 +16,47 @@ public record StorageProperties(
         String managedIdentityClientId,
 
         // Azurite
-        Azurite azurite
+        Azurite azurite,
+
+        // Server-side copy of large sources in parallel blocks
+        StagedCopy stagedCopy
 ) {
+    public StorageProperties {
+        if (stagedCopy == null) {
+            stagedCopy = new StagedCopy(null, 0, 0, 0, 0);
+        }
+    }
+
     public record Azurite(String image) {
     }
+
+    public record StagedCopy(
+            Boolean enabled,
+            long thresholdBytes,         // sources at or above this size are staged in blocks
+            long blockSizeBytes,
+            int concurrency,             // block copies in flight across all uploads
+            long requestTimeoutSeconds   // per synchronous copy / block / commit request
+    ) {
+        public StagedCopy {
+            if (enabled == null) {
+                enabled = Boolean.TRUE;
+            }
+            if (thresholdBytes <= 0) {
+                thresholdBytes = 64L * 1024 * 1024;
+            }
+            if (blockSizeBytes <= 0) {
+                blockSizeBytes = 32L * 1024 * 1024;
+            }
+            if (concurrency <= 0) {
+                concurrency = 8;
+            }
+            if (requestTimeoutSeconds <= 0) {
+                requestTimeoutSeconds = 300;
+            }
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+    }
 }
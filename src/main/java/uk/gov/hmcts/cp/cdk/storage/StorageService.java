@@ -7,4 +7,18 @@ public interface StorageService {
     long getBlobSize(String blobPath);
 
     DocumentBlobMetadata copyFromUrl(String sourceUrl, String destinationUrl);
+
+    /**
+     * Starts a server-side copy and returns without waiting for it to finish. Large sources may be
+     * copied in staged blocks rather than by a single Azure copy; {@link #getCopyStatus} tracks either.
+     */
+    BlobCopyStatus startCopy(String sourceUrl, String destinationUrl);
+
+    BlobCopyStatus getCopyStatus(String destinationUrl, String copyId);
+
+    /**
+     * Aborts a pending server-side copy so it does not keep running after the upload has been given up on.
+     * A copy that has already finished is left as it is.
+     */
+    void abortCopy(String destinationUrl, String copyId);
 }
@@ -7,7 +7,9 @@ public record UploadProperties(
         String blobPrefix,
         String datePattern,
         String fileExtension,
-        String contentType
+        String contentType,
+        Boolean asyncCopy            // start the copy and check it from a separate task; sources the staged copier
+                                     // splits into blocks (cdk.storage.azure.staged-copy) are staged in the background
 ) {
     public UploadProperties {
         if (blobPrefix == null || blobPrefix.isBlank()) {
@@ -22,5 +24,8 @@ public record UploadProperties(
         if (contentType == null || contentType.isBlank()) {
             contentType = "application/pdf";
         }
+        if (asyncCopy == null) {
+            asyncCopy = Boolean.TRUE;
+        }
     }
 }
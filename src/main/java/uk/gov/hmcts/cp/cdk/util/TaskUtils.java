@@ -4,12 +4,17 @@ import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
 import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
 
+import java.io.StringReader;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -91,14 +96,12 @@ public class TaskUtils {
 
     public static MapSqlParameterSource buildAnswerParams(final UUID caseId,
                                                           final UUID queryId,
-                                                          final Integer version,
                                                           final String answer,
                                                           final String llmInput,
                                                           final UUID documentId) {
         return new MapSqlParameterSource()
                 .addValue("case_id", caseId)
                 .addValue("query_id", queryId)
-                .addValue("version", version)
                 .addValue("answer", answer)
                 .addValue("llm_input", llmInput)
                 .addValue("doc_id", documentId);
@@ -147,4 +150,17 @@ public class TaskUtils {
         }
     }
 
+    // ---------- Job data helpers ----------
+
+    /**
+     * Parses job data persisted as JSON text (e.g. in a work-queue table). Empty object if null/blank.
+     */
+    public static JsonObject parseJobData(final String json) {
+        if (json == null || json.isBlank()) {
+            return JsonValue.EMPTY_JSON_OBJECT;
+        }
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
 }
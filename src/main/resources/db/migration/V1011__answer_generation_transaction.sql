@@ -0,0 +1,33 @@
+-- ============================================================================
+-- V1011__answer_generation_transaction.sql
+-- Outstanding async RAG answer transactions, polled centrally in batches
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS answer_generation_transaction (
+  transaction_id   TEXT         PRIMARY KEY,
+  case_id          UUID         NOT NULL,
+  query_id         UUID         NOT NULL,
+
+  -- job data of the originating GENERATE_ANSWER_FOR_QUERY task, replayed on retry
+  job_data         TEXT         NOT NULL,
+
+  poll_count       INTEGER      NOT NULL DEFAULT 0,
+  next_poll_at     TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+
+  lock_owner       TEXT,
+  locked_until     TIMESTAMPTZ,
+
+  created_at       TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+  updated_at       TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+
+  CONSTRAINT agt_poll_count_non_negative CHECK (poll_count >= 0)
+);
+
+COMMENT ON TABLE answer_generation_transaction IS
+'Async RAG answer transactions awaiting completion; claimed by pollers using SKIP LOCKED and removed once resolved.';
+
+CREATE INDEX IF NOT EXISTS idx_agt_next_poll_at
+  ON answer_generation_transaction (next_poll_at);
+
+CREATE INDEX IF NOT EXISTS idx_agt_case_query
+  ON answer_generation_transaction (case_id, query_id);
@@ -0,0 +1,25 @@
+-- ============================================================================
+-- V1012__document_verification_task_watcher.sql
+-- Prepare document_verification_task for the batched ingestion status watcher
+-- ============================================================================
+
+ALTER TABLE document_verification_task
+  ADD COLUMN IF NOT EXISTS document_reference TEXT,
+  ADD COLUMN IF NOT EXISTS job_data           TEXT;
+
+COMMENT ON COLUMN document_verification_task.document_reference IS
+'Reference returned by document upload initiation; used to poll the ingestion status.';
+
+COMMENT ON COLUMN document_verification_task.job_data IS
+'Job data of the upload task, carried into the answer-generation tasks fanned out on success.';
+
+-- One verification row per document; re-registering a document resets its row.
+DELETE FROM document_verification_task a
+ USING document_verification_task b
+ WHERE a.doc_id = b.doc_id
+   AND a.id < b.id;
+
+DROP INDEX IF EXISTS idx_dvt_doc_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_dvt_doc_id
+  ON document_verification_task (doc_id);
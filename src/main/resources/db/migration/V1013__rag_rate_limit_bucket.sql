@@ -0,0 +1,15 @@
+-- ============================================================================
+-- V1013__rag_rate_limit_bucket.sql
+-- Token buckets for RAG/APIM calls shared across replicas (rag.client.governor.distributed)
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS rag_rate_limit_bucket (
+  operation        TEXT              PRIMARY KEY,
+
+  -- may go negative: callers that reserve past zero wait until the balance refills
+  tokens           DOUBLE PRECISION  NOT NULL,
+  refreshed_at     TIMESTAMPTZ       NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE rag_rate_limit_bucket IS
+'One token bucket per RAG operation; refilled and debited atomically by each reservation.';
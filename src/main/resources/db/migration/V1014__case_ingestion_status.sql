@@ -0,0 +1,73 @@
+-- ============================================================================
+-- V1014__case_ingestion_status.sql
+-- Latest ingestion phase per case, maintained on every case_documents phase change
+-- (replaces the DISTINCT ON scan behind v_case_ingestion_status)
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS case_ingestion_status (
+  case_id       UUID                           PRIMARY KEY,
+  phase         document_ingestion_phase_enum  NOT NULL,
+  last_updated  TIMESTAMPTZ                    NOT NULL,
+  doc_id        UUID                           NULL  -- document whose phase change is reported
+);
+
+COMMENT ON TABLE case_ingestion_status IS
+'Latest ingestion phase per case (phase, last_updated); written by trigger in the same transaction as case_documents.';
+
+INSERT INTO case_ingestion_status (case_id, phase, last_updated, doc_id)
+SELECT DISTINCT ON (case_id)
+       case_id, ingestion_phase, ingestion_phase_at, doc_id
+  FROM case_documents
+ ORDER BY case_id, ingestion_phase_at DESC
+ON CONFLICT (case_id) DO NOTHING;
+
+-- ----------------------------------------------------------------------------
+-- Trigger: keep case_ingestion_status on the most recent phase change per case
+-- ----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION trg_case_documents_ingestion_status()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    -- the removed row may have been the latest: fall back to the case's next most recent document
+    DELETE FROM case_ingestion_status
+     WHERE case_id = OLD.case_id
+       AND doc_id = OLD.doc_id;
+
+    IF FOUND THEN
+      INSERT INTO case_ingestion_status (case_id, phase, last_updated, doc_id)
+      SELECT case_id, ingestion_phase, ingestion_phase_at, doc_id
+        FROM case_documents
+       WHERE case_id = OLD.case_id
+       ORDER BY ingestion_phase_at DESC
+       LIMIT 1
+      ON CONFLICT (case_id) DO NOTHING;
+    END IF;
+    RETURN NULL;
+  END IF;
+
+  INSERT INTO case_ingestion_status (case_id, phase, last_updated, doc_id)
+  VALUES (NEW.case_id, NEW.ingestion_phase, NEW.ingestion_phase_at, NEW.doc_id)
+  ON CONFLICT (case_id) DO UPDATE
+    SET phase = EXCLUDED.phase,
+        last_updated = EXCLUDED.last_updated,
+        doc_id = EXCLUDED.doc_id
+    WHERE case_ingestion_status.last_updated <= EXCLUDED.last_updated;
+
+  RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS case_documents_ingestion_status ON case_documents;
+CREATE TRIGGER case_documents_ingestion_status
+AFTER INSERT OR UPDATE OF ingestion_phase, ingestion_phase_at OR DELETE ON case_documents
+FOR EACH ROW
+EXECUTE FUNCTION trg_case_documents_ingestion_status();
+
+-- Existing readers of the view now get the summary row instead of scanning case_documents
+CREATE OR REPLACE VIEW v_case_ingestion_status AS
+SELECT case_id,
+       phase,
+       last_updated
+  FROM case_ingestion_status;
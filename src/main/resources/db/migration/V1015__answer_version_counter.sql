@@ -0,0 +1,67 @@
+-- ============================================================================
+-- V1015__answer_version_counter.sql
+-- Per-(table, case, query[, defendant]) answer version counters, allocated inside
+-- the answer INSERT itself (replaces SELECT COALESCE(MAX(version),0)+1 then INSERT)
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS answer_version_counter (
+  answer_table  TEXT     NOT NULL,
+  case_id       UUID     NOT NULL,
+  query_id      UUID     NOT NULL,
+  defendant_id  UUID     NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',  -- nil UUID for non-defendant tables
+  last_version  INTEGER  NOT NULL,
+  PRIMARY KEY (answer_table, case_id, query_id, defendant_id),
+  CONSTRAINT avc_answer_table_known CHECK (answer_table IN (
+    'answers', 'case_level_latest_doc_answers', 'case_level_all_documents_answers', 'defendant_answers')),
+  CONSTRAINT avc_version_positive CHECK (last_version >= 1)
+);
+
+COMMENT ON TABLE answer_version_counter IS
+'Last allocated answer version per answer table and (case, query[, defendant]); one row lock per allocation.';
+
+INSERT INTO answer_version_counter (answer_table, case_id, query_id, last_version)
+SELECT 'answers', case_id, query_id, MAX(version)
+  FROM answers
+ GROUP BY case_id, query_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO answer_version_counter (answer_table, case_id, query_id, last_version)
+SELECT 'case_level_latest_doc_answers', case_id, query_id, MAX(version)
+  FROM case_level_latest_doc_answers
+ GROUP BY case_id, query_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO answer_version_counter (answer_table, case_id, query_id, last_version)
+SELECT 'case_level_all_documents_answers', case_id, query_id, MAX(version)
+  FROM case_level_all_documents_answers
+ GROUP BY case_id, query_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO answer_version_counter (answer_table, case_id, query_id, defendant_id, last_version)
+SELECT 'defendant_answers', case_id, query_id, defendant_id, MAX(version)
+  FROM defendant_answers
+ GROUP BY case_id, query_id, defendant_id
+ON CONFLICT DO NOTHING;
+
+-- ----------------------------------------------------------------------------
+-- Helper: bump and return the next version; callers use it as the VALUES expression
+-- of their answer INSERT so allocation and insert are one statement
+-- ----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION allocate_answer_version(p_answer_table TEXT,
+                                                   p_case_id      UUID,
+                                                   p_query_id     UUID,
+                                                   p_defendant_id UUID DEFAULT NULL)
+RETURNS INTEGER
+LANGUAGE sql
+VOLATILE
+AS $$
+  INSERT INTO answer_version_counter AS c (answer_table, case_id, query_id, defendant_id, last_version)
+  VALUES (p_answer_table, p_case_id, p_query_id,
+          COALESCE(p_defendant_id, '00000000-0000-0000-0000-000000000000'::uuid), 1)
+  ON CONFLICT (answer_table, case_id, query_id, defendant_id) DO UPDATE
+    SET last_version = c.last_version + 1
+  RETURNING last_version;
+$$;
+
+COMMENT ON FUNCTION allocate_answer_version(TEXT, UUID, UUID, UUID) IS
+'Allocates the next answer version for a table and (case, query[, defendant]); the counter row stays locked until commit.';
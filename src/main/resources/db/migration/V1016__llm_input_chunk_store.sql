@@ -0,0 +1,116 @@
+-- ============================================================================
+-- V1016__llm_input_chunk_store.sql
+-- Content-addressed store for llm_input provenance chunks: each distinct chunk is
+-- kept once (compressed by TOAST) and answers hold an ordered array of chunk hashes
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS llm_input_chunk (
+  chunk_hash  BYTEA        PRIMARY KEY,               -- sha256 of the chunk's canonical jsonb text
+  content     JSONB        NOT NULL,
+  created_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+) WITH (toast_tuple_target = 128);                   -- compress chunk rows well below the 2kB default
+
+COMMENT ON TABLE llm_input_chunk IS
+'One row per distinct provenance chunk; answers reference chunks through llm_input_chunks.';
+
+ALTER TABLE answers                          ADD COLUMN IF NOT EXISTS llm_input_chunks BYTEA[] NULL;
+ALTER TABLE case_level_latest_doc_answers    ADD COLUMN IF NOT EXISTS llm_input_chunks BYTEA[] NULL;
+ALTER TABLE case_level_all_documents_answers ADD COLUMN IF NOT EXISTS llm_input_chunks BYTEA[] NULL;
+ALTER TABLE defendant_answers                ADD COLUMN IF NOT EXISTS llm_input_chunks BYTEA[] NULL;
+
+-- ----------------------------------------------------------------------------
+-- Chunkable llm_input: exactly {"provenanceChunksSample": [...]}, as written by the
+-- answer persistence path. Any other llm_input (legacy text, empty string) stays inline.
+-- ----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION llm_input_is_chunkable(p_llm_input TEXT)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+IMMUTABLE
+AS $$
+DECLARE
+  v_input  JSONB;
+BEGIN
+  IF p_llm_input IS NULL OR p_llm_input NOT LIKE '{"provenanceChunksSample":%' THEN
+    RETURN FALSE;
+  END IF;
+  v_input := p_llm_input::jsonb;
+  RETURN jsonb_typeof(v_input -> 'provenanceChunksSample') = 'array'
+     AND (SELECT count(*) FROM jsonb_object_keys(v_input)) = 1;
+EXCEPTION
+  WHEN invalid_text_representation THEN
+    RETURN FALSE;
+END
+$$;
+
+-- ----------------------------------------------------------------------------
+-- Trigger: move chunkable llm_input out of the row into the chunk store
+-- ----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION trg_answers_llm_input_chunks()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+DECLARE
+  v_input  JSONB;
+BEGIN
+  IF NOT llm_input_is_chunkable(NEW.llm_input) THEN
+    RETURN NEW;
+  END IF;
+
+  v_input := NEW.llm_input::jsonb;
+
+  INSERT INTO llm_input_chunk (chunk_hash, content)
+  SELECT DISTINCT ON (h.chunk_hash) h.chunk_hash, h.content
+    FROM (SELECT sha256(convert_to(e::text, 'UTF8')) AS chunk_hash, e AS content
+            FROM jsonb_array_elements(v_input -> 'provenanceChunksSample') AS e) h
+  ON CONFLICT (chunk_hash) DO NOTHING;
+
+  NEW.llm_input_chunks := ARRAY(
+    SELECT sha256(convert_to(e.value::text, 'UTF8'))
+      FROM jsonb_array_elements(v_input -> 'provenanceChunksSample') WITH ORDINALITY AS e(value, ord)
+     ORDER BY e.ord);
+  NEW.llm_input := NULL;
+  RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS answers_llm_input_chunks ON answers;
+CREATE TRIGGER answers_llm_input_chunks
+BEFORE INSERT OR UPDATE OF llm_input ON answers
+FOR EACH ROW EXECUTE FUNCTION trg_answers_llm_input_chunks();
+
+DROP TRIGGER IF EXISTS case_level_latest_doc_answers_llm_input_chunks ON case_level_latest_doc_answers;
+CREATE TRIGGER case_level_latest_doc_answers_llm_input_chunks
+BEFORE INSERT OR UPDATE OF llm_input ON case_level_latest_doc_answers
+FOR EACH ROW EXECUTE FUNCTION trg_answers_llm_input_chunks();
+
+DROP TRIGGER IF EXISTS case_level_all_documents_answers_llm_input_chunks ON case_level_all_documents_answers;
+CREATE TRIGGER case_level_all_documents_answers_llm_input_chunks
+BEFORE INSERT OR UPDATE OF llm_input ON case_level_all_documents_answers
+FOR EACH ROW EXECUTE FUNCTION trg_answers_llm_input_chunks();
+
+DROP TRIGGER IF EXISTS defendant_answers_llm_input_chunks ON defendant_answers;
+CREATE TRIGGER defendant_answers_llm_input_chunks
+BEFORE INSERT OR UPDATE OF llm_input ON defendant_answers
+FOR EACH ROW EXECUTE FUNCTION trg_answers_llm_input_chunks();
+
+-- ----------------------------------------------------------------------------
+-- Helper: the llm_input JSON of an answer row, reassembled from the store when chunked
+-- ----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION llm_input_text(p_llm_input TEXT, p_chunks BYTEA[])
+RETURNS TEXT
+LANGUAGE sql
+STABLE
+AS $$
+  SELECT CASE
+           WHEN p_chunks IS NULL THEN p_llm_input
+           ELSE (SELECT jsonb_build_object('provenanceChunksSample',
+                                           COALESCE(jsonb_agg(c.content ORDER BY r.ord), '[]'::jsonb))::text
+                   FROM unnest(p_chunks) WITH ORDINALITY AS r(chunk_hash, ord)
+                   JOIN llm_input_chunk c ON c.chunk_hash = r.chunk_hash)
+         END;
+$$;
+
+COMMENT ON FUNCTION llm_input_text(TEXT, BYTEA[]) IS
+'Returns llm_input as stored, or rebuilt from llm_input_chunk when the row references chunks.';
+
+-- Existing rows are converted in batches by the llm_input chunk backfill job, not here.
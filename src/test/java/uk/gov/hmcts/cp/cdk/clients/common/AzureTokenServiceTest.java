@@ -5,33 +5,55 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 
 import com.azure.core.credential.AccessToken;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class AzureTokenServiceTest {
 
+    private static final String SCOPE = "https://example/.default";
+    private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+
     @Mock
     private TokenCredential tokenCredential;
-    @InjectMocks
     private AzureTokenService azureTokenService;
 
     @Captor
     private ArgumentCaptor<TokenRequestContext> tokenRequestCaptor;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RagClientProperties ragClientProperties = new RagClientProperties();
+
+    @BeforeEach
+    void setUp() {
+        azureTokenService = service(Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        azureTokenService.shutdown();
+    }
+
     @Test
     void shouldReturnAccessToken_whenScopeIsValid() {
         // Arrange
@@ -72,4 +94,63 @@ class AzureTokenServiceTest {
         assertThat(exception.getCause()).isNotNull();
         assertThat(exception.getCause().getMessage()).isEqualTo("AAD failure");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeCachedToken_untilRefreshMargin() {
+        azureTokenService = service(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(tokenCredential.getTokenSync(any(TokenRequestContext.class)))
+                .thenReturn(new AccessToken("token-1", expiresIn(3600)));
+
+        assertEquals("token-1", azureTokenService.getAccessToken(SCOPE));
+        assertEquals("token-1", azureTokenService.getAccessToken(SCOPE));
+
+        verify(tokenCredential, times(1)).getTokenSync(any(TokenRequestContext.class));
+        assertThat(meterRegistry.counter("cdk.rag.aad.token.cache", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cdk.rag.aad.token.acquisition").tag("result", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefreshInBackground_whenInsideRefreshMargin() {
+        azureTokenService = service(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(tokenCredential.getTokenSync(any(TokenRequestContext.class)))
+                .thenReturn(new AccessToken("token-1", expiresIn(120)))
+                .thenReturn(new AccessToken("token-2", expiresIn(3600)));
+
+        assertEquals("token-1", azureTokenService.getAccessToken(SCOPE));
+        assertEquals("token-1", azureTokenService.getAccessToken(SCOPE));
+
+        verify(tokenCredential, timeout(5000).times(2)).getTokenSync(any(TokenRequestContext.class));
+    }
+
+    @Test
+    void shouldBlockForNewToken_whenCachedTokenExpired() {
+        azureTokenService = service(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(tokenCredential.getTokenSync(any(TokenRequestContext.class)))
+                .thenReturn(new AccessToken("token-1", expiresIn(10)))
+                .thenReturn(new AccessToken("token-2", expiresIn(3600)));
+
+        assertEquals("token-1", azureTokenService.getAccessToken(SCOPE));
+        assertEquals("token-2", azureTokenService.getAccessToken(SCOPE));
+    }
+
+    @Test
+    void shouldAcquireEveryTime_whenCacheDisabled() {
+        ragClientProperties.getAuth().getAad().setTokenCacheEnabled(false);
+        when(tokenCredential.getTokenSync(any(TokenRequestContext.class)))
+                .thenReturn(new AccessToken("token-1", OffsetDateTime.now().plusHours(1)));
+
+        azureTokenService.getAccessToken(SCOPE);
+        azureTokenService.getAccessToken(SCOPE);
+
+        verify(tokenCredential, times(2)).getTokenSync(any(TokenRequestContext.class));
+    }
+
+    private AzureTokenService service(final Clock clock) {
+        return new AzureTokenService(tokenCredential, ragClientProperties, meterRegistry, clock);
+    }
+
+    private static OffsetDateTime expiresIn(final long seconds) {
+        return NOW.plusSeconds(seconds).atOffset(ZoneOffset.UTC);
+    }
+}
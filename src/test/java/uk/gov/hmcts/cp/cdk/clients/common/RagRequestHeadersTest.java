@@ -0,0 +1,90 @@
+package uk.gov.hmcts.cp.cdk.clients.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+class RagRequestHeadersTest {
+
+    @Mock
+    private AzureTokenService azureTokenService;
+
+    private final RagClientProperties properties = new RagClientProperties();
+    private ApimAuthHeaderService apimAuthHeaderService;
+
+    @BeforeEach
+    void setUp() {
+        apimAuthHeaderService = new ApimAuthHeaderService(azureTokenService);
+        properties.setHeaders(Map.of("Accept", "application/json"));
+    }
+
+    @Test
+    void shouldApplyPreparedSubscriptionKeyHeaders() {
+        properties.getAuth().setSubscriptionKey("my-key");
+        final RagRequestHeaders headers = new RagRequestHeaders(properties, apimAuthHeaderService, azureTokenService);
+
+        final HttpHeaders first = new HttpHeaders();
+        final HttpHeaders second = new HttpHeaders();
+        headers.accept(first);
+        headers.accept(second);
+
+        assertThat(first.getFirst(ApimAuthHeaderService.OCP_APIM_SUBSCRIPTION_KEY)).isEqualTo("my-key");
+        assertThat(first.getFirst("Accept")).isEqualTo("application/json");
+        assertThat(second.toSingleValueMap()).isEqualTo(first.toSingleValueMap());
+        verify(azureTokenService, never()).getAccessToken(anyString());
+    }
+
+    @Test
+    void shouldReuseBearerValue_untilTokenRotates() {
+        properties.getAuth().setMode("aad");
+        properties.getAuth().getAad().setScope("api://rag/.default");
+        when(azureTokenService.getAccessToken("api://rag/.default"))
+                .thenReturn("token-1", "token-1", "token-2");
+        final RagRequestHeaders headers = new RagRequestHeaders(properties, apimAuthHeaderService, azureTokenService);
+
+        final HttpHeaders first = new HttpHeaders();
+        final HttpHeaders second = new HttpHeaders();
+        final HttpHeaders third = new HttpHeaders();
+        headers.accept(first);
+        headers.accept(second);
+        headers.accept(third);
+
+        assertThat(first.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token-1");
+        assertThat(second.getFirst(HttpHeaders.AUTHORIZATION)).isSameAs(first.getFirst(HttpHeaders.AUTHORIZATION));
+        assertThat(third.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token-2");
+        assertThat(third.get(HttpHeaders.AUTHORIZATION)).hasSize(1);
+        assertThat(third.getFirst("Accept")).isEqualTo("application/json");
+    }
+
+    @Test
+    void shouldFailEachRequest_whenSubscriptionKeyMissing() {
+        final RagRequestHeaders headers = new RagRequestHeaders(properties, apimAuthHeaderService, azureTokenService);
+
+        assertThatThrownBy(() -> headers.accept(new HttpHeaders()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Ocp-Apim-Subscription-Key");
+    }
+
+    @Test
+    void shouldFailEachRequest_whenAadScopeMissing() {
+        properties.getAuth().setMode("aad");
+        final RagRequestHeaders headers = new RagRequestHeaders(properties, apimAuthHeaderService, azureTokenService);
+
+        assertThatThrownBy(() -> headers.accept(new HttpHeaders()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("rag.client.auth.aad.scope");
+    }
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.cp.cdk.clients.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamGuard.CircuitState;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamResilienceProperties.Policy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class UpstreamGuardTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(NOW);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void shouldOpenCircuit_afterFailureRateReached_andFailFast() {
+        final UpstreamGuard guard = guard(new Policy(50, 4, 4, 30_000, 1, 5, 10));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.call(UpstreamGuard.PROGRESSION, this::timeout))
+                    .isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(guard.state(UpstreamGuard.PROGRESSION)).isEqualTo(CircuitState.OPEN);
+        assertThatThrownBy(() -> guard.call(UpstreamGuard.PROGRESSION, this::ok))
+                .isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(meterRegistry.get("cdk.upstream.circuit.transitions")
+                .tag("upstream", UpstreamGuard.PROGRESSION).tag("from", "CLOSED").tag("to", "OPEN")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cdk.upstream.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1);
+        // other upstreams are unaffected
+        assertThat(guard.call(UpstreamGuard.HEARING, this::ok)).isEqualTo("ok");
+    }
+
+    @Test
+    void shouldNotCountClientErrors_asFailures() {
+        final UpstreamGuard guard = guard(new Policy(50, 2, 2, 30_000, 1, 5, 10));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.call(UpstreamGuard.PROGRESSION, () -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(guard.state(UpstreamGuard.PROGRESSION)).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void shouldCloseCircuit_afterSuccessfulTrialCalls_orReopenOnFailure() {
+        final UpstreamGuard guard = guard(new Policy(50, 2, 2, 30_000, 2, 5, 10));
+        openCircuit(guard);
+
+        clock.instant = NOW.plusSeconds(31);
+        assertThatThrownBy(() -> guard.call(UpstreamGuard.PROGRESSION, this::timeout))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(guard.state(UpstreamGuard.PROGRESSION)).isEqualTo(CircuitState.OPEN);
+
+        clock.instant = NOW.plusSeconds(62);
+        guard.call(UpstreamGuard.PROGRESSION, this::ok);
+        assertThat(guard.state(UpstreamGuard.PROGRESSION)).isEqualTo(CircuitState.HALF_OPEN);
+        guard.call(UpstreamGuard.PROGRESSION, this::ok);
+
+        assertThat(guard.state(UpstreamGuard.PROGRESSION)).isEqualTo(CircuitState.CLOSED);
+        assertThat(meterRegistry.get("cdk.upstream.circuit.transitions")
+                .tag("from", "HALF_OPEN").tag("to", "CLOSED").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectCall_whenBulkheadFull() throws Exception {
+        final UpstreamGuard guard = guard(new Policy(50, 2, 2, 30_000, 1, 1, 10));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+
+        final Thread inFlight = Thread.ofVirtual().start(() -> guard.call(UpstreamGuard.HEARING, () -> {
+            started.countDown();
+            try {
+                return finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guard.call(UpstreamGuard.HEARING, this::ok))
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .hasMessageContaining("bulkhead full");
+
+        finish.countDown();
+        inFlight.join();
+        assertThat(guard.call(UpstreamGuard.HEARING, this::ok)).isEqualTo("ok");
+    }
+
+    @Test
+    void shouldPassThrough_whenDisabled() {
+        final UpstreamGuard guard = new UpstreamGuard(new UpstreamResilienceProperties(false, null), meterRegistry, clock);
+
+        for (int i = 0; i < 50; i++) {
+            assertThatThrownBy(() -> guard.call(UpstreamGuard.PROGRESSION, this::timeout))
+                    .isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(calls.get()).isEqualTo(50);
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    private void openCircuit(final UpstreamGuard guard) {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(UpstreamGuard.PROGRESSION, this::timeout))
+                    .isInstanceOf(ResourceAccessException.class);
+        }
+        assertThat(guard.state(UpstreamGuard.PROGRESSION)).isEqualTo(CircuitState.OPEN);
+    }
+
+    private UpstreamGuard guard(final Policy policy) {
+        return new UpstreamGuard(new UpstreamResilienceProperties(true,
+                Map.of(UpstreamGuard.PROGRESSION, policy, UpstreamGuard.HEARING, policy)), meterRegistry, clock);
+    }
+
+    private String ok() {
+        calls.incrementAndGet();
+        return "ok";
+    }
+
+    private String timeout() {
+        calls.incrementAndGet();
+        throw new ResourceAccessException("Read timed out");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
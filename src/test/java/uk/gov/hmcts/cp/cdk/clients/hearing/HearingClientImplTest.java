@@ -9,14 +9,18 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import uk.gov.hmcts.cp.cdk.clients.common.CQRSClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamGuard;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamResilienceProperties;
 import uk.gov.hmcts.cp.cdk.clients.hearing.dto.HearingSummaries;
 import uk.gov.hmcts.cp.cdk.clients.hearing.dto.HearingSummariesInfo;
 import uk.gov.hmcts.cp.cdk.clients.hearing.dto.HearingSummariesListRequest;
 import uk.gov.hmcts.cp.cdk.clients.hearing.mapper.HearingDtoMapper;
 
 import java.net.URI;
+import java.time.Clock;
 import java.util.List;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -63,7 +67,9 @@ class HearingClientImplTest {
         when(hearingProps.acceptHeader()).thenReturn(acceptHeader);
         when(hearingProps.hearingsPath()).thenReturn(hearingsPath);
 
-        client = new HearingClientImpl(restClient, rootProps, hearingProps, mapper);
+        final UpstreamGuard upstreamGuard = new UpstreamGuard(
+                new UpstreamResilienceProperties(true, null), new SimpleMeterRegistry(), Clock.systemUTC());
+        client = new HearingClientImpl(restClient, rootProps, hearingProps, mapper, upstreamGuard);
     }
 
     @Test
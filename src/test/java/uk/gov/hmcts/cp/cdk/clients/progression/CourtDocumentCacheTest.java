@@ -0,0 +1,145 @@
+package uk.gov.hmcts.cp.cdk.clients.progression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class CourtDocumentCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID caseId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache_perUser() {
+        final CourtDocumentCache cache = cache(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        cache.get(caseId, "user-1", this::load);
+        cache.get(caseId, "user-1", this::load);
+        cache.get(caseId, "user-2", this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(counter("hit")).isEqualTo(1.0);
+        assertThat(counter("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldReload_afterTtl() {
+        final MutableClock clock = new MutableClock(NOW);
+        final CourtDocumentCache cache = cache(clock);
+
+        cache.get(caseId, "user", this::load);
+        clock.instant = NOW.plusSeconds(31);
+        cache.get(caseId, "user", this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        final CourtDocumentCache cache = cache(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThatThrownBy(() -> cache.get(caseId, "user", () -> {
+            throw new IllegalStateException("progression down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(caseId, "user", this::load)).hasSize(1);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareOneInFlightLoad_betweenConcurrentCallers() throws Exception {
+        final CourtDocumentCache cache = cache(Clock.fixed(NOW, ZoneOffset.UTC));
+        final CountDownLatch loaderStarted = new CountDownLatch(1);
+        final CompletableFuture<Void> release = new CompletableFuture<>();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<List<LatestMaterialInfo>> first = executor.submit(() -> cache.get(caseId, "user", () -> {
+                loaderStarted.countDown();
+                release.join();
+                return load();
+            }));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            final Future<List<LatestMaterialInfo>> second = executor.submit(() -> cache.get(caseId, "user", this::load));
+            while (counter("coalesced") < 1.0) {
+                Thread.onSpinWait();
+            }
+            release.complete(null);
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(second.get(5, TimeUnit.SECONDS));
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldBypassCache_whenDisabled() {
+        final CourtDocumentCache cache = new CourtDocumentCache(
+                new CourtDocumentCacheProperties(false, 0, 0), meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        cache.get(caseId, "user", this::load);
+        cache.get(caseId, "user", this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private CourtDocumentCache cache(final Clock clock) {
+        return new CourtDocumentCache(new CourtDocumentCacheProperties(true, 30_000, 100), meterRegistry, clock);
+    }
+
+    private List<LatestMaterialInfo> load() {
+        loads.incrementAndGet();
+        return List.of(new LatestMaterialInfo(List.of(caseId.toString()), "doc", "desc",
+                UUID.randomUUID().toString(), "IDPC", null, UUID.randomUUID().toString(), null));
+    }
+
+    private double counter(final String result) {
+        return meterRegistry.counter("cdk.progression.court_documents.cache", "result", result).count();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
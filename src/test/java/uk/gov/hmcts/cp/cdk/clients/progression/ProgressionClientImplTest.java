@@ -7,6 +7,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import uk.gov.hmcts.cp.cdk.clients.common.CQRSClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamGuard;
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamResilienceProperties;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.CourtDocumentSearchResponse;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.Defendant;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
@@ -17,12 +19,14 @@ import uk.gov.hmcts.cp.cdk.clients.progression.dto.UrlResponse;
 import uk.gov.hmcts.cp.cdk.clients.progression.mapper.ProgressionDtoMapper;
 
 import java.net.URI;
+import java.time.Clock;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -71,7 +75,11 @@ class ProgressionClientImplTest {
         when(props.acceptForMaterialContent()).thenReturn("json");
         when(props.acceptForProsecutionCase()).thenReturn("json");
 
-        client = new ProgressionClientImpl(restClient, rootProps, props, mapper);
+        final CourtDocumentCache courtDocumentCache = new CourtDocumentCache(
+                new CourtDocumentCacheProperties(false, 0, 0), new SimpleMeterRegistry(), Clock.systemUTC());
+        final UpstreamGuard upstreamGuard = new UpstreamGuard(
+                new UpstreamResilienceProperties(true, null), new SimpleMeterRegistry(), Clock.systemUTC());
+        client = new ProgressionClientImpl(restClient, rootProps, props, mapper, courtDocumentCache, upstreamGuard);
     }
 
     @Test
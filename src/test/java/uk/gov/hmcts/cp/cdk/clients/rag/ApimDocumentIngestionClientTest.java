@@ -1,20 +1,17 @@
 package uk.gov.hmcts.cp.cdk.clients.rag;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
-import uk.gov.hmcts.cp.cdk.clients.common.ApimAuthHeaderService;
-import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.RagRequestHeaders;
 import uk.gov.hmcts.cp.openapi.model.DocumentUploadRequest;
 import uk.gov.hmcts.cp.openapi.model.FileStorageLocationReturnedSuccessfully;
 
@@ -37,9 +34,7 @@ class ApimDocumentIngestionClientTest {
     @Mock
     private RestClient restClient;
     @Mock
-    private RagClientProperties ragClientProperties;
-    @Mock
-    private ApimAuthHeaderService apimAuthHeaderService;
+    private RagRequestHeaders ragRequestHeaders;
     @Mock
     private RestClient.RequestBodyUriSpec requestBodyUriSpec;
     @Mock
@@ -74,8 +69,7 @@ class ApimDocumentIngestionClientTest {
         assertThat(response.getStatusCode().value()).isEqualTo(200);
         assertThat(response.getBody()).isEqualTo(apiResponse);
 
-        verify(apimAuthHeaderService).applyCommonHeaders(any(), any());
-        verify(apimAuthHeaderService).applyAuthHeaders(any(), eq(ragClientProperties));
+        verify(ragRequestHeaders).accept(any());
     }
 
     @Test
@@ -162,7 +156,6 @@ class ApimDocumentIngestionClientTest {
         });
         when(requestBodySpec.body(any(DocumentUploadRequest.class))).thenReturn(requestBodySpec);
         when(requestBodySpec.retrieve()).thenReturn(responseSpec);
-        when(ragClientProperties.getHeaders()).thenReturn(emptyMap());
     }
 
 }
\ No newline at end of file
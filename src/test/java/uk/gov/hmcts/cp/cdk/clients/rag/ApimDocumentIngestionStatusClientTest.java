@@ -12,8 +12,7 @@ import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
 
-import uk.gov.hmcts.cp.cdk.clients.common.ApimAuthHeaderService;
-import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.RagRequestHeaders;
 import uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatusReturnedSuccessfully;
 
 import java.util.function.Function;
@@ -34,11 +33,9 @@ class ApimDocumentIngestionStatusClientTest {
     @Mock
     private RestClient restClient;
 
-    @Mock
-    private RagClientProperties ragClientProperties;
 
     @Mock
-    private ApimAuthHeaderService apimAuthHeaderService;
+    private RagRequestHeaders ragRequestHeaders;
 
     // Fluent chain mocks
     @Mock
@@ -52,7 +49,7 @@ class ApimDocumentIngestionStatusClientTest {
 
     @BeforeEach
     void setUp() {
-        client = new ApimDocumentIngestionStatusClient(restClient, ragClientProperties, apimAuthHeaderService);
+        client = new ApimDocumentIngestionStatusClient(restClient, ragRequestHeaders);
     }
 
     @Test
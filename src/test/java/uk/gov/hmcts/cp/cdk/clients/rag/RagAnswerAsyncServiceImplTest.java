@@ -13,8 +13,7 @@ import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATED;
 import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATION_PENDING;
 
-import uk.gov.hmcts.cp.cdk.clients.common.ApimAuthHeaderService;
-import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties;
+import uk.gov.hmcts.cp.cdk.clients.common.RagRequestHeaders;
 import uk.gov.hmcts.cp.openapi.model.AnswerUserQueryRequest;
 import uk.gov.hmcts.cp.openapi.model.DocumentChunk;
 import uk.gov.hmcts.cp.openapi.model.RequestErrored;
@@ -55,9 +54,7 @@ class RagAnswerAsyncServiceImplTest {
     @Mock
     private RestClient.ResponseSpec responseSpec;
     @Mock
-    private RagClientProperties ragClientProperties;
-    @Mock
-    private ApimAuthHeaderService apimAuthHeaderService;
+    private RagRequestHeaders ragRequestHeaders;
 
     private RagAnswerAsyncServiceImpl service;
 
@@ -68,7 +65,7 @@ class RagAnswerAsyncServiceImplTest {
 
     @BeforeEach
     void setup() {
-        service = new RagAnswerAsyncServiceImpl(ragRestClient, ragClientProperties, apimAuthHeaderService);
+        service = new RagAnswerAsyncServiceImpl(ragRestClient, ragRequestHeaders);
     }
 
     @Test
@@ -223,7 +220,7 @@ class RagAnswerAsyncServiceImplTest {
     @MockitoSettings(strictness = Strictness.LENIENT)
     @Test
     void shouldReturn500ResponseForRagClientException() {
-        final RagAnswerAsyncServiceImpl service = new RagAnswerAsyncServiceImpl(null, null, null);
+        final RagAnswerAsyncServiceImpl service = new RagAnswerAsyncServiceImpl(null, null);
 
         final RagClientException ex = new RagClientException("Boom!", null);
 
@@ -236,7 +233,7 @@ class RagAnswerAsyncServiceImplTest {
     @MockitoSettings(strictness = Strictness.LENIENT)
     @Test
     void shouldReturn500ResponseForGenericException() {
-        final RagAnswerAsyncServiceImpl service = new RagAnswerAsyncServiceImpl(null, null, null);
+        final RagAnswerAsyncServiceImpl service = new RagAnswerAsyncServiceImpl(null, null);
 
         final Exception ex = new RuntimeException("We don't care about msg");
 
@@ -0,0 +1,241 @@
+package uk.gov.hmcts.cp.cdk.clients.rag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties.Governor;
+import uk.gov.hmcts.cp.cdk.clients.common.RagClientProperties.Governor.Limit;
+import uk.gov.hmcts.cp.cdk.repo.RagRateLimitRepository;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+class RagCallGovernorTest {
+
+    private static final String ASYNC_PATH = "http://rag/answer-user-query-async";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RagRateLimitRepository repository = mock(RagRateLimitRepository.class);
+    private final Governor properties = new Governor();
+    private final RagCallGovernor governor = new RagCallGovernor(properties, meterRegistry, repository);
+
+    @Test
+    void shouldPassThrough_whenDisabled() throws IOException {
+        properties.setEnabled(false);
+        final ClientHttpRequestExecution execution = execution(HttpStatus.OK, null);
+
+        governor.intercept(request(ASYNC_PATH), new byte[0], execution);
+
+        verify(execution).execute(any(), any());
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void shouldFailFast_whenRateTokenIsFurtherAwayThanMaxQueueWait() throws IOException {
+        properties.setLimits(Map.of(RagOperations.ANSWER_USER_QUERY_ASYNC, limit(0.1, 0, 100)));
+        final ClientHttpRequestExecution execution = execution(HttpStatus.OK, null);
+
+        governor.intercept(request(ASYNC_PATH), new byte[0], execution);
+
+        assertThatThrownBy(() -> governor.intercept(request(ASYNC_PATH), new byte[0], execution))
+                .isInstanceOf(RagClientException.class)
+                .hasMessageContaining(RagOperations.ANSWER_USER_QUERY_ASYNC);
+        verify(execution, times(1)).execute(any(), any());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldQueueForRateToken_withinMaxQueueWait() throws IOException {
+        final Limit limit = limit(20, 0, 1_000);
+        limit.setBurst(1);
+        properties.setLimits(Map.of(RagOperations.ANSWER_USER_QUERY_ASYNC, limit));
+        final ClientHttpRequestExecution execution = execution(HttpStatus.OK, null);
+
+        final long startedAt = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            governor.intercept(request(ASYNC_PATH), new byte[0], execution);
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(80));
+        assertThat(meterRegistry.get(RagCallGovernor.WAIT_METRIC)
+                .tag("operation", RagOperations.ANSWER_USER_QUERY_ASYNC)
+                .timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldQueueForConcurrencySlot_andReleaseItAfterTheCall() throws Exception {
+        properties.setLimits(Map.of(RagOperations.ANSWER_USER_QUERY_ASYNC, limit(0, 1, 100)));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final ClientHttpResponse ok = response(HttpStatus.OK, null);
+        final ClientHttpRequestExecution blocking = mock(ClientHttpRequestExecution.class);
+        when(blocking.execute(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            return ok;
+        });
+
+        final Thread inFlight = Thread.ofVirtual().start(() -> {
+            try {
+                governor.intercept(request(ASYNC_PATH), new byte[0], blocking);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get(RagCallGovernor.IN_FLIGHT_METRIC).gauge().value()).isEqualTo(1.0);
+
+        final ClientHttpRequestExecution execution = execution(HttpStatus.OK, null);
+        assertThatThrownBy(() -> governor.intercept(request(ASYNC_PATH), new byte[0], execution))
+                .isInstanceOf(RagClientException.class);
+
+        finish.countDown();
+        inFlight.join();
+        governor.intercept(request(ASYNC_PATH), new byte[0], execution);
+        verify(execution, times(1)).execute(any(), any());
+    }
+
+    @Test
+    void shouldNotHoldConcurrencySlot_whileWaitingForRateToken() throws Exception {
+        properties.setDistributed(true);
+        properties.setLimits(Map.of(RagOperations.ANSWER_USER_QUERY_ASYNC, limit(2, 1, 2_000)));
+        final CountDownLatch waitingForToken = new CountDownLatch(1);
+        final AtomicInteger reservations = new AtomicInteger();
+        when(repository.reserve(any(), anyDouble(), anyInt())).thenAnswer(invocation -> {
+            if (reservations.getAndIncrement() == 0) {
+                waitingForToken.countDown();
+                return -1.0;
+            }
+            return 1.0;
+        });
+        final ClientHttpRequestExecution delayed = execution(HttpStatus.OK, null);
+
+        final Thread tokenWaiter = Thread.ofVirtual().start(() -> {
+            try {
+                governor.intercept(request(ASYNC_PATH), new byte[0], delayed);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(waitingForToken.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final ClientHttpRequestExecution ready = execution(HttpStatus.OK, null);
+        governor.intercept(request(ASYNC_PATH), new byte[0], ready);
+
+        verify(ready).execute(any(), any());
+        verify(delayed, never()).execute(any(), any());
+        tokenWaiter.join();
+        verify(delayed).execute(any(), any());
+    }
+
+    @Test
+    void shouldPauseOperation_afterThrottledResponse() throws IOException {
+        properties.setLimits(Map.of(RagOperations.ANSWER_USER_QUERY_ASYNC, limit(0, 0, 100)));
+        final ClientHttpRequestExecution throttled = execution(HttpStatus.TOO_MANY_REQUESTS, "30");
+
+        final ClientHttpResponse response = governor.intercept(request(ASYNC_PATH), new byte[0], throttled);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get(RagCallGovernor.THROTTLED_METRIC)
+                .tag("operation", RagOperations.ANSWER_USER_QUERY_ASYNC)
+                .counter().count()).isEqualTo(1);
+        assertThatThrownBy(() -> governor.intercept(request(ASYNC_PATH), new byte[0], throttled))
+                .isInstanceOf(RagClientException.class);
+        verify(throttled, times(1)).execute(any(), any());
+
+        // other operations are not paused
+        governor.intercept(request("http://rag/answer-user-query"), new byte[0], execution(HttpStatus.OK, null));
+    }
+
+    @Test
+    void shouldShareTokenBucketAndPause_whenDistributed() throws IOException {
+        properties.setDistributed(true);
+        properties.setLimits(Map.of(RagOperations.ANSWER_USER_QUERY_ASYNC, limit(2, 0, 100)));
+        when(repository.reserve(RagOperations.ANSWER_USER_QUERY_ASYNC, 2.0, 2)).thenReturn(1.0);
+
+        governor.intercept(request(ASYNC_PATH), new byte[0], execution(HttpStatus.SERVICE_UNAVAILABLE, null));
+
+        verify(repository).pause(eq(RagOperations.ANSWER_USER_QUERY_ASYNC), eq(2.0), eq(2), eq(5.0));
+        verify(repository, never()).release(any());
+    }
+
+    @Test
+    void shouldReturnTokenToSharedBucket_whenWaitExceedsMaxQueueWait() {
+        properties.setDistributed(true);
+        properties.setLimits(Map.of(RagOperations.ANSWER_USER_QUERY_ASYNC, limit(2, 0, 100)));
+        when(repository.reserve(any(), anyDouble(), anyInt())).thenReturn(-10.0);
+
+        assertThatThrownBy(() -> governor.intercept(request(ASYNC_PATH), new byte[0], execution(HttpStatus.OK, null)))
+                .isInstanceOf(RagClientException.class);
+        verify(repository).release(RagOperations.ANSWER_USER_QUERY_ASYNC);
+    }
+
+    @Test
+    void shouldParseRetryAfter_asSecondsOrHttpDate() {
+        final String inAMinute = ZonedDateTime.now().plusSeconds(60).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+        assertThat(governor.retryAfter("12")).isEqualTo(Duration.ofSeconds(12));
+        assertThat(governor.retryAfter(inAMinute)).isBetween(Duration.ofSeconds(55), Duration.ofSeconds(60));
+        assertThat(governor.retryAfter(null)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(governor.retryAfter("soon")).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    private static Limit limit(final double permitsPerSecond, final int maxConcurrent, final long maxQueueWaitMs) {
+        final Limit limit = new Limit();
+        limit.setPermitsPerSecond(permitsPerSecond);
+        limit.setMaxConcurrent(maxConcurrent);
+        limit.setMaxQueueWaitMs(maxQueueWaitMs);
+        return limit;
+    }
+
+    private static ClientHttpRequestExecution execution(final HttpStatus status, final String retryAfter) throws IOException {
+        final ClientHttpResponse response = response(status, retryAfter);
+        final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenReturn(response);
+        return execution;
+    }
+
+    private static ClientHttpResponse response(final HttpStatus status, final String retryAfter) throws IOException {
+        final ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        final HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        when(response.getHeaders()).thenReturn(headers);
+        return response;
+    }
+
+    private static HttpRequest request(final String uri) {
+        final HttpRequest request = mock(HttpRequest.class);
+        when(request.getURI()).thenReturn(URI.create(uri));
+        when(request.getMethod()).thenReturn(HttpMethod.POST);
+        return request;
+    }
+}
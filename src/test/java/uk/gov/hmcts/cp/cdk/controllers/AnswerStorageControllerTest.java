@@ -0,0 +1,45 @@
+package uk.gov.hmcts.cp.cdk.controllers;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.ChunkStoreUsage;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.TableUsage;
+import uk.gov.hmcts.cp.cdk.services.LlmInputChunkService;
+import uk.gov.hmcts.cp.cdk.services.LlmInputChunkService.LlmInputStorageReport;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@DisplayName("Answer Storage Controller tests")
+class AnswerStorageControllerTest {
+
+    private static final String VND_TYPE_JSON = "application/vnd.casedocumentknowledge-service.answer-storage+json";
+
+    @Test
+    @DisplayName("Get llm_input storage returns per-table usage and chunk store size")
+    void getLlmInputStorage_returns_report() throws Exception {
+        final LlmInputChunkService service = Mockito.mock(LlmInputChunkService.class);
+        final MockMvc mvc = MockMvcBuilders.standaloneSetup(new AnswerStorageController(service)).build();
+
+        when(service.report()).thenReturn(new LlmInputStorageReport(
+                List.of(new TableUsage("answers", 10, 8, 2, 4096, 640, 65_536)),
+                new ChunkStoreUsage(12, 3000, 9000, 32_768)));
+
+        mvc.perform(get("/answers/llm-input/storage").accept(VND_TYPE_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(VND_TYPE_JSON))
+                .andExpect(jsonPath("$.tables[0].table").value("answers"))
+                .andExpect(jsonPath("$.tables[0].pendingRows").value(2))
+                .andExpect(jsonPath("$.chunkStore.chunks").value(12))
+                .andExpect(jsonPath("$.chunkStore.uncompressedBytes").value(9000));
+    }
+}
@@ -10,9 +10,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import uk.gov.hmcts.cp.cdk.services.AnswerService;
+import uk.gov.hmcts.cp.openapi.model.cdk.AnswerResponse;
 import uk.gov.hmcts.cp.openapi.model.cdk.AnswerWithLlmResponse;
+import uk.gov.hmcts.cp.openapi.model.cdk.AnswersResponse;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -92,4 +95,33 @@ class AnswersControllerTest {
 
         verify(service).getAnswerWithLlm(eq(queryId), eq(caseId), eq(5), eq(asOf));
     }
+
+    @Test
+    @DisplayName("Get Latest Answers By Case returns every query's answer in one response")
+    void getLatestAnswersByCase_returns_all_answers() throws Exception {
+        final AnswerService service = Mockito.mock(AnswerService.class);
+        final AnswersController controller = new AnswersController(service);
+        final MockMvc mvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        final UUID caseId = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        final UUID firstQueryId = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+        final UUID secondQueryId = UUID.fromString("cccccccc-cccc-cccc-cccc-cccccccccccc");
+        final OffsetDateTime createdAt = OffsetDateTime.parse("2025-05-01T11:00:00Z");
+
+        final AnswersResponse resp = new AnswersResponse(null, List.of(
+                new AnswerResponse(firstQueryId, "UQ1", "A1", 1, createdAt),
+                new AnswerResponse(secondQueryId, "UQ2", "A2", 3, createdAt)));
+
+        when(service.getLatestAnswersForCase(eq(caseId), isNull())).thenReturn(resp);
+
+        mvc.perform(get("/answers/{caseId}", caseId)
+                        .accept(VND_TYPE_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(VND_TYPE_JSON))
+                .andExpect(jsonPath("$.answers.length()").value(2))
+                .andExpect(jsonPath("$.answers[0].queryId").value(firstQueryId.toString()))
+                .andExpect(jsonPath("$.answers[1].version").value(3));
+
+        verify(service).getLatestAnswersForCase(eq(caseId), isNull());
+    }
 }
@@ -4,6 +4,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -25,7 +26,9 @@ import uk.gov.hmcts.cp.openapi.model.cdk.IngestionStatusResponse;
 import uk.gov.hmcts.cp.openapi.model.cdk.Scope;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -171,4 +174,48 @@ class IngestionControllerTest {
                 .andExpect(content().contentType(VND))
                 .andExpect(jsonPath("$.message", containsString("already running")));
     }
+
+    @Test
+    @DisplayName("GET /ingestions/statuses returns one status per case")
+    void getIngestionStatuses_returns_status_per_case() throws Exception {
+        final IngestionService service = mock(IngestionService.class);
+        final MockMvc mvc = mvc(service, mock(IngestionProcessor.class));
+        final UUID ingested = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        final UUID unknown = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+
+        when(service.getStatuses(List.of(ingested, unknown)))
+                .thenReturn(List.of(status(ingested, DocumentIngestionPhase.INGESTED), status(unknown, DocumentIngestionPhase.NOT_FOUND)));
+
+        mvc.perform(get("/ingestions/statuses").param("caseIds", ingested.toString(), unknown.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(IngestionController.INGESTION_STATUS_MEDIA_TYPE))
+                .andExpect(jsonPath("$[0].scope.caseId").value(ingested.toString()))
+                .andExpect(jsonPath("$[0].phase").value("INGESTED"))
+                .andExpect(jsonPath("$[1].scope.caseId").value(unknown.toString()))
+                .andExpect(jsonPath("$[1].phase").value("NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("GET /ingestions/statuses rejects more case IDs than the bulk limit")
+    void getIngestionStatuses_rejects_oversized_request() throws Exception {
+        final IngestionService service = mock(IngestionService.class);
+        final MockMvc mvc = mvc(service, mock(IngestionProcessor.class));
+        final String[] caseIds = IntStream.rangeClosed(0, IngestionController.MAX_BULK_CASE_IDS)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toArray(String[]::new);
+
+        mvc.perform(get("/ingestions/statuses").param("caseIds", caseIds))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    private static IngestionStatusResponse status(final UUID caseId, final DocumentIngestionPhase phase) {
+        final IngestionStatusResponse resp = new IngestionStatusResponse();
+        final Scope scope = new Scope();
+        scope.setCaseId(caseId);
+        resp.setScope(scope);
+        resp.setPhase(phase);
+        return resp;
+    }
 }
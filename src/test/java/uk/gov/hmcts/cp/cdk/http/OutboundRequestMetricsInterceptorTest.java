@@ -0,0 +1,89 @@
+package uk.gov.hmcts.cp.cdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+class OutboundRequestMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboundRequestMetricsInterceptor interceptor =
+            new OutboundRequestMetricsInterceptor(meterRegistry, "cqrs", operations());
+
+    @Test
+    void shouldResolveOperation_fromPathTemplate() {
+        assertThat(interceptor.operation("/progression-query-api/query/api/rest/progression/material/1234/content"))
+                .isEqualTo("material-content");
+        assertThat(interceptor.operation("/hearing-query-api/query/api/rest/hearing/hearings")).isEqualTo("hearings");
+        assertThat(interceptor.operation("/answer-user-query-async")).isEqualTo("answer-user-query-async");
+        assertThat(interceptor.operation("/answer-user-query")).isEqualTo("answer-user-query");
+        assertThat(interceptor.operation("/something/else")).isEqualTo("other");
+        assertThat(interceptor.operation(null)).isEqualTo("other");
+    }
+
+    @Test
+    void shouldRecordTimer_withStatusAndOutcome() throws IOException {
+        final ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+        final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenReturn(response);
+
+        interceptor.intercept(request("http://cqrs/hearing/hearings?caseId=1"), new byte[0], execution);
+
+        final Timer timer = meterRegistry.get(OutboundRequestMetricsInterceptor.METRIC_NAME)
+                .tag("client", "cqrs")
+                .tag("operation", "hearings")
+                .tag("method", "GET")
+                .tag("status", "404")
+                .tag("outcome", "CLIENT_ERROR")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordIoError_whenExecutionFails() throws IOException {
+        final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenThrow(new IOException("connection reset"));
+
+        assertThatThrownBy(() -> interceptor.intercept(request("http://cqrs/material/99/content"), new byte[0], execution))
+                .isInstanceOf(IOException.class);
+
+        assertThat(meterRegistry.get(OutboundRequestMetricsInterceptor.METRIC_NAME)
+                .tag("operation", "material-content")
+                .tag("status", "IO_ERROR")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private static HttpRequest request(final String uri) {
+        final HttpRequest request = mock(HttpRequest.class);
+        when(request.getURI()).thenReturn(URI.create(uri));
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        return request;
+    }
+
+    private static Map<String, String> operations() {
+        final Map<String, String> operations = new LinkedHashMap<>();
+        operations.put("hearings", "hearing/hearings");
+        operations.put("material-content", "/material/{materialId}/content");
+        operations.put("answer-user-query", "/answer-user-query");
+        operations.put("answer-user-query-async", "/answer-user-query-async");
+        operations.put("status", null);
+        return operations;
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.cp.cdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.hmcts.cp.cdk.http.RestClientFactoryConfig.RestClientFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RestClientFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RestClientFactory factory = new RestClientFactory(new HttpPoolProperties(Map.of(
+            "rag", new HttpPoolProperties.Pool(20, 10, 0, 0, 0, 0),
+            "cqrs", new HttpPoolProperties.Pool(40, 30, 0, 0, 0, 0))), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void shouldUseSeparatePoolPerUpstream() {
+        factory.build("rag", "http://rag", null, Duration.ofSeconds(3), Duration.ofSeconds(180), false);
+        factory.build("cqrs", "http://cqrs", null, Duration.ofSeconds(1), Duration.ofSeconds(15), false);
+
+        final PoolingHttpClientConnectionManager rag = factory.connectionManager("rag");
+        final PoolingHttpClientConnectionManager cqrs = factory.connectionManager("cqrs");
+
+        assertThat(rag).isNotSameAs(cqrs);
+        assertThat(rag.getMaxTotal()).isEqualTo(20);
+        assertThat(rag.getDefaultMaxPerRoute()).isEqualTo(10);
+        assertThat(cqrs.getMaxTotal()).isEqualTo(40);
+        assertThat(cqrs.getDefaultMaxPerRoute()).isEqualTo(30);
+    }
+
+    @Test
+    void shouldReusePool_forSameUpstream() {
+        factory.build("cqrs", "http://hearing", null, null, null, false);
+        final PoolingHttpClientConnectionManager first = factory.connectionManager("cqrs");
+        factory.build("cqrs", "http://progression", null, null, null, false);
+
+        assertThat(factory.connectionManager("cqrs")).isSameAs(first);
+    }
+
+    @Test
+    void shouldPublishPoolGauges_perPool() {
+        factory.build("rag", "http://rag", null, null, null, false);
+        factory.build("unconfigured", "http://other", null, null, null, false);
+
+        assertThat(meterRegistry.get("cdk.http.pool.max").tag("pool", "rag").gauge().value()).isEqualTo(20.0);
+        assertThat(meterRegistry.get("cdk.http.pool.leased").tag("pool", "rag").gauge().value()).isZero();
+        assertThat(meterRegistry.get("cdk.http.pool.pending").tag("pool", "rag").gauge().value()).isZero();
+        assertThat(meterRegistry.get("cdk.http.pool.max").tag("pool", "unconfigured").gauge().value()).isEqualTo(50.0);
+        assertThat(meterRegistry.get("cdk.http.pool.acquire").tag("pool", "rag").timer().count()).isZero();
+    }
+}
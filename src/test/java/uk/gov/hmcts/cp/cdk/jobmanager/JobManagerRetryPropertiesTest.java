@@ -0,0 +1,68 @@
+package uk.gov.hmcts.cp.cdk.jobmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class JobManagerRetryPropertiesTest {
+
+    @Test
+    void fixedBackoff_shouldRepeatDelay() {
+        final JobManagerRetryProperties.RetryConfig retry = retryConfig(4, 10);
+
+        assertThat(retry.retryDurationsInSecs()).containsExactly(10L, 10L, 10L, 10L);
+    }
+
+    @Test
+    void exponentialBackoff_shouldGrowToCap_andCoverFixedWindowWithFewerAttempts() {
+        final JobManagerRetryProperties.RetryConfig retry = retryConfig(50, 5);
+        retry.setBackoff(JobManagerRetryProperties.Backoff.EXPONENTIAL);
+        retry.setMultiplier(2.0);
+        retry.setMaxDelaySeconds(60);
+
+        final List<Long> delays = retry.retryDurationsInSecs();
+
+        assertThat(delays).containsExactly(5L, 10L, 20L, 40L, 60L, 60L, 60L);
+        assertThat(delays.stream().mapToLong(Long::longValue).sum()).isGreaterThanOrEqualTo(50 * 5);
+    }
+
+    @Test
+    void exponentialBackoff_shouldSeedFirstDelayFromObservedMedian_withoutChangingAttempts() {
+        final JobManagerRetryProperties.RetryConfig retry = retryConfig(50, 5);
+        retry.setBackoff(JobManagerRetryProperties.Backoff.EXPONENTIAL);
+        retry.setMaxDelaySeconds(60);
+        retry.setSeedFromObservedLatency(true);
+
+        final List<Long> seeded = retry.retryDurationsInSecs(Duration.ofSeconds(40));
+
+        assertThat(seeded).hasSameSizeAs(retry.retryDurationsInSecs());
+        assertThat(seeded.getFirst()).isEqualTo(20L);
+        assertThat(retry.retryDurationsInSecs(null).getFirst()).isEqualTo(5L);
+    }
+
+    @Test
+    void exponentialBackoff_shouldIgnoreObservedMedian_whenSeedingDisabled() {
+        final JobManagerRetryProperties.RetryConfig retry = retryConfig(10, 5);
+        retry.setBackoff(JobManagerRetryProperties.Backoff.EXPONENTIAL);
+
+        assertThat(retry.retryDurationsInSecs(Duration.ofMinutes(5)).getFirst()).isEqualTo(5L);
+    }
+
+    @Test
+    void jitter_shouldStayWithinSpread() {
+        final JobManagerRetryProperties.RetryConfig retry = retryConfig(200, 10);
+        retry.setJitter(0.2);
+
+        assertThat(retry.retryDurationsInSecs()).hasSize(200).allSatisfy(delay -> assertThat(delay).isBetween(8L, 12L));
+    }
+
+    private static JobManagerRetryProperties.RetryConfig retryConfig(final int maxAttempts, final long delaySeconds) {
+        final JobManagerRetryProperties.RetryConfig retry = new JobManagerRetryProperties.RetryConfig();
+        retry.setMaxAttempts(maxAttempts);
+        retry.setDelaySeconds(delaySeconds);
+        return retry;
+    }
+}
@@ -12,6 +12,8 @@ import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOCIDS_A
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERYIDS_ARRAY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_QUERY_ID;
 
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
 import uk.gov.hmcts.cp.cdk.repo.DocumentIdResolver;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
@@ -22,6 +24,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
@@ -56,7 +59,8 @@ class CheckAllDocumentsIngestionStatusTaskTest {
         task = new CheckAllDocumentsIngestionStatusTask(
                 documentIdResolver,
                 executionService,
-                null
+                null,
+                new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry())
         );
 
         doc1 = UUID.randomUUID();
@@ -0,0 +1,198 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.caseflow;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_BLOB_COPY_STATUS;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_BLOB_NAME_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_DESTINATION_URL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_ID;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_REFERENCE_KEY;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
+import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
+import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.cdk.services.DocumentUploadCompletionService;
+import uk.gov.hmcts.cp.cdk.services.IngestionStatusWatcherService;
+import uk.gov.hmcts.cp.cdk.storage.BlobCopyStatus;
+import uk.gov.hmcts.cp.cdk.storage.DocumentBlobMetadata;
+import uk.gov.hmcts.cp.cdk.storage.StorageService;
+import uk.gov.hmcts.cp.cdk.storage.UploadProperties;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class CheckBlobCopyStatusTaskTest {
+
+    private static final String DESTINATION_URL = "https://storage.blob/document-id_120326.pdf?sig=abc";
+
+    @Mock
+    private StorageService storageService;
+    @Mock
+    private CaseDocumentRepository caseDocumentRepository;
+    @Mock
+    private ExecutionService executionService;
+    @Mock
+    private IngestionStatusWatcherService ingestionStatusWatcherService;
+    @Mock
+    private JobManagerRetryProperties retryProperties;
+
+    @Captor
+    private ArgumentCaptor<ExecutionInfo> executionInfoCaptor;
+    @Captor
+    private ArgumentCaptor<CaseDocument> caseDocumentCaptor;
+
+    private CheckBlobCopyStatusTask task;
+    private UUID documentId;
+    private ExecutionInfo executionInfo;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        final UploadProperties uploadProperties = new UploadProperties(null, null, null, null, null);
+        task = new CheckBlobCopyStatusTask(storageService,
+                new DocumentUploadCompletionService(caseDocumentRepository, uploadProperties,
+                        executionService, ingestionStatusWatcherService),
+                retryProperties,
+                new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry()));
+
+        documentId = randomUUID();
+        executionInfo = executionInfo()
+                .withAssignedTaskName(CHECK_BLOB_COPY_STATUS)
+                .withJobData(createObjectBuilder()
+                        .add(CTX_DOC_ID_KEY, documentId.toString())
+                        .add(CTX_CASE_ID_KEY, randomUUID().toString())
+                        .add(CTX_DOC_REFERENCE_KEY, "document-id")
+                        .add(CTX_COPY_ID, "copy-1")
+                        .add(CTX_COPY_DESTINATION_URL, DESTINATION_URL)
+                        .build())
+                .withRetryAttemptsRemaining(10)
+                .build();
+    }
+
+    @Test
+    void shouldRetry_whileCopyPending() {
+        when(storageService.getCopyStatus(DESTINATION_URL, "copy-1"))
+                .thenReturn(new BlobCopyStatus("copy-1", BlobCopyStatus.State.PENDING, "10/100", null));
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.INPROGRESS);
+        assertThat(result.isShouldRetry()).isTrue();
+        verify(caseDocumentRepository, never()).saveAndFlush(any());
+        verify(storageService, never()).abortCopy(any(), any());
+    }
+
+    @Test
+    void shouldMarkUploadedAndScheduleIngestionCheck_whenCopySucceeded() {
+        when(storageService.getCopyStatus(DESTINATION_URL, "copy-1"))
+                .thenReturn(new BlobCopyStatus("copy-1", BlobCopyStatus.State.SUCCESS, "100/100",
+                        new DocumentBlobMetadata("https://storage.blob/document-id_120326.pdf", "document-id_120326.pdf", 100L)));
+        when(caseDocumentRepository.findById(documentId)).thenReturn(Optional.of(new CaseDocument()));
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verify(caseDocumentRepository).saveAndFlush(caseDocumentCaptor.capture());
+        assertThat(caseDocumentCaptor.getValue().getIngestionPhase()).isEqualTo(DocumentIngestionPhase.UPLOADED);
+        assertThat(caseDocumentCaptor.getValue().getSizeBytes()).isEqualTo(100L);
+
+        verify(executionService).executeWith(executionInfoCaptor.capture());
+        final ExecutionInfo nextTask = executionInfoCaptor.getValue();
+        assertThat(nextTask.getAssignedTaskName()).isEqualTo(CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS);
+        assertThat(nextTask.getJobData().getString(CTX_BLOB_NAME_KEY)).isEqualTo("document-id_120326.pdf");
+        assertThat(nextTask.getJobData().containsKey(CTX_COPY_ID)).isFalse();
+        assertThat(nextTask.getJobData().containsKey(CTX_COPY_DESTINATION_URL)).isFalse();
+    }
+
+    @Test
+    void shouldMarkFailedAndComplete_whenCopyFailed() {
+        when(storageService.getCopyStatus(DESTINATION_URL, "copy-1"))
+                .thenReturn(new BlobCopyStatus("copy-1", BlobCopyStatus.State.FAILED, "500 source error", null));
+        when(caseDocumentRepository.findById(documentId)).thenReturn(Optional.of(new CaseDocument()));
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verify(caseDocumentRepository).saveAndFlush(caseDocumentCaptor.capture());
+        assertThat(caseDocumentCaptor.getValue().getIngestionPhase()).isEqualTo(DocumentIngestionPhase.FAILED);
+        verify(executionService, never()).executeWith(any());
+    }
+
+    @Test
+    void shouldMarkFailed_whenLastAttemptStillPending() {
+        when(storageService.getCopyStatus(DESTINATION_URL, "copy-1"))
+                .thenReturn(new BlobCopyStatus("copy-1", BlobCopyStatus.State.PENDING, "10/100", null));
+        when(caseDocumentRepository.findById(documentId)).thenReturn(Optional.of(new CaseDocument()));
+
+        final ExecutionInfo result = task.execute(executionInfo()
+                .from(executionInfo)
+                .withRetryAttemptsRemaining(1)
+                .build());
+
+        assertThat(result.isShouldRetry()).isTrue();
+        verify(storageService).abortCopy(DESTINATION_URL, "copy-1");
+        verify(caseDocumentRepository).saveAndFlush(caseDocumentCaptor.capture());
+        assertThat(caseDocumentCaptor.getValue().getIngestionPhase()).isEqualTo(DocumentIngestionPhase.FAILED);
+    }
+
+    @Test
+    void shouldStillMarkFailed_whenAbortOnLastAttemptThrows() {
+        when(storageService.getCopyStatus(DESTINATION_URL, "copy-1"))
+                .thenReturn(new BlobCopyStatus("copy-1", BlobCopyStatus.State.PENDING, "10/100", null));
+        doThrow(new RuntimeException("no pending copy")).when(storageService).abortCopy(DESTINATION_URL, "copy-1");
+        when(caseDocumentRepository.findById(documentId)).thenReturn(Optional.of(new CaseDocument()));
+
+        task.execute(executionInfo()
+                .from(executionInfo)
+                .withRetryAttemptsRemaining(1)
+                .build());
+
+        verify(caseDocumentRepository).saveAndFlush(caseDocumentCaptor.capture());
+        assertThat(caseDocumentCaptor.getValue().getIngestionPhase()).isEqualTo(DocumentIngestionPhase.FAILED);
+    }
+
+    @Test
+    void shouldRetry_whenStatusLookupThrows() {
+        when(storageService.getCopyStatus(any(), any())).thenThrow(new RuntimeException("boom"));
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.INPROGRESS);
+        assertThat(result.isShouldRetry()).isTrue();
+    }
+
+    @Test
+    void shouldUseCopyStatusRetrySchedule() {
+        final JobManagerRetryProperties.RetryConfig retryConfig = new JobManagerRetryProperties.RetryConfig();
+        retryConfig.setMaxAttempts(2);
+        retryConfig.setDelaySeconds(5);
+        when(retryProperties.getCopyStatus()).thenReturn(retryConfig);
+
+        assertThat(task.getRetryDurationsInSecs().orElseThrow()).isEqualTo(List.of(5L, 5L));
+    }
+}
@@ -13,23 +13,32 @@ import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOCIDS_ARRAY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_LATEST_DEFENDANT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_MATERIAL_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_MATERIAL_NAME;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_PREFETCHED_MATERIALS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.CPPUID;
 
 import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
+import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
-import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.PrefetchedMaterials;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.repo.CaseDocumentBatchWriter;
 import uk.gov.hmcts.cp.cdk.repo.DocumentIdResolver;
+import uk.gov.hmcts.cp.cdk.repo.DocumentIdResolver.MaterialDefendant;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
 import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.json.JsonObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,9 +63,11 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
     @Mock
     private JobManagerRetryProperties retryProperties;
     @Mock
-    private CaseDocumentRepository caseDocumentRepository;
+    private CaseDocumentBatchWriter caseDocumentBatchWriter;
     @Captor
     private ArgumentCaptor<ExecutionInfo> captor;
+    @Captor
+    private ArgumentCaptor<Collection<CaseDocument>> documentsCaptor;
 
     private String caseId;
     private String userId;
@@ -68,7 +79,8 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
                 executionService,
                 documentIdResolver,
                 retryProperties,
-                caseDocumentRepository
+                caseDocumentBatchWriter,
+                new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry())
         );
 
         caseId = UUID.randomUUID().toString();
@@ -135,8 +147,8 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
 
         when(progressionClient.getCourtDocumentsForAllDefendants(any(), any()))
                 .thenReturn(List.of(info));
-        when(documentIdResolver.resolveExistingDocIdForDefendant(any(), any(), any()))
-                .thenReturn(Optional.of(UUID.randomUUID()));
+        when(documentIdResolver.resolveExistingDocIdsForDefendants(any(), any()))
+                .thenReturn(Map.of(new MaterialDefendant(materialId, defendantId), UUID.randomUUID()));
         ExecutionInfo result = task.execute(executionInfo(jobData));
         assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
         verifyNoInteractions(executionService);
@@ -172,9 +184,6 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
         when(progressionClient.getCourtDocumentsForAllDefendants(any(), any()))
                 .thenReturn(List.of(m1, m2));
 
-        when(documentIdResolver.resolveExistingDocIdForDefendant(any(), any(), any()))
-                .thenReturn(Optional.empty());
-
         ExecutionInfo result = task.execute(executionInfo(jobData));
 
         assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
@@ -182,6 +191,9 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
         verify(executionService, times(2)).executeWith(captor.capture());
 
         List<ExecutionInfo> executions = captor.getAllValues();
+        verify(documentIdResolver).resolveExistingDocIdsForDefendants(any(), any());
+        verify(caseDocumentBatchWriter).insertAll(documentsCaptor.capture());
+        assertThat(documentsCaptor.getValue()).hasSize(2);
 
         for (ExecutionInfo exec : executions) {
             assertThat(exec.getAssignedTaskName()).isEqualTo(RETRIEVE_MATERIAL_AND_UPLOAD);
@@ -195,6 +207,34 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
                 .isTrue();
     }
 
+    @Test
+    void shouldUsePrefetchedMaterials_withoutCallingProgression() {
+        UUID materialId = UUID.randomUUID();
+        UUID defendantId = UUID.randomUUID();
+
+        LatestMaterialInfo info = new LatestMaterialInfo(
+                List.of(caseId), "doc", "desc",
+                materialId.toString(), "Material",
+                ZonedDateTime.now(),
+                UUID.randomUUID().toString(),
+                defendantId.toString()
+        );
+
+        JsonObject jobData = createObjectBuilder()
+                .add(CTX_CASE_ID_KEY, caseId)
+                .add(CPPUID, userId)
+                .add(CTX_PREFETCHED_MATERIALS, PrefetchedMaterials.toJson(List.of(info)))
+                .build();
+
+        ExecutionInfo result = task.execute(executionInfo(jobData));
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verifyNoInteractions(progressionClient);
+        verify(executionService).executeWith(captor.capture());
+        assertThat(captor.getValue().getJobData().getString(CTX_MATERIAL_ID_KEY)).isEqualTo(materialId.toString());
+        assertThat(captor.getValue().getJobData().containsKey(CTX_PREFETCHED_MATERIALS)).isFalse();
+    }
+
     @Test
     void shouldReturnRetryDurations() {
         final JobManagerRetryProperties.RetryConfig retryConfig = new JobManagerRetryProperties.RetryConfig();
@@ -233,9 +273,6 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
         when(progressionClient.getCourtDocumentsForAllDefendants(any(), any()))
                 .thenReturn(List.of(info));
 
-        when(documentIdResolver.resolveExistingDocIdForDefendant(any(), any(), any()))
-                .thenReturn(Optional.empty());
-
         task.execute(executionInfo(jobData));
 
         verify(executionService).executeWith(captor.capture());
@@ -272,9 +309,6 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
         when(progressionClient.getCourtDocumentsForAllDefendants(any(), any()))
                 .thenReturn(List.of(info));
 
-        when(documentIdResolver.resolveExistingDocIdForDefendant(any(), any(), any()))
-                .thenReturn(Optional.empty());
-
         task.execute(executionInfo(jobData));
 
         verify(executionService).executeWith(captor.capture());
@@ -314,9 +348,6 @@ class CheckIdpcAvailabilityAllDefendantsTaskTest {
         when(progressionClient.getCourtDocumentsForAllDefendants(any(), any()))
                 .thenReturn(List.of(info));
 
-        when(documentIdResolver.resolveExistingDocIdForDefendant(any(), any(), any()))
-                .thenReturn(Optional.empty());
-
         task.execute(executionInfo(jobData));
 
         verify(executionService).executeWith(captor.capture());
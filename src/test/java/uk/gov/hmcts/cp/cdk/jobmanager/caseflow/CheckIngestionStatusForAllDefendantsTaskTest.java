@@ -10,7 +10,9 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_ALL_DOCUMENTS_INGESTION_STATUS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWERS_FOR_QUERIES;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_BATCH_QUERIES;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_REFERENCE_KEY;
@@ -22,9 +24,17 @@ import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
 import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
 import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerBatchProperties;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.QueryDefinitionCacheProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
 import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.cdk.repo.QueryDefinitionChangeChannel;
 import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository;
+import uk.gov.hmcts.cp.cdk.services.DocumentIngestionOutcomeService;
+import uk.gov.hmcts.cp.cdk.services.QueryDefinitionCache;
 import uk.gov.hmcts.cp.openapi.api.DocumentIngestionStatusApi;
 import uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus;
 import uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatusReturnedSuccessfully;
@@ -32,6 +42,7 @@ import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
 import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -40,6 +51,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -59,6 +71,8 @@ class CheckIngestionStatusForAllDefendantsTaskTest {
     @Mock
     private QueryVersionRepository queryVersionRepository;
     @Mock
+    private QueryDefinitionChangeChannel queryDefinitionChangeChannel;
+    @Mock
     private ExecutionService executionService;
     @Mock
     private JobManagerRetryProperties retryProperties;
@@ -66,6 +80,8 @@ class CheckIngestionStatusForAllDefendantsTaskTest {
     @Captor
     private ArgumentCaptor<ExecutionInfo> executionInfoCaptor;
 
+    private final AnswerBatchProperties answerBatchProperties = new AnswerBatchProperties();
+
     private CheckIngestionStatusForAllDefendantsTask task;
 
     private UUID documentId;
@@ -76,10 +92,13 @@ class CheckIngestionStatusForAllDefendantsTaskTest {
 
         task = new CheckIngestionStatusForAllDefendantsTask(
                 documentIngestionStatusApi,
-                caseDocumentRepository,
-                queryVersionRepository,
-                executionService,
-                retryProperties
+                new DocumentIngestionOutcomeService(caseDocumentRepository,
+                        new QueryDefinitionCache(queryVersionRepository, queryDefinitionChangeChannel,
+                                new QueryDefinitionCacheProperties(), Clock.systemUTC()),
+                        executionService, new ObservedLatencies(), answerBatchProperties),
+                retryProperties,
+                new ObservedLatencies(),
+                new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry())
         );
 
         documentId = randomUUID();
@@ -105,6 +124,7 @@ class CheckIngestionStatusForAllDefendantsTaskTest {
 
     @Test
     void shouldUpdateAndTriggerAllQueryTypes_whenIngestionSuccess_andLatestDefendant() {
+        answerBatchProperties.setEnabled(false);
         DocumentIngestionStatusReturnedSuccessfully body = new DocumentIngestionStatusReturnedSuccessfully();
         body.setStatus(DocumentIngestionStatus.INGESTION_SUCCESS);
 
@@ -185,6 +205,49 @@ class CheckIngestionStatusForAllDefendantsTaskTest {
         assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
     }
 
+    @Test
+    void shouldSubmitCaseAndDefendantQueriesAsOneBatch_whenBatchingEnabled() {
+        final DocumentIngestionStatusReturnedSuccessfully body = new DocumentIngestionStatusReturnedSuccessfully();
+        body.setStatus(DocumentIngestionStatus.INGESTION_SUCCESS);
+        when(documentIngestionStatusApi.documentStatusByReference("ref-123")).thenReturn(ResponseEntity.ok(body));
+        when(caseDocumentRepository.findById(documentId)).thenReturn(Optional.of(new CaseDocument()));
+
+        final UUID caseQueryId = randomUUID();
+        final UUID caseAllDocsQueryId = randomUUID();
+        final UUID defendantQueryId = randomUUID();
+        when(queryVersionRepository.snapshotDefinitionsAsOf(any())).thenReturn(List.of(
+                new QueryVersionRepository.SnapshotDefinition(caseQueryId, "l1", "q1", "p1", Instant.now(), QueryLevel.CASE.toString()),
+                new QueryVersionRepository.SnapshotDefinition(caseAllDocsQueryId, "l2", "q2", "p2", Instant.now(), QueryLevel.CASE_ALL_DOCUMENTS.toString()),
+                new QueryVersionRepository.SnapshotDefinition(defendantQueryId, "l3", "q3", "p3", Instant.now(), QueryLevel.DEFENDANT.toString())));
+
+        final JsonObject jobData = Json.createObjectBuilder()
+                .add("docId", documentId.toString())
+                .add("caseId", randomUUID().toString())
+                .add(CTX_DOC_REFERENCE_KEY, "ref-123")
+                .add(CTX_LATEST_DEFENDANT, true)
+                .build();
+
+        task.execute(executionInfo()
+                .withJobData(jobData)
+                .withAssignedTaskName(CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS)
+                .withAssignedTaskStartTime(ZonedDateTime.now())
+                .withExecutionStatus(ExecutionStatus.INPROGRESS)
+                .build());
+
+        verify(executionService, times(2)).executeWith(executionInfoCaptor.capture());
+        final ExecutionInfo batch = executionInfoCaptor.getAllValues().stream()
+                .filter(e -> GENERATE_ANSWERS_FOR_QUERIES.equals(e.getAssignedTaskName()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(batch.getJobData().getJsonArray(CTX_BATCH_QUERIES))
+                .extracting(entry -> entry.asJsonObject().getString(CTX_SINGLE_QUERY_ID))
+                .containsExactly(caseQueryId.toString(), defendantQueryId.toString());
+        assertThat(executionInfoCaptor.getAllValues())
+                .extracting(ExecutionInfo::getAssignedTaskName)
+                .doesNotContain(GENERATE_ANSWER_FOR_QUERY)
+                .contains(CHECK_ALL_DOCUMENTS_INGESTION_STATUS);
+    }
+
     @Test
     void shouldUpdateIngestionPhase_whenIngestionFailedDueToFileExceedingSizeLimit() {
         final DocumentIngestionStatusReturnedSuccessfully body = new DocumentIngestionStatusReturnedSuccessfully();
@@ -4,15 +4,21 @@ import static jakarta.json.Json.createObjectBuilder;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_BLOB_COPY_STATUS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_INGESTION_STATUS_FOR_ALL_DEFENDANTS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.RETRIEVE_MATERIAL_AND_UPLOAD;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_BLOB_NAME_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_DESTINATION_URL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_COPY_ID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_REFERENCE_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_MATERIAL_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_MATERIAL_NAME;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.CPPUID;
@@ -23,7 +29,12 @@ import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
 import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
 import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
 import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
+import uk.gov.hmcts.cp.cdk.services.DocumentUploadCompletionService;
+import uk.gov.hmcts.cp.cdk.services.IngestionStatusWatcherService;
+import uk.gov.hmcts.cp.cdk.storage.BlobCopyStatus;
 import uk.gov.hmcts.cp.cdk.storage.DocumentBlobMetadata;
 import uk.gov.hmcts.cp.cdk.storage.StorageService;
 import uk.gov.hmcts.cp.cdk.storage.UploadProperties;
@@ -39,6 +50,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.json.JsonObject;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -65,6 +77,8 @@ public class RetrieveMaterialAndUploadTaskTest {
     private JobManagerRetryProperties retryProperties;
     @Mock
     private DocumentIngestionInitiationApi documentIngestionInitiationApi;
+    @Mock
+    private IngestionStatusWatcherService ingestionStatusWatcherService;
 
     @Captor
     private ArgumentCaptor<ExecutionInfo> executionInfoCaptor;
@@ -91,7 +105,10 @@ public class RetrieveMaterialAndUploadTaskTest {
                 uploadProperties,
                 retryProperties,
                 executionService,
-                documentIngestionInitiationApi
+                documentIngestionInitiationApi,
+                new DocumentUploadCompletionService(caseDocumentRepository, uploadProperties,
+                        executionService, ingestionStatusWatcherService),
+                        new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry())
         );
 
         documentId = randomUUID();
@@ -158,6 +175,28 @@ public class RetrieveMaterialAndUploadTaskTest {
         assertThat(nextTask.getJobData().containsKey(CTX_BLOB_NAME_KEY)).isTrue();
     }
 
+    @Test
+    void shouldQueueIngestionStatusCheck_whenWatcherEnabled() {
+
+        when(ingestionStatusWatcherService.isEnabled()).thenReturn(true);
+        when(uploadProperties.datePattern()).thenReturn("yyyyMMdd");
+        when(uploadProperties.contentType()).thenReturn("application/pdf");
+        when(progressionClient.getMaterialDownloadUrl(any(), any()))
+                .thenReturn(Optional.of("https://progression/download/url"));
+
+        when(documentIngestionInitiationApi.initiateDocumentUpload(any(DocumentUploadRequest.class))).thenReturn(responseEntity);
+        when(responseEntity.getBody()).thenReturn(storageLocation);
+        when(storageLocation.getStorageUrl()).thenReturn("https://storage.blob/document-id_120326.pdf?dalkherlncnl%=");
+        when(storageLocation.getDocumentReference()).thenReturn("document-id");
+        when(storageService.copyFromUrl(any(), any())).thenReturn(new DocumentBlobMetadata("https://storage.blob/blob1", "document-id_120326.pdf", 12345L));
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(COMPLETED);
+        verify(ingestionStatusWatcherService).register(eq(documentId), any(), eq("document-id_120326.pdf"), eq("document-id"), any());
+        verifyNoInteractions(executionService);
+    }
+
     @Test
     void shouldCompleteImmediately_whenMissingUserId() {
         JsonObject badJobData = createObjectBuilder(jobData)
@@ -248,6 +287,49 @@ public class RetrieveMaterialAndUploadTaskTest {
         assertThat(result.getExecutionStatus()).isEqualTo(COMPLETED);
     }
 
+    @Test
+    void shouldStartCopyAndScheduleStatusCheck_whenAsyncCopyEnabled() {
+        when(uploadProperties.asyncCopy()).thenReturn(true);
+        when(uploadProperties.datePattern()).thenReturn("yyyyMMdd");
+        when(progressionClient.getMaterialDownloadUrl(any(), any())).thenReturn(Optional.of("url"));
+        when(caseDocumentRepository.findSupersededDocuments(any(), any())).thenReturn(List.of());
+        when(documentIngestionInitiationApi.initiateDocumentUpload(any()))
+                .thenReturn(ResponseEntity.ok(new FileStorageLocationReturnedSuccessfully("storage-url", "doc-ref")));
+        when(storageService.startCopy("url", "storage-url"))
+                .thenReturn(new BlobCopyStatus("copy-1", BlobCopyStatus.State.PENDING, "0/100", null));
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(COMPLETED);
+        verify(storageService, never()).copyFromUrl(any(), any());
+        verify(caseDocumentRepository, never()).saveAndFlush(any());
+        verify(executionService).executeWith(executionInfoCaptor.capture());
+
+        final ExecutionInfo nextTask = executionInfoCaptor.getValue();
+        assertThat(nextTask.getAssignedTaskName()).isEqualTo(CHECK_BLOB_COPY_STATUS);
+        assertThat(nextTask.getJobData().getString(CTX_COPY_ID)).isEqualTo("copy-1");
+        assertThat(nextTask.getJobData().getString(CTX_COPY_DESTINATION_URL)).isEqualTo("storage-url");
+        assertThat(nextTask.getJobData().getString(CTX_DOC_REFERENCE_KEY)).isEqualTo("doc-ref");
+    }
+
+    @Test
+    void shouldRetry_whenAsyncCopyFailsToStart() {
+        when(uploadProperties.asyncCopy()).thenReturn(true);
+        when(uploadProperties.datePattern()).thenReturn("yyyyMMdd");
+        when(progressionClient.getMaterialDownloadUrl(any(), any())).thenReturn(Optional.of("url"));
+        when(caseDocumentRepository.findSupersededDocuments(any(), any())).thenReturn(List.of());
+        when(documentIngestionInitiationApi.initiateDocumentUpload(any()))
+                .thenReturn(ResponseEntity.ok(new FileStorageLocationReturnedSuccessfully("storage-url", "doc-ref")));
+        when(storageService.startCopy(any(), any()))
+                .thenReturn(new BlobCopyStatus("copy-1", BlobCopyStatus.State.FAILED, "source gone", null));
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.INPROGRESS);
+        assertThat(result.isShouldRetry()).isTrue();
+        verifyNoInteractions(executionService);
+    }
+
     @Test
     void shouldReturnRetryDurations() {
         final JobManagerRetryProperties.RetryConfig retryConfig = new JobManagerRetryProperties.RetryConfig();
@@ -4,13 +4,19 @@ import static jakarta.json.Json.createObjectBuilder;
 import static java.time.ZonedDateTime.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_CASE_ELIGIBILITY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GET_CASES_FOR_HEARING;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_COUNT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DEFENDANT_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_PREFETCHED_MATERIALS;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.COURT_CENTRE_ID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.CPPUID;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.Params.DATE;
@@ -19,7 +25,14 @@ import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 
 import uk.gov.hmcts.cp.cdk.clients.hearing.HearingClient;
 import uk.gov.hmcts.cp.cdk.clients.hearing.dto.HearingSummariesInfo;
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.ProsecutionCaseEligibilityInfo;
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.services.HearingPrefetchService;
+import uk.gov.hmcts.cp.cdk.services.HearingPrefetchService.CasePrefetch;
+import uk.gov.hmcts.cp.cdk.services.HearingPrefetchService.Outcome;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
 import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
@@ -27,6 +40,7 @@ import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
 import java.time.LocalDate;
 import java.util.List;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.json.JsonObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,9 +69,13 @@ class GetCasesForHearingTaskTest {
     @Mock
     private JobManagerRetryProperties retryProperties;
 
+    @Mock
+    private HearingPrefetchService hearingPrefetchService;
+
     @BeforeEach
     void setUp() {
-        task = new GetCasesForHearingTask(hearingClient, executionService,retryProperties);
+        task = new GetCasesForHearingTask(hearingClient, executionService, retryProperties, hearingPrefetchService,
+                new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry()));
 
         JsonObject jobData = createObjectBuilder()
                 .add(COURT_CENTRE_ID, "court-1")
@@ -146,6 +164,40 @@ class GetCasesForHearingTaskTest {
         ).containsExactlyInAnyOrder("case-1", "case-2");
     }
 
+    @Test
+    void shouldDispatchPrefetchedCases_whenPrefetchEnabled() {
+        when(hearingClient.getHearingsAndCases(
+                any(), any(), any(LocalDate.class), any()
+        )).thenReturn(List.of(
+                new HearingSummariesInfo("case-1"),
+                new HearingSummariesInfo("case-2"),
+                new HearingSummariesInfo("case-3")));
+        when(hearingPrefetchService.isEnabled()).thenReturn(true);
+
+        LatestMaterialInfo material = new LatestMaterialInfo(
+                List.of("case-1"), "doc", "desc", "material-1", "IDPC", null, "court-doc-1", "def-1");
+        when(hearingPrefetchService.prefetch(anyList(), eq("cppuid-123"))).thenReturn(List.of(
+                new CasePrefetch("case-1", Outcome.ELIGIBLE,
+                        new ProsecutionCaseEligibilityInfo("case-1", List.of("def-1", "def-2")), List.of(material)),
+                new CasePrefetch("case-2", Outcome.NOT_ELIGIBLE, null, List.of()),
+                new CasePrefetch("case-3", Outcome.FAILED, null, List.of())));
+
+        ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verify(executionService, times(2)).executeWith(captor.capture());
+
+        ExecutionInfo idpcCheck = captor.getAllValues().get(0);
+        assertThat(idpcCheck.getAssignedTaskName()).isEqualTo(CHECK_IDPC_AVAILABILITY_ALL_DEFENDANTS);
+        assertThat(idpcCheck.getJobData().getString(CTX_CASE_ID_KEY)).isEqualTo("case-1");
+        assertThat(idpcCheck.getJobData().getString(CTX_DEFENDANT_ID_KEY)).isEqualTo("def-1");
+        assertThat(idpcCheck.getJobData().getInt(CTX_DEFENDANT_COUNT)).isEqualTo(2);
+        assertThat(idpcCheck.getJobData().getJsonArray(CTX_PREFETCHED_MATERIALS)).hasSize(1);
+
+        ExecutionInfo fallback = captor.getAllValues().get(1);
+        assertThat(fallback.getAssignedTaskName()).isEqualTo(CHECK_CASE_ELIGIBILITY);
+        assertThat(fallback.getJobData().getString(CTX_CASE_ID_KEY)).isEqualTo("case-3");
+    }
 
     @Test
     void shouldRetry_whenClientThrowsException() {
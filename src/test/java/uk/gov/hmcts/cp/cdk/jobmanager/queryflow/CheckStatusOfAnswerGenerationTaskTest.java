@@ -21,7 +21,12 @@ import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus.INPROGRESS;
 import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus.STARTED;
 
 import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
 import uk.gov.hmcts.cp.cdk.services.AnswerGenerationService;
+import uk.gov.hmcts.cp.cdk.services.AnswerPersistenceService;
+import uk.gov.hmcts.cp.cdk.services.AnswerWriteBehindSink;
 import uk.gov.hmcts.cp.cdk.services.CaseLevelAllDocumentsAnswerService;
 import uk.gov.hmcts.cp.cdk.services.CaseLevelLatestDocumentAnswerService;
 import uk.gov.hmcts.cp.cdk.services.DefendantAnswerService;
@@ -36,6 +41,7 @@ import java.util.List;
 import java.util.UUID;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.json.JsonObject;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -85,6 +91,8 @@ class CheckStatusOfAnswerGenerationTaskTest {
     private CaseLevelLatestDocumentAnswerService caseLevelLatestDocumentAnswerService;
     @Mock
     private DefendantAnswerService defendantAnswerService;
+    @Mock
+    private AnswerWriteBehindSink answerWriteBehindSink;
 
     @Mock
     private ExecutionService executionService;
@@ -97,9 +105,12 @@ class CheckStatusOfAnswerGenerationTaskTest {
 
     @BeforeEach
     void setUp() {
-        task = new CheckStatusOfAnswerGenerationTask(api, objectMapper, retryProperties,
+        final AnswerPersistenceService answerPersistenceService = new AnswerPersistenceService(objectMapper,
                 answerGenerationService, caseLevelAllDocumentsAnswerService,
-                caseLevelLatestDocumentAnswerService, defendantAnswerService, executionService);
+                caseLevelLatestDocumentAnswerService, defendantAnswerService, answerWriteBehindSink);
+        task = new CheckStatusOfAnswerGenerationTask(api, retryProperties, answerPersistenceService, executionService,
+                new ObservedLatencies(),
+                new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry()));
         transactionId = UUID.randomUUID();
         caseId = UUID.randomUUID();
         queryId = UUID.randomUUID();
@@ -191,6 +202,38 @@ class CheckStatusOfAnswerGenerationTaskTest {
         assertThat(result.isShouldRetry()).isFalse();
     }
 
+    @Test
+    void shouldCompleteJob_onlyAfterAnswerSinkFlushes_whenSinkEnabled() {
+        when(answerWriteBehindSink.isEnabled()).thenReturn(true);
+        when(body.getStatus()).thenReturn(ANSWER_GENERATED);
+        when(body.getLlmResponse()).thenReturn("llmResponse");
+        when(api.answerUserQueryStatus(transactionId.toString(), true)).thenReturn(ResponseEntity.ok(body));
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        final ArgumentCaptor<AnswerWriteBehindSink.PendingAnswer> captor = ArgumentCaptor.forClass(AnswerWriteBehindSink.PendingAnswer.class);
+        verify(answerWriteBehindSink).write(captor.capture());
+        assertThat(captor.getValue().caseId()).isEqualTo(caseId);
+        assertThat(captor.getValue().queryId()).isEqualTo(queryId);
+        assertThat(captor.getValue().docId()).isEqualTo(documentId);
+        assertThat(captor.getValue().answer()).isEqualTo("llmResponse");
+        verifyNoInteractions(answerGenerationService);
+        assertThat(result.getExecutionStatus()).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    void shouldRetry_whenAnswerSinkFlushFails() {
+        when(answerWriteBehindSink.isEnabled()).thenReturn(true);
+        when(body.getStatus()).thenReturn(ANSWER_GENERATED);
+        when(body.getLlmResponse()).thenReturn("llmResponse");
+        when(api.answerUserQueryStatus(transactionId.toString(), true)).thenReturn(ResponseEntity.ok(body));
+        doThrow(new IllegalStateException("flush failed")).when(answerWriteBehindSink).write(any());
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertRetry(result);
+    }
+
     @Test
     void shouldNotSaveAnswerToCdkDatabase_andCompleteJob_whenAnswerGenerationFailed() {
         when(body.getStatus()).thenReturn(ANSWER_GENERATION_FAILED);
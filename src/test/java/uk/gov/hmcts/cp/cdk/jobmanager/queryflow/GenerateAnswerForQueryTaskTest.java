@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_STATUS_OF_ANSWER_GENERATION;
 import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ANSWER_REQUESTED_AT;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
 import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_RAG_TRANSACTION_ID;
@@ -16,16 +17,25 @@ import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_Q
 import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
 
 import uk.gov.hmcts.cp.cdk.domain.QueryDefinitionLatest;
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
 import uk.gov.hmcts.cp.cdk.repo.QueryDefinitionLatestRepository;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository.SnapshotDefinition;
+import uk.gov.hmcts.cp.cdk.services.AnswerStatusPollingService;
+import uk.gov.hmcts.cp.cdk.services.QueryDefinitionCache;
 import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
+import uk.gov.hmcts.cp.openapi.model.AnswerUserQueryRequest;
 import uk.gov.hmcts.cp.openapi.model.UserQueryAnswerRequestAccepted;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
 import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
 import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import org.jetbrains.annotations.NotNull;
@@ -43,6 +53,8 @@ class GenerateAnswerForQueryTaskTest {
 
     private GenerateAnswerForQueryTask task;
 
+    @Mock
+    private QueryDefinitionCache queryDefinitionCache;
     @Mock
     private QueryDefinitionLatestRepository queryDefinitionLatestRepository;
     @Mock
@@ -50,11 +62,15 @@ class GenerateAnswerForQueryTaskTest {
     @Mock
     private ExecutionService executionService;
     @Mock
+    private AnswerStatusPollingService answerStatusPollingService;
+    @Mock
     private QueryDefinitionLatest qdl;
     @Mock
     private UserQueryAnswerRequestAccepted body;
     @Captor
     private ArgumentCaptor<ExecutionInfo> captor;
+    @Captor
+    private ArgumentCaptor<AnswerUserQueryRequest> requestCaptor;
 
     private UUID caseId;
     private UUID docId;
@@ -66,7 +82,9 @@ class GenerateAnswerForQueryTaskTest {
         caseId = UUID.randomUUID();
         docId = UUID.randomUUID();
         queryId = UUID.randomUUID();
-        task = new GenerateAnswerForQueryTask(queryDefinitionLatestRepository, api, executionService);
+        task = new GenerateAnswerForQueryTask(new AsyncAnswerSubmitter(queryDefinitionCache, queryDefinitionLatestRepository,
+                api, executionService, answerStatusPollingService),
+                new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry()));
 
         final JsonObject jobData = createObjectBuilder()
                 .add(CTX_CASE_ID_KEY, caseId.toString())
@@ -125,6 +143,44 @@ class GenerateAnswerForQueryTaskTest {
         assertThat(nextTask.getAssignedTaskName()).isEqualTo(CHECK_STATUS_OF_ANSWER_GENERATION);
         assertThat(nextTask.getExecutionStatus()).isEqualTo(ExecutionStatus.STARTED);
         assertThat(nextTask.getJobData().getString(CTX_RAG_TRANSACTION_ID)).isEqualTo("txn-123");
+        assertThat(nextTask.getJobData().containsKey(CTX_ANSWER_REQUESTED_AT)).isTrue();
+    }
+
+    @Test
+    void shouldRegisterTransactionWithPoller_whenPollerEnabled() {
+        when(qdl.getUserQuery()).thenReturn("user query");
+        when(qdl.getQueryPrompt()).thenReturn("prompt");
+        when(queryDefinitionLatestRepository.findByQueryId(queryId)).thenReturn(Optional.of(qdl));
+        when(answerStatusPollingService.isEnabled()).thenReturn(true);
+
+        when(body.getTransactionId()).thenReturn("txn-123");
+        ResponseEntity<@NotNull UserQueryAnswerRequestAccepted> response = ResponseEntity.ok(body);
+        when(api.answerUserQueryAsync(any())).thenReturn(response);
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verify(answerStatusPollingService).register("txn-123", caseId, queryId, executionInfo.getJobData());
+        verifyNoInteractions(executionService);
+    }
+
+    @Test
+    void shouldUseCachedDefinition_withoutQueryingCatalogue() {
+        final SnapshotDefinition definition = new SnapshotDefinition(queryId, "label", "cached query", "cached prompt",
+                Instant.now(), QueryLevel.DEFENDANT.toString());
+        when(queryDefinitionCache.findByQueryId(queryId)).thenReturn(Optional.of(definition));
+
+        when(body.getTransactionId()).thenReturn("txn-123");
+        ResponseEntity<@NotNull UserQueryAnswerRequestAccepted> response = ResponseEntity.ok(body);
+        when(api.answerUserQueryAsync(any())).thenReturn(response);
+
+        final ExecutionInfo result = task.execute(executionInfo);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verify(api).answerUserQueryAsync(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().getUserQuery()).isEqualTo("cached query");
+        assertThat(requestCaptor.getValue().getQueryPrompt()).isEqualTo("cached prompt");
+        verifyNoInteractions(queryDefinitionLatestRepository);
     }
 
     @Test
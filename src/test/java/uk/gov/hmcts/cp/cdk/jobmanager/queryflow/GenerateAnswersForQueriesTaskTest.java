@@ -0,0 +1,170 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.queryflow;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static java.time.ZonedDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWERS_FOR_QUERIES;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_BATCH_QUERIES;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERY_LEVEL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_QUERY_ID;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerBatchProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.TaskWorkers;
+import uk.gov.hmcts.cp.cdk.repo.QueryDefinitionLatestRepository;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository.SnapshotDefinition;
+import uk.gov.hmcts.cp.cdk.services.AnswerStatusPollingService;
+import uk.gov.hmcts.cp.cdk.services.QueryDefinitionCache;
+import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
+import uk.gov.hmcts.cp.openapi.model.UserQueryAnswerRequestAccepted;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateAnswersForQueriesTaskTest {
+
+    @Mock
+    private QueryDefinitionCache queryDefinitionCache;
+    @Mock
+    private QueryDefinitionLatestRepository queryDefinitionLatestRepository;
+    @Mock
+    private DocumentInformationSummarisedAsynchronouslyApi api;
+    @Mock
+    private ExecutionService executionService;
+    @Mock
+    private AnswerStatusPollingService answerStatusPollingService;
+    @Captor
+    private ArgumentCaptor<ExecutionInfo> captor;
+
+    private GenerateAnswersForQueriesTask task;
+
+    private final UUID caseId = UUID.randomUUID();
+    private final UUID docId = UUID.randomUUID();
+    private final UUID caseQueryId = UUID.randomUUID();
+    private final UUID defendantQueryId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        task = new GenerateAnswersForQueriesTask(
+                new AsyncAnswerSubmitter(queryDefinitionCache, queryDefinitionLatestRepository, api,
+                        executionService, answerStatusPollingService),
+                executionService,
+                new AnswerBatchProperties(),
+                new TaskWorkers(new TaskWorkerProperties(), executionService, new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        task.shutdown();
+    }
+
+    @Test
+    void shouldSubmitEveryQuery_andTrackEachTransaction() {
+        givenDefinition(caseQueryId, "case query");
+        givenDefinition(defendantQueryId, "defendant query");
+        when(answerStatusPollingService.isEnabled()).thenReturn(true);
+        when(api.answerUserQueryAsync(argThat(request -> request != null && "case query".equals(request.getUserQuery()))))
+                .thenReturn(accepted("txn-case"));
+        when(api.answerUserQueryAsync(argThat(request -> request != null && "defendant query".equals(request.getUserQuery()))))
+                .thenReturn(accepted("txn-defendant"));
+
+        final ExecutionInfo result = task.execute(batch());
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verify(answerStatusPollingService).register(eq("txn-case"), eq(caseId), eq(caseQueryId),
+                argThat(jobData -> QueryLevel.CASE.toString().equals(jobData.getString(CTX_QUERY_LEVEL))
+                        && !jobData.containsKey(CTX_BATCH_QUERIES)));
+        verify(answerStatusPollingService).register(eq("txn-defendant"), eq(caseId), eq(defendantQueryId),
+                argThat(jobData -> QueryLevel.DEFENDANT.toString().equals(jobData.getString(CTX_QUERY_LEVEL))));
+        verifyNoInteractions(executionService);
+    }
+
+    @Test
+    void shouldHandFailedSubmissionsToSingleQueryTasks() {
+        givenDefinition(caseQueryId, "case query");
+        givenDefinition(defendantQueryId, "defendant query");
+        when(answerStatusPollingService.isEnabled()).thenReturn(true);
+        when(api.answerUserQueryAsync(argThat(request -> request != null && "case query".equals(request.getUserQuery()))))
+                .thenReturn(accepted("txn-case"));
+        when(api.answerUserQueryAsync(argThat(request -> request != null && "defendant query".equals(request.getUserQuery()))))
+                .thenThrow(new RuntimeException("boom"));
+
+        final ExecutionInfo result = task.execute(batch());
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verify(answerStatusPollingService, times(1)).register(any(), any(), any(), any());
+        verify(executionService).executeWith(captor.capture());
+        assertThat(captor.getValue().getAssignedTaskName()).isEqualTo(GENERATE_ANSWER_FOR_QUERY);
+        assertThat(captor.getValue().getJobData().getString(CTX_SINGLE_QUERY_ID)).isEqualTo(defendantQueryId.toString());
+        assertThat(captor.getValue().getJobData().getString(CTX_QUERY_LEVEL)).isEqualTo(QueryLevel.DEFENDANT.toString());
+    }
+
+    @Test
+    void shouldComplete_whenBatchMissing() {
+        final ExecutionInfo result = task.execute(executionInfo()
+                .withJobData(createObjectBuilder().add(CTX_CASE_ID_KEY, caseId.toString()).build())
+                .build());
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verifyNoInteractions(api, executionService, answerStatusPollingService);
+    }
+
+    private void givenDefinition(final UUID queryId, final String userQuery) {
+        when(queryDefinitionCache.findByQueryId(queryId)).thenReturn(Optional.of(
+                new SnapshotDefinition(queryId, "label", userQuery, "prompt", Instant.now(), QueryLevel.CASE.toString())));
+    }
+
+    private static ResponseEntity<UserQueryAnswerRequestAccepted> accepted(final String transactionId) {
+        return ResponseEntity.ok(new UserQueryAnswerRequestAccepted().transactionId(transactionId));
+    }
+
+    private ExecutionInfo batch() {
+        final JsonObject jobData = createObjectBuilder()
+                .add(CTX_CASE_ID_KEY, caseId.toString())
+                .add(CTX_DOC_ID_KEY, docId.toString())
+                .add(CTX_BATCH_QUERIES, createArrayBuilder()
+                        .add(createObjectBuilder()
+                                .add(CTX_SINGLE_QUERY_ID, caseQueryId.toString())
+                                .add(CTX_QUERY_LEVEL, QueryLevel.CASE.toString()))
+                        .add(createObjectBuilder()
+                                .add(CTX_SINGLE_QUERY_ID, defendantQueryId.toString())
+                                .add(CTX_QUERY_LEVEL, QueryLevel.DEFENDANT.toString())))
+                .build();
+        return executionInfo()
+                .withJobData(jobData)
+                .withAssignedTaskName(GENERATE_ANSWERS_FOR_QUERIES)
+                .withAssignedTaskStartTime(now())
+                .withExecutionStatus(ExecutionStatus.INPROGRESS)
+                .build();
+    }
+}
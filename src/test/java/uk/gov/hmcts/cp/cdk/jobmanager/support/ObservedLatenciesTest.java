@@ -0,0 +1,41 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class ObservedLatenciesTest {
+
+    private final ObservedLatencies observedLatencies = new ObservedLatencies();
+
+    @Test
+    void shouldHaveNoMedian_untilEnoughSamples() {
+        observedLatencies.record(ObservedLatencies.Kind.INGESTION, Duration.ofSeconds(30));
+
+        assertThat(observedLatencies.median(ObservedLatencies.Kind.INGESTION)).isNull();
+    }
+
+    @Test
+    void shouldReturnMedianPerKind_overRecentWindow() {
+        for (int seconds : new int[]{10, 50, 30, 20, 40}) {
+            observedLatencies.record(ObservedLatencies.Kind.INGESTION, Duration.ofSeconds(seconds));
+        }
+        for (int i = 0; i < 200; i++) {
+            observedLatencies.record(ObservedLatencies.Kind.ANSWER_GENERATION, Duration.ofSeconds(i < 100 ? 1 : 90));
+        }
+
+        assertThat(observedLatencies.median(ObservedLatencies.Kind.INGESTION)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(observedLatencies.median(ObservedLatencies.Kind.ANSWER_GENERATION)).isEqualTo(Duration.ofSeconds(90));
+    }
+
+    @Test
+    void shouldIgnoreNegativeLatencies() {
+        for (int i = 0; i < 10; i++) {
+            observedLatencies.record(ObservedLatencies.Kind.INGESTION, Duration.ofSeconds(-1));
+        }
+
+        assertThat(observedLatencies.median(ObservedLatencies.Kind.INGESTION)).isNull();
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_STATUS_OF_ANSWER_GENERATION;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.RETRIEVE_MATERIAL_AND_UPLOAD;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares task throughput in PLATFORM and VIRTUAL mode when both are dispatched from the same platform
+ * pool sized like cdk.ingestion.max-pool-size (as the job manager does), and how long uploads wait behind
+ * a burst of status polls with and without a per-type cap. Opt-in: run with -Dbenchmark=true.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskWorkersBenchmarkTest {
+
+    private static final int POOL_SIZE = 20;
+    private static final int EXECUTIONS = 2_000;
+    private static final Duration BLOCKING_IO = Duration.ofMillis(25);
+
+    @Test
+    void virtualMode_shouldStayBoundedByDispatcherPool_onBlockingTasks() throws Exception {
+        final Duration platform = run(Executors.newFixedThreadPool(POOL_SIZE), TaskWorkerProperties.Mode.PLATFORM,
+                Map.of(), RETRIEVE_MATERIAL_AND_UPLOAD, EXECUTIONS);
+        final Duration virtual = run(Executors.newFixedThreadPool(POOL_SIZE), TaskWorkerProperties.Mode.VIRTUAL,
+                Map.of(), RETRIEVE_MATERIAL_AND_UPLOAD, EXECUTIONS);
+        final Duration poolBound = BLOCKING_IO.multipliedBy(EXECUTIONS / POOL_SIZE);
+
+        log.info("{} blocking executions on a dispatcher pool({}): platform {} ms ({}/s), virtual {} ms ({}/s), pool bound {} ms",
+                EXECUTIONS, POOL_SIZE, platform.toMillis(), perSecond(platform), virtual.toMillis(), perSecond(virtual),
+                poolBound.toMillis());
+        assertThat(platform).isGreaterThanOrEqualTo(poolBound);
+        assertThat(virtual).isGreaterThanOrEqualTo(poolBound);
+    }
+
+    @Test
+    void perTypeCap_shouldStopPollBurstStarvingUploads() throws Exception {
+        final Duration uncapped = uploadsBehindPollBurst(Map.of());
+        final Duration capped = uploadsBehindPollBurst(Map.of(CHECK_STATUS_OF_ANSWER_GENERATION,
+                new TaskWorkerProperties.Lane(POOL_SIZE / 2, 0, 10)));
+
+        log.info("Uploads behind a poll burst on a platform pool({}): uncapped {} ms, polls capped at {} {} ms",
+                POOL_SIZE, uncapped.toMillis(), POOL_SIZE / 2, capped.toMillis());
+        assertThat(capped).isLessThan(uncapped);
+    }
+
+    private Duration uploadsBehindPollBurst(final Map<String, TaskWorkerProperties.Lane> caps) throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(POOL_SIZE);
+        final TaskWorkers taskWorkers = taskWorkers(TaskWorkerProperties.Mode.PLATFORM, caps);
+        try {
+            final List<Future<ExecutionInfo>> polls = submit(pool, taskWorkers, CHECK_STATUS_OF_ANSWER_GENERATION, EXECUTIONS / 4);
+            final long startedAt = System.nanoTime();
+            awaitAll(submit(pool, taskWorkers, RETRIEVE_MATERIAL_AND_UPLOAD, POOL_SIZE));
+            final Duration uploads = Duration.ofNanos(System.nanoTime() - startedAt);
+            awaitAll(polls);
+            return uploads;
+        } finally {
+            pool.shutdownNow();
+            taskWorkers.shutdown();
+        }
+    }
+
+    private Duration run(final ExecutorService workers,
+                         final TaskWorkerProperties.Mode mode,
+                         final Map<String, TaskWorkerProperties.Lane> caps,
+                         final String taskName,
+                         final int executions) throws Exception {
+        final TaskWorkers taskWorkers = taskWorkers(mode, caps);
+        try {
+            final long startedAt = System.nanoTime();
+            awaitAll(submit(workers, taskWorkers, taskName, executions));
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        } finally {
+            workers.shutdownNow();
+            taskWorkers.shutdown();
+        }
+    }
+
+    private static TaskWorkers taskWorkers(final TaskWorkerProperties.Mode mode, final Map<String, TaskWorkerProperties.Lane> caps) {
+        final TaskWorkerProperties properties = new TaskWorkerProperties();
+        properties.setMode(mode);
+        properties.setLanes(caps);
+        properties.setPermitWaitMs(0);
+        properties.setPinningDetection(false);
+        return new TaskWorkers(properties, mock(ExecutionService.class), new SimpleMeterRegistry());
+    }
+
+    private static List<Future<ExecutionInfo>> submit(final ExecutorService workers,
+                                                      final TaskWorkers taskWorkers,
+                                                      final String taskName,
+                                                      final int executions) {
+        final List<Future<ExecutionInfo>> futures = new ArrayList<>(executions);
+        for (int i = 0; i < executions; i++) {
+            futures.add(workers.submit(() -> taskWorkers.execute(taskName, executionInfo().build(), info -> {
+                blockingIo();
+                return executionInfo().from(info).withExecutionStatus(ExecutionStatus.COMPLETED).build();
+            })));
+        }
+        return futures;
+    }
+
+    private static void awaitAll(final List<Future<ExecutionInfo>> futures) throws Exception {
+        for (final Future<ExecutionInfo> future : futures) {
+            future.get();
+        }
+    }
+
+    private static void blockingIo() {
+        try {
+            Thread.sleep(BLOCKING_IO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long perSecond(final Duration elapsed) {
+        return EXECUTIONS * 1000L / Math.max(1, elapsed.toMillis());
+    }
+}
@@ -0,0 +1,295 @@
+package uk.gov.hmcts.cp.cdk.jobmanager.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_STATUS_OF_ANSWER_GENERATION;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GET_CASES_FOR_HEARING;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.RETRIEVE_MATERIAL_AND_UPLOAD;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ORIGIN;
+import static uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo.executionInfo;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.TaskWorkerProperties;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionStatus;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.json.Json;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskWorkersTest {
+
+    @Mock
+    private ExecutionService executionService;
+    @Captor
+    private ArgumentCaptor<ExecutionInfo> captor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskWorkerProperties properties = new TaskWorkerProperties();
+    private TaskWorkers taskWorkers;
+
+    @AfterEach
+    void tearDown() {
+        if (taskWorkers != null) {
+            taskWorkers.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRunBodyOnCallingThread_inPlatformMode() {
+        taskWorkers = new TaskWorkers(properties, executionService, meterRegistry);
+        final Thread caller = Thread.currentThread();
+
+        final ExecutionInfo result = taskWorkers.execute(RETRIEVE_MATERIAL_AND_UPLOAD, execution(), info -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            return completed(info);
+        });
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        assertThat(meterRegistry.get(TaskWorkers.METRIC_PREFIX + "execution")
+                .tag("task", RETRIEVE_MATERIAL_AND_UPLOAD).tag("thread", "platform").timer().count()).isEqualTo(1);
+        verifyNoInteractions(executionService);
+    }
+
+    @Test
+    void shouldRunBodyOnVirtualThread_inVirtualMode() {
+        properties.setMode(TaskWorkerProperties.Mode.VIRTUAL);
+        properties.setPinningDetection(false);
+        taskWorkers = new TaskWorkers(properties, executionService, meterRegistry);
+        final AtomicBoolean virtual = new AtomicBoolean();
+
+        taskWorkers.execute(RETRIEVE_MATERIAL_AND_UPLOAD, execution(), info -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            return completed(info);
+        });
+
+        assertThat(virtual).isTrue();
+        assertThat(meterRegistry.get(TaskWorkers.METRIC_PREFIX + "execution")
+                .tag("thread", "virtual").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPropagateRuntimeException_fromVirtualThread() {
+        properties.setMode(TaskWorkerProperties.Mode.VIRTUAL);
+        properties.setPinningDetection(false);
+        taskWorkers = new TaskWorkers(properties, executionService, meterRegistry);
+
+        assertThatThrownBy(() -> taskWorkers.execute(RETRIEVE_MATERIAL_AND_UPLOAD, execution(), info -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    @Test
+    void shouldRescheduleExecution_whenTaskTypeAtItsCap() throws Exception {
+        properties.setLanes(Map.of(CHECK_STATUS_OF_ANSWER_GENERATION, new TaskWorkerProperties.Lane(1, 1, 10)));
+        properties.setPermitWaitMs(10);
+        properties.setDeferSeconds(30);
+        taskWorkers = new TaskWorkers(properties, executionService, meterRegistry);
+
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<ExecutionInfo> holder = CompletableFuture.supplyAsync(() ->
+                taskWorkers.execute(CHECK_STATUS_OF_ANSWER_GENERATION, execution(), info -> {
+                    running.countDown();
+                    await(release);
+                    return completed(info);
+                }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final AtomicBoolean ran = new AtomicBoolean();
+        final ExecutionInfo result = taskWorkers.execute(CHECK_STATUS_OF_ANSWER_GENERATION, execution(), info -> {
+            ran.set(true);
+            return completed(info);
+        });
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        assertThat(ran).isFalse();
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verify(executionService).executeWith(captor.capture());
+        assertThat(captor.getValue().getAssignedTaskName()).isEqualTo(CHECK_STATUS_OF_ANSWER_GENERATION);
+        assertThat(captor.getValue().getExecutionStatus()).isEqualTo(ExecutionStatus.STARTED);
+        assertThat(captor.getValue().getAssignedTaskStartTime()).isAfter(ZonedDateTime.now().plusSeconds(20));
+        assertThat(meterRegistry.get(TaskWorkers.METRIC_PREFIX + "deferred")
+                .tag("task", CHECK_STATUS_OF_ANSWER_GENERATION).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotLetOneCappedTypeBlockAnother() throws Exception {
+        properties.setLanes(Map.of(CHECK_STATUS_OF_ANSWER_GENERATION, new TaskWorkerProperties.Lane(1, 1, 10)));
+        properties.setPermitWaitMs(10);
+        taskWorkers = new TaskWorkers(properties, executionService, meterRegistry);
+
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<ExecutionInfo> holder = CompletableFuture.supplyAsync(() ->
+                taskWorkers.execute(CHECK_STATUS_OF_ANSWER_GENERATION, execution(), info -> {
+                    running.countDown();
+                    await(release);
+                    return completed(info);
+                }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final ExecutionInfo result = taskWorkers.execute(RETRIEVE_MATERIAL_AND_UPLOAD, execution(), TaskWorkersTest::completed);
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getExecutionStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        verifyNoInteractions(executionService);
+    }
+
+    @Test
+    void shouldDeferImmediately_whenLaneQueueFull() throws Exception {
+        properties.setLanes(Map.of(CHECK_STATUS_OF_ANSWER_GENERATION, new TaskWorkerProperties.Lane(1, 0, 10)));
+        properties.setPermitWaitMs(5_000);
+        taskWorkers = new TaskWorkers(properties, executionService, meterRegistry);
+
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<ExecutionInfo> holder = CompletableFuture.supplyAsync(() ->
+                taskWorkers.execute(CHECK_STATUS_OF_ANSWER_GENERATION, execution(), info -> {
+                    running.countDown();
+                    await(release);
+                    return completed(info);
+                }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final long startedAt = System.nanoTime();
+        taskWorkers.execute(CHECK_STATUS_OF_ANSWER_GENERATION, execution(), TaskWorkersTest::completed);
+        final long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        assertThat(waitedMs).isLessThan(1_000);
+        verify(executionService).executeWith(captor.capture());
+        assertThat(captor.getValue().getAssignedTaskName()).isEqualTo(CHECK_STATUS_OF_ANSWER_GENERATION);
+    }
+
+    @Test
+    void shouldHandFreedSlotToUserInitiatedExecution_beforeEarlierScheduledOne() throws Exception {
+        properties.setLanes(Map.of(GET_CASES_FOR_HEARING, new TaskWorkerProperties.Lane(1, 10, 50)));
+        properties.setPermitWaitMs(5_000);
+        taskWorkers = new TaskWorkers(properties, executionService, meterRegistry);
+
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<ExecutionInfo> holder = CompletableFuture.supplyAsync(() ->
+                taskWorkers.execute(GET_CASES_FOR_HEARING, execution(), info -> {
+                    running.countDown();
+                    await(release);
+                    return completed(info);
+                }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final CompletableFuture<ExecutionInfo> scheduled = CompletableFuture.supplyAsync(() ->
+                taskWorkers.execute(GET_CASES_FOR_HEARING, execution(ExecutionOrigin.SCHEDULED), info -> {
+                    order.add("scheduled");
+                    return completed(info);
+                }));
+        awaitQueued(GET_CASES_FOR_HEARING, 1);
+        final CompletableFuture<ExecutionInfo> user = CompletableFuture.supplyAsync(() ->
+                taskWorkers.execute(GET_CASES_FOR_HEARING, execution(ExecutionOrigin.USER), info -> {
+                    order.add("user");
+                    return completed(info);
+                }));
+        awaitQueued(GET_CASES_FOR_HEARING, 2);
+
+        release.countDown();
+        CompletableFuture.allOf(holder, scheduled, user).get(5, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("user", "scheduled");
+        verifyNoInteractions(executionService);
+    }
+
+    @Test
+    void shouldKeepReservedWorkersForUserInitiatedExecutions() throws Exception {
+        properties.setWorkerBudget(2);
+        properties.setUserReserved(1);
+        properties.setPermitWaitMs(10);
+        properties.setDefaultLane(new TaskWorkerProperties.Lane(0, 0, 50));
+        taskWorkers = new TaskWorkers(properties, executionService, meterRegistry);
+
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<ExecutionInfo> poll = CompletableFuture.supplyAsync(() ->
+                taskWorkers.execute(CHECK_STATUS_OF_ANSWER_GENERATION, execution(ExecutionOrigin.SCHEDULED), info -> {
+                    running.countDown();
+                    await(release);
+                    return completed(info);
+                }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final AtomicBoolean scheduledRan = new AtomicBoolean();
+        taskWorkers.execute(RETRIEVE_MATERIAL_AND_UPLOAD, execution(ExecutionOrigin.SCHEDULED), info -> {
+            scheduledRan.set(true);
+            return completed(info);
+        });
+        final AtomicBoolean userRan = new AtomicBoolean();
+        taskWorkers.execute(GET_CASES_FOR_HEARING, execution(ExecutionOrigin.USER), info -> {
+            userRan.set(true);
+            return completed(info);
+        });
+        release.countDown();
+        poll.get(5, TimeUnit.SECONDS);
+
+        assertThat(scheduledRan).isFalse();
+        assertThat(userRan).isTrue();
+        verify(executionService).executeWith(captor.capture());
+        assertThat(captor.getValue().getAssignedTaskName()).isEqualTo(RETRIEVE_MATERIAL_AND_UPLOAD);
+    }
+
+    private void awaitQueued(final String taskName, final int queued) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(TaskWorkers.METRIC_PREFIX + "queued").tag("task", taskName).gauge().value() < queued) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static ExecutionInfo execution(final ExecutionOrigin origin) {
+        return executionInfo()
+                .withJobData(Json.createObjectBuilder().add("caseId", "c-1").add(CTX_ORIGIN, origin.name()).build())
+                .withAssignedTaskStartTime(ZonedDateTime.now())
+                .withExecutionStatus(ExecutionStatus.INPROGRESS)
+                .build();
+    }
+
+    private static ExecutionInfo execution() {
+        return executionInfo()
+                .withJobData(Json.createObjectBuilder().add("caseId", "c-1").build())
+                .withAssignedTaskStartTime(ZonedDateTime.now())
+                .withExecutionStatus(ExecutionStatus.INPROGRESS)
+                .build();
+    }
+
+    private static ExecutionInfo completed(final ExecutionInfo info) {
+        return executionInfo().from(info).withExecutionStatus(ExecutionStatus.COMPLETED).build();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
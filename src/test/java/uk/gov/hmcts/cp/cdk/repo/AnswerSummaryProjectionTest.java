@@ -0,0 +1,183 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.hmcts.cp.cdk.domain.Answer;
+
+import java.lang.management.ManagementFactory;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks the list-read projections map every column the list endpoints return, and compares
+ * them with the previous {@code SELECT a.*} entity reads on a case whose answers carry large
+ * inline llm_input: result bytes (text form of the rows, as sent by the server) and heap
+ * allocated per request are logged and must both drop.
+ */
+@Slf4j
+@DataJpaTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Answer list projections")
+class AnswerSummaryProjectionTest {
+
+    private static final int QUERIES = 40;
+    private static final int LLM_INPUT_CHARS = 64 * 1024;
+    private static final int ITERATIONS = 20;
+
+    private static final String ENTITY_LIST_SQL = """
+            SELECT DISTINCT ON (a.query_id) a.*
+              FROM answers a
+             WHERE a.case_id = :caseId
+               AND a.created_at <= :asOf
+             ORDER BY a.query_id, a.created_at DESC, a.version DESC
+            """;
+
+    private static final String SUMMARY_LIST_SQL = """
+            SELECT DISTINCT ON (a.query_id) a.case_id, a.query_id, a.version, a.created_at, a.answer
+              FROM answers a
+             WHERE a.case_id = ?
+               AND a.created_at <= ?
+             ORDER BY a.query_id, a.created_at DESC, a.version DESC
+            """;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("cdk")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @jakarta.annotation.Resource
+    private AnswerRepository answerRepository;
+
+    @jakarta.annotation.Resource
+    private DefendantAnswerRepository defendantAnswerRepository;
+
+    @jakarta.annotation.Resource
+    private JdbcTemplate jdbc;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private UUID caseId;
+    private OffsetDateTime asOf;
+
+    @BeforeEach
+    void seed() {
+        caseId = UUID.randomUUID();
+        asOf = OffsetDateTime.now().plusMinutes(1);
+        final String llmInput = "provenance ".repeat(LLM_INPUT_CHARS / 11);
+        for (int i = 0; i < QUERIES; i++) {
+            final UUID queryId = UUID.randomUUID();
+            jdbc.update("INSERT INTO queries (query_id, label) VALUES (?, ?)", queryId, "Projection " + queryId);
+            jdbc.update("""
+                            INSERT INTO answers (case_id, query_id, version, created_at, answer, llm_input)
+                            VALUES (?, ?, 1, NOW(), ?, ?)
+                            """,
+                    caseId, queryId, "answer " + i, llmInput);
+        }
+    }
+
+    @Test
+    void summaries_shouldCarryTheSameListFieldsAsTheEntity() {
+        final List<AnswerSummary> summaries = answerRepository.findLatestPerQueryAsOfForCase(caseId, asOf).stream()
+                .sorted(Comparator.comparing(AnswerSummary::queryId))
+                .toList();
+        final List<Answer> entities = entityList().stream()
+                .sorted(Comparator.comparing(a -> a.getAnswerId().getQueryId()))
+                .toList();
+
+        assertThat(summaries).hasSize(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            final AnswerSummary summary = summaries.get(i);
+            final Answer entity = entities.get(i);
+            assertThat(summary.caseId()).isEqualTo(caseId);
+            assertThat(summary.queryId()).isEqualTo(entity.getAnswerId().getQueryId());
+            assertThat(summary.version()).isEqualTo(entity.getAnswerId().getVersion());
+            assertThat(summary.defendantId()).isNull();
+            assertThat(summary.createdAt()).isEqualTo(entity.getCreatedAt().toInstant());
+            assertThat(summary.answerText()).isEqualTo(entity.getAnswerText());
+        }
+    }
+
+    @Test
+    void defendantSummaries_shouldCarryTheDefendant() {
+        final UUID queryId = UUID.randomUUID();
+        final UUID defendantId = UUID.randomUUID();
+        jdbc.update("INSERT INTO queries (query_id, label) VALUES (?, ?)", queryId, "Defendant " + queryId);
+        jdbc.update("""
+                        INSERT INTO defendant_answers (case_id, query_id, defendant_id, version, created_at, answer, llm_input)
+                        VALUES (?, ?, ?, 1, NOW(), 'defendant answer', 'llm')
+                        """,
+                caseId, queryId, defendantId);
+
+        assertThat(defendantAnswerRepository.findAllAsOfForCase(caseId, queryId, asOf))
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.defendantId()).isEqualTo(defendantId);
+                    assertThat(summary.version()).isEqualTo(1);
+                    assertThat(summary.answerText()).isEqualTo("defendant answer");
+                });
+    }
+
+    @Test
+    void summaries_shouldMoveFewerBytes_andAllocateLessPerRequest() {
+        final long entityBytes = resultBytes(ENTITY_LIST_SQL.replace(":caseId", "?").replace(":asOf", "?"));
+        final long summaryBytes = resultBytes(SUMMARY_LIST_SQL);
+
+        final long entityAllocated = allocatedPerRequest(this::entityList);
+        final long summaryAllocated = allocatedPerRequest(() -> answerRepository.findLatestPerQueryAsOfForCase(caseId, asOf));
+
+        log.info("Answer list read for {} answers with {} char llm_input: result bytes {} -> {}, heap allocated per request {} -> {}",
+                QUERIES, LLM_INPUT_CHARS, entityBytes, summaryBytes, entityAllocated, summaryAllocated);
+
+        assertThat(summaryBytes).isLessThan(entityBytes / 10);
+        assertThat(summaryAllocated).isLessThan(entityAllocated / 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Answer> entityList() {
+        em.clear();
+        return em.createNativeQuery(ENTITY_LIST_SQL, Answer.class)
+                .setParameter("caseId", caseId)
+                .setParameter("asOf", asOf)
+                .getResultList();
+    }
+
+    private long resultBytes(final String sql) {
+        return jdbc.queryForObject("SELECT COALESCE(SUM(octet_length(t::text)), 0) FROM (" + sql + ") t",
+                Long.class, caseId, asOf);
+    }
+
+    private long allocatedPerRequest(final Supplier<List<?>> read) {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(read.get()).hasSize(QUERIES);
+        }
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(read.get()).hasSize(QUERIES);
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+}
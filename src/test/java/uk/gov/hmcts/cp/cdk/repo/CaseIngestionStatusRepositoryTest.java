@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,9 +26,9 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @DataJpaTest
 @Testcontainers
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
-@DisplayName("Ingestion Status View Repository tests")
-@Import(IngestionStatusViewRepository.class)
-class IngestionStatusViewRepositoryTest {
+@DisplayName("Case Ingestion Status Repository tests")
+@Import(CaseIngestionStatusRepository.class)
+class CaseIngestionStatusRepositoryTest {
 
     @Container
     @ServiceConnection
@@ -38,7 +39,7 @@ class IngestionStatusViewRepositoryTest {
                     .withPassword("postgres");
 
     @jakarta.annotation.Resource
-    private IngestionStatusViewRepository repo;
+    private CaseIngestionStatusRepository repo;
 
     @jakarta.annotation.Resource
     private JdbcTemplate jdbc;
@@ -49,39 +50,8 @@ class IngestionStatusViewRepositoryTest {
     private UUID caseId;
 
     @BeforeEach
-    void initViewAndData() {
-        // Minimal base table used by the view + inserts (create only if missing)
-        jdbc.execute("""
-                    DO $$
-                    BEGIN
-                      IF NOT EXISTS (SELECT 1 FROM pg_tables WHERE schemaname='public' AND tablename='case_documents') THEN
-                        CREATE TABLE public.case_documents (
-                          doc_id             UUID         PRIMARY KEY,
-                          case_id            UUID         NOT NULL,
-                          source             VARCHAR(64)  NOT NULL,
-                          doc_name           VARCHAR(255) NOT NULL,
-                          blob_uri           VARCHAR(1024),
-                          uploaded_at        TIMESTAMPTZ  NOT NULL,
-                          ingestion_phase    VARCHAR(64)  NOT NULL,
-                          ingestion_phase_at TIMESTAMPTZ  NOT NULL
-                        );
-                        CREATE INDEX IF NOT EXISTS idx_case_docs_case_uploaded ON public.case_documents (case_id, uploaded_at);
-                      END IF;
-                    END $$;
-                """);
-
-        // Create/replace the view that the repository queries
-        jdbc.execute("""
-                    CREATE OR REPLACE VIEW v_case_ingestion_status AS
-                    SELECT DISTINCT ON (case_id)
-                      case_id,
-                      ingestion_phase    AS phase,
-                      ingestion_phase_at AS last_updated
-                    FROM case_documents
-                    ORDER BY case_id, ingestion_phase_at DESC;
-                """);
-
-        // Seed data
+    void seedDocuments() {
+        // case_ingestion_status is maintained by the V1014 trigger on case_documents
         caseId = UUID.randomUUID();
 
         jdbc.update("""
@@ -111,11 +81,47 @@ class IngestionStatusViewRepositoryTest {
 
     @Test
     @Transactional
-    @DisplayName("View returns latest phase per case")
-    void view_returns_latest_phase_per_case() {
-        final Optional<IngestionStatusViewRepository.Row> row = repo.findByCaseId(caseId);
+    @DisplayName("Returns latest phase per case")
+    void returns_latest_phase_per_case() {
+        final Optional<CaseIngestionStatusRepository.Row> row = repo.findByCaseId(caseId);
         assertTrue(row.isPresent(), "Expected a row for inserted caseId");
         assertEquals("INGESTED", row.get().phase());
         assertEquals(OffsetDateTime.parse("2025-05-01T12:05:00Z"), row.get().lastUpdated());
     }
+
+    @Test
+    @Transactional
+    @DisplayName("Follows phase changes in the same transaction, ignoring older ones")
+    void follows_phase_changes() {
+        jdbc.update("UPDATE case_documents SET ingestion_phase = 'FAILED', ingestion_phase_at = ? WHERE doc_name = 'material_id_1' AND case_id = ?",
+                OffsetDateTime.parse("2025-05-01T12:10:00Z"), caseId);
+        assertEquals("FAILED", repo.findByCaseId(caseId).orElseThrow().phase());
+
+        jdbc.update("UPDATE case_documents SET ingestion_phase = 'UPLOADED', ingestion_phase_at = ? WHERE doc_name = 'material_id_2' AND case_id = ?",
+                OffsetDateTime.parse("2025-05-01T12:01:00Z"), caseId);
+        assertEquals("FAILED", repo.findByCaseId(caseId).orElseThrow().phase());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Falls back to the next latest document when the latest is deleted")
+    void falls_back_when_latest_deleted() {
+        jdbc.update("DELETE FROM case_documents WHERE doc_name = 'material_id_2' AND case_id = ?", caseId);
+
+        final CaseIngestionStatusRepository.Row row = repo.findByCaseId(caseId).orElseThrow();
+        assertEquals("INGESTING", row.phase());
+        assertEquals(OffsetDateTime.parse("2025-05-01T12:00:00Z"), row.lastUpdated());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Bulk read returns only cases with uploads")
+    void bulk_read_returns_known_cases() {
+        final List<CaseIngestionStatusRepository.Row> rows = repo.findByCaseIds(List.of(caseId, UUID.randomUUID()));
+
+        assertEquals(1, rows.size());
+        assertEquals(caseId, rows.getFirst().caseId());
+        assertEquals("INGESTED", rows.getFirst().phase());
+        assertTrue(repo.findByCaseIds(List.of()).isEmpty());
+    }
 }
@@ -6,10 +6,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import uk.gov.hmcts.cp.cdk.repo.DocumentIdResolver.MaterialDefendant;
+
+import java.sql.ResultSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +29,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -217,4 +226,37 @@ class DocumentIdResolverTest {
         assertThat(sqlQueryCaptor.getValue())
                 .contains("'INGESTED','EXCEEDED_FILE_SIZE_LIMIT'");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldResolveAllDefendantDocs_inOneQuery() throws Exception {
+        final UUID caseId = randomUUID();
+        final MaterialDefendant existing = new MaterialDefendant(randomUUID(), randomUUID());
+        final MaterialDefendant missing = new MaterialDefendant(randomUUID(), randomUUID());
+        final UUID docId = randomUUID();
+
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("material_id")).thenReturn(existing.materialId());
+        when(rs.getObject("defendant_id")).thenReturn(existing.defendantId());
+        when(rs.getObject("doc_id")).thenReturn(docId);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(jdbc).query(eq(DocumentIdResolver.SQL_FIND_EXISTING_DOCS_FOR_DEFENDANTS),
+                ArgumentMatchers.<MapSqlParameterSource>any(), ArgumentMatchers.<RowCallbackHandler>any());
+
+        final Map<MaterialDefendant, UUID> result =
+                resolver.resolveExistingDocIdsForDefendants(caseId, List.of(existing, missing));
+
+        assertThat(result).containsExactly(Map.entry(existing, docId));
+        verify(jdbc).query(eq(DocumentIdResolver.SQL_FIND_EXISTING_DOCS_FOR_DEFENDANTS), captor.capture(),
+                ArgumentMatchers.<RowCallbackHandler>any());
+        assertEquals(caseId, captor.getValue().getValue("case_id"));
+        assertThat((List<?>) captor.getValue().getValue("material_defendants")).hasSize(2);
+    }
+
+    @Test
+    void shouldNotQuery_whenNoDefendantDocsRequested() {
+        assertThat(resolver.resolveExistingDocIdsForDefendants(randomUUID(), List.of())).isEmpty();
+        verifyNoInteractions(jdbc);
+    }
+}
@@ -0,0 +1,148 @@
+package uk.gov.hmcts.cp.cdk.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import uk.gov.hmcts.cp.cdk.domain.AnswerId;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.BackfillBatch;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.TableUsage;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("llm_input chunk store tests")
+class LlmInputChunkRepositoryTest {
+
+    private static final String CHUNK_A = "{\"text\":\"first chunk\",\"documentId\":\"d1\",\"score\":0.91}";
+    private static final String CHUNK_B = "{\"text\":\"second chunk\",\"documentId\":\"d2\",\"score\":0.42}";
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("cdk")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @jakarta.annotation.Resource
+    private JdbcTemplate jdbc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LlmInputChunkRepository repo;
+    private UUID caseId;
+    private UUID queryId;
+
+    @BeforeEach
+    void setUp() {
+        repo = new LlmInputChunkRepository(new NamedParameterJdbcTemplate(jdbc));
+        caseId = UUID.randomUUID();
+        queryId = UUID.randomUUID();
+        jdbc.update("INSERT INTO queries (query_id, label) VALUES (?, ?)", queryId, "Chunks " + queryId);
+    }
+
+    @Test
+    void insert_shouldStoreSharedChunksOnce_andReassembleInOrder() throws Exception {
+        final long chunksBefore = chunkCount();
+        final String first = llmInput(CHUNK_A, CHUNK_B);
+        final String second = llmInput(CHUNK_B, CHUNK_A);
+
+        insertAnswer(1, first);
+        insertAnswer(2, second);
+
+        assertThat(chunkCount() - chunksBefore).isEqualTo(2);
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM answers WHERE case_id = ? AND llm_input IS NULL AND cardinality(llm_input_chunks) = 2",
+                Long.class, caseId)).isEqualTo(2);
+        assertThat(objectMapper.readTree(repo.findAnswerLlmInput(new AnswerId(caseId, queryId, 1)).orElseThrow()))
+                .isEqualTo(objectMapper.readTree(first));
+        assertThat(objectMapper.readTree(repo.findAnswerLlmInput(new AnswerId(caseId, queryId, 2)).orElseThrow()))
+                .isEqualTo(objectMapper.readTree(second));
+    }
+
+    @Test
+    void insert_shouldKeepOtherLlmInputInline() {
+        insertAnswer(1, "plain llm input");
+        insertAnswer(2, "{\"provenanceChunksSample\": not json");
+        insertAnswer(3, "{\"provenanceChunksSample\":[],\"extra\":true}");
+
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM answers WHERE case_id = ? AND llm_input IS NOT NULL AND llm_input_chunks IS NULL",
+                Long.class, caseId)).isEqualTo(3);
+        assertThat(repo.findAnswerLlmInput(new AnswerId(caseId, queryId, 1))).contains("plain llm input");
+    }
+
+    @Test
+    void backfillBatch_shouldChunkRowsWrittenBeforeTheStore() throws Exception {
+        final String legacy = llmInput(CHUNK_A);
+        jdbc.execute("ALTER TABLE answers DISABLE TRIGGER answers_llm_input_chunks");
+        try {
+            insertAnswer(1, legacy);
+        } finally {
+            jdbc.execute("ALTER TABLE answers ENABLE TRIGGER answers_llm_input_chunks");
+        }
+        assertThat(repo.tableUsage("answers").pendingRows()).isPositive();
+
+        BackfillBatch batch;
+        do {
+            batch = repo.backfillBatch("answers", 100);
+        } while (batch.rewritten() == 100);
+
+        assertThat(repo.tableUsage("answers").pendingRows()).isZero();
+        assertThat(jdbc.queryForObject(
+                "SELECT llm_input IS NULL AND llm_input_chunks IS NOT NULL FROM answers WHERE case_id = ?",
+                Boolean.class, caseId)).isTrue();
+        assertThat(objectMapper.readTree(repo.findAnswerLlmInput(new AnswerId(caseId, queryId, 1)).orElseThrow()))
+                .isEqualTo(objectMapper.readTree(legacy));
+    }
+
+    @Test
+    void tableUsage_shouldReportChunkedRows_andChunkStoreSize() {
+        insertAnswer(1, llmInput(CHUNK_A, CHUNK_B));
+
+        final TableUsage usage = repo.tableUsage("answers");
+
+        assertThat(usage.table()).isEqualTo("answers");
+        assertThat(usage.chunkedRows()).isPositive();
+        assertThat(usage.rows()).isGreaterThanOrEqualTo(usage.chunkedRows());
+        assertThat(repo.chunkStoreUsage().chunks()).isGreaterThanOrEqualTo(2);
+        assertThat(repo.chunkStoreUsage().uncompressedBytes()).isPositive();
+    }
+
+    @Test
+    void backfillBatch_shouldRejectUnknownTable() {
+        assertThatThrownBy(() -> repo.backfillBatch("answers; DROP TABLE answers", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void insertAnswer(final int version, final String llmInput) {
+        jdbc.update("""
+                        INSERT INTO answers (case_id, query_id, version, created_at, answer, llm_input)
+                        VALUES (?, ?, ?, NOW(), 'answer', ?)
+                        """,
+                caseId, queryId, version, llmInput);
+    }
+
+    private long chunkCount() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM llm_input_chunk", Long.class);
+    }
+
+    private static String llmInput(final String... chunks) {
+        return "{\"provenanceChunksSample\":[" + String.join(",", chunks) + "]}";
+    }
+}
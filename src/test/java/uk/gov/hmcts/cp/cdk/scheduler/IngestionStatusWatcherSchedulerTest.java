@@ -0,0 +1,60 @@
+package uk.gov.hmcts.cp.cdk.scheduler;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.IngestionWatcherProperties;
+import uk.gov.hmcts.cp.cdk.services.IngestionStatusWatcherService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IngestionStatusWatcherSchedulerTest {
+
+    @Mock
+    private IngestionStatusWatcherService ingestionStatusWatcherService;
+
+    private IngestionWatcherProperties properties;
+    private IngestionStatusWatcherScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IngestionWatcherProperties();
+        properties.setBatchSize(10);
+        properties.setMaxSweepsPerRun(3);
+        scheduler = new IngestionStatusWatcherScheduler(ingestionStatusWatcherService, properties);
+    }
+
+    @Test
+    void run_shouldSweepAgain_whileBatchesAreFull() {
+        when(ingestionStatusWatcherService.sweep()).thenReturn(10, 4);
+
+        scheduler.run();
+
+        verify(ingestionStatusWatcherService, times(2)).sweep();
+    }
+
+    @Test
+    void run_shouldStopAtMaxSweepsPerRun_whenBacklogRemains() {
+        when(ingestionStatusWatcherService.sweep()).thenReturn(10);
+
+        scheduler.run();
+
+        verify(ingestionStatusWatcherService, times(3)).sweep();
+    }
+
+    @Test
+    void run_shouldDoNothing_whenDisabled() {
+        properties.setEnabled(false);
+
+        scheduler.run();
+
+        verifyNoInteractions(ingestionStatusWatcherService);
+    }
+}
@@ -12,9 +12,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static uk.gov.hmcts.cp.cdk.services.AnswerGenerationService.NEXT_VERSION_SQL;
+import static uk.gov.hmcts.cp.cdk.services.AnswerGenerationService.SQL_INSERT_ANSWER;
 import static uk.gov.hmcts.cp.cdk.services.AnswerGenerationService.SQL_UPDATE_CASE_QUERY_STATUS;
-import static uk.gov.hmcts.cp.cdk.services.AnswerGenerationService.SQL_UPSERT_ANSWER;
 
 import java.util.UUID;
 
@@ -71,45 +70,22 @@ public class AnswerGenerationServiceTest {
         // then
         final InOrder inOrder = inOrder(jdbcTemplate);
 
-        // 1. version query happens first
-        inOrder.verify(jdbcTemplate).queryForObject(eq(NEXT_VERSION_SQL), paramCaptor.capture(), eq(Integer.class));
+        // 1. insert allocates and returns the version
+        inOrder.verify(jdbcTemplate).queryForObject(eq(SQL_INSERT_ANSWER), paramCaptor.capture(), eq(Integer.class));
 
-        // 2. upsert happens next
-        inOrder.verify(jdbcTemplate).update(eq(SQL_UPSERT_ANSWER), paramCaptor.capture());
-
-        // status update
+        // 2. status update
         inOrder.verify(jdbcTemplate).update(eq(SQL_UPDATE_CASE_QUERY_STATUS), paramCaptor.capture());
 
         // assert captured params
-        MapSqlParameterSource versionParams = paramCaptor.getAllValues().get(0);
-        MapSqlParameterSource answerParams = paramCaptor.getAllValues().get(1);
-        MapSqlParameterSource statusParams = paramCaptor.getAllValues().get(2);
+        MapSqlParameterSource answerParams = paramCaptor.getAllValues().get(0);
+        MapSqlParameterSource statusParams = paramCaptor.getAllValues().get(1);
 
-        assertThat(versionParams.getValue("case_id")).isEqualTo(caseId);
-        assertThat(answerParams.getValue("version")).isEqualTo(3);
+        assertThat(answerParams.getValue("case_id")).isEqualTo(caseId);
         assertThat(statusParams.getValue("version")).isEqualTo(3);
     }
 
     @Test
-    void shouldPassCorrectParamsToVersionQuery() {
-        // given
-        when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class)))
-                .thenReturn(1);
-
-        // when
-        service.upsertAnswer(caseId, queryId, "answer", "llmInput", docId);
-
-        // then
-        verify(jdbcTemplate).queryForObject(anyString(), paramCaptor.capture(), eq(Integer.class));
-
-        final MapSqlParameterSource params = paramCaptor.getValue();
-
-        assertThat(params.getValue("case_id")).isEqualTo(caseId);
-        assertThat(params.getValue("query_id")).isEqualTo(queryId);
-    }
-
-    @Test
-    void shouldPassCorrectParamsToUpsert() {
+    void shouldPassCorrectParamsToInsert() {
         // given
         when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class)))
                 .thenReturn(5);
@@ -121,7 +97,7 @@ public class AnswerGenerationServiceTest {
         service.upsertAnswer(caseId, queryId, "my-answer", "my-llm-input", docId);
 
         // then
-        verify(jdbcTemplate).update(eq(SQL_UPSERT_ANSWER), paramCaptor.capture());
+        verify(jdbcTemplate).queryForObject(eq(SQL_INSERT_ANSWER), paramCaptor.capture(), eq(Integer.class));
 
         final MapSqlParameterSource params = paramCaptor.getValue();
 
@@ -130,32 +106,13 @@ public class AnswerGenerationServiceTest {
         assertThat(params.getValue("doc_id")).isEqualTo(docId);
         assertThat(params.getValue("answer")).isEqualTo("my-answer");
         assertThat(params.getValue("llm_input")).isEqualTo("my-llm-input");
-        assertThat(params.getValue("version")).isEqualTo(5);
+        assertThat(params.hasValue("version")).isFalse();
     }
 
     @Test
-    void shouldPropagateException_whenVersionQueryFails() {
+    void shouldPropagateException_whenInsertFails() {
         // given
-        when(jdbcTemplate.queryForObject(eq(NEXT_VERSION_SQL), any(MapSqlParameterSource.class), eq(Integer.class)))
-                .thenThrow(new RuntimeException("DB error"));
-
-        // when & then
-        RuntimeException ex = assertThrows(RuntimeException.class,
-                () -> service.upsertAnswer(caseId, queryId, "a", "b", docId));
-
-        assertThat(ex.getMessage()).isEqualTo("DB error");
-
-        // ensure upsert never called
-        verify(jdbcTemplate, never()).update(eq(SQL_UPSERT_ANSWER), any(MapSqlParameterSource.class));
-    }
-
-    @Test
-    void shouldPropagateException_whenUpsertFails() {
-        // given
-        when(jdbcTemplate.queryForObject(eq(NEXT_VERSION_SQL), any(MapSqlParameterSource.class), eq(Integer.class)))
-                .thenReturn(2);
-
-        when(jdbcTemplate.update(eq(SQL_UPSERT_ANSWER), any(MapSqlParameterSource.class)))
+        when(jdbcTemplate.queryForObject(eq(SQL_INSERT_ANSWER), any(MapSqlParameterSource.class), eq(Integer.class)))
                 .thenThrow(new RuntimeException("Insert failed"));
 
         // when & then
@@ -163,6 +120,9 @@ public class AnswerGenerationServiceTest {
                 () -> service.upsertAnswer(caseId, queryId, "a", "b", docId));
 
         assertThat(ex.getMessage()).isEqualTo("Insert failed");
+
+        // ensure status is never moved to a version that was not written
+        verify(jdbcTemplate, never()).update(eq(SQL_UPDATE_CASE_QUERY_STATUS), any(MapSqlParameterSource.class));
     }
 
     @Test
@@ -170,41 +130,35 @@ public class AnswerGenerationServiceTest {
         // given
         when(jdbcTemplate.queryForObject(sqlCaptor.capture(), any(MapSqlParameterSource.class), eq(Integer.class))).thenReturn(1);
 
-        when(jdbcTemplate.update(eq(SQL_UPSERT_ANSWER), any(MapSqlParameterSource.class))).thenReturn(1);
-
         // when
         service.upsertAnswer(caseId, queryId, "answer", "llmInput", docId);
 
         // then
-        String versionSql = sqlCaptor.getValue();
-
-        assertThat(versionSql.contains("MAX(a.version)")).isTrue();
-        assertThat(versionSql.contains("a.case_id = :case_id")).isTrue();
-        assertThat(versionSql.contains("a.query_id = :query_id")).isTrue();
+        String insertSql = sqlCaptor.getValue();
 
-        verify(jdbcTemplate).update(eq(SQL_UPSERT_ANSWER), any(MapSqlParameterSource.class));
+        assertThat(insertSql.contains("INSERT INTO answers")).isTrue();
+        assertThat(insertSql.contains("allocate_answer_version('answers', :case_id, :query_id)")).isTrue();
+        assertThat(insertSql.contains("RETURNING version")).isTrue();
+        assertThat(insertSql.contains("ON CONFLICT")).isFalse();
     }
 
     @Test
     void shouldPassCorrectParamsToStatusUpdate() {
         // given
-        when(jdbcTemplate.queryForObject(eq(NEXT_VERSION_SQL), any(MapSqlParameterSource.class), eq(Integer.class)))
+        when(jdbcTemplate.queryForObject(eq(SQL_INSERT_ANSWER), any(MapSqlParameterSource.class), eq(Integer.class)))
                 .thenReturn(2);
 
-        when(jdbcTemplate.update(eq(SQL_UPSERT_ANSWER), any(MapSqlParameterSource.class))).thenReturn(1);
-
         // when
         service.upsertAnswer(caseId, queryId, "answer", "llmInput", docId);
 
         // then
-        verify(jdbcTemplate, times(2)).update(anyString(), paramCaptor.capture());
+        verify(jdbcTemplate, times(1)).update(anyString(), paramCaptor.capture());
 
-        // 2nd call = status update
-        MapSqlParameterSource statusParams = paramCaptor.getAllValues().get(1);
+        MapSqlParameterSource statusParams = paramCaptor.getValue();
 
         assertThat(statusParams.getValue("case_id")).isEqualTo(caseId);
         assertThat(statusParams.getValue("query_id")).isEqualTo(queryId);
         assertThat(statusParams.getValue("doc_id")).isEqualTo(docId);
         assertThat(statusParams.getValue("version")).isEqualTo(2);
     }
-}
\ No newline at end of file
+}
@@ -5,10 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -17,21 +20,20 @@ import static uk.gov.hmcts.cp.cdk.util.TimeUtils.utcNow;
 import uk.gov.hmcts.cp.cdk.domain.Answer;
 import uk.gov.hmcts.cp.cdk.domain.AnswerId;
 import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
-import uk.gov.hmcts.cp.cdk.domain.CaseLevelAllDocumentsAnswer;
-import uk.gov.hmcts.cp.cdk.domain.CaseLevelLatestDocumentAnswer;
-import uk.gov.hmcts.cp.cdk.domain.DefendantAnswer;
-import uk.gov.hmcts.cp.cdk.domain.DefendantAnswerId;
 import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
 import uk.gov.hmcts.cp.cdk.domain.Query;
 import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
 import uk.gov.hmcts.cp.cdk.domain.QueryVersion;
 import uk.gov.hmcts.cp.cdk.domain.QueryVersionId;
 import uk.gov.hmcts.cp.cdk.repo.AnswerRepository;
+import uk.gov.hmcts.cp.cdk.repo.AnswerSummary;
 import uk.gov.hmcts.cp.cdk.repo.CaseDocumentRepository;
 import uk.gov.hmcts.cp.cdk.repo.CaseLevelAllDocumentsAnswerRepository;
 import uk.gov.hmcts.cp.cdk.repo.CaseLevelLatestDocumentAnswerRepository;
 import uk.gov.hmcts.cp.cdk.repo.DefendantAnswerRepository;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository;
 import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository.SnapshotDefinition;
 import uk.gov.hmcts.cp.cdk.services.mapper.AnswerMapper;
 import uk.gov.hmcts.cp.openapi.model.cdk.AnswerResponse;
 import uk.gov.hmcts.cp.openapi.model.cdk.AnswerWithLlmResponse;
@@ -41,6 +43,7 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -71,6 +74,10 @@ class AnswerServiceTest {
 
     @Mock
     private CaseDocumentRepository caseDocumentRepository;
+    @Mock
+    private QueryDefinitionCache queryDefinitionCache;
+    @Mock
+    private LlmInputChunkRepository llmInputChunkRepository;
 
     @InjectMocks
     private AnswerService service;
@@ -94,16 +101,14 @@ class AnswerServiceTest {
         final UUID caseId = UUID.randomUUID();
         final Integer version = null;
         final OffsetDateTime asOf = OffsetDateTime.now().minusMinutes(5);
-        final OffsetDateTime createdAt = OffsetDateTime.now();
+        final OffsetDateTime createdAt = utcNow();
 
-        final Answer answer = new Answer();
-        answer.setAnswerId(new AnswerId(caseId, queryId, version));
-        answer.setCreatedAt(createdAt);
+        final AnswerSummary answer = new AnswerSummary(caseId, queryId, version, null, createdAt.toInstant(), null);
 
         final AnswerResponse response = new AnswerResponse(queryId, "user query text", null, version, createdAt);
 
-        // Stub repository and mapper
-        when(answerRepository.findLatestAsOfForCase(caseId, queryId, asOf)).thenReturn(Optional.of(answer));
+        // Stub repository
+        when(answerRepository.findLatestSummaryAsOfForCase(caseId, queryId, asOf)).thenReturn(Optional.of(answer));
 
         final QueryVersion version1 = new QueryVersion();
         final QueryVersionId vid1 = new QueryVersionId();
@@ -115,9 +120,7 @@ class AnswerServiceTest {
         final QueryVersion queryVersion = mock(QueryVersion.class);
         when(queryVersionRepository.findLatestByQueryId(queryId)).thenReturn(Optional.of(queryVersion));
         when(queryVersion.getLevel()).thenReturn(null);
-        when(queryVersionRepository.findAll()).thenReturn(List.of(version1));
-        when(mapper.toAnswerResponse(answer, "user query text")).thenReturn(response);
-
+        when(queryVersionRepository.findAllVersions(queryId)).thenReturn(List.of(version1));
 
         final AnswersResponse result = service.getAnswers(queryId, caseId, version, asOf);
 
@@ -135,7 +138,7 @@ class AnswerServiceTest {
         when(queryVersion.getLevel()).thenReturn(null);
         when(caseDocumentRepository.findFirstByCaseIdOrderByUploadedAtDesc(caseId))
                 .thenReturn(Optional.empty());
-        when(answerRepository.findByCaseAndVersion(caseId, queryId, 1))
+        when(answerRepository.findSummaryByCaseAndVersion(caseId, queryId, 1))
                 .thenReturn(Optional.empty());
 
         final ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -170,7 +173,7 @@ class AnswerServiceTest {
         final AnswerWithLlmResponse response = new AnswerWithLlmResponse();
 
         when(answerRepository.findByCaseAndVersion(caseId, queryId, 1)).thenReturn(Optional.of(answer));
-        when(queryVersionRepository.findAll()).thenReturn(List.of());
+        when(queryVersionRepository.findAllVersions(queryId)).thenReturn(List.of());
         when(mapper.toAnswerWithLlm(answer, "")).thenReturn(response);
 
         AnswerWithLlmResponse result = service.getAnswerWithLlm(queryId, caseId, 1, null);
@@ -178,6 +181,39 @@ class AnswerServiceTest {
         assertSame(response, result);
     }
 
+    @Test
+    void getAnswerWithLlm_shouldReassembleChunkedLlmInput() {
+        final Answer answer = new Answer();
+        answer.setAnswerId(new AnswerId(caseId, queryId, 2));
+        answer.setCreatedAt(OffsetDateTime.now());
+        final String llmInput = "{\"provenanceChunksSample\": [{\"text\": \"chunk\"}]}";
+
+        when(answerRepository.findByCaseAndVersion(caseId, queryId, 2)).thenReturn(Optional.of(answer));
+        when(queryVersionRepository.findAllVersions(queryId)).thenReturn(List.of());
+        when(mapper.toAnswerWithLlm(answer, "")).thenReturn(new AnswerWithLlmResponse());
+        when(llmInputChunkRepository.findAnswerLlmInput(answer.getAnswerId())).thenReturn(Optional.of(llmInput));
+
+        final AnswerWithLlmResponse result = service.getAnswerWithLlm(queryId, caseId, 2, null);
+
+        assertEquals(llmInput, result.getLlmInput());
+    }
+
+    @Test
+    void getAnswerWithLlm_shouldNotReadChunkStore_whenLlmInputIsInline() {
+        final Answer answer = new Answer();
+        answer.setAnswerId(new AnswerId(caseId, queryId, 1));
+        answer.setCreatedAt(OffsetDateTime.now());
+        answer.setLlmInput("legacy input");
+
+        when(answerRepository.findByCaseAndVersion(caseId, queryId, 1)).thenReturn(Optional.of(answer));
+        when(queryVersionRepository.findAllVersions(queryId)).thenReturn(List.of());
+        when(mapper.toAnswerWithLlm(answer, "")).thenReturn(new AnswerWithLlmResponse());
+
+        service.getAnswerWithLlm(queryId, caseId, 1, null);
+
+        verify(llmInputChunkRepository, never()).findAnswerLlmInput(any());
+    }
+
     @Test
     void shouldThrow_whenQueryVersionNotFound() {
         when(queryVersionRepository.findLatestByQueryId(queryId)).thenReturn(Optional.empty());
@@ -188,8 +224,7 @@ class AnswerServiceTest {
     @Test
     void shouldReturnAnswer_whenCaseLevel() {
         final QueryVersion queryVersion = mock(QueryVersion.class);
-        final CaseLevelLatestDocumentAnswer answer = new CaseLevelLatestDocumentAnswer();
-        answer.setAnswerId(new AnswerId(caseId, queryId, null));
+        final AnswerSummary answer = summary(queryId, 1, null);
 
         when(queryVersionRepository.findLatestByQueryId(queryId))
                 .thenReturn(Optional.of(queryVersion));
@@ -209,8 +244,7 @@ class AnswerServiceTest {
     @Test
     void shouldReturnAnswer_whenCaseAllDocumentsLevel() {
         final QueryVersion queryVersion = mock(QueryVersion.class);
-        final CaseLevelAllDocumentsAnswer answer = new CaseLevelAllDocumentsAnswer();
-        answer.setAnswerId(new AnswerId(caseId, queryId, null));
+        final AnswerSummary answer = summary(queryId, 1, null);
 
         when(queryVersionRepository.findLatestByQueryId(queryId)).thenReturn(Optional.of(queryVersion));
         when(queryVersion.getLevel()).thenReturn(QueryLevel.CASE_ALL_DOCUMENTS);
@@ -226,8 +260,7 @@ class AnswerServiceTest {
     @Test
     void shouldReturnAnswers_whenDefendantLevel() {
         final QueryVersion queryVersion = mock(QueryVersion.class);
-        final DefendantAnswer defendantAnswer = new DefendantAnswer();
-        defendantAnswer.setAnswerId(new DefendantAnswerId(caseId, queryId, defendantId, null));
+        final AnswerSummary defendantAnswer = summary(queryId, 1, defendantId);
 
         when(queryVersionRepository.findLatestByQueryId(queryId)).thenReturn(Optional.of(queryVersion));
         when(queryVersion.getLevel()).thenReturn(QueryLevel.DEFENDANT);
@@ -237,14 +270,94 @@ class AnswerServiceTest {
         final AnswersResponse response = service.getAnswers(queryId, caseId, null, now);
 
         assertThat(response).isNotNull();
+        assertThat(response.getAnswers().getFirst().getDefendantId()).isEqualTo(defendantId.toString());
         verify(defendantRepo).findAllAsOfForCase(eq(caseId), eq(queryId), any());
     }
 
+    @Test
+    void shouldResolveUserQueryOnce_forAllDefendantAnswers() {
+        final QueryVersion queryVersion = mock(QueryVersion.class);
+        when(queryVersionRepository.findLatestByQueryId(queryId)).thenReturn(Optional.of(queryVersion));
+        when(queryVersion.getLevel()).thenReturn(QueryLevel.DEFENDANT);
+
+        final List<AnswerSummary> answers = IntStream.range(0, 6)
+                .mapToObj(i -> new AnswerSummary(caseId, queryId, 1, UUID.randomUUID(), now.minusDays(i).toInstant(), "answer"))
+                .toList();
+        when(defendantRepo.findAllAsOfForCase(any(), any(), any())).thenReturn(answers);
+        when(queryVersionRepository.findAllVersions(queryId)).thenReturn(List.of(
+                version(queryId, now.minusDays(10), "original query"),
+                version(queryId, now.minusDays(2), "revised query")));
+
+        final AnswersResponse response = service.getAnswers(queryId, caseId, null, now);
+
+        assertThat(response.getAnswers()).extracting(AnswerResponse::getUserQuery).containsExactly(
+                "revised query", "revised query", "revised query", "original query", "original query", "original query");
+        verify(queryVersionRepository, times(1)).findAllVersions(queryId);
+        verify(queryVersionRepository, never()).findAll();
+    }
+
+    @Test
+    void getLatestAnswersForCase_shouldReadEachAnswerTableOnce() {
+        final UUID caseQueryId = UUID.randomUUID();
+        final UUID allDocsQueryId = UUID.randomUUID();
+        final UUID defendantQueryId = UUID.randomUUID();
+        final UUID legacyQueryId = UUID.randomUUID();
+        final UUID unansweredQueryId = UUID.randomUUID();
+        when(queryDefinitionCache.currentDefinitions()).thenReturn(List.of(
+                definition(caseQueryId, QueryLevel.CASE),
+                definition(allDocsQueryId, QueryLevel.CASE_ALL_DOCUMENTS),
+                definition(defendantQueryId, QueryLevel.DEFENDANT),
+                definition(legacyQueryId, QueryLevel.CASE),
+                definition(unansweredQueryId, QueryLevel.DEFENDANT)));
+
+        final AnswerSummary caseAnswer = summary(caseQueryId, 2, null);
+        final AnswerSummary allDocsAnswer = summary(allDocsQueryId, 1, null);
+        final AnswerSummary firstDefendant = summary(defendantQueryId, 1, UUID.randomUUID());
+        final AnswerSummary secondDefendant = summary(defendantQueryId, 1, UUID.randomUUID());
+        final AnswerSummary legacyAnswer = summary(legacyQueryId, 4, null);
+
+        when(latestDocRepo.findLatestPerQueryAsOfForCase(eq(caseId), any())).thenReturn(List.of(caseAnswer));
+        when(allDocsRepo.findLatestPerQueryAsOfForCase(eq(caseId), any())).thenReturn(List.of(allDocsAnswer));
+        when(defendantRepo.findLatestPerQueryAsOfForCase(eq(caseId), any())).thenReturn(List.of(firstDefendant, secondDefendant));
+        when(answerRepository.findLatestPerQueryAsOfForCase(eq(caseId), any())).thenReturn(List.of(legacyAnswer));
+        when(queryVersionRepository.findAllVersionsForQueries(anyCollection())).thenReturn(List.of(
+                version(caseQueryId, now.minusYears(1), "case query")));
+
+        final AnswersResponse response = service.getLatestAnswersForCase(caseId, null);
+
+        assertThat(response.getAnswers()).extracting(AnswerResponse::getQueryId).containsExactly(
+                caseQueryId, allDocsQueryId, defendantQueryId, defendantQueryId, legacyQueryId);
+        assertThat(response.getAnswers().get(0).getUserQuery()).isEqualTo("case query");
+        assertThat(response.getAnswers().get(4).getVersion()).isEqualTo(4);
+        verify(queryVersionRepository, times(1)).findAllVersionsForQueries(anyCollection());
+        verify(queryVersionRepository, never()).findAllVersions(any());
+        verify(queryVersionRepository, never()).findLatestByQueryId(any());
+        verify(queryVersionRepository, never()).snapshotDefinitionsAsOf(any());
+    }
+
+    @Test
+    void getLatestAnswersForCase_shouldTakeQuerySetAsOfAt_whenAtIsInThePast() {
+        final OffsetDateTime past = now.minusMonths(6);
+        final UUID retiredQueryId = UUID.randomUUID();
+        when(queryVersionRepository.snapshotDefinitionsAsOf(past)).thenReturn(List.of(
+                definition(retiredQueryId, QueryLevel.CASE)));
+
+        final AnswerSummary retiredAnswer = summary(retiredQueryId, 1, null);
+        when(latestDocRepo.findLatestPerQueryAsOfForCase(caseId, past)).thenReturn(List.of(retiredAnswer));
+        when(allDocsRepo.findLatestPerQueryAsOfForCase(caseId, past)).thenReturn(List.of());
+        when(defendantRepo.findLatestPerQueryAsOfForCase(caseId, past)).thenReturn(List.of());
+        when(answerRepository.findLatestPerQueryAsOfForCase(caseId, past)).thenReturn(List.of());
+
+        final AnswersResponse response = service.getLatestAnswersForCase(caseId, past);
+
+        assertThat(response.getAnswers()).extracting(AnswerResponse::getQueryId).containsExactly(retiredQueryId);
+        verify(queryDefinitionCache, never()).currentDefinitions();
+    }
+
     @Test
     void shouldFallbackToResolveAnswer_whenNoAnswersFound() {
         final QueryVersion queryVersion = mock(QueryVersion.class);
-        final Answer fallbackAnswer = new Answer();
-        fallbackAnswer.setAnswerId(new AnswerId(caseId, queryId, null));
+        final AnswerSummary fallbackAnswer = summary(queryId, 1, null);
 
         when(queryVersionRepository.findLatestByQueryId(queryId)).thenReturn(Optional.of(queryVersion));
         when(queryVersion.getLevel()).thenReturn(QueryLevel.CASE);
@@ -252,14 +365,15 @@ class AnswerServiceTest {
 
         // spy to mock internal method
         final AnswerService spyService = spy(service);
-        doReturn(fallbackAnswer).when(spyService).resolveAnswer(eq(queryId), eq(caseId), any(), any());
+        doReturn(fallbackAnswer).when(spyService).resolveAnswerSummary(eq(queryId), eq(caseId), any(), any());
 
         when(mapper.toAnswerResponse(any(), any())).thenReturn(new AnswerResponse());
 
         final AnswersResponse response = spyService.getAnswers(queryId, caseId, null, now);
 
         assertThat(response).isNotNull();
-        verify(spyService).resolveAnswer(eq(queryId), eq(caseId), any(), any());
+        verify(spyService).resolveAnswerSummary(eq(queryId), eq(caseId), any(), any());
+        verify(spyService, never()).resolveAnswer(any(), any(), any(), any());
     }
 
     @Test
@@ -268,7 +382,7 @@ class AnswerServiceTest {
         final UUID caseId = UUID.randomUUID();
         final QueryVersion queryVersion = mock(QueryVersion.class);
 
-        when(answerRepository.findByCaseAndVersion(caseId, queryId, 1))
+        when(answerRepository.findSummaryByCaseAndVersion(caseId, queryId, 1))
                 .thenReturn(Optional.empty());
         when(queryVersionRepository.findLatestByQueryId(queryId)).thenReturn(Optional.of(queryVersion));
         when(queryVersion.getLevel()).thenReturn(QueryLevel.CASE);
@@ -289,4 +403,19 @@ class AnswerServiceTest {
         assertThat(ex.getStatusCode()).isEqualTo(NOT_FOUND);
         assertThat(ex.getReason()).isEqualTo(ErrorMessage.IDPC_FILE_TOO_LARGE.toString());
     }
-}
\ No newline at end of file
+
+    private static QueryVersion version(final UUID queryId, final OffsetDateTime effectiveAt, final String userQuery) {
+        final QueryVersion version = new QueryVersion();
+        version.setQueryVersionId(new QueryVersionId(queryId, effectiveAt));
+        version.setUserQuery(userQuery);
+        return version;
+    }
+
+    private AnswerSummary summary(final UUID forQueryId, final Integer version, final UUID forDefendantId) {
+        return new AnswerSummary(caseId, forQueryId, version, forDefendantId, now.toInstant(), "answer");
+    }
+
+    private static SnapshotDefinition definition(final UUID queryId, final QueryLevel level) {
+        return new SnapshotDefinition(queryId, "label", "uq", "qp", null, level.toString());
+    }
+}
@@ -0,0 +1,259 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.CHECK_STATUS_OF_ANSWER_GENERATION;
+import static uk.gov.hmcts.cp.cdk.jobmanager.TaskNames.GENERATE_ANSWER_FOR_QUERY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ANSWER_REQUESTED_AT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_ANSWER_RETRY_COUNT;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_QUERY_LEVEL;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_RAG_TRANSACTION_ID;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_SINGLE_QUERY_ID;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.parseJobData;
+import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATED;
+import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATION_FAILED;
+import static uk.gov.hmcts.cp.openapi.model.AnswerGenerationStatus.ANSWER_GENERATION_PENDING;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerStatusPollerProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.repo.AnswerGenerationTransactionRepository;
+import uk.gov.hmcts.cp.cdk.repo.AnswerGenerationTransactionRepository.PendingAnswerTransaction;
+import uk.gov.hmcts.cp.openapi.api.DocumentInformationSummarisedAsynchronouslyApi;
+import uk.gov.hmcts.cp.openapi.model.UserQueryAnswerReturnedSuccessfullyAsynchronously;
+import uk.gov.hmcts.cp.taskmanager.domain.ExecutionInfo;
+import uk.gov.hmcts.cp.taskmanager.service.ExecutionService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerStatusPollingServiceTest {
+
+    private static final String TRANSACTION_ID = "txn-1";
+
+    @Mock
+    private AnswerGenerationTransactionRepository transactionRepository;
+    @Mock
+    private DocumentInformationSummarisedAsynchronouslyApi api;
+    @Mock
+    private AnswerPersistenceService answerPersistenceService;
+    @Mock
+    private ExecutionService executionService;
+    @Mock
+    private ObservedLatencies observedLatencies;
+    @Mock
+    private UserQueryAnswerReturnedSuccessfullyAsynchronously body;
+    @Captor
+    private ArgumentCaptor<ExecutionInfo> executionCaptor;
+    @Captor
+    private ArgumentCaptor<String> jobDataCaptor;
+
+    private JobManagerRetryProperties retryProperties;
+    private AnswerStatusPollingService service;
+    private UUID caseId;
+    private UUID queryId;
+    private UUID docId;
+    private JsonObject jobData;
+
+    @BeforeEach
+    void setUp() {
+        final AnswerStatusPollerProperties pollerProperties = new AnswerStatusPollerProperties();
+        pollerProperties.setConcurrency(2);
+
+        retryProperties = new JobManagerRetryProperties();
+        retryProperties.getQuestionsRetry().setMaxAttempts(3);
+
+        service = new AnswerStatusPollingService(transactionRepository, api, answerPersistenceService,
+                executionService, retryProperties, pollerProperties, observedLatencies);
+
+        caseId = UUID.randomUUID();
+        queryId = UUID.randomUUID();
+        docId = UUID.randomUUID();
+        jobData = createObjectBuilder()
+                .add(CTX_CASE_ID_KEY, caseId.toString())
+                .add(CTX_DOC_ID_KEY, docId.toString())
+                .add(CTX_SINGLE_QUERY_ID, queryId.toString())
+                .add(CTX_QUERY_LEVEL, QueryLevel.CASE.name())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void register_shouldStampRequestTimeAndScheduleFirstPollFromQuestionsRetry() {
+        service.register(TRANSACTION_ID, caseId, queryId, jobData);
+
+        verify(transactionRepository).register(eq(TRANSACTION_ID), eq(caseId), eq(queryId), jobDataCaptor.capture(), eq(20_000L));
+        assertThat(parseJobData(jobDataCaptor.getValue()).containsKey(CTX_ANSWER_REQUESTED_AT)).isTrue();
+    }
+
+    @Test
+    void sweep_shouldDoNothing_whenNothingIsDue() {
+        when(transactionRepository.claimDue(anyString(), anyInt(), anyLong())).thenReturn(List.of());
+
+        final int polled = service.sweep();
+
+        assertThat(polled).isZero();
+        verifyNoInteractions(api, answerPersistenceService, executionService);
+    }
+
+    @Test
+    void sweep_shouldPersistAnswerAndRemoveTransaction_whenAnswerGenerated() {
+        givenDue(0);
+        when(body.getStatus()).thenReturn(ANSWER_GENERATED);
+        when(api.answerUserQueryStatus(TRANSACTION_ID, true)).thenReturn(ResponseEntity.ok(body));
+
+        final int polled = service.sweep();
+
+        assertThat(polled).isEqualTo(1);
+        verify(answerPersistenceService).persistGeneratedAnswer(QueryLevel.CASE, caseId, queryId, null, docId, body);
+        verify(transactionRepository).remove(eq(TRANSACTION_ID), anyString());
+    }
+
+    @Test
+    void sweep_shouldRecordAnswerLatency_whenStatusIsTerminal() {
+        jobData = createObjectBuilder(jobData)
+                .add(CTX_ANSWER_REQUESTED_AT, System.currentTimeMillis() - 5_000)
+                .build();
+        givenDue(0);
+        when(body.getStatus()).thenReturn(ANSWER_GENERATED);
+        when(api.answerUserQueryStatus(TRANSACTION_ID, true)).thenReturn(ResponseEntity.ok(body));
+
+        service.sweep();
+
+        verify(observedLatencies).record(eq(ObservedLatencies.Kind.ANSWER_GENERATION), any(Duration.class));
+    }
+
+    @Test
+    void sweep_shouldRescheduleAlongRetrySchedule_whenAnswerPending() {
+        givenDue(0);
+        when(body.getStatus()).thenReturn(ANSWER_GENERATION_PENDING);
+        when(api.answerUserQueryStatus(TRANSACTION_ID, true)).thenReturn(ResponseEntity.ok(body));
+
+        service.sweep();
+
+        verify(transactionRepository).reschedule(eq(TRANSACTION_ID), anyString(), eq(service.nextIntervalMs(1)));
+        verify(transactionRepository, never()).remove(anyString(), anyString());
+        verifyNoInteractions(answerPersistenceService);
+        verify(observedLatencies, never()).record(any(), any());
+    }
+
+    @Test
+    void sweep_shouldRedispatchGeneration_whenAnswerFailedAndRetriesRemain() {
+        givenDue(0);
+        when(body.getStatus()).thenReturn(ANSWER_GENERATION_FAILED);
+        when(api.answerUserQueryStatus(TRANSACTION_ID, true)).thenReturn(ResponseEntity.ok(body));
+
+        service.sweep();
+
+        verify(executionService).executeWith(executionCaptor.capture());
+        final ExecutionInfo retryTask = executionCaptor.getValue();
+        assertThat(retryTask.getAssignedTaskName()).isEqualTo(GENERATE_ANSWER_FOR_QUERY);
+        assertThat(retryTask.getJobData().getInt(CTX_ANSWER_RETRY_COUNT)).isEqualTo(1);
+        verify(transactionRepository).remove(eq(TRANSACTION_ID), anyString());
+    }
+
+    @Test
+    void sweep_shouldHandBackToStatusTask_whenQuestionsRetryScheduleIsExhausted() {
+        givenDue(2);
+        when(api.answerUserQueryStatus(TRANSACTION_ID, true)).thenThrow(new IllegalStateException("boom"));
+
+        service.sweep();
+
+        verify(executionService).executeWith(executionCaptor.capture());
+        final ExecutionInfo statusTask = executionCaptor.getValue();
+        assertThat(statusTask.getAssignedTaskName()).isEqualTo(CHECK_STATUS_OF_ANSWER_GENERATION);
+        assertThat(statusTask.getJobData().getString(CTX_RAG_TRANSACTION_ID)).isEqualTo(TRANSACTION_ID);
+        assertThat(statusTask.getJobData().getString(CTX_SINGLE_QUERY_ID)).isEqualTo(queryId.toString());
+        verify(transactionRepository).remove(eq(TRANSACTION_ID), anyString());
+        verify(transactionRepository, never()).reschedule(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void sweep_shouldNotHandBack_whenLeaseIsLostBeforeHandingBack() {
+        givenDue(2);
+        when(transactionRepository.renewLease(eq(TRANSACTION_ID), anyString(), anyLong())).thenReturn(true, false);
+        when(body.getStatus()).thenReturn(ANSWER_GENERATION_PENDING);
+        when(api.answerUserQueryStatus(TRANSACTION_ID, true)).thenReturn(ResponseEntity.ok(body));
+
+        service.sweep();
+
+        verify(executionService, never()).executeWith(any());
+        verify(transactionRepository, never()).remove(anyString(), anyString());
+    }
+
+    @Test
+    void sweep_shouldSkipPoll_whenLeaseWasTakenByAnotherNode() {
+        when(transactionRepository.claimDue(anyString(), anyInt(), anyLong()))
+                .thenReturn(List.of(new PendingAnswerTransaction(TRANSACTION_ID, jobData.toString(), 0)));
+        when(transactionRepository.renewLease(eq(TRANSACTION_ID), anyString(), anyLong())).thenReturn(false);
+
+        service.sweep();
+
+        verifyNoInteractions(api, answerPersistenceService);
+        verify(transactionRepository, never()).remove(anyString(), anyString());
+    }
+
+    @Test
+    void sweep_shouldNotPersist_whenLeaseIsLostDuringStatusCall() {
+        givenDue(0);
+        when(transactionRepository.renewLease(eq(TRANSACTION_ID), anyString(), anyLong())).thenReturn(true, false);
+        when(body.getStatus()).thenReturn(ANSWER_GENERATED);
+        when(api.answerUserQueryStatus(TRANSACTION_ID, true)).thenReturn(ResponseEntity.ok(body));
+
+        service.sweep();
+
+        verifyNoInteractions(answerPersistenceService);
+        verify(transactionRepository, never()).remove(anyString(), anyString());
+    }
+
+    @Test
+    void nextIntervalMs_shouldFollowQuestionsRetrySchedule() {
+        final JobManagerRetryProperties.RetryConfig questions = retryProperties.getQuestionsRetry();
+        questions.setBackoff(JobManagerRetryProperties.Backoff.EXPONENTIAL);
+        questions.setMaxAttempts(10);
+        questions.setDelaySeconds(2);
+        questions.setMultiplier(2.0);
+        questions.setMaxDelaySeconds(10);
+
+        assertThat(service.nextIntervalMs(0)).isEqualTo(2000);
+        assertThat(service.nextIntervalMs(2)).isEqualTo(8000);
+        assertThat(service.nextIntervalMs(10)).isEqualTo(10_000);
+    }
+
+    private void givenDue(final int pollCount) {
+        when(transactionRepository.claimDue(anyString(), anyInt(), anyLong()))
+                .thenReturn(List.of(new PendingAnswerTransaction(TRANSACTION_ID, jobData.toString(), pollCount)));
+        lenient().when(transactionRepository.renewLease(eq(TRANSACTION_ID), anyString(), anyLong())).thenReturn(true);
+        lenient().when(transactionRepository.remove(eq(TRANSACTION_ID), anyString())).thenReturn(true);
+    }
+}
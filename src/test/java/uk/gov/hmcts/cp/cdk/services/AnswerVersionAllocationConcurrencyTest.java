@@ -0,0 +1,214 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Hammers a single (case, query) from many threads, each write in its own committed transaction,
+ * and checks every table ends with versions 1..N. The previous MAX+1 then upsert path runs on the
+ * same load for comparison; its lost versions and both p99 write latencies are logged. Latency is
+ * not asserted: allocation queues writers on the counter row, so it is not expected to be faster.
+ */
+@Slf4j
+@DataJpaTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Answer version allocation under concurrent writers")
+class AnswerVersionAllocationConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int WRITES_PER_THREAD = 25;
+    private static final int WRITES = THREADS * WRITES_PER_THREAD;
+
+    private static final String LEGACY_NEXT_VERSION_SQL = """
+            SELECT COALESCE(MAX(version), 0) + 1
+            FROM answers
+            WHERE case_id = :case_id
+              AND query_id = :query_id
+            """;
+
+    private static final String LEGACY_UPSERT_SQL = """
+            INSERT INTO answers (case_id, query_id, version, created_at, answer, llm_input, doc_id)
+            VALUES (:case_id, :query_id, :version, NOW(), :answer, :llm_input, :doc_id)
+            ON CONFLICT (case_id, query_id, version) DO UPDATE SET
+                answer = EXCLUDED.answer,
+                llm_input = EXCLUDED.llm_input,
+                doc_id = EXCLUDED.doc_id,
+                created_at = EXCLUDED.created_at
+            """;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("cdk")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @jakarta.annotation.Resource
+    private JdbcTemplate jdbc;
+
+    @jakarta.annotation.Resource
+    private PlatformTransactionManager transactionManager;
+
+    private NamedParameterJdbcTemplate namedJdbc;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        namedJdbc = new NamedParameterJdbcTemplate(jdbc);
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void allocateAnswerVersion_shouldLoseNoVersions_onAnyAnswerTable() throws Exception {
+        final UUID caseId = UUID.randomUUID();
+        final UUID queryId = newQuery();
+        final UUID defendantId = UUID.randomUUID();
+
+        final AnswerGenerationService answers = new AnswerGenerationService(namedJdbc);
+        final CaseLevelLatestDocumentAnswerService latest = new CaseLevelLatestDocumentAnswerService(namedJdbc);
+        final CaseLevelAllDocumentsAnswerService all = new CaseLevelAllDocumentsAnswerService(namedJdbc);
+        final DefendantAnswerService defendants = new DefendantAnswerService(namedJdbc);
+
+        hammer(() -> inTx(() -> {
+            answers.upsertAnswer(caseId, queryId, "answer", "llm", null);
+            latest.upsert(caseId, queryId, "answer", "llm", null);
+            all.upsert(caseId, queryId, "answer", "llm");
+            defendants.upsert(caseId, queryId, defendantId, "answer", "llm", null);
+        }));
+
+        assertThat(versions("answers", caseId, queryId)).containsExactlyElementsOf(oneTo(WRITES));
+        assertThat(versions("case_level_latest_doc_answers", caseId, queryId)).containsExactlyElementsOf(oneTo(WRITES));
+        assertThat(versions("case_level_all_documents_answers", caseId, queryId)).containsExactlyElementsOf(oneTo(WRITES));
+        assertThat(versions("defendant_answers", caseId, queryId)).containsExactlyElementsOf(oneTo(WRITES));
+        assertThat(jdbc.queryForObject(
+                "SELECT last_answer_version FROM case_query_status WHERE case_id = ? AND query_id = ?",
+                Integer.class, caseId, queryId)).isEqualTo(WRITES);
+    }
+
+    @Test
+    void allocateAnswerVersion_shouldKeepDefendantsIndependent() {
+        final UUID caseId = UUID.randomUUID();
+        final UUID queryId = newQuery();
+        final DefendantAnswerService defendants = new DefendantAnswerService(namedJdbc);
+
+        inTx(() -> {
+            defendants.upsert(caseId, queryId, UUID.randomUUID(), "a", "llm", null);
+            defendants.upsert(caseId, queryId, UUID.randomUUID(), "b", "llm", null);
+        });
+
+        assertThat(versions("defendant_answers", caseId, queryId)).containsExactly(1, 1);
+    }
+
+    @Test
+    void allocateAnswerVersion_shouldKeepWritesThatMaxPlusOneOverwrites() throws Exception {
+        final UUID caseId = UUID.randomUUID();
+        final UUID legacyQueryId = newQuery();
+        final UUID queryId = newQuery();
+        final AnswerGenerationService answers = new AnswerGenerationService(namedJdbc);
+
+        final List<Long> legacy = hammer(() -> inTx(() -> legacyUpsert(caseId, legacyQueryId)));
+        final List<Long> allocated = hammer(() -> inTx(() -> answers.upsertAnswer(caseId, queryId, "answer", "llm", null)));
+
+        final int legacyRows = versions("answers", caseId, legacyQueryId).size();
+        log.info("{} concurrent writes on one (case, query): MAX+1 upsert kept {} rows, p99 {} us; allocate_answer_version kept {} rows, p99 {} us",
+                WRITES, legacyRows, p99Micros(legacy), versions("answers", caseId, queryId).size(), p99Micros(allocated));
+
+        assertThat(versions("answers", caseId, queryId)).containsExactlyElementsOf(oneTo(WRITES));
+    }
+
+    private void legacyUpsert(final UUID caseId, final UUID queryId) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("case_id", caseId)
+                .addValue("query_id", queryId)
+                .addValue("answer", "answer")
+                .addValue("llm_input", "llm")
+                .addValue("doc_id", null);
+        final Integer version = namedJdbc.queryForObject(LEGACY_NEXT_VERSION_SQL, params, Integer.class);
+        namedJdbc.update(LEGACY_UPSERT_SQL, params.addValue("version", version));
+    }
+
+    private List<Long> hammer(final Runnable write) throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit((Callable<List<Long>>) () -> {
+                    start.await();
+                    final List<Long> latencies = new ArrayList<>(WRITES_PER_THREAD);
+                    for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                        final long startedAt = System.nanoTime();
+                        write.run();
+                        latencies.add(System.nanoTime() - startedAt);
+                    }
+                    return latencies;
+                }));
+            }
+            start.countDown();
+
+            final List<Long> latencies = new ArrayList<>(WRITES);
+            for (final Future<List<Long>> future : futures) {
+                latencies.addAll(future.get());
+            }
+            return latencies;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void inTx(final Runnable work) {
+        tx.executeWithoutResult(status -> work.run());
+    }
+
+    private UUID newQuery() {
+        final UUID queryId = UUID.randomUUID();
+        jdbc.update("INSERT INTO queries (query_id, label) VALUES (?, ?)", queryId, "Concurrency " + queryId);
+        return queryId;
+    }
+
+    private List<Integer> versions(final String table, final UUID caseId, final UUID queryId) {
+        return jdbc.queryForList("SELECT version FROM " + table + " WHERE case_id = ? AND query_id = ? ORDER BY version",
+                Integer.class, caseId, queryId);
+    }
+
+    private static List<Integer> oneTo(final int n) {
+        return IntStream.rangeClosed(1, n).boxed().toList();
+    }
+
+    private static long p99Micros(final List<Long> latenciesNanos) {
+        final List<Long> sorted = new ArrayList<>(latenciesNanos);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1) / 1_000;
+    }
+}
@@ -0,0 +1,134 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerSinkProperties;
+import uk.gov.hmcts.cp.cdk.services.AnswerWriteBehindSink.PendingAnswer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs two sink flushes at once, as two nodes would, over batches that share a (case, query) but
+ * write it to different answer tables. One batch's answers insert fires the status trigger, the
+ * other only reaches that status row in its final upsert; every round must commit both batches.
+ */
+@DataJpaTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Answer write-behind sink lock order")
+class AnswerWriteBehindSinkLockOrderTest {
+
+    private static final int ROUNDS = 50;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("cdk")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @jakarta.annotation.Resource
+    private JdbcTemplate jdbc;
+
+    @jakarta.annotation.Resource
+    private PlatformTransactionManager transactionManager;
+
+    private AnswerWriteBehindSink sink;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        final AnswerSinkProperties properties = new AnswerSinkProperties();
+        properties.setEnabled(false);
+        sink = new AnswerWriteBehindSink(new NamedParameterJdbcTemplate(jdbc), transactionManager, properties,
+                new SimpleMeterRegistry());
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.shutdown();
+    }
+
+    @Test
+    void writeAll_shouldCommitBothOverlappingFlushes() throws Exception {
+        final ExecutorService flushers = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                final UUID caseId = UUID.randomUUID();
+                final UUID sharedQueryId = newQuery();
+                final UUID latestQueryId = newQuery();
+
+                final List<PendingAnswer> first = List.of(
+                        answer(null, caseId, sharedQueryId, null),
+                        answer(QueryLevel.CASE, caseId, latestQueryId, null));
+                final List<PendingAnswer> second = List.of(
+                        answer(QueryLevel.CASE, caseId, latestQueryId, null),
+                        answer(QueryLevel.DEFENDANT, caseId, sharedQueryId, UUID.randomUUID()));
+
+                final CyclicBarrier start = new CyclicBarrier(2);
+                final Future<?> a = flushers.submit(() -> flushAfter(start, first));
+                final Future<?> b = flushers.submit(() -> flushAfter(start, second));
+                a.get(30, TimeUnit.SECONDS);
+                b.get(30, TimeUnit.SECONDS);
+
+                assertThat(jdbc.queryForObject("""
+                                SELECT COUNT(*) FROM case_query_status
+                                 WHERE case_id = ? AND status = 'ANSWER_AVAILABLE' AND last_answer_version IS NOT NULL
+                                """,
+                        Long.class, caseId)).isEqualTo(2);
+                assertThat(jdbc.queryForObject(
+                        "SELECT MAX(version) FROM case_level_latest_doc_answers WHERE case_id = ? AND query_id = ?",
+                        Integer.class, caseId, latestQueryId)).isEqualTo(2);
+            }
+        } finally {
+            flushers.shutdownNow();
+        }
+    }
+
+    private void flushAfter(final CyclicBarrier start, final List<PendingAnswer> batch) {
+        try {
+            start.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        tx.executeWithoutResult(status -> sink.writeAll(batch));
+    }
+
+    private UUID newQuery() {
+        final UUID queryId = UUID.randomUUID();
+        jdbc.update("INSERT INTO queries (query_id, label) VALUES (?, ?)", queryId, "Lock order " + queryId);
+        return queryId;
+    }
+
+    private static PendingAnswer answer(final QueryLevel level, final UUID caseId, final UUID queryId, final UUID defendantId) {
+        return new PendingAnswer(level, caseId, queryId, defendantId, null, "answer", "{}");
+    }
+}
@@ -0,0 +1,221 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.AnswerSinkProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerWriteBehindSinkTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbc;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Captor
+    private ArgumentCaptor<MapSqlParameterSource[]> batchCaptor;
+    @Captor
+    private ArgumentCaptor<String> sqlCaptor;
+
+    private AnswerSinkProperties properties;
+    private AnswerWriteBehindSink sink;
+    private UUID caseId;
+    private UUID queryId;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AnswerSinkProperties();
+        properties.setEnabled(false);
+        caseId = UUID.randomUUID();
+        queryId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sink != null) {
+            sink.shutdown();
+        }
+    }
+
+    @Test
+    void writeAll_shouldBatchInsertPerTable_andUpsertStatusesInOneStatement() {
+        sink = sink();
+        final UUID otherQueryId = UUID.randomUUID();
+
+        sink.writeAll(List.of(
+                answer(QueryLevel.DEFENDANT, queryId, UUID.randomUUID()),
+                answer(QueryLevel.DEFENDANT, queryId, UUID.randomUUID()),
+                answer(QueryLevel.CASE, otherQueryId, null),
+                answer(null, UUID.randomUUID(), null)));
+
+        verify(jdbc).batchUpdate(eq(DefendantAnswerService.INSERT_ROW_SQL), batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).hasSize(2);
+        verify(jdbc).batchUpdate(eq(CaseLevelLatestDocumentAnswerService.INSERT_ROW_SQL), batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).hasSize(1);
+        verify(jdbc).batchUpdate(eq(AnswerGenerationService.SQL_INSERT_ANSWER_ROW), batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).hasSize(1);
+        verify(jdbc, never()).batchUpdate(eq(CaseLevelAllDocumentsAnswerService.INSERT_ROW_SQL), any(MapSqlParameterSource[].class));
+
+        // both defendants share one (case, query) status row, locked before any insert and upserted after
+        final ArgumentCaptor<MapSqlParameterSource> statusParams = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        final InOrder inOrder = inOrder(jdbc);
+        inOrder.verify(jdbc).update(sqlCaptor.capture(), statusParams.capture());
+        inOrder.verify(jdbc, times(3)).batchUpdate(anyString(), any(MapSqlParameterSource[].class));
+        inOrder.verify(jdbc).update(sqlCaptor.capture(), statusParams.capture());
+        assertThat(sqlCaptor.getAllValues().getFirst()).contains("INSERT INTO case_query_status").contains("ORDER BY v.case_id, v.query_id");
+        assertThat(sqlCaptor.getAllValues().getLast()).contains("INSERT INTO case_query_status").contains("JOIN answer_version_counter");
+        statusParams.getAllValues().forEach(params -> {
+            assertThat(params.hasValue("c2")).isTrue();
+            assertThat(params.hasValue("c3")).isFalse();
+        });
+    }
+
+    @Test
+    void writeAll_shouldNotLinkStatusToDocument_forAllDocumentsAnswers() {
+        sink = sink();
+
+        sink.writeAll(List.of(answer(QueryLevel.CASE_ALL_DOCUMENTS, queryId, null)));
+
+        final ArgumentCaptor<MapSqlParameterSource> statusParams = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbc).update(contains("JOIN answer_version_counter"), statusParams.capture());
+        assertThat(statusParams.getValue().getValue("t0")).isEqualTo("case_level_all_documents_answers");
+        assertThat(statusParams.getValue().getValue("doc0")).isNull();
+    }
+
+    @Test
+    void write_shouldReturnOnceConcurrentAnswersAreFlushedTogether() throws Exception {
+        properties.setEnabled(true);
+        properties.setMaxBatchRows(3);
+        properties.setMaxDelayMs(10_000);
+        sink = sink();
+
+        final ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            final List<Future<?>> writes = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                writes.add(callers.submit(() -> sink.write(answer(null, UUID.randomUUID(), null))));
+            }
+            for (final Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(jdbc, times(1)).batchUpdate(eq(AnswerGenerationService.SQL_INSERT_ANSWER_ROW), batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).hasSize(3);
+        verify(jdbc, times(2)).update(anyString(), any(MapSqlParameterSource.class));
+    }
+
+    @Test
+    void write_shouldWithdrawQueuedAnswer_onTimeout_butWaitForOneAlreadyBeingFlushed() throws Exception {
+        properties.setEnabled(true);
+        properties.setMaxBatchRows(1);
+        properties.setFlushTimeoutMs(100);
+        final CountDownLatch inFlush = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(jdbc.batchUpdate(anyString(), any(MapSqlParameterSource[].class))).thenAnswer(invocation -> {
+            inFlush.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new int[1];
+        });
+        sink = sink();
+
+        final ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> taken = callers.submit(() -> sink.write(answer(null, queryId, null)));
+            assertThat(inFlush.await(10, TimeUnit.SECONDS)).isTrue();
+            final Future<?> queued = callers.submit(() -> sink.write(answer(null, UUID.randomUUID(), null)));
+
+            assertThatThrownBy(() -> queued.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            release.countDown();
+            taken.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+
+        sink.shutdown();
+        verify(jdbc, times(1)).batchUpdate(anyString(), any(MapSqlParameterSource[].class));
+    }
+
+    @Test
+    void flush_shouldFailOnlyTheBadRow_whenBatchFails() {
+        sink = sink();
+        when(jdbc.batchUpdate(anyString(), any(MapSqlParameterSource[].class))).thenAnswer(invocation -> {
+            final MapSqlParameterSource[] rows = invocation.getArgument(1);
+            for (final MapSqlParameterSource row : rows) {
+                if ("bad".equals(row.getValue("answer"))) {
+                    throw new DataIntegrityViolationException("ans_text_not_blank");
+                }
+            }
+            return new int[rows.length];
+        });
+
+        final AnswerWriteBehindSink.Entry good = entry(answer(null, queryId, null));
+        final AnswerWriteBehindSink.Entry bad = entry(new AnswerWriteBehindSink.PendingAnswer(
+                null, caseId, UUID.randomUUID(), null, null, "bad", "{}"));
+
+        sink.flush(List.of(good, bad));
+
+        assertThat(good.flushed()).isCompleted();
+        assertThat(bad.flushed()).isCompletedExceptionally();
+    }
+
+    @Test
+    void write_shouldReject_whenShuttingDown() {
+        sink = sink();
+        sink.shutdown();
+
+        assertThatThrownBy(() -> sink.write(answer(null, queryId, null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private AnswerWriteBehindSink sink() {
+        return new AnswerWriteBehindSink(jdbc, transactionManager, properties, new SimpleMeterRegistry());
+    }
+
+    private AnswerWriteBehindSink.PendingAnswer answer(final QueryLevel level, final UUID forQueryId, final UUID defendantId) {
+        return new AnswerWriteBehindSink.PendingAnswer(level, caseId, forQueryId, defendantId, UUID.randomUUID(), "answer", "{}");
+    }
+
+    private static AnswerWriteBehindSink.Entry entry(final AnswerWriteBehindSink.PendingAnswer answer) {
+        return new AnswerWriteBehindSink.Entry(answer, new CompletableFuture<>());
+    }
+}
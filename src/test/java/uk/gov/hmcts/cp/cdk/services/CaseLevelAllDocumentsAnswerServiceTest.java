@@ -10,6 +10,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.GLOBAL_UPDATE_CASE_QUERY_STATUS;
 
 import java.util.UUID;
 
@@ -53,7 +54,7 @@ class CaseLevelAllDocumentsAnswerServiceTest {
 
         // then
         verify(jdbcTemplate, times(1)).queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class));
-        verify(jdbcTemplate, times(2)).update(anyString(), any(MapSqlParameterSource.class));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(MapSqlParameterSource.class));
     }
 
     @Test
@@ -66,12 +67,11 @@ class CaseLevelAllDocumentsAnswerServiceTest {
         service.upsert(caseId, queryId, "ans", "llm");
 
         // then
-        verify(jdbcTemplate).update(contains("INSERT INTO case_level_all_documents_answers"), captor.capture());
+        verify(jdbcTemplate).queryForObject(contains("INSERT INTO case_level_all_documents_answers"), captor.capture(), eq(Integer.class));
 
         final MapSqlParameterSource params = captor.getValue();
         assertThat(params.getValue("case_id")).isEqualTo(caseId);
         assertThat(params.getValue("query_id")).isEqualTo(queryId);
-        assertThat(params.getValue("version")).isEqualTo(5);
         assertThat(params.getValue("answer")).isEqualTo("ans");
         assertThat(params.getValue("llm_input")).isEqualTo("llm");
     }
@@ -85,9 +85,11 @@ class CaseLevelAllDocumentsAnswerServiceTest {
         service.upsert(caseId, queryId, "answer", "input");
 
         // then
+        final ArgumentCaptor<MapSqlParameterSource> captor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
         InOrder inOrder = inOrder(jdbcTemplate);
-        inOrder.verify(jdbcTemplate).update(contains("INSERT INTO case_level_all_documents_answers"), any(MapSqlParameterSource.class));
-        inOrder.verify(jdbcTemplate).update(anyString(), any(MapSqlParameterSource.class));
+        inOrder.verify(jdbcTemplate).queryForObject(contains("INSERT INTO case_level_all_documents_answers"), any(MapSqlParameterSource.class), eq(Integer.class));
+        inOrder.verify(jdbcTemplate).update(eq(GLOBAL_UPDATE_CASE_QUERY_STATUS), captor.capture());
+        assertThat(captor.getValue().getValue("version")).isEqualTo(1);
     }
 
     @Test
@@ -100,7 +102,7 @@ class CaseLevelAllDocumentsAnswerServiceTest {
     }
 
     @Test
-    void shouldCallVersionQueryWithCorrectParams() {
+    void shouldAllocateVersionInsideInsert() {
 
         // given
         when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class))).thenReturn(1);
@@ -110,10 +112,13 @@ class CaseLevelAllDocumentsAnswerServiceTest {
         service.upsert(caseId, queryId, "a", "b");
 
         // then
-        verify(jdbcTemplate).queryForObject(contains("SELECT COALESCE(MAX(version)"), captor.capture(), eq(Integer.class));
+        verify(jdbcTemplate).queryForObject(
+                contains("allocate_answer_version('case_level_all_documents_answers', :case_id, :query_id)"),
+                captor.capture(), eq(Integer.class));
 
         final MapSqlParameterSource params = captor.getValue();
         assertThat(params.getValue("case_id")).isEqualTo(caseId);
         assertThat(params.getValue("query_id")).isEqualTo(queryId);
+        assertThat(params.hasValue("version")).isFalse();
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cp.cdk.util.TaskUtils.GLOBAL_UPDATE_CASE_QUERY_STATUS;
 
 import java.util.UUID;
 
@@ -54,7 +55,7 @@ class CaseLevelLatestDocumentAnswerServiceTest {
 
         // then
         verify(jdbcTemplate, times(1)).queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class));
-        verify(jdbcTemplate, times(2)).update(anyString(), any(MapSqlParameterSource.class));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(MapSqlParameterSource.class));
     }
 
     @Test
@@ -67,20 +68,19 @@ class CaseLevelLatestDocumentAnswerServiceTest {
         service.upsert(caseId, queryId, "ans", "llm", docId);
 
         // then
-        verify(jdbcTemplate).update(contains("INSERT INTO case_level_latest_doc_answers"), captor.capture());
+        verify(jdbcTemplate).queryForObject(contains("INSERT INTO case_level_latest_doc_answers"), captor.capture(), eq(Integer.class));
 
         final MapSqlParameterSource params = captor.getValue();
 
         assertThat(params.getValue("case_id")).isEqualTo(caseId);
         assertThat(params.getValue("query_id")).isEqualTo(queryId);
-        assertThat(params.getValue("version")).isEqualTo(3);
         assertThat(params.getValue("answer")).isEqualTo("ans");
         assertThat(params.getValue("llm_input")).isEqualTo("llm");
         assertThat(params.getValue("doc_id")).isEqualTo(docId);
     }
 
     @Test
-    void shouldCallVersionQueryWithCorrectParams() {
+    void shouldAllocateVersionInsideInsert() {
         // given
         when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class))).thenReturn(10);
         final ArgumentCaptor<MapSqlParameterSource> captor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
@@ -89,11 +89,14 @@ class CaseLevelLatestDocumentAnswerServiceTest {
         service.upsert(caseId, queryId, "a", "b", docId);
 
         // then
-        verify(jdbcTemplate).queryForObject(contains("SELECT COALESCE(MAX(version)"), captor.capture(), eq(Integer.class));
+        verify(jdbcTemplate).queryForObject(
+                contains("allocate_answer_version('case_level_latest_doc_answers', :case_id, :query_id)"),
+                captor.capture(), eq(Integer.class));
 
         final MapSqlParameterSource params = captor.getValue();
         assertThat(params.getValue("case_id")).isEqualTo(caseId);
         assertThat(params.getValue("query_id")).isEqualTo(queryId);
+        assertThat(params.hasValue("version")).isFalse();
     }
 
     @Test
@@ -115,10 +118,11 @@ class CaseLevelLatestDocumentAnswerServiceTest {
         service.upsert(caseId, queryId, "answer", "llm", docId);
 
         // then
+        final ArgumentCaptor<MapSqlParameterSource> captor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
         final InOrder inOrder = inOrder(jdbcTemplate);
-        inOrder.verify(jdbcTemplate).queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class));
-        inOrder.verify(jdbcTemplate).update(contains("INSERT INTO case_level_latest_doc_answers"), any(MapSqlParameterSource.class));
-        inOrder.verify(jdbcTemplate).update(anyString(), any(MapSqlParameterSource.class));
+        inOrder.verify(jdbcTemplate).queryForObject(contains("INSERT INTO case_level_latest_doc_answers"), any(MapSqlParameterSource.class), eq(Integer.class));
+        inOrder.verify(jdbcTemplate).update(eq(GLOBAL_UPDATE_CASE_QUERY_STATUS), captor.capture());
+        assertThat(captor.getValue().getValue("version")).isEqualTo(2);
 
     }
 }
\ No newline at end of file
@@ -57,8 +57,7 @@ class DefendantAnswerServiceTest {
         service.upsert(caseId, queryId, defendantId, "answer", "llmInput", docId);
 
         // then
-        verify(jdbcTemplate).queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class));
-        verify(jdbcTemplate).update(contains("INSERT INTO defendant_answers"), any(MapSqlParameterSource.class));
+        verify(jdbcTemplate).queryForObject(contains("INSERT INTO defendant_answers"), any(MapSqlParameterSource.class), eq(Integer.class));
         verify(jdbcTemplate).update(eq(GLOBAL_UPDATE_CASE_QUERY_STATUS), any(MapSqlParameterSource.class));
     }
 
@@ -73,13 +72,12 @@ class DefendantAnswerServiceTest {
         service.upsert(caseId, queryId, defendantId, "myAnswer", "myInput", docId);
 
         // then
-        verify(jdbcTemplate).update(contains("INSERT INTO defendant_answers"), captor.capture());
+        verify(jdbcTemplate).queryForObject(contains("INSERT INTO defendant_answers"), captor.capture(), eq(Integer.class));
 
         final MapSqlParameterSource params = captor.getValue();
         assertThat(params.getValue("case_id")).isEqualTo(caseId);
         assertThat(params.getValue("query_id")).isEqualTo(queryId);
         assertThat(params.getValue("defendant_id")).isEqualTo(defendantId);
-        assertThat(params.getValue("version")).isEqualTo(5);
         assertThat(params.getValue("answer")).isEqualTo("myAnswer");
         assertThat(params.getValue("llm_input")).isEqualTo("myInput");
         assertThat(params.getValue("doc_id")).isEqualTo(docId);
@@ -96,12 +94,13 @@ class DefendantAnswerServiceTest {
 
         // then
         final InOrder inOrder = inOrder(jdbcTemplate);
-        inOrder.verify(jdbcTemplate).update(contains("INSERT INTO defendant_answers"), any(MapSqlParameterSource.class));
-        inOrder.verify(jdbcTemplate).update(eq(GLOBAL_UPDATE_CASE_QUERY_STATUS), any(MapSqlParameterSource.class));
+        inOrder.verify(jdbcTemplate).queryForObject(contains("INSERT INTO defendant_answers"), any(MapSqlParameterSource.class), eq(Integer.class));
+        inOrder.verify(jdbcTemplate).update(eq(GLOBAL_UPDATE_CASE_QUERY_STATUS), paramCaptor.capture());
+        assertThat(paramCaptor.getValue().getValue("version")).isEqualTo(1);
     }
 
     @Test
-    void shouldFetchNextVersionCorrectly() {
+    void shouldAllocateVersionPerDefendantInsideInsert() {
         // given
         when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Integer.class))).thenReturn(7);
 
@@ -111,12 +110,15 @@ class DefendantAnswerServiceTest {
         // then
         final ArgumentCaptor<MapSqlParameterSource> captor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
 
-        verify(jdbcTemplate).queryForObject(contains("SELECT COALESCE(MAX(version)"), captor.capture(), eq(Integer.class));
+        verify(jdbcTemplate).queryForObject(
+                contains("allocate_answer_version('defendant_answers', :case_id, :query_id, :defendant_id)"),
+                captor.capture(), eq(Integer.class));
 
         MapSqlParameterSource params = captor.getValue();
         assertThat(params.getValue("case_id")).isEqualTo(caseId);
         assertThat(params.getValue("query_id")).isEqualTo(queryId);
         assertThat(params.getValue("defendant_id")).isEqualTo(defendantId);
+        assertThat(params.hasValue("version")).isFalse();
     }
 
     @Test
@@ -130,7 +132,7 @@ class DefendantAnswerServiceTest {
         // then
         final ArgumentCaptor<MapSqlParameterSource> captor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
 
-        verify(jdbcTemplate).update(contains("INSERT INTO defendant_answers"), captor.capture());
+        verify(jdbcTemplate).queryForObject(contains("INSERT INTO defendant_answers"), captor.capture(), eq(Integer.class));
 
         final MapSqlParameterSource params = captor.getValue();
         assertThat(params.getValue("doc_id")).isNull();
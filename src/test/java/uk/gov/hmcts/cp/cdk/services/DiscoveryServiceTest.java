@@ -139,6 +139,7 @@ class DiscoveryServiceTest {
         assertThat(jobData.getString("roomId")).isEqualTo(roomId.toString());
         assertThat(jobData.getString("date")).isEqualTo(hearingDate.toString());
         assertThat(jobData.getString("requestId")).isNotBlank();
+        assertThat(jobData.getString("origin")).isEqualTo("SCHEDULED");
     }
 
     private ScheduledIngestionRequest mockRequest(LocalDate hearingDate) {
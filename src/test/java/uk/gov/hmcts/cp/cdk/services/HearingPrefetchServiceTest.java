@@ -0,0 +1,82 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
+import uk.gov.hmcts.cp.cdk.clients.progression.dto.ProsecutionCaseEligibilityInfo;
+import uk.gov.hmcts.cp.cdk.jobmanager.HearingPrefetchProperties;
+import uk.gov.hmcts.cp.cdk.services.HearingPrefetchService.CasePrefetch;
+import uk.gov.hmcts.cp.cdk.services.HearingPrefetchService.Outcome;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HearingPrefetchServiceTest {
+
+    private static final String CPPUID = "cppuid-123";
+
+    @Mock
+    private ProgressionClient progressionClient;
+
+    private HearingPrefetchService service;
+
+    @BeforeEach
+    void setUp() {
+        final HearingPrefetchProperties properties = new HearingPrefetchProperties();
+        properties.setConcurrency(4);
+        service = new HearingPrefetchService(progressionClient, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldClassifyEachCase_inInputOrder() {
+        final UUID eligibleCase = UUID.randomUUID();
+        final UUID ineligibleCase = UUID.randomUUID();
+        final UUID failingCase = UUID.randomUUID();
+        final LatestMaterialInfo material = new LatestMaterialInfo(
+                List.of(eligibleCase.toString()), "doc", "desc", UUID.randomUUID().toString(), "IDPC",
+                null, UUID.randomUUID().toString(), "def-1");
+
+        when(progressionClient.getProsecutionCaseEligibilityInfo(eligibleCase, CPPUID))
+                .thenReturn(Optional.of(new ProsecutionCaseEligibilityInfo(eligibleCase.toString(), List.of("def-1"))));
+        when(progressionClient.getCourtDocumentsForAllDefendants(eligibleCase, CPPUID)).thenReturn(List.of(material));
+        when(progressionClient.getProsecutionCaseEligibilityInfo(ineligibleCase, CPPUID))
+                .thenReturn(Optional.of(new ProsecutionCaseEligibilityInfo(ineligibleCase.toString(), List.of())));
+        when(progressionClient.getProsecutionCaseEligibilityInfo(failingCase, CPPUID))
+                .thenThrow(new RuntimeException("boom"));
+
+        final List<CasePrefetch> results = service.prefetch(
+                List.of(eligibleCase.toString(), ineligibleCase.toString(), failingCase.toString()), CPPUID);
+
+        assertThat(results).extracting(CasePrefetch::outcome)
+                .containsExactly(Outcome.ELIGIBLE, Outcome.NOT_ELIGIBLE, Outcome.FAILED);
+        assertThat(results.getFirst().materials()).containsExactly(material);
+        verify(progressionClient, never()).getCourtDocumentsForAllDefendants(eq(ineligibleCase), any());
+    }
+
+    @Test
+    void shouldReportFailed_whenCaseIdIsNotAUuid() {
+        final CasePrefetch result = service.prefetchCase("not-a-uuid", CPPUID);
+
+        assertThat(result.outcome()).isEqualTo(Outcome.FAILED);
+    }
+}
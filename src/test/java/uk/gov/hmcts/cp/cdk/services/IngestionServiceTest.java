@@ -4,12 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import uk.gov.hmcts.cp.cdk.repo.IngestionStatusViewRepository;
+import uk.gov.hmcts.cp.cdk.repo.CaseIngestionStatusRepository;
 import uk.gov.hmcts.cp.openapi.model.cdk.DocumentIngestionPhase;
 import uk.gov.hmcts.cp.openapi.model.cdk.IngestionStatusResponse;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class IngestionServiceTest {
 
     @Mock
-    private IngestionStatusViewRepository repo;
+    private CaseIngestionStatusRepository repo;
 
     @Test
     @DisplayName("getStatus valid row found for the caseId")
@@ -32,7 +34,7 @@ class IngestionServiceTest {
         final UUID caseId = UUID.randomUUID();
         final OffsetDateTime lastUpdated = OffsetDateTime.now();
 
-        when(repo.findByCaseId(caseId)).thenReturn(Optional.of(new IngestionStatusViewRepository.Row(caseId, "UPLOADING", lastUpdated)));
+        when(repo.findByCaseId(caseId)).thenReturn(Optional.of(new CaseIngestionStatusRepository.Row(caseId, "UPLOADING", lastUpdated)));
 
         final IngestionStatusResponse response = service.getStatus(caseId);
 
@@ -47,7 +49,7 @@ class IngestionServiceTest {
     @Test
     @DisplayName("getStatus no row found for the caseId")
     void getStatus_rowNotFound() {
-        final IngestionStatusViewRepository repo = mock(IngestionStatusViewRepository.class);
+        final CaseIngestionStatusRepository repo = mock(CaseIngestionStatusRepository.class);
 
         final IngestionService service = new IngestionService(repo);
         final UUID caseId = UUID.randomUUID();
@@ -63,4 +65,24 @@ class IngestionServiceTest {
         assertThat(response.getPhase()).isEqualTo(DocumentIngestionPhase.NOT_FOUND);
         assertThat(response.getMessage()).isEqualTo("No uploads seen for this case");
     }
+
+    @Test
+    @DisplayName("getStatuses reads all cases at once and keeps request order")
+    void getStatuses() {
+        final IngestionService service = new IngestionService(repo);
+        final UUID uploaded = UUID.randomUUID();
+        final UUID unknown = UUID.randomUUID();
+        final OffsetDateTime lastUpdated = OffsetDateTime.now();
+
+        when(repo.findByCaseIds(Set.of(unknown, uploaded)))
+                .thenReturn(List.of(new CaseIngestionStatusRepository.Row(uploaded, "INGESTED", lastUpdated)));
+
+        final List<IngestionStatusResponse> responses = service.getStatuses(List.of(unknown, uploaded, unknown));
+
+        assertThat(responses).extracting(r -> r.getScope().getCaseId()).containsExactly(unknown, uploaded);
+        assertThat(responses.get(0).getPhase()).isEqualTo(DocumentIngestionPhase.NOT_FOUND);
+        assertThat(responses.get(0).getMessage()).isEqualTo("No uploads seen for this case");
+        assertThat(responses.get(1).getPhase()).isEqualTo(DocumentIngestionPhase.INGESTED);
+        assertThat(responses.get(1).getLastUpdated()).isEqualTo(lastUpdated);
+    }
 }
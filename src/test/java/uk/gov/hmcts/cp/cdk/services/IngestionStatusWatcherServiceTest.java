@@ -0,0 +1,246 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_CASE_ID_KEY;
+import static uk.gov.hmcts.cp.cdk.jobmanager.support.JobManagerKeys.CTX_DOC_ID_KEY;
+
+import uk.gov.hmcts.cp.cdk.domain.DocumentIngestionPhase;
+import uk.gov.hmcts.cp.cdk.domain.DocumentVerificationStatus;
+import uk.gov.hmcts.cp.cdk.jobmanager.IngestionWatcherProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.JobManagerRetryProperties;
+import uk.gov.hmcts.cp.cdk.jobmanager.support.ObservedLatencies;
+import uk.gov.hmcts.cp.cdk.repo.DocumentVerificationQueue;
+import uk.gov.hmcts.cp.cdk.repo.DocumentVerificationQueue.ClaimedVerification;
+import uk.gov.hmcts.cp.openapi.api.DocumentIngestionStatusApi;
+import uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatus;
+import uk.gov.hmcts.cp.openapi.model.DocumentIngestionStatusReturnedSuccessfully;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class IngestionStatusWatcherServiceTest {
+
+    @Mock
+    private DocumentVerificationQueue verificationQueue;
+    @Mock
+    private DocumentIngestionStatusApi documentIngestionStatusApi;
+    @Mock
+    private DocumentIngestionOutcomeService outcomeService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobManagerRetryProperties retryProperties;
+    private IngestionStatusWatcherService service;
+
+    @BeforeEach
+    void setUp() {
+        retryProperties = new JobManagerRetryProperties();
+        retryProperties.getVerifyDocumentStatus().setMaxAttempts(50);
+        retryProperties.getVerifyDocumentStatus().setDelaySeconds(5);
+
+        final IngestionWatcherProperties watcherProperties = new IngestionWatcherProperties();
+        watcherProperties.setConcurrency(2);
+
+        service = new IngestionStatusWatcherService(verificationQueue, documentIngestionStatusApi,
+                outcomeService, retryProperties, watcherProperties, new ObservedLatencies(), transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void register_shouldQueueDocumentWithVerifyDocumentStatusBudget() {
+        final UUID docId = UUID.randomUUID();
+        final UUID caseId = UUID.randomUUID();
+
+        service.register(docId, caseId, "blob.pdf", "ref-1", createObjectBuilder().build());
+
+        verify(verificationQueue).enqueue(docId, caseId, "blob.pdf", "ref-1", "{}", 50, 5000L);
+    }
+
+    @Test
+    void register_shouldTakeAttemptsFromExponentialSchedule() {
+        exponentialBackoff();
+        final UUID docId = UUID.randomUUID();
+        final UUID caseId = UUID.randomUUID();
+
+        service.register(docId, caseId, "blob.pdf", "ref-1", createObjectBuilder().build());
+
+        // 5+10+20+40+60+60+60 seconds covers the 50 x 5s window
+        verify(verificationQueue).enqueue(docId, caseId, "blob.pdf", "ref-1", "{}", 7, 5000L);
+    }
+
+    @Test
+    void nextDelayMs_shouldFollowExponentialSchedule() {
+        exponentialBackoff();
+
+        assertThat(service.nextDelayMs(1)).isEqualTo(10_000L);
+        assertThat(service.nextDelayMs(3)).isEqualTo(40_000L);
+        assertThat(service.nextDelayMs(10)).isEqualTo(60_000L);
+    }
+
+    @Test
+    void sweep_shouldDoNothing_whenNothingIsDue() {
+        when(verificationQueue.claimDue(anyString(), anyInt(), anyLong())).thenReturn(List.of());
+
+        assertThat(service.sweep()).isZero();
+
+        verifyNoInteractions(documentIngestionStatusApi, outcomeService);
+    }
+
+    @Test
+    void sweep_shouldSnapshotQueriesOnce_andFanOutForEveryIngestedDocument() {
+        final ClaimedVerification first = claimed("ref-1", 1);
+        final ClaimedVerification second = claimed("ref-2", 1);
+        when(verificationQueue.claimDue(anyString(), anyInt(), anyLong())).thenReturn(List.of(first, second));
+        when(documentIngestionStatusApi.documentStatusByReference(anyString()))
+                .thenReturn(ResponseEntity.ok(status(DocumentIngestionStatus.INGESTION_SUCCESS)));
+        when(outcomeService.isSuccessStatus(DocumentIngestionStatus.INGESTION_SUCCESS.getValue())).thenReturn(true);
+        final Map<String, List<UUID>> snapshot = Map.of("CASE", List.of(UUID.randomUUID()));
+        when(outcomeService.currentQueriesByLevel()).thenReturn(snapshot);
+        when(verificationQueue.finish(anyLong(), anyString(), eq(DocumentVerificationStatus.SUCCEEDED), anyString(), isNull()))
+                .thenReturn(true);
+
+        final int polled = service.sweep();
+
+        assertThat(polled).isEqualTo(2);
+        verify(outcomeService, times(1)).currentQueriesByLevel();
+        verify(outcomeService).onIngestionSucceeded(eq(first.docId()), any(JsonObject.class), eq(snapshot));
+        verify(outcomeService).onIngestionSucceeded(eq(second.docId()), any(JsonObject.class), eq(snapshot));
+        verify(verificationQueue).finish(eq(first.id()), anyString(), eq(DocumentVerificationStatus.SUCCEEDED), anyString(), isNull());
+        verify(verificationQueue).finish(eq(second.id()), anyString(), eq(DocumentVerificationStatus.SUCCEEDED), anyString(), isNull());
+    }
+
+    @Test
+    void sweep_shouldRollBackFinishAndReschedule_whenDispatchFails() {
+        final ClaimedVerification verification = claimed("ref-1", 1);
+        when(verificationQueue.claimDue(anyString(), anyInt(), anyLong())).thenReturn(List.of(verification));
+        when(documentIngestionStatusApi.documentStatusByReference("ref-1"))
+                .thenReturn(ResponseEntity.ok(status(DocumentIngestionStatus.INGESTION_SUCCESS)));
+        when(outcomeService.isSuccessStatus(DocumentIngestionStatus.INGESTION_SUCCESS.getValue())).thenReturn(true);
+        when(outcomeService.currentQueriesByLevel()).thenReturn(Map.of());
+        when(verificationQueue.finish(anyLong(), anyString(), any(), anyString(), isNull())).thenReturn(true);
+        doThrow(new IllegalStateException("job store down"))
+                .when(outcomeService).onIngestionSucceeded(any(), any(), any());
+
+        service.sweep();
+
+        final InOrder inOrder = inOrder(verificationQueue, outcomeService, transactionManager);
+        inOrder.verify(verificationQueue).finish(eq(verification.id()), anyString(),
+                eq(DocumentVerificationStatus.SUCCEEDED), anyString(), isNull());
+        inOrder.verify(outcomeService).onIngestionSucceeded(eq(verification.docId()), any(JsonObject.class), any());
+        inOrder.verify(transactionManager).rollback(any());
+        inOrder.verify(verificationQueue).reschedule(eq(verification.id()), anyString(), anyString(), eq("job store down"), eq(5000L));
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void sweep_shouldNotDispatch_whenClaimWasTakenByAnotherNode() {
+        final ClaimedVerification verification = claimed("ref-1", 1);
+        when(verificationQueue.claimDue(anyString(), anyInt(), anyLong())).thenReturn(List.of(verification));
+        when(documentIngestionStatusApi.documentStatusByReference("ref-1"))
+                .thenReturn(ResponseEntity.ok(status(DocumentIngestionStatus.INGESTION_SUCCESS)));
+        when(outcomeService.isSuccessStatus(DocumentIngestionStatus.INGESTION_SUCCESS.getValue())).thenReturn(true);
+        when(outcomeService.currentQueriesByLevel()).thenReturn(Map.of());
+        when(verificationQueue.finish(anyLong(), anyString(), any(), anyString(), isNull())).thenReturn(false);
+
+        service.sweep();
+
+        verify(outcomeService, never()).onIngestionSucceeded(any(), any(), any());
+        verify(verificationQueue, never()).reschedule(anyLong(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    void sweep_shouldMarkDocumentFailed_whenIngestionFailed() {
+        final ClaimedVerification verification = claimed("ref-1", 1);
+        final String failed = DocumentIngestionStatus.FILE_SIZE_OVER_LIMIT.getValue();
+        when(verificationQueue.claimDue(anyString(), anyInt(), anyLong())).thenReturn(List.of(verification));
+        when(documentIngestionStatusApi.documentStatusByReference("ref-1"))
+                .thenReturn(ResponseEntity.ok(status(DocumentIngestionStatus.FILE_SIZE_OVER_LIMIT)));
+        when(outcomeService.isFailureStatus(failed)).thenReturn(true);
+
+        service.sweep();
+
+        verify(outcomeService).onIngestionFailed(verification.docId(), failed);
+        verify(verificationQueue).finish(eq(verification.id()), anyString(), eq(DocumentVerificationStatus.FAILED), eq(failed), isNull());
+        verify(outcomeService, never()).currentQueriesByLevel();
+    }
+
+    @Test
+    void sweep_shouldReschedule_whenStatusNotAvailableYet() {
+        final ClaimedVerification verification = claimed("ref-1", 3);
+        when(verificationQueue.claimDue(anyString(), anyInt(), anyLong())).thenReturn(List.of(verification));
+        when(documentIngestionStatusApi.documentStatusByReference("ref-1")).thenThrow(new IllegalStateException("boom"));
+
+        service.sweep();
+
+        verify(verificationQueue).reschedule(eq(verification.id()), anyString(), isNull(), eq("boom"), eq(5000L));
+        verify(outcomeService, never()).updateIngestionPhase(any(), any());
+    }
+
+    @Test
+    void sweep_shouldGiveUp_whenMaxAttemptsReached() {
+        final ClaimedVerification verification = claimed("ref-1", 50);
+        when(verificationQueue.claimDue(anyString(), anyInt(), anyLong())).thenReturn(List.of(verification));
+        when(documentIngestionStatusApi.documentStatusByReference("ref-1")).thenReturn(ResponseEntity.ok(null));
+
+        service.sweep();
+
+        verify(outcomeService).updateIngestionPhase(verification.docId(), DocumentIngestionPhase.FAILED);
+        verify(verificationQueue).finish(eq(verification.id()), anyString(), eq(DocumentVerificationStatus.FAILED), isNull(), anyString());
+        verify(verificationQueue, never()).reschedule(anyLong(), anyString(), any(), any(), anyLong());
+    }
+
+    private static ClaimedVerification claimed(final String reference, final int attemptCount) {
+        final UUID docId = UUID.randomUUID();
+        final UUID caseId = UUID.randomUUID();
+        final String jobData = createObjectBuilder()
+                .add(CTX_DOC_ID_KEY, docId.toString())
+                .add(CTX_CASE_ID_KEY, caseId.toString())
+                .build()
+                .toString();
+        return new ClaimedVerification(Math.abs(reference.hashCode()), docId, caseId, "blob-" + reference,
+                reference, jobData, attemptCount, 50);
+    }
+
+    private void exponentialBackoff() {
+        retryProperties.getVerifyDocumentStatus().setBackoff(JobManagerRetryProperties.Backoff.EXPONENTIAL);
+        retryProperties.getVerifyDocumentStatus().setMultiplier(2.0);
+        retryProperties.getVerifyDocumentStatus().setMaxDelaySeconds(60);
+    }
+
+    private static DocumentIngestionStatusReturnedSuccessfully status(final DocumentIngestionStatus status) {
+        final DocumentIngestionStatusReturnedSuccessfully body = new DocumentIngestionStatusReturnedSuccessfully();
+        body.setStatus(status);
+        return body;
+    }
+}
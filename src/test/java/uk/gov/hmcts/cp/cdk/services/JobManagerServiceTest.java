@@ -85,6 +85,7 @@ class JobManagerServiceTest {
         assertThat(jobDataString.contains("courtCentreId")).isTrue();
         assertThat(jobDataString.contains("roomId")).isTrue();
         assertThat(jobDataString.contains("date")).isTrue();
+        assertThat(executionInfo.getJobData().getString("origin")).isEqualTo("USER");
     }
 
     @Test
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.cp.cdk.jobmanager.LlmInputChunkProperties;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.BackfillBatch;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.ChunkStoreUsage;
+import uk.gov.hmcts.cp.cdk.repo.LlmInputChunkRepository.TableUsage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LlmInputChunkServiceTest {
+
+    @Mock
+    private LlmInputChunkRepository repository;
+
+    private LlmInputChunkService service;
+
+    @BeforeEach
+    void setUp() {
+        final LlmInputChunkProperties properties = new LlmInputChunkProperties();
+        properties.setBackfillBatchSize(2);
+        service = new LlmInputChunkService(repository, properties);
+    }
+
+    @Test
+    void backfill_shouldDrainEachTable_untilABatchComesBackShort() {
+        when(repository.backfillBatch("answers", 2))
+                .thenReturn(new BackfillBatch(2, 2), new BackfillBatch(1, 1));
+        when(repository.backfillBatch("case_level_latest_doc_answers", 2)).thenReturn(new BackfillBatch(0, 0));
+        when(repository.backfillBatch("case_level_all_documents_answers", 2)).thenReturn(new BackfillBatch(2, 2),
+                new BackfillBatch(0, 0));
+        when(repository.backfillBatch("defendant_answers", 2)).thenReturn(new BackfillBatch(1, 1));
+
+        assertThat(service.backfill()).isEqualTo(6);
+        verify(repository, times(2)).backfillBatch("answers", 2);
+        verify(repository, times(2)).backfillBatch("case_level_all_documents_answers", 2);
+    }
+
+    @Test
+    void report_shouldCoverEveryAnswerTable() {
+        for (final String table : LlmInputChunkRepository.ANSWER_TABLES) {
+            when(repository.tableUsage(table)).thenReturn(new TableUsage(table, 1, 1, 0, 0, 33, 8192));
+        }
+        when(repository.chunkStoreUsage()).thenReturn(new ChunkStoreUsage(1, 100, 300, 8192));
+
+        final LlmInputChunkService.LlmInputStorageReport report = service.report();
+
+        assertThat(report.tables()).extracting(TableUsage::table).containsExactlyElementsOf(LlmInputChunkRepository.ANSWER_TABLES);
+        assertThat(report.chunkStore().chunks()).isEqualTo(1);
+    }
+}
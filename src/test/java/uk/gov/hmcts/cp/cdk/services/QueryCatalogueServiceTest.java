@@ -33,6 +33,8 @@ class QueryCatalogueServiceTest {
     private QueryRepository queryRepository;
     @Mock
     private QueryMapper mapper;
+    @Mock
+    private QueryDefinitionCache queryDefinitionCache;
     @InjectMocks
     private QueryCatalogueService service;
 
@@ -110,6 +112,7 @@ class QueryCatalogueServiceTest {
         verify(queryRepository).findById(queryId);
         verify(queryRepository).saveAndFlush(any(Query.class));
         verify(mapper).toCatalogueItem(savedQuery);
+        verify(queryDefinitionCache).definitionsChanged();
     }
 
     @Test
@@ -142,6 +145,7 @@ class QueryCatalogueServiceTest {
         verify(queryRepository).findById(queryId);
         verify(queryRepository).saveAndFlush(existing);
         verify(mapper).toCatalogueItem(savedQuery);
+        verify(queryDefinitionCache).definitionsChanged();
     }
 
     @Test
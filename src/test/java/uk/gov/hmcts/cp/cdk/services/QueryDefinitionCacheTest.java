@@ -0,0 +1,143 @@
+package uk.gov.hmcts.cp.cdk.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.cp.cdk.domain.QueryLevel;
+import uk.gov.hmcts.cp.cdk.jobmanager.QueryDefinitionCacheProperties;
+import uk.gov.hmcts.cp.cdk.repo.QueryDefinitionChangeChannel;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository;
+import uk.gov.hmcts.cp.cdk.repo.QueryVersionRepository.SnapshotDefinition;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueryDefinitionCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+
+    @Mock
+    private QueryVersionRepository queryVersionRepository;
+    @Mock
+    private QueryDefinitionChangeChannel changeChannel;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final QueryDefinitionCacheProperties properties = new QueryDefinitionCacheProperties();
+    private QueryDefinitionCache cache;
+
+    private final UUID caseQueryId = UUID.randomUUID();
+    private final UUID defendantQueryId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxAgeMs(60_000);
+        cache = new QueryDefinitionCache(queryVersionRepository, changeChannel, properties, clock);
+        when(queryVersionRepository.snapshotDefinitionsAsOf(any())).thenReturn(List.of(
+                definition(caseQueryId, QueryLevel.CASE),
+                definition(defendantQueryId, QueryLevel.DEFENDANT)));
+    }
+
+    @Test
+    void shouldLoadOnce_andServeRepeatedReadsFromMemory() {
+        assertThat(cache.queryIdsByLevel())
+                .containsEntry(QueryLevel.CASE.toString(), List.of(caseQueryId))
+                .containsEntry(QueryLevel.DEFENDANT.toString(), List.of(defendantQueryId));
+        assertThat(cache.findByQueryId(defendantQueryId)).map(SnapshotDefinition::userQuery).contains("uq");
+        assertThat(cache.currentDefinitions()).hasSize(2);
+
+        verify(queryVersionRepository, times(1)).snapshotDefinitionsAsOf(any());
+    }
+
+    @Test
+    void shouldReload_whenNextVersionBecomesEffective() {
+        when(queryVersionRepository.findNextEffectiveAtAfter(any()))
+                .thenReturn(Optional.of(OffsetDateTime.ofInstant(NOW.plusSeconds(10), ZoneOffset.UTC)));
+
+        cache.currentDefinitions();
+        clock.advance(Duration.ofSeconds(9));
+        cache.currentDefinitions();
+        clock.advance(Duration.ofSeconds(1));
+        cache.currentDefinitions();
+
+        verify(queryVersionRepository, times(2)).snapshotDefinitionsAsOf(any());
+    }
+
+    @Test
+    void shouldReload_whenMaxAgeElapsed() {
+        cache.currentDefinitions();
+        clock.advance(Duration.ofMinutes(1));
+        cache.currentDefinitions();
+
+        verify(queryVersionRepository, times(2)).snapshotDefinitionsAsOf(any());
+    }
+
+    @Test
+    void shouldNotifyAndReload_whenDefinitionsChanged() {
+        cache.currentDefinitions();
+
+        cache.definitionsChanged();
+        cache.currentDefinitions();
+
+        verify(changeChannel).publish(anyString());
+        verify(queryVersionRepository, times(2)).snapshotDefinitionsAsOf(any());
+    }
+
+    @Test
+    void shouldAlwaysLoad_whenDisabled() {
+        properties.setEnabled(false);
+
+        cache.currentDefinitions();
+        cache.currentDefinitions();
+
+        verify(queryVersionRepository, times(2)).snapshotDefinitionsAsOf(any());
+    }
+
+    private static SnapshotDefinition definition(final UUID queryId, final QueryLevel level) {
+        return new SnapshotDefinition(queryId, "label", "uq", "qp", NOW.minusSeconds(3600), level.toString());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import uk.gov.hmcts.cp.cdk.clients.common.UpstreamUnavailableException;
 import uk.gov.hmcts.cp.cdk.clients.progression.ProgressionClient;
 import uk.gov.hmcts.cp.cdk.clients.progression.dto.LatestMaterialInfo;
 import uk.gov.hmcts.cp.cdk.domain.CaseDocument;
@@ -62,6 +63,8 @@ class QueryServiceTest {
     private QueryMapper mapper;
     @Mock
     private ProgressionClient progressionClient;
+    @Mock
+    private QueryDefinitionCache queryDefinitionCache;
 
     @InjectMocks
     private QueryService service;
@@ -138,6 +141,25 @@ class QueryServiceTest {
         assertThat(resp.getQueries().get(0).getStatus()).isEqualTo(QueryLifecycleStatus.ANSWER_NOT_AVAILABLE);
     }
 
+    @Test
+    @DisplayName("listForCaseAsOf(caseId) leaves IDPC availability unknown when Progression is unavailable")
+    void list_case_scope_idpc_unknown_when_progression_unavailable() {
+        final UUID caseId = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        final UUID qid = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+        final OffsetDateTime eff = OffsetDateTime.parse("2025-05-01T12:00:00Z");
+
+        final QueriesAsOfRepository.QueryAsOfView queryAsOfViewRow = new QueriesAsOfRepository.QueryAsOfView(qid, caseId, "L", "UQ", "QP", eff.toInstant(), null, OffsetDateTime.now().toInstant(), 2,true,QueryLevel.CASE.toString());
+        when(asOfRepo.listForCaseAsOf(eq(caseId), any())).thenReturn(List.of(queryAsOfViewRow));
+        when(progressionClient.getCourtDocuments(any(), anyString()))
+                .thenThrow(new UpstreamUnavailableException("progression unavailable: circuit open"));
+
+        final QueryStatusResponse resp = service.listForCaseAsOf(caseId, eff, "u-123");
+
+        assertThat(resp.getScope().getCaseId()).isEqualTo(caseId);
+        assertThat(resp.getScope().getIsIdpcAvailable()).isNull();
+        assertThat(resp.getQueries()).hasSize(1);
+    }
+
     @Test
     @DisplayName("getOneForCaseAsOf returns mapped summary")
     void get_one_success() {
@@ -221,6 +243,7 @@ class QueryServiceTest {
         assertThat(resp.getAsOf()).isEqualTo(eff);
         assertThat(resp.getQueries()).hasSize(1);
         assertThat(resp.getQueries().get(0).getQueryId()).isEqualTo(qid);
+        verify(queryDefinitionCache).definitionsChanged();
     }
 
     @Test
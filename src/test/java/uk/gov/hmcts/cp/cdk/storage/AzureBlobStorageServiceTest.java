@@ -3,13 +3,19 @@ package uk.gov.hmcts.cp.cdk.storage;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 import com.azure.core.util.polling.PollResponse;
@@ -49,6 +55,8 @@ class AzureBlobStorageServiceTest {
     private BlobProperties blobProperties;
     @Mock
     private BlobClient destClient;
+    @Mock
+    private StagedBlobCopier stagedBlobCopier;
 
     private AzureBlobStorageService service;
 
@@ -57,7 +65,7 @@ class AzureBlobStorageServiceTest {
         when(storageProperties.copyPollIntervalMs()).thenReturn(100L);
         when(storageProperties.copyTimeoutSeconds()).thenReturn(10L);
 
-        service = new AzureBlobStorageService(containerClient, storageProperties);
+        service = new AzureBlobStorageService(containerClient, storageProperties, stagedBlobCopier);
     }
 
     @MockitoSettings(strictness = Strictness.LENIENT)
@@ -169,6 +177,266 @@ class AzureBlobStorageServiceTest {
         }
     }
 
+    @Test
+    void shouldUseStagedCopier_whenSourceSizeKnown() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            when(stagedBlobCopier.isEnabled()).thenReturn(true);
+            when(stagedBlobCopier.sourceSize("http://source")).thenReturn(OptionalLong.of(500_000_000L));
+            when(destClient.getBlobUrl()).thenReturn("url");
+
+            final DocumentBlobMetadata result = service.copyFromUrl("http://source", "http://container/blob");
+
+            verify(stagedBlobCopier).copy(destClient, "http://source", 500_000_000L);
+            verify(destClient, never()).beginCopy(any());
+            assertThat(result.blobUrl()).isEqualTo("url");
+            assertThat(result.blobSize()).isEqualTo(500_000_000L);
+        }
+    }
+
+    @Test
+    void shouldFallBackToAsyncCopy_whenSourceSizeUnknown() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            when(stagedBlobCopier.isEnabled()).thenReturn(true);
+            when(stagedBlobCopier.sourceSize("http://source")).thenReturn(OptionalLong.empty());
+            when(destClient.beginCopy(any())).thenReturn(poller);
+            when(poller.waitForCompletion(any())).thenReturn(pollResponse);
+            when(pollResponse.getValue()).thenReturn(copyInfo);
+            when(copyInfo.getCopyStatus()).thenReturn(CopyStatusType.SUCCESS);
+            when(destClient.getBlobUrl()).thenReturn("url");
+            when(destClient.getProperties()).thenReturn(blobProperties);
+            when(blobProperties.getBlobSize()).thenReturn(123L);
+
+            final DocumentBlobMetadata result = service.copyFromUrl("http://source", "http://container/blob");
+
+            assertThat(result.blobSize()).isEqualTo(123L);
+        }
+    }
+
+    @Test
+    void shouldReturnPendingStatus_whenCopyStarted() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            when(destClient.beginCopy(any())).thenReturn(poller);
+            when(poller.poll()).thenReturn(pollResponse);
+            when(pollResponse.getValue()).thenReturn(copyInfo);
+            when(copyInfo.getCopyId()).thenReturn("copy-1");
+            when(copyInfo.getCopyStatus()).thenReturn(CopyStatusType.PENDING);
+
+            final BlobCopyStatus result = service.startCopy("http://source", "http://container/blob");
+
+            assertThat(result.isPending()).isTrue();
+            assertThat(result.copyId()).isEqualTo("copy-1");
+            verify(poller, never()).waitForCompletion(any());
+        }
+    }
+
+    @Test
+    void shouldReturnMetadata_whenCopyStatusSuccess() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            when(destClient.getProperties()).thenReturn(blobProperties);
+            when(destClient.getBlobUrl()).thenReturn("url");
+            when(blobProperties.getCopyId()).thenReturn("copy-1");
+            when(blobProperties.getCopyStatus()).thenReturn(CopyStatusType.SUCCESS);
+            when(blobProperties.getBlobSize()).thenReturn(123L);
+
+            final BlobCopyStatus result = service.getCopyStatus("http://container/blob", "copy-1");
+
+            assertThat(result.state()).isEqualTo(BlobCopyStatus.State.SUCCESS);
+            assertThat(result.metadata().blobSize()).isEqualTo(123L);
+            assertThat(result.metadata().blobUrl()).isEqualTo("url");
+        }
+    }
+
+    @Test
+    void shouldReturnFailedStatus_whenCopyIdChanged() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            when(destClient.getProperties()).thenReturn(blobProperties);
+            when(blobProperties.getCopyId()).thenReturn("copy-2");
+
+            final BlobCopyStatus result = service.getCopyStatus("http://container/blob", "copy-1");
+
+            assertThat(result.state()).isEqualTo(BlobCopyStatus.State.FAILED);
+        }
+    }
+
+    @Test
+    void shouldAbortPendingCopy() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            service.abortCopy("http://container/blob", "copy-1");
+
+            verify(destClient).abortCopyFromUrl("copy-1");
+        }
+    }
+
+    @Test
+    void shouldIgnoreAbortRejection_whenCopyAlreadyFinished() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+            doThrow(mock(BlobStorageException.class)).when(destClient).abortCopyFromUrl("copy-1");
+
+            service.abortCopy("http://container/blob", "copy-1");
+
+            verify(destClient).abortCopyFromUrl("copy-1");
+        }
+    }
+
+    @Test
+    void shouldStageLargeSourceInBackground_whenStartingCopy() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            final CompletableFuture<Void> stagedCopy = new CompletableFuture<>();
+            givenStagedSource(stagedCopy);
+
+            final BlobCopyStatus result = service.startCopy("http://source", "http://container/blob");
+
+            assertThat(result.isPending()).isTrue();
+            assertThat(result.copyId()).startsWith(AzureBlobStorageService.STAGED_COPY_ID_PREFIX);
+            verify(stagedBlobCopier, times(1)).sourceSize("http://source");
+            verify(stagedBlobCopier).copyInBackground(destClient, "http://source", 500_000_000L);
+            verify(destClient, never()).beginCopy(any());
+        }
+    }
+
+    @Test
+    void shouldStartAsyncCopy_whenSourceIsBelowStagedThreshold() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            when(stagedBlobCopier.isEnabled()).thenReturn(true);
+            when(stagedBlobCopier.sourceSize("http://source")).thenReturn(OptionalLong.of(1_000L));
+            when(stagedBlobCopier.isStagedSize(1_000L)).thenReturn(false);
+            when(destClient.beginCopy(any())).thenReturn(poller);
+            when(poller.poll()).thenReturn(pollResponse);
+            when(pollResponse.getValue()).thenReturn(copyInfo);
+            when(copyInfo.getCopyId()).thenReturn("copy-1");
+            when(copyInfo.getCopyStatus()).thenReturn(CopyStatusType.PENDING);
+
+            final BlobCopyStatus result = service.startCopy("http://source", "http://container/blob");
+
+            assertThat(result.copyId()).isEqualTo("copy-1");
+            verify(stagedBlobCopier, never()).copyInBackground(any(), anyString(), anyLong());
+        }
+    }
+
+    @Test
+    void shouldReportStagedCopyPendingUntilCommitted_thenSuccess() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            final CompletableFuture<Void> stagedCopy = new CompletableFuture<>();
+            givenStagedSource(stagedCopy);
+            final String copyId = service.startCopy("http://source", "http://container/blob").copyId();
+
+            when(destClient.exists()).thenReturn(false, true);
+            assertThat(service.getCopyStatus("http://container/blob", copyId).state())
+                    .isEqualTo(BlobCopyStatus.State.PENDING);
+
+            stagedCopy.complete(null);
+            when(destClient.getBlobUrl()).thenReturn("url");
+            when(destClient.getProperties()).thenReturn(blobProperties);
+            when(blobProperties.getBlobSize()).thenReturn(500_000_000L);
+
+            final BlobCopyStatus result = service.getCopyStatus("http://container/blob", copyId);
+
+            assertThat(result.state()).isEqualTo(BlobCopyStatus.State.SUCCESS);
+            assertThat(result.metadata().blobSize()).isEqualTo(500_000_000L);
+        }
+    }
+
+    @Test
+    void shouldReportStagedCopyFailed_whenBackgroundCopyThrew() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            final CompletableFuture<Void> stagedCopy = new CompletableFuture<>();
+            givenStagedSource(stagedCopy);
+            final String copyId = service.startCopy("http://source", "http://container/blob").copyId();
+            stagedCopy.completeExceptionally(new IllegalStateException("source gone"));
+
+            final BlobCopyStatus result = service.getCopyStatus("http://container/blob", copyId);
+
+            assertThat(result.state()).isEqualTo(BlobCopyStatus.State.FAILED);
+            assertThat(result.description()).isEqualTo("source gone");
+            verify(destClient, never()).getProperties();
+        }
+    }
+
+    @Test
+    void shouldCancelStagedCopy_whenAborted() {
+        try (MockedConstruction<BlobClientBuilder> mocked =
+                     mockConstruction(BlobClientBuilder.class,
+                             (mock, context) -> {
+                                 when(mock.endpoint(anyString())).thenReturn(mock);
+                                 when(mock.buildClient()).thenReturn(destClient);
+                             })) {
+
+            final CompletableFuture<Void> stagedCopy = new CompletableFuture<>();
+            givenStagedSource(stagedCopy);
+            final String copyId = service.startCopy("http://source", "http://container/blob").copyId();
+
+            service.abortCopy("http://container/blob", copyId);
+
+            assertThat(stagedCopy.isCancelled()).isTrue();
+            verify(destClient, never()).abortCopyFromUrl(anyString());
+        }
+    }
+
     @Test
     void shouldThrowBlobStorageException_whenAlreadyExists() {
         try (MockedConstruction<BlobClientBuilder> mocked = mockConstruction(BlobClientBuilder.class,
@@ -219,4 +487,11 @@ class AzureBlobStorageServiceTest {
                 () -> service.getBlobSize("path"));
     }
 
-}
\ No newline at end of file
+
+    private void givenStagedSource(final CompletableFuture<Void> stagedCopy) {
+        when(stagedBlobCopier.isEnabled()).thenReturn(true);
+        when(stagedBlobCopier.sourceSize("http://source")).thenReturn(OptionalLong.of(500_000_000L));
+        when(stagedBlobCopier.isStagedSize(500_000_000L)).thenReturn(true);
+        doReturn(stagedCopy).when(stagedBlobCopier).copyInBackground(destClient, "http://source", 500_000_000L);
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.cp.cdk.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.Block;
+import com.azure.storage.blob.models.BlockList;
+import com.azure.storage.blob.models.BlockListType;
+import com.azure.storage.blob.options.BlobCopyFromUrlOptions;
+import com.azure.storage.blob.options.BlockBlobCommitBlockListOptions;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StagedBlobCopierTest {
+
+    private static final String SOURCE = "https://source/material.pdf";
+
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private BlobClient destination;
+    @Mock
+    private BlockBlobClient blockBlobClient;
+    @Mock
+    private BlockList blockList;
+    @Captor
+    private ArgumentCaptor<BlockBlobCommitBlockListOptions> commitCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StagedBlobCopier copier;
+
+    @BeforeEach
+    void setUp() {
+        copier = new StagedBlobCopier(new StorageProperties.StagedCopy(true, 10, 4, 2, 30), httpClient, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        copier.shutdown();
+    }
+
+    @Test
+    void shouldCopySynchronously_belowThreshold() {
+        copier.copy(destination, SOURCE, 9);
+
+        verify(destination).copyFromUrlWithResponse(any(BlobCopyFromUrlOptions.class), any(), eq(Context.NONE));
+        verify(destination, never()).getBlockBlobClient();
+        assertThat(meterRegistry.get("cdk.storage.copy.bytes").tag("strategy", "sync").summary().totalAmount())
+                .isEqualTo(9.0);
+    }
+
+    @Test
+    void shouldCopyOnBackgroundThread_whenCopyingInBackground() throws Exception {
+        copier.copyInBackground(destination, SOURCE, 9).get(10, TimeUnit.SECONDS);
+
+        verify(destination).copyFromUrlWithResponse(any(BlobCopyFromUrlOptions.class), any(), eq(Context.NONE));
+    }
+
+    @Test
+    void shouldStageFromThresholdUpwards() {
+        assertThat(copier.isStagedSize(9)).isFalse();
+        assertThat(copier.isStagedSize(10)).isTrue();
+    }
+
+    @Test
+    void shouldStageRemainingBlocksAndCommitAll_whenResuming() {
+        when(destination.getBlockBlobClient()).thenReturn(blockBlobClient);
+        when(blockBlobClient.listBlocks(BlockListType.UNCOMMITTED)).thenReturn(blockList);
+        when(blockList.getUncommittedBlocks()).thenReturn(List.of(
+                new Block().setName(StagedBlobCopier.blockId(4, 0)).setSizeLong(4L)));
+
+        copier.copy(destination, SOURCE, 10);
+
+        verify(blockBlobClient, never()).stageBlockFromUrl(eq(StagedBlobCopier.blockId(4, 0)), anyString(), any());
+        verify(blockBlobClient).stageBlockFromUrl(eq(StagedBlobCopier.blockId(4, 1)), eq(SOURCE), range(4, 4));
+        verify(blockBlobClient).stageBlockFromUrl(eq(StagedBlobCopier.blockId(4, 2)), eq(SOURCE), range(8, 2));
+        verify(blockBlobClient, times(2)).stageBlockFromUrl(anyString(), anyString(), any());
+
+        verify(blockBlobClient).commitBlockListWithResponse(commitCaptor.capture(), any(), eq(Context.NONE));
+        assertThat(commitCaptor.getValue().getBase64BlockIds()).containsExactly(
+                StagedBlobCopier.blockId(4, 0), StagedBlobCopier.blockId(4, 1), StagedBlobCopier.blockId(4, 2));
+        assertThat(meterRegistry.get("cdk.storage.copy.duration").tag("strategy", "staged").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldUseFixedLengthBlockIds() {
+        assertThat(StagedBlobCopier.blockId(4, 0)).hasSameSizeAs(StagedBlobCopier.blockId(33_554_432, 999));
+    }
+
+    private static BlobRange range(final long offset, final long count) {
+        return argThat(range -> range.getOffset() == offset && range.getCount() == count);
+    }
+}